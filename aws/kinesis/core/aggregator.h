@@ -16,6 +16,7 @@
 #ifndef AWS_KINESIS_CORE_AGGREGATOR_H_
 #define AWS_KINESIS_CORE_AGGREGATOR_H_
 
+#include <algorithm>
 #include <memory>
 #include <mutex>
 #include <vector>
@@ -57,27 +58,88 @@ class Aggregator : boost::noncopyable {
 
   std::shared_ptr<KinesisRecord> put(const std::shared_ptr<UserRecord>& ur) {
     // If shard map is not available, or aggregation is disabled, just send the
-    // record by itself, and do not attempt to aggrgegate.
+    // record by itself, and do not attempt to aggrgegate. Unless configured to
+    // wait for the shard map, in which case the record is held until the shard
+    // map is ready or its deadline arrives.
     boost::optional<uint64_t> shard_id;
     if (config_->aggregation_enabled() && shard_map_) {
       shard_id = shard_map_->shard_id(ur->hash_key());
+      if (!shard_id &&
+          config_->aggregation_hold_for_shard_map() &&
+          ur->deadline() > std::chrono::steady_clock::now()) {
+        hold(ur);
+        return std::shared_ptr<KinesisRecord>();
+      }
     }
     if (!shard_id) {
-      auto kr = std::make_shared<KinesisRecord>();
-      kr->add(ur);
-      return kr;
+      return unaggregated(ur);
     } else {
       ur->predicted_shard(*shard_id);
       return reducers_[*shard_id].add(ur);
     }
   }
 
-  // TODO unit test for this
   void flush() {
+    // Held records can't wait for the shard map any longer
+    std::vector<std::shared_ptr<UserRecord>> held;
+    {
+      std::lock_guard<std::mutex> lk(held_mutex_);
+      std::swap(held, held_);
+    }
+    for (auto& ur : held) {
+      deadline_callback_(unaggregated(ur));
+    }
     reducers_.foreach([](auto&, auto v) { v->flush(); });
   }
 
  private:
+  using TimePoint = std::chrono::steady_clock::time_point;
+
+  // How often held records are tried against the shard map again
+  static constexpr const uint64_t kHoldPollIntervalMs = 20;
+
+  static std::shared_ptr<KinesisRecord> unaggregated(
+      const std::shared_ptr<UserRecord>& ur) {
+    auto kr = std::make_shared<KinesisRecord>();
+    kr->add(ur);
+    return kr;
+  }
+
+  void hold(const std::shared_ptr<UserRecord>& ur) {
+    std::lock_guard<std::mutex> lk(held_mutex_);
+    held_.push_back(ur);
+    auto at = std::min(ur->deadline(),
+                       std::chrono::steady_clock::now() +
+                           std::chrono::milliseconds(kHoldPollIntervalMs));
+    if (at < release_at_) {
+      release_at_ = at;
+      if (!release_callback_) {
+        release_callback_ =
+            executor_->schedule([this] { this->release_held(); }, at);
+      } else {
+        release_callback_->reschedule(at);
+      }
+    }
+  }
+
+  void release_held() {
+    std::vector<std::shared_ptr<UserRecord>> held;
+    {
+      std::lock_guard<std::mutex> lk(held_mutex_);
+      std::swap(held, held_);
+      release_at_ = TimePoint::max();
+    }
+    // Put them again. Those that still can't be mapped to a shard are held
+    // again, unless their deadline has come, in which case they're sent by
+    // themselves.
+    for (auto& ur : held) {
+      auto kr = put(ur);
+      if (kr) {
+        deadline_callback_(kr);
+      }
+    }
+  }
+
   // This cannot be inlined in the lambda because msvc cannot compile that
   Reducer<UserRecord, KinesisRecord>* make_reducer() {
     return new Reducer<UserRecord, KinesisRecord>(
@@ -96,6 +158,12 @@ class Aggregator : boost::noncopyable {
   std::shared_ptr<aws::metrics::MetricsManager> metrics_manager_;
   aws::utils::flush_statistics_aggregator& flush_stats_;
   ReducerMap reducers_;
+
+  std::mutex held_mutex_;
+  std::vector<std::shared_ptr<UserRecord>> held_;
+  // When release_callback_ next runs, or max if it isn't scheduled
+  TimePoint release_at_ = TimePoint::max();
+  std::shared_ptr<aws::utils::ScheduledCallback> release_callback_;
 };
 
 } //namespace core
@@ -405,6 +405,25 @@ class Configuration : private boost::noncopyable {
     return thread_pool_size_;
   }
 
+  // Streams whose pipelines are created at startup rather than on their first
+  // record, so their shard maps are loaded before records arrive. Connections
+  // up to min_connections are opened at the same time.
+  //
+  // Default: empty
+  const std::vector<std::string>& prewarm_streams() const noexcept {
+    return prewarm_streams_;
+  }
+
+  // Hold records in the aggregator while the shard map of their stream isn't
+  // available, until it is or until their deadline, instead of sending each
+  // one unaggregated. Records still held at their deadline are sent
+  // unaggregated.
+  //
+  // Default: false
+  bool aggregation_hold_for_shard_map() const noexcept {
+    return aggregation_hold_for_shard_map_;
+  }
+
   // Enable aggregation. With aggregation, multiple user records are packed
   // into a single KinesisRecord. If disabled, each user record is sent in its
   // own KinesisRecord.
@@ -960,6 +979,27 @@ class Configuration : private boost::noncopyable {
     return *this;
   }
 
+  // Streams whose pipelines are created at startup rather than on their first
+  // record, so their shard maps are loaded before records arrive. Connections
+  // up to min_connections are opened at the same time.
+  //
+  // Default: empty
+  Configuration& prewarm_streams(std::vector<std::string> val) {
+    prewarm_streams_ = std::move(val);
+    return *this;
+  }
+
+  // Hold records in the aggregator while the shard map of their stream isn't
+  // available, until it is or until their deadline, instead of sending each
+  // one unaggregated. Records still held at their deadline are sent
+  // unaggregated.
+  //
+  // Default: false
+  Configuration& aggregation_hold_for_shard_map(bool val) {
+    aggregation_hold_for_shard_map_ = val;
+    return *this;
+  }
+
 
   const std::vector<std::tuple<std::string, std::string, std::string>>&
   additional_metrics_dims() {
@@ -1011,6 +1051,10 @@ class Configuration : private boost::noncopyable {
       use_thread_pool(false);
     }
 
+    prewarm_streams(std::vector<std::string>(c.prewarm_streams().begin(),
+                                             c.prewarm_streams().end()));
+    aggregation_hold_for_shard_map(c.aggregation_hold_for_shard_map());
+
     for (auto i = 0; i < c.additional_metric_dims_size(); i++) {
       auto ad = c.additional_metric_dims(i);
       additional_metrics_dims_.push_back(
@@ -1049,6 +1093,8 @@ class Configuration : private boost::noncopyable {
   bool use_thread_pool_ = true;
   uint32_t thread_pool_size_ = 64;
 
+  std::vector<std::string> prewarm_streams_;
+  bool aggregation_hold_for_shard_map_ = false;
 
   std::vector<std::tuple<std::string, std::string, std::string>>
       additional_metrics_dims_;
@@ -24,6 +24,7 @@
 #include <boost/asio.hpp>
 #include <boost/predef.h>
 
+#include <aws/kinesis/core/shared_memory_ring.h>
 #include <aws/utils/logging.h>
 
 #include <aws/utils/io_service_executor.h>
@@ -58,7 +59,9 @@ class IpcChannelImpl : public boost::noncopyable {
                  bool create_pipes = true) :
       create_pipes_(create_pipes),
       in_handle_(0),
-      out_handle_(0)
+      out_handle_(0),
+      socket_in_handle_(0),
+      socket_out_handle_(0)
   {
       if (in_file) {
           size_t in_file_len = std::strlen(in_file) + 1;
@@ -94,6 +97,11 @@ class IpcChannelImpl : public boost::noncopyable {
     if (in_handle_ == 0) {
       return -1;
     }
+    if (ring_) {
+      return ring_->read(buf, count, [this](void* bell, size_t len) {
+        return FileManager::read(in_handle_, bell, len);
+      });
+    }
     return FileManager::read(in_handle_, buf, count);
   }
 
@@ -101,10 +109,26 @@ class IpcChannelImpl : public boost::noncopyable {
     if (out_handle_ == 0) {
       return -1;
     }
+    if (ring_) {
+      return ring_->write(buf, count, [this](const void* bell, size_t len) {
+        return FileManager::write(out_handle_, bell, len);
+      });
+    }
     return FileManager::write(out_handle_, buf, count);
   }
 
+  // Move the bytes through shared memory instead, leaving the pipes to wake up
+  // the side that is waiting on a ring. Must be called before the channels are
+  // opened.
+  void use_shared_memory_ring(std::shared_ptr<SharedMemoryRing> ring) {
+    ring_ = std::move(ring);
+  }
+
   bool open_read_channel() {
+    if (socket_in_handle_ != 0) {
+      in_handle_ = socket_in_handle_;
+      return true;
+    }
     if (!in_file_) {
       return false;
     }
@@ -113,6 +137,10 @@ class IpcChannelImpl : public boost::noncopyable {
   }
 
   bool open_write_channel() {
+    if (socket_out_handle_ != 0) {
+      out_handle_ = socket_out_handle_;
+      return true;
+    }
     if (!out_file_) {
       return false;
     }
@@ -120,6 +148,14 @@ class IpcChannelImpl : public boost::noncopyable {
     return true;
   }
 
+  // Read and write through an already connected socket instead of opening the
+  // files. Each direction gets its own handle, which the channel closes like a
+  // pipe's. Must be called before the channels are opened.
+  void use_socket(NativeHandle in_handle, NativeHandle out_handle) {
+    socket_in_handle_ = in_handle;
+    socket_out_handle_ = out_handle;
+  }
+
   void close_read_channel() {
     if (in_handle_ != 0) {
       FileManager::close_read(in_handle_);
@@ -140,6 +176,9 @@ class IpcChannelImpl : public boost::noncopyable {
   bool create_pipes_;
   NativeHandle in_handle_;
   NativeHandle out_handle_;
+  NativeHandle socket_in_handle_;
+  NativeHandle socket_out_handle_;
+  std::shared_ptr<SharedMemoryRing> ring_;
 };
 
 #if BOOST_OS_WINDOWS
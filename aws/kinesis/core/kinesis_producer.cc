@@ -24,6 +24,7 @@
 #include <aws/core/client/DefaultRetryStrategy.h>
 #include <aws/core/http/Scheme.h>
 #include <aws/kinesis/core/kinesis_producer.h>
+#include <aws/kinesis/model/DescribeStreamSummaryRequest.h>
 
 #include <system_error>
 #include <aws/core/utils/threading/Executor.h>
@@ -128,6 +129,49 @@ make_sdk_client_cfg(const aws::kinesis::core::Configuration& kpl_cfg,
   return cfg;
 }
 
+void to_protobuf(aws::metrics::Metric& metric,
+                 boost::optional<uint64_t> seconds,
+                 aws::kinesis::protobuf::Metric* pm) {
+  auto dims = metric.all_dimensions();
+
+  assert(!dims.empty());
+  assert(dims.at(0).first == "MetricName");
+
+  pm->set_name(dims.at(0).second);
+
+  for (size_t i = 1; i < dims.size(); i++) {
+    auto d = pm->add_dimensions();
+    d->set_key(dims[i].first);
+    d->set_value(dims[i].second);
+  }
+
+  auto& accum = metric.accumulator();
+  auto stats = pm->mutable_stats();
+
+  if (seconds) {
+    auto s = *seconds;
+    stats->set_count(accum.count(s));
+    stats->set_sum(accum.sum(s));
+    stats->set_min(accum.min(s));
+    stats->set_max(accum.max(s));
+    stats->set_mean(accum.mean(s));
+    pm->set_seconds(s);
+  } else {
+    stats->set_count(accum.count());
+    stats->set_sum(accum.sum());
+    stats->set_min(accum.min());
+    stats->set_max(accum.max());
+    stats->set_mean(accum.mean());
+    pm->set_seconds(accum.elapsed<std::chrono::seconds>());
+  }
+}
+
+bool same_stats(const aws::kinesis::protobuf::Stats& a,
+                const aws::kinesis::protobuf::Stats& b) {
+  return a.count() == b.count() && a.sum() == b.sum() && a.min() == b.min() &&
+         a.max() == b.max();
+}
+
 } //namespace
 
 namespace aws {
@@ -195,6 +239,35 @@ void KinesisProducer::create_cw_client(const std::string& ca_path) {
       cfg);
 }
 
+void KinesisProducer::prewarm() {
+  auto& streams = config_->prewarm_streams();
+  for (auto& stream : streams) {
+    LOG(info) << "Pre-warming stream \"" << stream << "\"";
+    // Creating the pipeline starts loading its shard map
+    pipelines_[stream];
+  }
+  if (streams.empty()) {
+    return;
+  }
+
+  // Each shard map load holds a connection. Open the rest of min_connections
+  // with concurrent requests that are cheap for the backend, so the first
+  // records don't wait on TLS handshakes.
+  for (size_t i = streams.size(); i < config_->min_connections(); i++) {
+    Aws::Kinesis::Model::DescribeStreamSummaryRequest req;
+    req.SetStreamName(streams[i % streams.size()]);
+    kinesis_client_->DescribeStreamSummaryAsync(
+        req,
+        [](auto /*client*/, auto& /*req*/, auto& outcome, auto& /*ctx*/) {
+          if (!outcome.IsSuccess()) {
+            LOG(warning) << "Pre-warming connection failed: "
+                         << outcome.GetError().GetMessage();
+          }
+        },
+        std::shared_ptr<const Aws::Client::AsyncCallerContext>());
+  }
+}
+
 Pipeline* KinesisProducer::create_pipeline(const std::string& stream) {
   LOG(info) << "Created pipeline for stream \"" << stream << "\"";
   return new Pipeline(
@@ -209,6 +282,13 @@ Pipeline* KinesisProducer::create_pipeline(const std::string& stream) {
       });
 }
 
+void KinesisProducer::send_handshake() {
+  aws::kinesis::protobuf::Message m;
+  m.set_id(::rand());
+  m.mutable_handshake()->set_protocol_version(kProtocolVersion);
+  ipc_manager_->put(m.SerializeAsString());
+}
+
 void KinesisProducer::drain_messages() {
   std::string s;
   std::vector<std::string> buf;
@@ -246,6 +326,10 @@ void KinesisProducer::on_ipc_message(std::string&& message) noexcept {
   }
   if (m.has_put_record()) {
     on_put_record(m);
+  } else if (m.has_put_record_batch()) {
+    on_put_record_batch(m);
+  } else if (m.has_register_stream()) {
+    on_register_stream(m.register_stream());
   } else if (m.has_flush()) {
     on_flush(m.flush());
   } else if (m.has_metrics_request()) {
@@ -258,12 +342,133 @@ void KinesisProducer::on_ipc_message(std::string&& message) noexcept {
 }
 
 void KinesisProducer::on_put_record(aws::kinesis::protobuf::Message& m) {
-  auto ur = std::make_shared<UserRecord>(m);
+  if (check_put_record(m.id(), m.put_record())) {
+    put_user_record(std::make_shared<UserRecord>(m));
+  }
+}
+
+void KinesisProducer::on_put_record_batch(aws::kinesis::protobuf::Message& m) {
+  auto batch = m.mutable_put_record_batch();
+  if (batch->records_size() != batch->id_offsets_size()) {
+    LOG(error) << "PutRecordBatch has " << batch->records_size()
+               << " records but " << batch->id_offsets_size() << " ids";
+    return;
+  }
+  for (int i = 0; i < batch->records_size(); i++) {
+    auto source_id = m.id() + batch->id_offsets(i);
+    if (check_put_record(source_id, batch->records(i))) {
+      put_user_record(std::make_shared<UserRecord>(
+          source_id,
+          *batch->mutable_records(i)));
+    }
+  }
+}
+
+bool KinesisProducer::check_put_record(
+    uint64_t source_id,
+    const aws::kinesis::protobuf::PutRecord& put_record) {
+  auto error = UserRecord::validate(put_record);
+  if (error.empty()) {
+    return true;
+  }
+  LOG(error) << "Rejecting record " << source_id << ": " << error;
+
+  // There is no UserRecord to fail, so build the result it would have given
+  aws::kinesis::protobuf::Message m;
+  m.set_source_id(source_id);
+  m.set_id(::rand());
+  auto prr = m.mutable_put_record_result();
+  prr->set_success(false);
+  auto a = prr->add_attempts();
+  a->set_delay(0);
+  a->set_duration(0);
+  a->set_success(false);
+  a->set_error_code("InvalidRecord");
+  a->set_error_message(error);
+  ipc_manager_->put(m.SerializeAsString());
+  return false;
+}
+
+void KinesisProducer::put_user_record(std::shared_ptr<UserRecord> ur) {
   ur->set_deadline_from_now(
       std::chrono::milliseconds(config_->record_max_buffered_time()));
   ur->set_expiration_from_now(
       std::chrono::milliseconds(config_->record_ttl()));
-  pipelines_[ur->stream()].put(ur);
+
+  if (!ur->stream_id()) {
+    pipelines_[ur->stream()].put(ur);
+    return;
+  }
+
+  auto id = *ur->stream_id();
+  if (id >= kMaxStreamIds) {
+    fail_user_record(ur, "UnknownStreamId",
+                     "Stream id " + std::to_string(id) + " is out of range");
+    return;
+  }
+
+  auto stream = streams_by_id_[id].load(std::memory_order_acquire);
+  if (!stream) {
+    std::lock_guard<std::mutex> lk(streams_mutex_);
+    stream = streams_by_id_[id].load(std::memory_order_acquire);
+    if (!stream) {
+      awaiting_registration_[id].push_back(ur);
+      return;
+    }
+  }
+
+  ur->set_stream(stream->name);
+  stream->pipeline->put(ur);
+}
+
+void KinesisProducer::on_register_stream(
+    const aws::kinesis::protobuf::RegisterStream& register_stream) {
+  auto id = register_stream.stream_id();
+  if (id >= kMaxStreamIds) {
+    LOG(error) << "Cannot register stream \"" << register_stream.stream_name()
+               << "\" with id " << id << ", ids must be less than "
+               << kMaxStreamIds;
+    return;
+  }
+
+  auto stream = new RegisteredStream{
+      std::make_shared<const std::string>(register_stream.stream_name()),
+      &pipelines_[register_stream.stream_name()]};
+
+  std::vector<std::shared_ptr<UserRecord>> waiting;
+  {
+    std::lock_guard<std::mutex> lk(streams_mutex_);
+    if (streams_by_id_[id].load(std::memory_order_acquire)) {
+      LOG(warning) << "Stream id " << id << " is already registered, ignoring "
+                   << "registration for \"" << register_stream.stream_name()
+                   << "\"";
+      delete stream;
+      return;
+    }
+    streams_by_id_[id].store(stream, std::memory_order_release);
+
+    auto it = awaiting_registration_.find(id);
+    if (it != awaiting_registration_.end()) {
+      waiting = std::move(it->second);
+      awaiting_registration_.erase(it);
+    }
+  }
+
+  for (auto& ur : waiting) {
+    ur->set_stream(stream->name);
+    stream->pipeline->put(ur);
+  }
+}
+
+void KinesisProducer::fail_user_record(const std::shared_ptr<UserRecord>& ur,
+                                       const std::string& code,
+                                       const std::string& msg) {
+  Attempt a;
+  a.set_start();
+  a.set_end();
+  a.set_error(code, msg);
+  ur->add_attempt(a);
+  ipc_manager_->put(ur->to_put_record_result().SerializeAsString());
 }
 
 void KinesisProducer::on_flush(const aws::kinesis::protobuf::Flush& flush_msg) {
@@ -277,6 +482,21 @@ void KinesisProducer::on_flush(const aws::kinesis::protobuf::Flush& flush_msg) {
 void KinesisProducer::on_metrics_request(
     const aws::kinesis::protobuf::Message& m) {
   auto req = m.metrics_request();
+
+  if (req.has_snapshot_interval()) {
+    {
+      std::lock_guard<std::mutex> lk(snapshot_mutex_);
+      snapshot_interval_ = std::chrono::milliseconds(req.snapshot_interval());
+      // The next snapshot has to be a full one
+      last_snapshot_.clear();
+      if (snapshot_interval_.count() == 0 && push_snapshot_) {
+        push_snapshot_->cancel();
+      }
+    }
+    push_metrics_snapshot();
+    return;
+  }
+
   std::vector<std::shared_ptr<aws::metrics::Metric>> metrics;
 
   // filter by name, if necessary
@@ -301,43 +521,56 @@ void KinesisProducer::on_metrics_request(
   reply.set_source_id(m.id());
   auto res = reply.mutable_metrics_response();
 
+  boost::optional<uint64_t> seconds;
+  if (req.has_seconds()) {
+    seconds = req.seconds();
+  }
   for (auto& metric : metrics) {
-    auto dims = metric->all_dimensions();
-
-    assert(!dims.empty());
-    assert(dims.at(0).first == "MetricName");
+    to_protobuf(*metric, seconds, res->add_metrics());
+  }
 
-    auto pm = res->add_metrics();
-    pm->set_name(dims.at(0).second);
+  ipc_manager_->put(reply.SerializeAsString());
+}
 
-    for (size_t i = 1; i < dims.size(); i++) {
-      auto d = pm->add_dimensions();
-      d->set_key(dims[i].first);
-      d->set_value(dims[i].second);
-    }
+void KinesisProducer::push_metrics_snapshot() {
+  std::lock_guard<std::mutex> lk(snapshot_mutex_);
+  if (snapshot_interval_.count() == 0) {
+    return;
+  }
 
-    auto& accum = metric->accumulator();
-    auto stats = pm->mutable_stats();
-
-    if (req.has_seconds()) {
-      auto s = req.seconds();
-      stats->set_count(accum.count(s));
-      stats->set_sum(accum.sum(s));
-      stats->set_min(accum.min(s));
-      stats->set_max(accum.max(s));
-      stats->set_mean(accum.mean(s));
-      pm->set_seconds(s);
+  aws::kinesis::protobuf::Message m;
+  m.set_id(::rand());
+  auto snapshot = m.mutable_metrics_snapshot();
+  bool full = last_snapshot_.empty();
+  snapshot->set_full(full);
+
+  for (auto& metric : metrics_manager_->all_metrics()) {
+    aws::kinesis::protobuf::Metric pm;
+    to_protobuf(*metric, boost::none, &pm);
+    auto it = last_snapshot_.find(metric);
+    if (it == last_snapshot_.end()) {
+      last_snapshot_.emplace(metric, pm.stats());
+    } else if (same_stats(it->second, pm.stats())) {
+      continue;
     } else {
-      stats->set_count(accum.count());
-      stats->set_sum(accum.sum());
-      stats->set_min(accum.min());
-      stats->set_max(accum.max());
-      stats->set_mean(accum.mean());
-      pm->set_seconds(accum.elapsed<std::chrono::seconds>());
+      it->second = pm.stats();
     }
+    snapshot->add_metrics()->Swap(&pm);
   }
 
-  ipc_manager_->put(reply.SerializeAsString());
+  // Nothing changed, so there's no need to take up room on the pipe
+  if (full || snapshot->metrics_size() > 0) {
+    ipc_manager_->put(m.SerializeAsString());
+  }
+
+  if (!push_snapshot_) {
+    push_snapshot_ =
+        executor_->schedule(
+            [this] { this->push_metrics_snapshot(); },
+            snapshot_interval_);
+  } else {
+    push_snapshot_->reschedule(snapshot_interval_);
+  }
 }
 
 void KinesisProducer::on_set_credentials(
@@ -16,6 +16,12 @@
 #ifndef AWS_KINESIS_CORE_KINESIS_PRODUCER_H_
 #define AWS_KINESIS_CORE_KINESIS_PRODUCER_H_
 
+#include <array>
+#include <atomic>
+#include <mutex>
+#include <unordered_map>
+#include <vector>
+
 #include <aws/auth/mutable_static_creds_provider.h>
 #include <aws/kinesis/KinesisClient.h>
 #include <aws/kinesis/core/pipeline.h>
@@ -50,9 +56,14 @@ class KinesisProducer : boost::noncopyable {
           return this->create_pipeline(stream);
         }),
         shutdown_(false) {
+    for (auto& s : streams_by_id_) {
+      s = nullptr;
+    }
+    send_handshake();
     create_kinesis_client(ca_path);
     create_cw_client(ca_path);
     create_metrics_manager();
+    prewarm();
     report_outstanding();
     message_drainer_ = aws::thread([this] { this->drain_messages(); });
   }
@@ -60,6 +71,9 @@ class KinesisProducer : boost::noncopyable {
   ~KinesisProducer() {
     shutdown_ = true;
     message_drainer_.join();
+    for (auto& s : streams_by_id_) {
+      delete s.load();
+    }
   }
 
   void join() {
@@ -70,6 +84,14 @@ class KinesisProducer : boost::noncopyable {
   static const std::chrono::microseconds kMessageDrainMinBackoff;
   static const std::chrono::microseconds kMessageDrainMaxBackoff;
   static constexpr const size_t kMessageMaxBatchSize = 16;
+  static constexpr const uint32_t kMaxStreamIds = 4096;
+  // See Handshake in messages.proto
+  static constexpr const uint32_t kProtocolVersion = 2;
+
+  struct RegisteredStream {
+    std::shared_ptr<const std::string> name;
+    Pipeline* pipeline;
+  };
 
   void create_metrics_manager();
 
@@ -77,18 +99,40 @@ class KinesisProducer : boost::noncopyable {
 
   void create_cw_client(const std::string& ca_path);
 
+  void prewarm();
+
   Pipeline* create_pipeline(const std::string& stream);
 
+  void send_handshake();
+
   void drain_messages();
 
   void on_ipc_message(std::string&& message) noexcept;
 
   void on_put_record(aws::kinesis::protobuf::Message& m);
 
+  void on_put_record_batch(aws::kinesis::protobuf::Message& m);
+
+  // Sends back a failed result for a record the UserRecord constructors would
+  // reject, instead of letting them throw on the IPC path.
+  bool check_put_record(uint64_t source_id,
+                        const aws::kinesis::protobuf::PutRecord& put_record);
+
+  void put_user_record(std::shared_ptr<UserRecord> ur);
+
+  void on_register_stream(
+      const aws::kinesis::protobuf::RegisterStream& register_stream);
+
+  void fail_user_record(const std::shared_ptr<UserRecord>& ur,
+                        const std::string& code,
+                        const std::string& msg);
+
   void on_flush(const aws::kinesis::protobuf::Flush& flush_msg);
 
   void on_metrics_request(const aws::kinesis::protobuf::Message& m);
 
+  void push_metrics_snapshot();
+
   void on_set_credentials(
       const aws::kinesis::protobuf::SetCredentials& set_creds);
 
@@ -109,10 +153,31 @@ class KinesisProducer : boost::noncopyable {
   std::shared_ptr<aws::metrics::MetricsManager> metrics_manager_;
 
   aws::utils::ConcurrentHashMap<std::string, Pipeline> pipelines_;
+
+  // Entries are written once, under streams_mutex_, and never change after
+  // that, so lookups on the put path don't need the lock.
+  std::array<std::atomic<RegisteredStream*>, kMaxStreamIds> streams_by_id_;
+
+  // Messages are processed concurrently in batches, so a PutRecord can be
+  // handled before the RegisterStream that was sent ahead of it. Records like
+  // that wait here until the registration arrives.
+  std::mutex streams_mutex_;
+  std::unordered_map<uint32_t, std::vector<std::shared_ptr<UserRecord>>>
+      awaiting_registration_;
+
   bool shutdown_;
   aws::thread message_drainer_;
 
   std::shared_ptr<aws::utils::ScheduledCallback> report_outstanding_;
+
+  // Snapshots are only pushed once asked for with a MetricsRequest. The stats
+  // last pushed for each metric are kept so later snapshots can leave out
+  // the ones that haven't changed.
+  std::mutex snapshot_mutex_;
+  std::chrono::milliseconds snapshot_interval_{0};
+  std::unordered_map<std::shared_ptr<aws::metrics::Metric>,
+                     aws::kinesis::protobuf::Stats> last_snapshot_;
+  std::shared_ptr<aws::utils::ScheduledCallback> push_snapshot_;
 };
 
 } //namespace core
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include <aws/kinesis/core/shared_memory_ring.h>
+
+#include <sstream>
+#include <stdexcept>
+
+#include <boost/predef.h>
+
+#if !BOOST_OS_WINDOWS
+  #include <fcntl.h>
+  #include <sys/mman.h>
+  #include <sys/stat.h>
+  #include <unistd.h>
+#endif
+
+namespace aws {
+namespace kinesis {
+namespace core {
+namespace detail {
+
+namespace {
+
+void error(const char* msg, const std::string& path) {
+  std::stringstream ss;
+  ss << msg << " \"" << path << "\", error code " << errno;
+  throw std::runtime_error(ss.str().c_str());
+}
+
+} //namespace
+
+constexpr const uint32_t SharedMemoryRing::kMagic;
+constexpr const uint32_t SharedMemoryRing::kVersion;
+constexpr const std::chrono::microseconds SharedMemoryRing::kMaxBackoff;
+
+#if !BOOST_OS_WINDOWS
+
+SharedMemoryRing::SharedMemoryRing(const std::string& path, Ring read_from)
+    : read_pos_(0),
+      write_pos_(0) {
+  int fd = ::open(path.c_str(), O_RDWR);
+  if (fd < 0) {
+    error("Could not open shared memory ring", path);
+  }
+  struct ::stat stat;
+  if (::fstat(fd, &stat) < 0) {
+    ::close(fd);
+    error("Could not stat shared memory ring", path);
+  }
+  size_ = stat.st_size;
+  void* base = size_ < kHeaderSize ? MAP_FAILED :
+      ::mmap(nullptr, size_, PROT_READ | PROT_WRITE, MAP_SHARED, fd, 0);
+  ::close(fd);
+  if (base == MAP_FAILED) {
+    error("Could not map shared memory ring", path);
+  }
+  base_ = static_cast<uint8_t*>(base);
+
+  uint32_t magic;
+  uint32_t version;
+  std::memcpy(&magic, base_, sizeof(magic));
+  std::memcpy(&version, base_ + 4, sizeof(version));
+  std::memcpy(&capacity_, base_ + 8, sizeof(capacity_));
+  if (magic != kMagic || version != kVersion || capacity_ == 0 ||
+      (capacity_ & (capacity_ - 1)) != 0 ||
+      size_ < kHeaderSize + 2 * (kControlSize + capacity_)) {
+    ::munmap(base_, size_);
+    std::stringstream ss;
+    ss << "\"" << path << "\" is not a version " << kVersion
+       << " shared memory ring";
+    throw std::runtime_error(ss.str().c_str());
+  }
+
+  Ring write_to = read_from == kParentToChild ? kChildToParent : kParentToChild;
+  in_ = control(read_from);
+  in_data_ = data(read_from);
+  out_ = control(write_to);
+  out_data_ = data(write_to);
+  read_pos_ = in_->read_pos.load();
+  write_pos_ = out_->write_pos.load();
+}
+
+SharedMemoryRing::~SharedMemoryRing() {
+  ::munmap(base_, size_);
+}
+
+void SharedMemoryRing::create(const std::string& path, uint64_t capacity) {
+  int fd = ::open(path.c_str(), O_RDWR | O_CREAT | O_EXCL, 0600);
+  if (fd < 0) {
+    error("Could not create shared memory ring", path);
+  }
+  uint8_t header[kHeaderSize] = {};
+  std::memcpy(header, &kMagic, sizeof(kMagic));
+  std::memcpy(header + 4, &kVersion, sizeof(kVersion));
+  std::memcpy(header + 8, &capacity, sizeof(capacity));
+  bool ok = ::ftruncate(fd, kHeaderSize + 2 * (kControlSize + capacity)) == 0 &&
+      ::write(fd, header, sizeof(header)) == sizeof(header);
+  ::close(fd);
+  if (!ok) {
+    error("Could not size shared memory ring", path);
+  }
+}
+
+#else
+
+SharedMemoryRing::SharedMemoryRing(const std::string& path, Ring read_from) {
+  throw std::runtime_error("Shared memory rings are not supported on Windows");
+}
+
+SharedMemoryRing::~SharedMemoryRing() {}
+
+void SharedMemoryRing::create(const std::string& path, uint64_t capacity) {
+  throw std::runtime_error("Shared memory rings are not supported on Windows");
+}
+
+#endif
+
+} //namespace detail
+} //namespace core
+} //namespace kinesis
+} //namespace aws
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#ifndef AWS_KINESIS_CORE_SHARED_MEMORY_RING_H_
+#define AWS_KINESIS_CORE_SHARED_MEMORY_RING_H_
+
+#include <algorithm>
+#include <atomic>
+#include <chrono>
+#include <cstdint>
+#include <cstring>
+#include <string>
+#include <thread>
+
+#include <boost/noncopyable.hpp>
+
+namespace aws {
+namespace kinesis {
+namespace core {
+namespace detail {
+
+// A memory-mapped file created by the Java side, holding one single-producer,
+// single-consumer byte ring in each direction. The rings carry exactly the
+// bytes that would otherwise go through the pipes.
+//
+// Each ring has a write position and a read position that only ever grow, and
+// a flag the reader sets before it goes to sleep. A writer that sees the flag
+// clears it and writes a byte to the pipe going the same way as the ring, which
+// the reader blocks on. While the reader keeps up, neither side makes a system
+// call. A writer that finds the ring full backs off and polls.
+//
+// The layout has to match SharedMemoryRing.java: a 4KB header with the magic
+// number, the version and the capacity of each ring, then for each ring a 4KB
+// control page followed by the ring's data. Everything is in native byte order.
+class SharedMemoryRing : boost::noncopyable {
+ public:
+  enum Ring {
+    kParentToChild = 0,
+    kChildToParent = 1
+  };
+
+  static constexpr const uint32_t kMagic = 0x4B504C52;
+  static constexpr const uint32_t kVersion = 1;
+  static constexpr const size_t kHeaderSize = 4096;
+  static constexpr const size_t kControlSize = 4096;
+
+  // Map an existing ring file, reading from the ring given and writing to the
+  // other one.
+  SharedMemoryRing(const std::string& path, Ring read_from = kParentToChild);
+
+  ~SharedMemoryRing();
+
+  // Create a ring file the way the Java side does, for tests.
+  static void create(const std::string& path, uint64_t capacity);
+
+  uint64_t capacity() const noexcept {
+    return capacity_;
+  }
+
+  // Read up to count bytes, blocking until at least one is available. The
+  // doorbell is called to block until the writer rings it, and behaves like
+  // ::read; its return value is passed on if it is 0 or less.
+  template <typename Doorbell>
+  int64_t read(void* buf, size_t count, Doorbell&& doorbell) {
+    uint8_t bell[64];
+    int spins = 0;
+    while (true) {
+      auto available =
+          in_->write_pos.load(std::memory_order_acquire) - read_pos_;
+      if (available > 0 || count == 0) {
+        auto n = std::min<uint64_t>(available, count);
+        copy_out(in_data_, read_pos_, static_cast<uint8_t*>(buf), n);
+        read_pos_ += n;
+        in_->read_pos.store(read_pos_, std::memory_order_release);
+        return n;
+      }
+      if (spins++ < kSpins) {
+        std::this_thread::yield();
+        continue;
+      }
+      in_->reader_waiting.store(1, std::memory_order_seq_cst);
+      if (in_->write_pos.load(std::memory_order_seq_cst) != read_pos_) {
+        in_->reader_waiting.store(0, std::memory_order_seq_cst);
+        continue;
+      }
+      auto rung = doorbell(bell, sizeof(bell));
+      if (rung <= 0) {
+        return rung;
+      }
+      spins = 0;
+    }
+  }
+
+  // Write up to count bytes, blocking until there is room for at least one.
+  // The doorbell is called with a single byte to wake the reader up, and
+  // behaves like ::write.
+  template <typename Doorbell>
+  int64_t write(const void* buf, size_t count, Doorbell&& doorbell) {
+    int spins = 0;
+    auto backoff = std::chrono::microseconds(1);
+    while (true) {
+      auto free =
+          capacity_ - (write_pos_ - out_->read_pos.load(std::memory_order_acquire));
+      if (free > 0 || count == 0) {
+        auto n = std::min<uint64_t>(free, count);
+        copy_in(out_data_, write_pos_, static_cast<const uint8_t*>(buf), n);
+        write_pos_ += n;
+        out_->write_pos.store(write_pos_, std::memory_order_seq_cst);
+        uint32_t waiting = 1;
+        if (out_->reader_waiting.load(std::memory_order_seq_cst) != 0 &&
+            out_->reader_waiting.compare_exchange_strong(waiting, 0)) {
+          uint8_t bell = 1;
+          if (doorbell(&bell, 1) < 0) {
+            return -1;
+          }
+        }
+        return n;
+      }
+      if (spins++ < kSpins) {
+        std::this_thread::yield();
+      } else {
+        std::this_thread::sleep_for(backoff);
+        backoff = std::min(backoff * 2, kMaxBackoff);
+      }
+    }
+  }
+
+ private:
+  static constexpr const int kSpins = 64;
+  static constexpr const std::chrono::microseconds kMaxBackoff =
+      std::chrono::microseconds(1000);
+
+  struct Control {
+    std::atomic<uint64_t> write_pos;
+    uint8_t pad0[56];
+    std::atomic<uint64_t> read_pos;
+    uint8_t pad1[56];
+    std::atomic<uint32_t> reader_waiting;
+  };
+
+  static_assert(sizeof(std::atomic<uint64_t>) == 8,
+                "Ring positions must be plain 64 bit integers");
+
+  Control* control(Ring ring) {
+    return reinterpret_cast<Control*>(
+        base_ + kHeaderSize + ring * (kControlSize + capacity_));
+  }
+
+  uint8_t* data(Ring ring) {
+    return reinterpret_cast<uint8_t*>(control(ring)) + kControlSize;
+  }
+
+  void copy_out(const uint8_t* data, uint64_t pos, uint8_t* dest, size_t n) {
+    auto offset = pos & (capacity_ - 1);
+    auto first = std::min<uint64_t>(n, capacity_ - offset);
+    std::memcpy(dest, data + offset, first);
+    std::memcpy(dest + first, data, n - first);
+  }
+
+  void copy_in(uint8_t* data, uint64_t pos, const uint8_t* src, size_t n) {
+    auto offset = pos & (capacity_ - 1);
+    auto first = std::min<uint64_t>(n, capacity_ - offset);
+    std::memcpy(data + offset, src, first);
+    std::memcpy(data, src + first, n - first);
+  }
+
+  uint8_t* base_;
+  size_t size_;
+  uint64_t capacity_;
+  Control* in_;
+  uint8_t* in_data_;
+  Control* out_;
+  uint8_t* out_data_;
+  // Only touched by the reader and the writer thread respectively
+  uint64_t read_pos_;
+  uint64_t write_pos_;
+};
+
+} //namespace detail
+} //namespace core
+} //namespace kinesis
+} //namespace aws
+
+#endif //AWS_KINESIS_CORE_SHARED_MEMORY_RING_H_
@@ -51,7 +51,7 @@ class MockShardMap : public aws::kinesis::core::ShardMap {
 
   boost::optional<uint64_t> shard_id(
       const boost::multiprecision::uint128_t& hash_key) {
-    if (down_) {
+    if (down_.load()) {
       return boost::none;
     }
 
@@ -64,8 +64,12 @@ class MockShardMap : public aws::kinesis::core::ShardMap {
     return boost::none;
   }
 
+  void up() {
+    down_.store(false);
+  }
+
  private:
-  bool down_;
+  std::atomic<bool> down_;
   std::vector<uint64_t> shard_ids_;
   std::vector<boost::multiprecision::uint128_t> limits_;
 };
@@ -135,6 +139,131 @@ BOOST_AUTO_TEST_CASE(ShardMapDown) {
   }
 }
 
+BOOST_AUTO_TEST_CASE(HoldUntilShardMapReady) {
+  auto config = std::make_shared<aws::kinesis::core::Configuration>();
+  config->aggregation_max_count(kCountLimit);
+  config->aggregation_hold_for_shard_map(true);
+  auto shard_map = std::make_shared<MockShardMap>(true);
+
+  std::mutex mutex;
+  std::vector<std::shared_ptr<aws::kinesis::core::KinesisRecord>> flushed;
+  auto aggregator = std::make_shared<aws::kinesis::core::Aggregator>(
+      std::make_shared<aws::utils::IoServiceExecutor>(4),
+      shard_map,
+      [&](auto kr) {
+        std::lock_guard<std::mutex> lk(mutex);
+        flushed.push_back(kr);
+      },
+      config,
+      flush_stats);
+
+  aws::kinesis::test::UserRecordSharedPtrVector v;
+  for (int i = 0; i < 10; i++) {
+    auto ur =
+        aws::kinesis::test::make_user_record(
+            "pk",
+            std::to_string(::rand()),
+            get_hash_key(1));
+    BOOST_CHECK(!aggregator->put(ur));
+    v.push_back(ur);
+  }
+
+  shard_map->up();
+  aws::utils::sleep_for(std::chrono::milliseconds(100));
+  aggregator->flush();
+  aws::utils::sleep_for(std::chrono::milliseconds(100));
+
+  std::lock_guard<std::mutex> lk(mutex);
+  BOOST_REQUIRE_EQUAL(flushed.size(), 1);
+  aws::kinesis::test::verify(v, *flushed.front());
+}
+
+BOOST_AUTO_TEST_CASE(HeldRecordsSentAloneAtDeadline) {
+  auto config = std::make_shared<aws::kinesis::core::Configuration>();
+  config->aggregation_max_count(kCountLimit);
+  config->aggregation_hold_for_shard_map(true);
+
+  std::mutex mutex;
+  std::vector<std::shared_ptr<aws::kinesis::core::KinesisRecord>> flushed;
+  auto aggregator = make_aggregator(
+      true,
+      [&](auto kr) {
+        std::lock_guard<std::mutex> lk(mutex);
+        flushed.push_back(kr);
+      },
+      config);
+
+  std::vector<std::shared_ptr<aws::kinesis::core::UserRecord>> v;
+  for (int i = 0; i < 5; i++) {
+    auto ur =
+        aws::kinesis::test::make_user_record(
+            "pk",
+            std::to_string(::rand()),
+            std::to_string(::rand()),
+            50);
+    BOOST_CHECK(!aggregator->put(ur));
+    v.push_back(ur);
+  }
+
+  aws::utils::sleep_for(std::chrono::milliseconds(200));
+
+  std::lock_guard<std::mutex> lk(mutex);
+  BOOST_REQUIRE_EQUAL(flushed.size(), v.size());
+  for (auto& kr : flushed) {
+    BOOST_REQUIRE_EQUAL(kr->size(), 1);
+    auto it = std::find(v.begin(), v.end(), kr->items().front());
+    BOOST_REQUIRE(it != v.end());
+    aws::kinesis::test::verify_unaggregated(*it, *kr);
+  }
+}
+
+BOOST_AUTO_TEST_CASE(FlushSendsHeldRecordsAlone) {
+  auto config = std::make_shared<aws::kinesis::core::Configuration>();
+  config->aggregation_max_count(kCountLimit);
+  config->aggregation_hold_for_shard_map(true);
+
+  std::mutex mutex;
+  std::vector<std::shared_ptr<aws::kinesis::core::KinesisRecord>> flushed;
+  auto aggregator = make_aggregator(
+      true,
+      [&](auto kr) {
+        std::lock_guard<std::mutex> lk(mutex);
+        flushed.push_back(kr);
+      },
+      config);
+
+  std::vector<std::shared_ptr<aws::kinesis::core::UserRecord>> v;
+  for (int i = 0; i < 5; i++) {
+    auto ur =
+        aws::kinesis::test::make_user_record(
+            "pk",
+            std::to_string(::rand()),
+            std::to_string(::rand()),
+            10000);
+    BOOST_CHECK(!aggregator->put(ur));
+    v.push_back(ur);
+  }
+
+  // Held records are sent by flush itself, well before their deadlines
+  aggregator->flush();
+  {
+    std::lock_guard<std::mutex> lk(mutex);
+    BOOST_REQUIRE_EQUAL(flushed.size(), v.size());
+    for (auto& kr : flushed) {
+      BOOST_REQUIRE_EQUAL(kr->size(), 1);
+      auto it = std::find(v.begin(), v.end(), kr->items().front());
+      BOOST_REQUIRE(it != v.end());
+      BOOST_CHECK(std::chrono::steady_clock::now() < (*it)->deadline());
+      aws::kinesis::test::verify_unaggregated(*it, *kr);
+    }
+  }
+
+  // And only once, even after the hold is next polled
+  aws::utils::sleep_for(std::chrono::milliseconds(100));
+  std::lock_guard<std::mutex> lk(mutex);
+  BOOST_CHECK_EQUAL(flushed.size(), v.size());
+}
+
 BOOST_AUTO_TEST_CASE(AggregationDisabled) {
   auto config = std::make_shared<aws::kinesis::core::Configuration>();
   config->aggregation_enabled(false);
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include <boost/test/unit_test.hpp>
+
+#include <unistd.h>
+
+#include <aws/kinesis/core/shared_memory_ring.h>
+#include <aws/kinesis/core/test/test_utils.h>
+#include <aws/utils/utils.h>
+
+namespace {
+
+using Ring = aws::kinesis::core::detail::SharedMemoryRing;
+
+const uint64_t kCapacity = 64 * 1024;
+
+class RingFile {
+ public:
+  RingFile()
+      : name_("__test_ring_" +
+              std::to_string(std::chrono::steady_clock::now()
+                                 .time_since_epoch()
+                                 .count()) +
+              "_delete_me") {
+    Ring::create(name_, kCapacity);
+  }
+
+  ~RingFile() {
+    std::remove(name_.c_str());
+  }
+
+  const std::string& name() const {
+    return name_;
+  }
+
+ private:
+  std::string name_;
+};
+
+} //namespace
+
+BOOST_AUTO_TEST_SUITE(SharedMemoryRing)
+
+// Push several times the capacity through in uneven pieces, so that both ends
+// wrap around, the writer finds the ring full and the reader goes to sleep on
+// the doorbell, and check the bytes come out the same.
+BOOST_AUTO_TEST_CASE(DataIntegrity) {
+  RingFile file;
+  Ring parent(file.name(), Ring::kChildToParent);
+  Ring child(file.name(), Ring::kParentToChild);
+  BOOST_CHECK_EQUAL(parent.capacity(), kCapacity);
+
+  int doorbell[2];
+  BOOST_REQUIRE(::pipe(doorbell) == 0);
+
+  std::string data = aws::kinesis::test::random_string(5 * kCapacity + 12345);
+
+  std::thread writer([&] {
+    size_t pos = 0;
+    while (pos < data.size()) {
+      size_t n = std::min<size_t>(data.size() - pos, 1 + std::rand() % 50000);
+      size_t wrote = 0;
+      while (wrote < n) {
+        wrote += parent.write(data.data() + pos + wrote, n - wrote,
+                              [&](const void* b, size_t len) {
+                                return ::write(doorbell[1], b, len);
+                              });
+      }
+      pos += n;
+      if (std::rand() % 10 == 0) {
+        aws::utils::sleep_for(std::chrono::milliseconds(5));
+      }
+    }
+  });
+
+  std::string read(data.size(), '\0');
+  size_t pos = 0;
+  while (pos < read.size()) {
+    size_t n = std::min<size_t>(read.size() - pos, 1 + std::rand() % 70000);
+    auto num_read = child.read(&read[pos], n, [&](void* b, size_t len) {
+      return ::read(doorbell[0], b, len);
+    });
+    BOOST_REQUIRE(num_read > 0);
+    pos += num_read;
+  }
+  writer.join();
+
+  BOOST_CHECK(read == data);
+  ::close(doorbell[0]);
+  ::close(doorbell[1]);
+}
+
+// A reader with nothing to read sees the end of the stream once the writer's
+// end of the doorbell is closed.
+BOOST_AUTO_TEST_CASE(EndOfStream) {
+  RingFile file;
+  Ring child(file.name(), Ring::kParentToChild);
+
+  int doorbell[2];
+  BOOST_REQUIRE(::pipe(doorbell) == 0);
+  ::close(doorbell[1]);
+
+  char buf[16];
+  auto num_read = child.read(buf, sizeof(buf), [&](void* b, size_t len) {
+    return ::read(doorbell[0], b, len);
+  });
+  BOOST_CHECK_EQUAL(num_read, 0);
+  ::close(doorbell[0]);
+}
+
+BOOST_AUTO_TEST_SUITE_END()
@@ -100,6 +100,29 @@ BOOST_AUTO_TEST_CASE(BasicConversion) {
   BOOST_CHECK_EQUAL(ur.source_id(), kDefaultId);
 }
 
+BOOST_AUTO_TEST_CASE(FromBatch) {
+  auto m = make_put_record();
+  aws::kinesis::core::UserRecord ur(kDefaultId + 3, *m.mutable_put_record());
+
+  BOOST_CHECK_EQUAL(ur.stream(), kDefaultStream);
+  BOOST_CHECK_EQUAL(ur.partition_key(), kDefaultPartitionKey);
+  BOOST_CHECK_EQUAL(ur.data(), kDefaultData);
+  BOOST_CHECK_EQUAL(ur.source_id(), kDefaultId + 3);
+}
+
+BOOST_AUTO_TEST_CASE(StreamId) {
+  auto m = make_put_record();
+  m.mutable_put_record()->clear_stream_name();
+  m.mutable_put_record()->set_stream_id(7);
+  aws::kinesis::core::UserRecord ur(m);
+
+  BOOST_CHECK(ur.stream_id());
+  BOOST_CHECK_EQUAL(*ur.stream_id(), 7);
+
+  ur.set_stream(std::make_shared<const std::string>(kDefaultStream));
+  BOOST_CHECK_EQUAL(ur.stream(), kDefaultStream);
+}
+
 // We should be using the md5 of the partition key when there is no explicit
 // hash key.
 BOOST_AUTO_TEST_CASE(HashKeyFromPartitionKey) {
@@ -118,6 +141,34 @@ BOOST_AUTO_TEST_CASE(ExplicitHashKey) {
   BOOST_CHECK_EQUAL(uint128_to_decimal(ur.hash_key()), explicit_hash_key);
 }
 
+BOOST_AUTO_TEST_CASE(BinaryExplicitHashKey) {
+  std::string binary(16, '\0');
+  binary[0] = (char) 0x80;
+  binary[15] = (char) 0xFF;
+  auto m = make_put_record();
+  m.mutable_put_record()->set_explicit_hash_key_binary(binary);
+
+  aws::kinesis::core::UserRecord ur(m);
+  BOOST_CHECK_EQUAL(uint128_to_hex(ur.hash_key()),
+                    "800000000000000000000000000000FF");
+  BOOST_CHECK(ur.explicit_hash_key());
+  BOOST_CHECK_EQUAL(ur.explicit_hash_key().get(),
+                    "170141183460469231731687303715884105983");
+}
+
+BOOST_AUTO_TEST_CASE(Validate) {
+  auto m = make_put_record();
+  BOOST_CHECK(aws::kinesis::core::UserRecord::validate(m.put_record()).empty());
+
+  m.mutable_put_record()->set_explicit_hash_key_binary(std::string(15, '\0'));
+  BOOST_CHECK(!aws::kinesis::core::UserRecord::validate(m.put_record()).empty());
+
+  auto no_stream = make_put_record();
+  no_stream.mutable_put_record()->clear_stream_name();
+  BOOST_CHECK(
+      !aws::kinesis::core::UserRecord::validate(no_stream.put_record()).empty());
+}
+
 BOOST_AUTO_TEST_CASE(PutRecordResultFail) {
   auto m = make_put_record();
   aws::kinesis::core::UserRecord ur(m);
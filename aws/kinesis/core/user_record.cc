@@ -21,22 +21,65 @@ namespace aws {
 namespace kinesis {
 namespace core {
 
-UserRecord::UserRecord(aws::kinesis::protobuf::Message& m)
-    : hash_key_(0),
-      finished_(false) {
+namespace {
+
+aws::kinesis::protobuf::PutRecord& put_record_of(
+    aws::kinesis::protobuf::Message& m) {
   if (!m.has_put_record()) {
     throw std::runtime_error("Message is not a PutRecord");
   }
+  return *m.mutable_put_record();
+}
 
-  source_id_ = m.id();
-  auto put_record = m.put_record();
-  stream_ = std::move(put_record.stream_name());
-  partition_key_ = std::move(put_record.partition_key());
-  data_ = std::move(put_record.data());
-  has_explicit_hash_key_ = put_record.has_explicit_hash_key();
+} //namespace
 
-  if (has_explicit_hash_key_) {
-    hash_key_ = uint128_t(put_record.explicit_hash_key());
+std::string UserRecord::validate(
+    const aws::kinesis::protobuf::PutRecord& put_record) {
+  if (!put_record.has_stream_name() && !put_record.has_stream_id()) {
+    return "PutRecord has neither a stream name nor id";
+  }
+  if (put_record.has_explicit_hash_key_binary() &&
+      put_record.explicit_hash_key_binary().size() != 16) {
+    return "Binary explicit hash key must be 16 bytes";
+  }
+  return std::string();
+}
+
+UserRecord::UserRecord(aws::kinesis::protobuf::Message& m)
+    : UserRecord(m.id(), put_record_of(m)) {}
+
+UserRecord::UserRecord(uint64_t source_id,
+                       aws::kinesis::protobuf::PutRecord& put_record)
+    : source_id_(source_id),
+      hash_key_(0),
+      finished_(false) {
+  if (put_record.has_stream_name()) {
+    stream_ = std::make_shared<const std::string>(
+        std::move(*put_record.mutable_stream_name()));
+  } else if (put_record.has_stream_id()) {
+    stream_id_ = put_record.stream_id();
+  } else {
+    throw std::runtime_error("PutRecord has neither a stream name nor id");
+  }
+  partition_key_ = std::move(*put_record.mutable_partition_key());
+  data_ = std::move(*put_record.mutable_data());
+  has_explicit_hash_key_ = put_record.has_explicit_hash_key() ||
+      put_record.has_explicit_hash_key_binary();
+
+  if (put_record.has_explicit_hash_key()) {
+    // The Java side has already put the key in canonical form, so it can be
+    // used as the decimal string as is.
+    hash_key_decimal_ = std::move(*put_record.mutable_explicit_hash_key());
+    hash_key_ = uint128_t(hash_key_decimal_);
+  } else if (put_record.has_explicit_hash_key_binary()) {
+    auto& bytes = put_record.explicit_hash_key_binary();
+    if (bytes.size() != 16) {
+      throw std::runtime_error("Binary explicit hash key must be 16 bytes");
+    }
+    for (int i = 0; i < 16; i++) {
+      hash_key_ <<= 8;
+      hash_key_ += (uint8_t) bytes[i];
+    }
   } else {
     auto digest = aws::utils::md5_binary(partition_key_);
     for (int i = 0; i < 16; i++) {
@@ -16,6 +16,8 @@
 #ifndef AWS_KINESIS_CORE_USER_RECORD_H_
 #define AWS_KINESIS_CORE_USER_RECORD_H_
 
+#include <memory>
+#include <mutex>
 #include <sstream>
 #include <vector>
 
@@ -38,6 +40,15 @@ class UserRecord : public aws::utils::TimeSensitive {
   // This will move strings out of m; m will not be valid after this.
   UserRecord(aws::kinesis::protobuf::Message& m);
 
+  // Same as above, for a record that arrived in a PutRecordBatch.
+  UserRecord(uint64_t source_id,
+             aws::kinesis::protobuf::PutRecord& put_record);
+
+  // Returns why the constructors would reject the PutRecord, or an empty
+  // string if they will accept it.
+  static std::string validate(
+      const aws::kinesis::protobuf::PutRecord& put_record);
+
   void add_attempt(const Attempt& a) {
     attempts_.push_back(a);
   }
@@ -47,7 +58,17 @@ class UserRecord : public aws::utils::TimeSensitive {
   }
 
   const std::string& stream() const noexcept {
-    return stream_;
+    return *stream_;
+  }
+
+  // Set if the PutRecord referred to its stream by a registered id instead of
+  // by name. The name is not known until set_stream() is called.
+  boost::optional<uint32_t> stream_id() const noexcept {
+    return stream_id_;
+  }
+
+  void set_stream(std::shared_ptr<const std::string> stream) noexcept {
+    stream_ = std::move(stream);
   }
 
   const std::string& partition_key() const noexcept {
@@ -78,13 +99,20 @@ class UserRecord : public aws::utils::TimeSensitive {
     predicted_shard_ = sid;
   }
 
-  std::string hash_key_decimal_str() const noexcept {
-    std::stringstream ss;
-    ss << hash_key_;
-    return ss.str();
+  // Converted the first time it's needed, unless the key already arrived in
+  // decimal. Safe to call from several threads at once.
+  const std::string& hash_key_decimal_str() const noexcept {
+    std::call_once(hash_key_decimal_once_, [this] {
+      if (hash_key_decimal_.empty()) {
+        std::stringstream ss;
+        ss << hash_key_;
+        hash_key_decimal_ = ss.str();
+      }
+    });
+    return hash_key_decimal_;
   }
 
-  boost::optional<std::string> explicit_hash_key() const noexcept {
+  boost::optional<const std::string&> explicit_hash_key() const noexcept {
     if (has_explicit_hash_key_) {
       return hash_key_decimal_str();
     } else {
@@ -98,9 +126,12 @@ class UserRecord : public aws::utils::TimeSensitive {
 
  private:
   uint64_t source_id_;
-  std::string stream_;
+  std::shared_ptr<const std::string> stream_;
+  boost::optional<uint32_t> stream_id_;
   std::string partition_key_;
   uint128_t hash_key_;
+  mutable std::string hash_key_decimal_;
+  mutable std::once_flag hash_key_decimal_once_;
   std::string data_;
   std::vector<Attempt> attempts_;
   boost::optional<uint64_t> predicted_shard_;
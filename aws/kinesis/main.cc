@@ -16,12 +16,16 @@
 #include <boost/predef.h>
 #include <getopt.h>
 #include <algorithm>
+#include <cstdlib>
+#include <cstring>
 
 #if !BOOST_OS_WINDOWS
   #include <unistd.h>
   #include <sys/resource.h>
+  #include <sys/socket.h>
   #include <sys/stat.h>
   #include <sys/types.h>
+  #include <sys/un.h>
 #endif
 
 #include <regex>
@@ -46,6 +50,9 @@ namespace {
 struct {
   std::string input_pipe;
   std::string output_pipe;
+  std::string shared_memory_ring;
+  std::string socket;
+  int socket_buffer_size = 0;
   std::string configuration;
   std::string kinesis_credentials;
   std::string cloudwatch_credentials;
@@ -64,6 +71,9 @@ struct option long_opts[]{
         {"log-level",              required_argument, NULL, 'l'},
         {"enable-stack-trace",     no_argument,       NULL, 't'},
         {"ca-path",                required_argument, NULL, 'a'},
+        {"shared-memory-ring",     required_argument, NULL, 'r'},
+        {"socket",                 required_argument, NULL, 's'},
+        {"socket-buffer-size",     required_argument, NULL, 'b'},
         {NULL,                     0,                 NULL,  0}
 };
 
@@ -117,13 +127,16 @@ void usage(const std::string program_name, const std::string& message) {
     option_description("-l", "--log-level", "Controls the level of detail emitted from the producer.  Valid: ['trace', 'debug', 'info', 'warn', 'error', 'fatal']");
     option_description("-t", "--enable-stack-trace", "Will dump a stack trace and abort if certain memory errors are triggered");
     option_description("-a", "--ca-path", "Location of the CA root certificate that the producer will use for TLS connections.");
+    option_description("-r", "--shared-memory-ring", "Shared memory file to exchange messages through. The pipes are then only used for wakeups.");
+    option_description("-s", "--socket", "Unix domain socket to connect to and exchange messages through, instead of the input and output pipes");
+    option_description("-b", "--socket-buffer-size", "Send and receive buffer size to ask for on the socket, in bytes");
     exit(1);
 }
 
 void process_options(int argc, char* const* argv) {
   int ch;
 
-  while ((ch = getopt_long(argc, argv, "i:o:c:k:w:l:t", long_opts, NULL)) != -1) {
+  while ((ch = getopt_long(argc, argv, "i:o:c:k:w:l:tr:s:b:", long_opts, NULL)) != -1) {
     switch (ch) {
     case 'i':
         options.input_pipe = std::string(optarg);
@@ -149,14 +162,23 @@ void process_options(int argc, char* const* argv) {
     case 'a':
         options.ca_path = std::string(optarg);
         break;
+    case 'r':
+        options.shared_memory_ring = std::string(optarg);
+        break;
+    case 's':
+        options.socket = std::string(optarg);
+        break;
+    case 'b':
+        options.socket_buffer_size = std::atoi(optarg);
+        break;
     default:
         usage(argv[0], "Unknown option: " + std::string(argv[optind]));
     }
   }
-  if (options.input_pipe.empty()) {
+  if (options.input_pipe.empty() && options.socket.empty()) {
       usage(argv[0], "-i, or --input-pipe is required.");
   }
-  if (options.output_pipe.empty()) {
+  if (options.output_pipe.empty() && options.socket.empty()) {
       usage(argv[0], "-o, or --output-pipe is required.");
   }
   if (options.configuration.empty()) {
@@ -308,9 +330,66 @@ get_ipc_manager(std::string in_file, std::string out_file) {
       std::make_shared<aws::kinesis::core::detail::IpcChannel>(
           in_file,
           out_file);
+  if (!options.shared_memory_ring.empty()) {
+    try {
+      ipc_channel->use_shared_memory_ring(
+          std::make_shared<aws::kinesis::core::detail::SharedMemoryRing>(
+              options.shared_memory_ring));
+    } catch (const std::exception& e) {
+      LOG(error) << "Could not set up shared memory IPC: " << e.what();
+      throw 1;
+    }
+    LOG(info) << "Using shared memory IPC through "
+              << options.shared_memory_ring;
+  }
   return std::make_shared<aws::kinesis::core::IpcManager>(ipc_channel);
 }
 
+std::shared_ptr<aws::kinesis::core::IpcManager>
+get_socket_ipc_manager(const std::string& path) {
+#if !BOOST_OS_WINDOWS
+  struct ::sockaddr_un addr;
+  std::memset(&addr, 0, sizeof(addr));
+  addr.sun_family = AF_UNIX;
+  if (path.size() >= sizeof(addr.sun_path)) {
+    LOG(error) << "Socket path \"" << path << "\" is too long";
+    throw 1;
+  }
+  std::strncpy(addr.sun_path, path.c_str(), sizeof(addr.sun_path) - 1);
+
+  int fd = ::socket(AF_UNIX, SOCK_STREAM, 0);
+  if (fd < 0) {
+    LOG(error) << "Could not create socket, error code " << errno;
+    throw 1;
+  }
+  if (options.socket_buffer_size > 0) {
+    int size = options.socket_buffer_size;
+    if (::setsockopt(fd, SOL_SOCKET, SO_SNDBUF, &size, sizeof(size)) != 0 ||
+        ::setsockopt(fd, SOL_SOCKET, SO_RCVBUF, &size, sizeof(size)) != 0) {
+      LOG(warning) << "Could not set the socket buffer size to " << size
+                   << " bytes, error code " << errno;
+    }
+  }
+  if (::connect(fd, reinterpret_cast<struct ::sockaddr*>(&addr),
+                sizeof(addr)) != 0) {
+    LOG(error) << "Could not connect to \"" << path << "\", error code "
+               << errno;
+    ::close(fd);
+    throw 1;
+  }
+
+  auto ipc_channel =
+      std::make_shared<aws::kinesis::core::detail::IpcChannel>(nullptr,
+                                                               nullptr);
+  ipc_channel->use_socket(fd, ::dup(fd));
+  LOG(info) << "Using Unix domain socket IPC through " << path;
+  return std::make_shared<aws::kinesis::core::IpcManager>(ipc_channel);
+#else
+  LOG(error) << "Unix domain socket IPC is not supported on Windows";
+  throw 1;
+#endif
+}
+
 void set_core_limit() {
 #if !BOOST_OS_WINDOWS
   struct rlimit lim;
@@ -379,7 +458,9 @@ int main(int argc, char* const* argv) {
     auto executor = get_executor();
     auto region = get_region(*config);
     auto creds_providers = get_creds_providers();
-    auto ipc_manager = get_ipc_manager(options.output_pipe, options.input_pipe);
+    auto ipc_manager = options.socket.empty()
+        ? get_ipc_manager(options.output_pipe, options.input_pipe)
+        : get_socket_ipc_manager(options.socket);
     auto ca_path = get_ca_path();
     LOG(info) << "Starting up main producer";
 
@@ -57,7 +57,7 @@ void protobuf_AssignDesc_config_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(AdditionalDimension));
   Configuration_descriptor_ = file->message_type(1);
-  static const int Configuration_offsets_[28] = {
+  static const int Configuration_offsets_[30] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Configuration, additional_metric_dims_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Configuration, aggregation_enabled_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Configuration, aggregation_max_count_),
@@ -86,6 +86,8 @@ void protobuf_AssignDesc_config_2eproto() {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Configuration, verify_certificate_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Configuration, thread_config_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Configuration, thread_pool_size_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Configuration, prewarm_streams_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Configuration, aggregation_hold_for_shard_map_),
   };
   Configuration_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -139,7 +141,7 @@ void protobuf_AddDesc_config_2eproto() {
   ::google::protobuf::DescriptorPool::InternalAddGeneratedFile(
     "\n\014config.proto\022\024aws.kinesis.protobuf\"F\n\023"
     "AdditionalDimension\022\013\n\003key\030\001 \002(\t\022\r\n\005valu"
-    "e\030\002 \002(\t\022\023\n\013granularity\030\003 \002(\t\"\254\010\n\rConfigu"
+    "e\030\002 \002(\t\022\023\n\013granularity\030\003 \002(\t\"\364\010\n\rConfigu"
     "ration\022J\n\026additional_metric_dims\030\200\001 \003(\0132"
     ").aws.kinesis.protobuf.AdditionalDimensi"
     "on\022!\n\023aggregation_enabled\030\001 \001(\010:\004true\022)\n"
@@ -165,9 +167,11 @@ void protobuf_AddDesc_config_2eproto() {
     "ficate\030\031 \001(\010:\004true\022T\n\rthread_config\030\032 \001("
     "\01620.aws.kinesis.protobuf.Configuration.T"
     "hreadConfig:\013PER_REQUEST\022\034\n\020thread_pool_"
-    "size\030\033 \001(\r:\00264\"+\n\014ThreadConfig\022\017\n\013PER_RE"
-    "QUEST\020\000\022\n\n\006POOLED\020\001B2\n0com.amazonaws.ser"
-    "vices.kinesis.producer.protobuf", 1231);
+    "size\030\033 \001(\r:\00264\022\027\n\017prewarm_streams\030\034 \003(\t\022"
+    "-\n\036aggregation_hold_for_shard_map\030\035 \001(\010:"
+    "\005false\"+\n\014ThreadConfig\022\017\n\013PER_REQUEST\020\000\022"
+    "\n\n\006POOLED\020\001B2\n0com.amazonaws.services.ki"
+    "nesis.producer.protobuf", 1303);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "config.proto", &protobuf_RegisterTypes);
   AdditionalDimension::default_instance_ = new AdditionalDimension();
@@ -612,6 +616,8 @@ const int Configuration::kRequestTimeoutFieldNumber;
 const int Configuration::kVerifyCertificateFieldNumber;
 const int Configuration::kThreadConfigFieldNumber;
 const int Configuration::kThreadPoolSizeFieldNumber;
+const int Configuration::kPrewarmStreamsFieldNumber;
+const int Configuration::kAggregationHoldForShardMapFieldNumber;
 #endif  // !_MSC_VER
 
 Configuration::Configuration()
@@ -660,6 +666,7 @@ void Configuration::SharedCtor() {
   verify_certificate_ = true;
   thread_config_ = 0;
   thread_pool_size_ = 64u;
+  aggregation_hold_for_shard_map_ = false;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -782,17 +789,19 @@ void Configuration::Clear() {
       }
     }
   }
-  if (_has_bits_[24 / 32] & 251658240) {
+  if (_has_bits_[24 / 32] & 788529152) {
     request_timeout_ = GOOGLE_ULONGLONG(6000);
     verify_certificate_ = true;
     thread_config_ = 0;
     thread_pool_size_ = 64u;
+    aggregation_hold_for_shard_map_ = false;
   }
 
 #undef OFFSET_OF_FIELD_
 #undef ZR_
 
   additional_metric_dims_.Clear();
+  prewarm_streams_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
@@ -1226,6 +1235,40 @@ bool Configuration::MergePartialFromCodedStream(
         } else {
           goto handle_unusual;
         }
+        if (input->ExpectTag(226)) goto parse_prewarm_streams;
+        break;
+      }
+
+      // repeated string prewarm_streams = 28;
+      case 28: {
+        if (tag == 226) {
+         parse_prewarm_streams:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_prewarm_streams()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+            this->prewarm_streams(this->prewarm_streams_size() - 1).data(),
+            this->prewarm_streams(this->prewarm_streams_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE,
+            "prewarm_streams");
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(226)) goto parse_prewarm_streams;
+        if (input->ExpectTag(232)) goto parse_aggregation_hold_for_shard_map;
+        break;
+      }
+
+      // optional bool aggregation_hold_for_shard_map = 29 [default = false];
+      case 29: {
+        if (tag == 232) {
+         parse_aggregation_hold_for_shard_map:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &aggregation_hold_for_shard_map_)));
+          set_has_aggregation_hold_for_shard_map();
+        } else {
+          goto handle_unusual;
+        }
         if (input->ExpectTag(1026)) goto parse_additional_metric_dims;
         break;
       }
@@ -1440,6 +1483,21 @@ void Configuration::SerializeWithCachedSizes(
     ::google::protobuf::internal::WireFormatLite::WriteUInt32(27, this->thread_pool_size(), output);
   }
 
+  // repeated string prewarm_streams = 28;
+  for (int i = 0; i < this->prewarm_streams_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+    this->prewarm_streams(i).data(), this->prewarm_streams(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE,
+    "prewarm_streams");
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      28, this->prewarm_streams(i), output);
+  }
+
+  // optional bool aggregation_hold_for_shard_map = 29 [default = false];
+  if (has_aggregation_hold_for_shard_map()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(29, this->aggregation_hold_for_shard_map(), output);
+  }
+
   // repeated .aws.kinesis.protobuf.AdditionalDimension additional_metric_dims = 128;
   for (int i = 0; i < this->additional_metric_dims_size(); i++) {
     ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
@@ -1634,6 +1692,21 @@ void Configuration::SerializeWithCachedSizes(
     target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(27, this->thread_pool_size(), target);
   }
 
+  // repeated string prewarm_streams = 28;
+  for (int i = 0; i < this->prewarm_streams_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->prewarm_streams(i).data(), this->prewarm_streams(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "prewarm_streams");
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(28, this->prewarm_streams(i), target);
+  }
+
+  // optional bool aggregation_hold_for_shard_map = 29 [default = false];
+  if (has_aggregation_hold_for_shard_map()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(29, this->aggregation_hold_for_shard_map(), target);
+  }
+
   // repeated .aws.kinesis.protobuf.AdditionalDimension additional_metric_dims = 128;
   for (int i = 0; i < this->additional_metric_dims_size(); i++) {
     target = ::google::protobuf::internal::WireFormatLite::
@@ -1839,6 +1912,11 @@ int Configuration::ByteSize() const {
           this->thread_pool_size());
     }
 
+    // optional bool aggregation_hold_for_shard_map = 29 [default = false];
+    if (has_aggregation_hold_for_shard_map()) {
+      total_size += 2 + 1;
+    }
+
   }
   // repeated .aws.kinesis.protobuf.AdditionalDimension additional_metric_dims = 128;
   total_size += 2 * this->additional_metric_dims_size();
@@ -1848,6 +1926,13 @@ int Configuration::ByteSize() const {
         this->additional_metric_dims(i));
   }
 
+  // repeated string prewarm_streams = 28;
+  total_size += 2 * this->prewarm_streams_size();
+  for (int i = 0; i < this->prewarm_streams_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->prewarm_streams(i));
+  }
+
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -1874,6 +1959,7 @@ void Configuration::MergeFrom(const ::google::protobuf::Message& from) {
 void Configuration::MergeFrom(const Configuration& from) {
   GOOGLE_CHECK_NE(&from, this);
   additional_metric_dims_.MergeFrom(from.additional_metric_dims_);
+  prewarm_streams_.MergeFrom(from.prewarm_streams_);
   if (from._has_bits_[1 / 32] & (0xffu << (1 % 32))) {
     if (from.has_aggregation_enabled()) {
       set_aggregation_enabled(from.aggregation_enabled());
@@ -1962,6 +2048,9 @@ void Configuration::MergeFrom(const Configuration& from) {
     if (from.has_thread_pool_size()) {
       set_thread_pool_size(from.thread_pool_size());
     }
+    if (from.has_aggregation_hold_for_shard_map()) {
+      set_aggregation_hold_for_shard_map(from.aggregation_hold_for_shard_map());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -2014,6 +2103,8 @@ void Configuration::Swap(Configuration* other) {
     std::swap(verify_certificate_, other->verify_certificate_);
     std::swap(thread_config_, other->thread_config_);
     std::swap(thread_pool_size_, other->thread_pool_size_);
+    prewarm_streams_.Swap(&other->prewarm_streams_);
+    std::swap(aggregation_hold_for_shard_map_, other->aggregation_hold_for_shard_map_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -487,6 +487,29 @@ class Configuration : public ::google::protobuf::Message {
   inline ::google::protobuf::uint32 thread_pool_size() const;
   inline void set_thread_pool_size(::google::protobuf::uint32 value);
 
+  // repeated string prewarm_streams = 28;
+  inline int prewarm_streams_size() const;
+  inline void clear_prewarm_streams();
+  static const int kPrewarmStreamsFieldNumber = 28;
+  inline const ::std::string& prewarm_streams(int index) const;
+  inline ::std::string* mutable_prewarm_streams(int index);
+  inline void set_prewarm_streams(int index, const ::std::string& value);
+  inline void set_prewarm_streams(int index, const char* value);
+  inline void set_prewarm_streams(int index, const char* value, size_t size);
+  inline ::std::string* add_prewarm_streams();
+  inline void add_prewarm_streams(const ::std::string& value);
+  inline void add_prewarm_streams(const char* value);
+  inline void add_prewarm_streams(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& prewarm_streams() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_prewarm_streams();
+
+  // optional bool aggregation_hold_for_shard_map = 29 [default = false];
+  inline bool has_aggregation_hold_for_shard_map() const;
+  inline void clear_aggregation_hold_for_shard_map();
+  static const int kAggregationHoldForShardMapFieldNumber = 29;
+  inline bool aggregation_hold_for_shard_map() const;
+  inline void set_aggregation_hold_for_shard_map(bool value);
+
   // @@protoc_insertion_point(class_scope:aws.kinesis.protobuf.Configuration)
  private:
   inline void set_has_aggregation_enabled();
@@ -543,6 +566,8 @@ class Configuration : public ::google::protobuf::Message {
   inline void clear_has_thread_config();
   inline void set_has_thread_pool_size();
   inline void clear_has_thread_pool_size();
+  inline void set_has_aggregation_hold_for_shard_map();
+  inline void clear_has_aggregation_hold_for_shard_map();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -579,7 +604,9 @@ class Configuration : public ::google::protobuf::Message {
   ::google::protobuf::uint64 record_ttl_;
   ::std::string* region_;
   ::google::protobuf::uint64 request_timeout_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> prewarm_streams_;
   ::google::protobuf::uint32 thread_pool_size_;
+  bool aggregation_hold_for_shard_map_;
   friend void  protobuf_AddDesc_config_2eproto();
   friend void protobuf_AssignDesc_config_2eproto();
   friend void protobuf_ShutdownFile_config_2eproto();
@@ -1869,6 +1896,84 @@ inline void Configuration::set_thread_pool_size(::google::protobuf::uint32 value
   // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.Configuration.thread_pool_size)
 }
 
+// repeated string prewarm_streams = 28;
+inline int Configuration::prewarm_streams_size() const {
+  return prewarm_streams_.size();
+}
+inline void Configuration::clear_prewarm_streams() {
+  prewarm_streams_.Clear();
+}
+inline const ::std::string& Configuration::prewarm_streams(int index) const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.Configuration.prewarm_streams)
+  return prewarm_streams_.Get(index);
+}
+inline ::std::string* Configuration::mutable_prewarm_streams(int index) {
+  // @@protoc_insertion_point(field_mutable:aws.kinesis.protobuf.Configuration.prewarm_streams)
+  return prewarm_streams_.Mutable(index);
+}
+inline void Configuration::set_prewarm_streams(int index, const ::std::string& value) {
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.Configuration.prewarm_streams)
+  prewarm_streams_.Mutable(index)->assign(value);
+}
+inline void Configuration::set_prewarm_streams(int index, const char* value) {
+  prewarm_streams_.Mutable(index)->assign(value);
+  // @@protoc_insertion_point(field_set_char:aws.kinesis.protobuf.Configuration.prewarm_streams)
+}
+inline void Configuration::set_prewarm_streams(int index, const char* value, size_t size) {
+  prewarm_streams_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+  // @@protoc_insertion_point(field_set_pointer:aws.kinesis.protobuf.Configuration.prewarm_streams)
+}
+inline ::std::string* Configuration::add_prewarm_streams() {
+  return prewarm_streams_.Add();
+}
+inline void Configuration::add_prewarm_streams(const ::std::string& value) {
+  prewarm_streams_.Add()->assign(value);
+  // @@protoc_insertion_point(field_add:aws.kinesis.protobuf.Configuration.prewarm_streams)
+}
+inline void Configuration::add_prewarm_streams(const char* value) {
+  prewarm_streams_.Add()->assign(value);
+  // @@protoc_insertion_point(field_add_char:aws.kinesis.protobuf.Configuration.prewarm_streams)
+}
+inline void Configuration::add_prewarm_streams(const char* value, size_t size) {
+  prewarm_streams_.Add()->assign(reinterpret_cast<const char*>(value), size);
+  // @@protoc_insertion_point(field_add_pointer:aws.kinesis.protobuf.Configuration.prewarm_streams)
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+Configuration::prewarm_streams() const {
+  // @@protoc_insertion_point(field_list:aws.kinesis.protobuf.Configuration.prewarm_streams)
+  return prewarm_streams_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+Configuration::mutable_prewarm_streams() {
+  // @@protoc_insertion_point(field_mutable_list:aws.kinesis.protobuf.Configuration.prewarm_streams)
+  return &prewarm_streams_;
+}
+
+// optional bool aggregation_hold_for_shard_map = 29 [default = false];
+inline bool Configuration::has_aggregation_hold_for_shard_map() const {
+  return (_has_bits_[0] & 0x20000000u) != 0;
+}
+inline void Configuration::set_has_aggregation_hold_for_shard_map() {
+  _has_bits_[0] |= 0x20000000u;
+}
+inline void Configuration::clear_has_aggregation_hold_for_shard_map() {
+  _has_bits_[0] &= ~0x20000000u;
+}
+inline void Configuration::clear_aggregation_hold_for_shard_map() {
+  aggregation_hold_for_shard_map_ = false;
+  clear_has_aggregation_hold_for_shard_map();
+}
+inline bool Configuration::aggregation_hold_for_shard_map() const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.Configuration.aggregation_hold_for_shard_map)
+  return aggregation_hold_for_shard_map_;
+}
+inline void Configuration::set_aggregation_hold_for_shard_map(bool value) {
+  set_has_aggregation_hold_for_shard_map();
+  aggregation_hold_for_shard_map_ = value;
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.Configuration.aggregation_hold_for_shard_map)
+}
+
 
 // @@protoc_insertion_point(namespace_scope)
 
@@ -42,10 +42,20 @@ struct MessageOneofInstance {
   const ::aws::kinesis::protobuf::MetricsRequest* metrics_request_;
   const ::aws::kinesis::protobuf::MetricsResponse* metrics_response_;
   const ::aws::kinesis::protobuf::SetCredentials* set_credentials_;
+  const ::aws::kinesis::protobuf::RegisterStream* register_stream_;
+  const ::aws::kinesis::protobuf::PutRecordBatch* put_record_batch_;
+  const ::aws::kinesis::protobuf::MetricsSnapshot* metrics_snapshot_;
+  const ::aws::kinesis::protobuf::Handshake* handshake_;
 }* Message_default_oneof_instance_ = NULL;
 const ::google::protobuf::Descriptor* PutRecord_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   PutRecord_reflection_ = NULL;
+const ::google::protobuf::Descriptor* RegisterStream_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  RegisterStream_reflection_ = NULL;
+const ::google::protobuf::Descriptor* PutRecordBatch_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  PutRecordBatch_reflection_ = NULL;
 const ::google::protobuf::Descriptor* Flush_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   Flush_reflection_ = NULL;
@@ -76,6 +86,12 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* MetricsResponse_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   MetricsResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* MetricsSnapshot_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  MetricsSnapshot_reflection_ = NULL;
+const ::google::protobuf::Descriptor* Handshake_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  Handshake_reflection_ = NULL;
 
 }  // namespace
 
@@ -138,7 +154,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(AggregatedRecord));
   Message_descriptor_ = file->message_type(3);
-  static const int Message_offsets_[10] = {
+  static const int Message_offsets_[14] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Message, id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Message, source_id_),
     PROTO2_GENERATED_DEFAULT_ONEOF_FIELD_OFFSET(Message_default_oneof_instance_, put_record_),
@@ -148,6 +164,10 @@ void protobuf_AssignDesc_messages_2eproto() {
     PROTO2_GENERATED_DEFAULT_ONEOF_FIELD_OFFSET(Message_default_oneof_instance_, metrics_request_),
     PROTO2_GENERATED_DEFAULT_ONEOF_FIELD_OFFSET(Message_default_oneof_instance_, metrics_response_),
     PROTO2_GENERATED_DEFAULT_ONEOF_FIELD_OFFSET(Message_default_oneof_instance_, set_credentials_),
+    PROTO2_GENERATED_DEFAULT_ONEOF_FIELD_OFFSET(Message_default_oneof_instance_, register_stream_),
+    PROTO2_GENERATED_DEFAULT_ONEOF_FIELD_OFFSET(Message_default_oneof_instance_, put_record_batch_),
+    PROTO2_GENERATED_DEFAULT_ONEOF_FIELD_OFFSET(Message_default_oneof_instance_, metrics_snapshot_),
+    PROTO2_GENERATED_DEFAULT_ONEOF_FIELD_OFFSET(Message_default_oneof_instance_, handshake_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Message, actual_message_),
   };
   Message_reflection_ =
@@ -164,11 +184,13 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Message));
   PutRecord_descriptor_ = file->message_type(4);
-  static const int PutRecord_offsets_[4] = {
+  static const int PutRecord_offsets_[6] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecord, stream_name_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecord, partition_key_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecord, explicit_hash_key_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecord, data_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecord, stream_id_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecord, explicit_hash_key_binary_),
   };
   PutRecord_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -181,7 +203,39 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(PutRecord));
-  Flush_descriptor_ = file->message_type(5);
+  RegisterStream_descriptor_ = file->message_type(5);
+  static const int RegisterStream_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterStream, stream_id_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterStream, stream_name_),
+  };
+  RegisterStream_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      RegisterStream_descriptor_,
+      RegisterStream::default_instance_,
+      RegisterStream_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterStream, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RegisterStream, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(RegisterStream));
+  PutRecordBatch_descriptor_ = file->message_type(6);
+  static const int PutRecordBatch_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecordBatch, records_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecordBatch, id_offsets_),
+  };
+  PutRecordBatch_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      PutRecordBatch_descriptor_,
+      PutRecordBatch::default_instance_,
+      PutRecordBatch_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecordBatch, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecordBatch, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(PutRecordBatch));
+  Flush_descriptor_ = file->message_type(7);
   static const int Flush_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Flush, stream_name_),
   };
@@ -196,7 +250,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Flush));
-  Attempt_descriptor_ = file->message_type(6);
+  Attempt_descriptor_ = file->message_type(8);
   static const int Attempt_offsets_[5] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Attempt, delay_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Attempt, duration_),
@@ -215,7 +269,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Attempt));
-  PutRecordResult_descriptor_ = file->message_type(7);
+  PutRecordResult_descriptor_ = file->message_type(9);
   static const int PutRecordResult_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecordResult, attempts_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(PutRecordResult, success_),
@@ -233,7 +287,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(PutRecordResult));
-  Credentials_descriptor_ = file->message_type(8);
+  Credentials_descriptor_ = file->message_type(10);
   static const int Credentials_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Credentials, akid_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Credentials, secret_key_),
@@ -250,7 +304,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Credentials));
-  SetCredentials_descriptor_ = file->message_type(9);
+  SetCredentials_descriptor_ = file->message_type(11);
   static const int SetCredentials_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SetCredentials, for_metrics_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(SetCredentials, credentials_),
@@ -266,7 +320,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(SetCredentials));
-  Dimension_descriptor_ = file->message_type(10);
+  Dimension_descriptor_ = file->message_type(12);
   static const int Dimension_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Dimension, key_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Dimension, value_),
@@ -282,7 +336,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Dimension));
-  Stats_descriptor_ = file->message_type(11);
+  Stats_descriptor_ = file->message_type(13);
   static const int Stats_offsets_[5] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Stats, count_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Stats, sum_),
@@ -301,7 +355,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Stats));
-  Metric_descriptor_ = file->message_type(12);
+  Metric_descriptor_ = file->message_type(14);
   static const int Metric_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Metric, name_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Metric, dimensions_),
@@ -319,10 +373,11 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(Metric));
-  MetricsRequest_descriptor_ = file->message_type(13);
-  static const int MetricsRequest_offsets_[2] = {
+  MetricsRequest_descriptor_ = file->message_type(15);
+  static const int MetricsRequest_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricsRequest, name_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricsRequest, seconds_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricsRequest, snapshot_interval_),
   };
   MetricsRequest_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -335,7 +390,7 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(MetricsRequest));
-  MetricsResponse_descriptor_ = file->message_type(14);
+  MetricsResponse_descriptor_ = file->message_type(16);
   static const int MetricsResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricsResponse, metrics_),
   };
@@ -350,6 +405,37 @@ void protobuf_AssignDesc_messages_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(MetricsResponse));
+  MetricsSnapshot_descriptor_ = file->message_type(17);
+  static const int MetricsSnapshot_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricsSnapshot, metrics_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricsSnapshot, full_),
+  };
+  MetricsSnapshot_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      MetricsSnapshot_descriptor_,
+      MetricsSnapshot::default_instance_,
+      MetricsSnapshot_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricsSnapshot, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(MetricsSnapshot, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(MetricsSnapshot));
+  Handshake_descriptor_ = file->message_type(18);
+  static const int Handshake_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Handshake, protocol_version_),
+  };
+  Handshake_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      Handshake_descriptor_,
+      Handshake::default_instance_,
+      Handshake_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Handshake, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(Handshake, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(Handshake));
 }
 
 namespace {
@@ -372,6 +458,10 @@ void protobuf_RegisterTypes(const ::std::string&) {
     Message_descriptor_, &Message::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     PutRecord_descriptor_, &PutRecord::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    RegisterStream_descriptor_, &RegisterStream::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    PutRecordBatch_descriptor_, &PutRecordBatch::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     Flush_descriptor_, &Flush::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -392,6 +482,10 @@ void protobuf_RegisterTypes(const ::std::string&) {
     MetricsRequest_descriptor_, &MetricsRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     MetricsResponse_descriptor_, &MetricsResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    MetricsSnapshot_descriptor_, &MetricsSnapshot::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    Handshake_descriptor_, &Handshake::default_instance());
 }
 
 }  // namespace
@@ -408,6 +502,10 @@ void protobuf_ShutdownFile_messages_2eproto() {
   delete Message_reflection_;
   delete PutRecord::default_instance_;
   delete PutRecord_reflection_;
+  delete RegisterStream::default_instance_;
+  delete RegisterStream_reflection_;
+  delete PutRecordBatch::default_instance_;
+  delete PutRecordBatch_reflection_;
   delete Flush::default_instance_;
   delete Flush_reflection_;
   delete Attempt::default_instance_;
@@ -428,6 +526,10 @@ void protobuf_ShutdownFile_messages_2eproto() {
   delete MetricsRequest_reflection_;
   delete MetricsResponse::default_instance_;
   delete MetricsResponse_reflection_;
+  delete MetricsSnapshot::default_instance_;
+  delete MetricsSnapshot_reflection_;
+  delete Handshake::default_instance_;
+  delete Handshake_reflection_;
 }
 
 void protobuf_AddDesc_messages_2eproto() {
@@ -446,7 +548,7 @@ void protobuf_AddDesc_messages_2eproto() {
     "s.protobuf.Tag\"\177\n\020AggregatedRecord\022\033\n\023pa"
     "rtition_key_table\030\001 \003(\t\022\037\n\027explicit_hash"
     "_key_table\030\002 \003(\t\022-\n\007records\030\003 \003(\0132\034.aws."
-    "kinesis.protobuf.Record\"\346\003\n\007Message\022\n\n\002i"
+    "kinesis.protobuf.Record\"\342\005\n\007Message\022\n\n\002i"
     "d\030\001 \002(\004\022\021\n\tsource_id\030\002 \001(\004\0225\n\nput_record"
     "\030\003 \001(\0132\037.aws.kinesis.protobuf.PutRecordH"
     "\000\022,\n\005flush\030\004 \001(\0132\033.aws.kinesis.protobuf."
@@ -458,30 +560,45 @@ void protobuf_AddDesc_messages_2eproto() {
     "H\000\022A\n\020metrics_response\030\010 \001(\0132%.aws.kines"
     "is.protobuf.MetricsResponseH\000\022\?\n\017set_cre"
     "dentials\030\t \001(\0132$.aws.kinesis.protobuf.Se"
-    "tCredentialsH\000B\020\n\016actual_message\"`\n\tPutR"
-    "ecord\022\023\n\013stream_name\030\001 \002(\t\022\025\n\rpartition_"
-    "key\030\002 \002(\t\022\031\n\021explicit_hash_key\030\003 \001(\t\022\014\n\004"
-    "data\030\004 \002(\014\"\034\n\005Flush\022\023\n\013stream_name\030\001 \001(\t"
-    "\"f\n\007Attempt\022\r\n\005delay\030\001 \002(\r\022\020\n\010duration\030\002"
-    " \002(\r\022\017\n\007success\030\003 \002(\010\022\022\n\nerror_code\030\004 \001("
-    "\t\022\025\n\rerror_message\030\005 \001(\t\"~\n\017PutRecordRes"
-    "ult\022/\n\010attempts\030\001 \003(\0132\035.aws.kinesis.prot"
-    "obuf.Attempt\022\017\n\007success\030\002 \002(\010\022\020\n\010shard_i"
-    "d\030\003 \001(\t\022\027\n\017sequence_number\030\004 \001(\t\">\n\013Cred"
-    "entials\022\014\n\004akid\030\001 \002(\t\022\022\n\nsecret_key\030\002 \002("
-    "\t\022\r\n\005token\030\003 \001(\t\"]\n\016SetCredentials\022\023\n\013fo"
-    "r_metrics\030\001 \001(\010\0226\n\013credentials\030\002 \002(\0132!.a"
-    "ws.kinesis.protobuf.Credentials\"\'\n\tDimen"
-    "sion\022\013\n\003key\030\001 \002(\t\022\r\n\005value\030\002 \002(\t\"K\n\005Stat"
-    "s\022\r\n\005count\030\001 \002(\001\022\013\n\003sum\030\002 \002(\001\022\014\n\004mean\030\003 "
-    "\002(\001\022\013\n\003min\030\004 \002(\001\022\013\n\003max\030\005 \002(\001\"\210\001\n\006Metric"
-    "\022\014\n\004name\030\001 \002(\t\0223\n\ndimensions\030\002 \003(\0132\037.aws"
-    ".kinesis.protobuf.Dimension\022*\n\005stats\030\003 \002"
-    "(\0132\033.aws.kinesis.protobuf.Stats\022\017\n\007secon"
-    "ds\030\004 \002(\004\"/\n\016MetricsRequest\022\014\n\004name\030\001 \001(\t"
-    "\022\017\n\007seconds\030\002 \001(\004\"@\n\017MetricsResponse\022-\n\007"
-    "metrics\030\001 \003(\0132\034.aws.kinesis.protobuf.Met"
-    "ric", 1723);
+    "tCredentialsH\000\022\?\n\017register_stream\030\n \001(\0132"
+    "$.aws.kinesis.protobuf.RegisterStreamH\000\022"
+    "@\n\020put_record_batch\030\013 \001(\0132$.aws.kinesis."
+    "protobuf.PutRecordBatchH\000\022A\n\020metrics_sna"
+    "pshot\030\014 \001(\0132%.aws.kinesis.protobuf.Metri"
+    "csSnapshotH\000\0224\n\thandshake\030\r \001(\0132\037.aws.ki"
+    "nesis.protobuf.HandshakeH\000B\020\n\016actual_mes"
+    "sage\"\225\001\n\tPutRecord\022\023\n\013stream_name\030\001 \001(\t\022"
+    "\025\n\rpartition_key\030\002 \002(\t\022\031\n\021explicit_hash_"
+    "key\030\003 \001(\t\022\014\n\004data\030\004 \002(\014\022\021\n\tstream_id\030\005 \001"
+    "(\r\022 \n\030explicit_hash_key_binary\030\006 \001(\014\"8\n\016"
+    "RegisterStream\022\021\n\tstream_id\030\001 \002(\r\022\023\n\013str"
+    "eam_name\030\002 \002(\t\"Z\n\016PutRecordBatch\0220\n\007reco"
+    "rds\030\001 \003(\0132\037.aws.kinesis.protobuf.PutReco"
+    "rd\022\026\n\nid_offsets\030\002 \003(\rB\002\020\001\"\034\n\005Flush\022\023\n\013s"
+    "tream_name\030\001 \001(\t\"f\n\007Attempt\022\r\n\005delay\030\001 \002"
+    "(\r\022\020\n\010duration\030\002 \002(\r\022\017\n\007success\030\003 \002(\010\022\022\n"
+    "\nerror_code\030\004 \001(\t\022\025\n\rerror_message\030\005 \001(\t"
+    "\"~\n\017PutRecordResult\022/\n\010attempts\030\001 \003(\0132\035."
+    "aws.kinesis.protobuf.Attempt\022\017\n\007success\030"
+    "\002 \002(\010\022\020\n\010shard_id\030\003 \001(\t\022\027\n\017sequence_numb"
+    "er\030\004 \001(\t\">\n\013Credentials\022\014\n\004akid\030\001 \002(\t\022\022\n"
+    "\nsecret_key\030\002 \002(\t\022\r\n\005token\030\003 \001(\t\"]\n\016SetC"
+    "redentials\022\023\n\013for_metrics\030\001 \001(\010\0226\n\013crede"
+    "ntials\030\002 \002(\0132!.aws.kinesis.protobuf.Cred"
+    "entials\"\'\n\tDimension\022\013\n\003key\030\001 \002(\t\022\r\n\005val"
+    "ue\030\002 \002(\t\"K\n\005Stats\022\r\n\005count\030\001 \002(\001\022\013\n\003sum\030"
+    "\002 \002(\001\022\014\n\004mean\030\003 \002(\001\022\013\n\003min\030\004 \002(\001\022\013\n\003max\030"
+    "\005 \002(\001\"\210\001\n\006Metric\022\014\n\004name\030\001 \002(\t\0223\n\ndimens"
+    "ions\030\002 \003(\0132\037.aws.kinesis.protobuf.Dimens"
+    "ion\022*\n\005stats\030\003 \002(\0132\033.aws.kinesis.protobu"
+    "f.Stats\022\017\n\007seconds\030\004 \002(\004\"J\n\016MetricsReque"
+    "st\022\014\n\004name\030\001 \001(\t\022\017\n\007seconds\030\002 \001(\004\022\031\n\021sna"
+    "pshot_interval\030\003 \001(\004\"@\n\017MetricsResponse\022"
+    "-\n\007metrics\030\001 \003(\0132\034.aws.kinesis.protobuf."
+    "Metric\"N\n\017MetricsSnapshot\022-\n\007metrics\030\001 \003"
+    "(\0132\034.aws.kinesis.protobuf.Metric\022\014\n\004full"
+    "\030\002 \001(\010\"%\n\tHandshake\022\030\n\020protocol_version\030"
+    "\001 \002(\r", 2325);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "messages.proto", &protobuf_RegisterTypes);
   Tag::default_instance_ = new Tag();
@@ -490,6 +607,8 @@ void protobuf_AddDesc_messages_2eproto() {
   Message::default_instance_ = new Message();
   Message_default_oneof_instance_ = new MessageOneofInstance;
   PutRecord::default_instance_ = new PutRecord();
+  RegisterStream::default_instance_ = new RegisterStream();
+  PutRecordBatch::default_instance_ = new PutRecordBatch();
   Flush::default_instance_ = new Flush();
   Attempt::default_instance_ = new Attempt();
   PutRecordResult::default_instance_ = new PutRecordResult();
@@ -500,11 +619,15 @@ void protobuf_AddDesc_messages_2eproto() {
   Metric::default_instance_ = new Metric();
   MetricsRequest::default_instance_ = new MetricsRequest();
   MetricsResponse::default_instance_ = new MetricsResponse();
+  MetricsSnapshot::default_instance_ = new MetricsSnapshot();
+  Handshake::default_instance_ = new Handshake();
   Tag::default_instance_->InitAsDefaultInstance();
   Record::default_instance_->InitAsDefaultInstance();
   AggregatedRecord::default_instance_->InitAsDefaultInstance();
   Message::default_instance_->InitAsDefaultInstance();
   PutRecord::default_instance_->InitAsDefaultInstance();
+  RegisterStream::default_instance_->InitAsDefaultInstance();
+  PutRecordBatch::default_instance_->InitAsDefaultInstance();
   Flush::default_instance_->InitAsDefaultInstance();
   Attempt::default_instance_->InitAsDefaultInstance();
   PutRecordResult::default_instance_->InitAsDefaultInstance();
@@ -515,6 +638,8 @@ void protobuf_AddDesc_messages_2eproto() {
   Metric::default_instance_->InitAsDefaultInstance();
   MetricsRequest::default_instance_->InitAsDefaultInstance();
   MetricsResponse::default_instance_->InitAsDefaultInstance();
+  MetricsSnapshot::default_instance_->InitAsDefaultInstance();
+  Handshake::default_instance_->InitAsDefaultInstance();
   ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_messages_2eproto);
 }
 
@@ -1528,6 +1653,10 @@ const int Message::kConfigurationFieldNumber;
 const int Message::kMetricsRequestFieldNumber;
 const int Message::kMetricsResponseFieldNumber;
 const int Message::kSetCredentialsFieldNumber;
+const int Message::kRegisterStreamFieldNumber;
+const int Message::kPutRecordBatchFieldNumber;
+const int Message::kMetricsSnapshotFieldNumber;
+const int Message::kHandshakeFieldNumber;
 #endif  // !_MSC_VER
 
 Message::Message()
@@ -1544,6 +1673,10 @@ void Message::InitAsDefaultInstance() {
   Message_default_oneof_instance_->metrics_request_ = const_cast< ::aws::kinesis::protobuf::MetricsRequest*>(&::aws::kinesis::protobuf::MetricsRequest::default_instance());
   Message_default_oneof_instance_->metrics_response_ = const_cast< ::aws::kinesis::protobuf::MetricsResponse*>(&::aws::kinesis::protobuf::MetricsResponse::default_instance());
   Message_default_oneof_instance_->set_credentials_ = const_cast< ::aws::kinesis::protobuf::SetCredentials*>(&::aws::kinesis::protobuf::SetCredentials::default_instance());
+  Message_default_oneof_instance_->register_stream_ = const_cast< ::aws::kinesis::protobuf::RegisterStream*>(&::aws::kinesis::protobuf::RegisterStream::default_instance());
+  Message_default_oneof_instance_->put_record_batch_ = const_cast< ::aws::kinesis::protobuf::PutRecordBatch*>(&::aws::kinesis::protobuf::PutRecordBatch::default_instance());
+  Message_default_oneof_instance_->metrics_snapshot_ = const_cast< ::aws::kinesis::protobuf::MetricsSnapshot*>(&::aws::kinesis::protobuf::MetricsSnapshot::default_instance());
+  Message_default_oneof_instance_->handshake_ = const_cast< ::aws::kinesis::protobuf::Handshake*>(&::aws::kinesis::protobuf::Handshake::default_instance());
 }
 
 Message::Message(const Message& from)
@@ -1625,6 +1758,22 @@ void Message::clear_actual_message() {
       delete actual_message_.set_credentials_;
       break;
     }
+    case kRegisterStream: {
+      delete actual_message_.register_stream_;
+      break;
+    }
+    case kPutRecordBatch: {
+      delete actual_message_.put_record_batch_;
+      break;
+    }
+    case kMetricsSnapshot: {
+      delete actual_message_.metrics_snapshot_;
+      break;
+    }
+    case kHandshake: {
+      delete actual_message_.handshake_;
+      break;
+    }
     case ACTUAL_MESSAGE_NOT_SET: {
       break;
     }
@@ -1780,6 +1929,58 @@ bool Message::MergePartialFromCodedStream(
         } else {
           goto handle_unusual;
         }
+        if (input->ExpectTag(82)) goto parse_register_stream;
+        break;
+      }
+
+      // optional .aws.kinesis.protobuf.RegisterStream register_stream = 10;
+      case 10: {
+        if (tag == 82) {
+         parse_register_stream:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_register_stream()));
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(90)) goto parse_put_record_batch;
+        break;
+      }
+
+      // optional .aws.kinesis.protobuf.PutRecordBatch put_record_batch = 11;
+      case 11: {
+        if (tag == 90) {
+         parse_put_record_batch:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_put_record_batch()));
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(98)) goto parse_metrics_snapshot;
+        break;
+      }
+
+      // optional .aws.kinesis.protobuf.MetricsSnapshot metrics_snapshot = 12;
+      case 12: {
+        if (tag == 98) {
+         parse_metrics_snapshot:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_metrics_snapshot()));
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(106)) goto parse_handshake;
+        break;
+      }
+
+      // optional .aws.kinesis.protobuf.Handshake handshake = 13;
+      case 13: {
+        if (tag == 106) {
+         parse_handshake:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_handshake()));
+        } else {
+          goto handle_unusual;
+        }
         if (input->ExpectAtEnd()) goto success;
         break;
       }
@@ -1861,6 +2062,30 @@ void Message::SerializeWithCachedSizes(
       9, this->set_credentials(), output);
   }
 
+  // optional .aws.kinesis.protobuf.RegisterStream register_stream = 10;
+  if (has_register_stream()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      10, this->register_stream(), output);
+  }
+
+  // optional .aws.kinesis.protobuf.PutRecordBatch put_record_batch = 11;
+  if (has_put_record_batch()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      11, this->put_record_batch(), output);
+  }
+
+  // optional .aws.kinesis.protobuf.MetricsSnapshot metrics_snapshot = 12;
+  if (has_metrics_snapshot()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      12, this->metrics_snapshot(), output);
+  }
+
+  // optional .aws.kinesis.protobuf.Handshake handshake = 13;
+  if (has_handshake()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      13, this->handshake(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -1930,6 +2155,34 @@ void Message::SerializeWithCachedSizes(
         9, this->set_credentials(), target);
   }
 
+  // optional .aws.kinesis.protobuf.RegisterStream register_stream = 10;
+  if (has_register_stream()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        10, this->register_stream(), target);
+  }
+
+  // optional .aws.kinesis.protobuf.PutRecordBatch put_record_batch = 11;
+  if (has_put_record_batch()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        11, this->put_record_batch(), target);
+  }
+
+  // optional .aws.kinesis.protobuf.MetricsSnapshot metrics_snapshot = 12;
+  if (has_metrics_snapshot()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        12, this->metrics_snapshot(), target);
+  }
+
+  // optional .aws.kinesis.protobuf.Handshake handshake = 13;
+  if (has_handshake()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        13, this->handshake(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -2007,6 +2260,34 @@ int Message::ByteSize() const {
           this->set_credentials());
       break;
     }
+    // optional .aws.kinesis.protobuf.RegisterStream register_stream = 10;
+    case kRegisterStream: {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->register_stream());
+      break;
+    }
+    // optional .aws.kinesis.protobuf.PutRecordBatch put_record_batch = 11;
+    case kPutRecordBatch: {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->put_record_batch());
+      break;
+    }
+    // optional .aws.kinesis.protobuf.MetricsSnapshot metrics_snapshot = 12;
+    case kMetricsSnapshot: {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->metrics_snapshot());
+      break;
+    }
+    // optional .aws.kinesis.protobuf.Handshake handshake = 13;
+    case kHandshake: {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->handshake());
+      break;
+    }
     case ACTUAL_MESSAGE_NOT_SET: {
       break;
     }
@@ -2065,6 +2346,22 @@ void Message::MergeFrom(const Message& from) {
       mutable_set_credentials()->::aws::kinesis::protobuf::SetCredentials::MergeFrom(from.set_credentials());
       break;
     }
+    case kRegisterStream: {
+      mutable_register_stream()->::aws::kinesis::protobuf::RegisterStream::MergeFrom(from.register_stream());
+      break;
+    }
+    case kPutRecordBatch: {
+      mutable_put_record_batch()->::aws::kinesis::protobuf::PutRecordBatch::MergeFrom(from.put_record_batch());
+      break;
+    }
+    case kMetricsSnapshot: {
+      mutable_metrics_snapshot()->::aws::kinesis::protobuf::MetricsSnapshot::MergeFrom(from.metrics_snapshot());
+      break;
+    }
+    case kHandshake: {
+      mutable_handshake()->::aws::kinesis::protobuf::Handshake::MergeFrom(from.handshake());
+      break;
+    }
     case ACTUAL_MESSAGE_NOT_SET: {
       break;
     }
@@ -2110,6 +2407,18 @@ bool Message::IsInitialized() const {
   if (has_set_credentials()) {
     if (!this->set_credentials().IsInitialized()) return false;
   }
+  if (has_register_stream()) {
+    if (!this->register_stream().IsInitialized()) return false;
+  }
+  if (has_put_record_batch()) {
+    if (!this->put_record_batch().IsInitialized()) return false;
+  }
+  if (has_metrics_snapshot()) {
+    if (!this->metrics_snapshot().IsInitialized()) return false;
+  }
+  if (has_handshake()) {
+    if (!this->handshake().IsInitialized()) return false;
+  }
   return true;
 }
 
@@ -2141,6 +2450,8 @@ const int PutRecord::kStreamNameFieldNumber;
 const int PutRecord::kPartitionKeyFieldNumber;
 const int PutRecord::kExplicitHashKeyFieldNumber;
 const int PutRecord::kDataFieldNumber;
+const int PutRecord::kStreamIdFieldNumber;
+const int PutRecord::kExplicitHashKeyBinaryFieldNumber;
 #endif  // !_MSC_VER
 
 PutRecord::PutRecord()
@@ -2166,6 +2477,8 @@ void PutRecord::SharedCtor() {
   partition_key_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
   explicit_hash_key_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
   data_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  stream_id_ = 0u;
+  explicit_hash_key_binary_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -2187,6 +2500,9 @@ void PutRecord::SharedDtor() {
   if (data_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
     delete data_;
   }
+  if (explicit_hash_key_binary_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete explicit_hash_key_binary_;
+  }
   if (this != default_instance_) {
   }
 }
@@ -2213,7 +2529,7 @@ PutRecord* PutRecord::New() const {
 }
 
 void PutRecord::Clear() {
-  if (_has_bits_[0 / 32] & 15) {
+  if (_has_bits_[0 / 32] & 63) {
     if (has_stream_name()) {
       if (stream_name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
         stream_name_->clear();
@@ -2234,6 +2550,12 @@ void PutRecord::Clear() {
         data_->clear();
       }
     }
+    stream_id_ = 0u;
+    if (has_explicit_hash_key_binary()) {
+      if (explicit_hash_key_binary_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        explicit_hash_key_binary_->clear();
+      }
+    }
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -2249,7 +2571,7 @@ bool PutRecord::MergePartialFromCodedStream(
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // required string stream_name = 1;
+      // optional string stream_name = 1;
       case 1: {
         if (tag == 10) {
           DO_(::google::protobuf::internal::WireFormatLite::ReadString(
@@ -2308,6 +2630,34 @@ bool PutRecord::MergePartialFromCodedStream(
         } else {
           goto handle_unusual;
         }
+        if (input->ExpectTag(40)) goto parse_stream_id;
+        break;
+      }
+
+      // optional uint32 stream_id = 5;
+      case 5: {
+        if (tag == 40) {
+         parse_stream_id:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &stream_id_)));
+          set_has_stream_id();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(50)) goto parse_explicit_hash_key_binary;
+        break;
+      }
+
+      // optional bytes explicit_hash_key_binary = 6;
+      case 6: {
+        if (tag == 50) {
+         parse_explicit_hash_key_binary:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadBytes(
+                input, this->mutable_explicit_hash_key_binary()));
+        } else {
+          goto handle_unusual;
+        }
         if (input->ExpectAtEnd()) goto success;
         break;
       }
@@ -2337,7 +2687,7 @@ failure:
 void PutRecord::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
   // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.PutRecord)
-  // required string stream_name = 1;
+  // optional string stream_name = 1;
   if (has_stream_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
       this->stream_name().data(), this->stream_name().length(),
@@ -2373,6 +2723,17 @@ void PutRecord::SerializeWithCachedSizes(
       4, this->data(), output);
   }
 
+  // optional uint32 stream_id = 5;
+  if (has_stream_id()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(5, this->stream_id(), output);
+  }
+
+  // optional bytes explicit_hash_key_binary = 6;
+  if (has_explicit_hash_key_binary()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBytesMaybeAliased(
+      6, this->explicit_hash_key_binary(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -2383,7 +2744,7 @@ void PutRecord::SerializeWithCachedSizes(
 ::google::protobuf::uint8* PutRecord::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
   // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.PutRecord)
-  // required string stream_name = 1;
+  // optional string stream_name = 1;
   if (has_stream_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
       this->stream_name().data(), this->stream_name().length(),
@@ -2423,6 +2784,18 @@ void PutRecord::SerializeWithCachedSizes(
         4, this->data(), target);
   }
 
+  // optional uint32 stream_id = 5;
+  if (has_stream_id()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(5, this->stream_id(), target);
+  }
+
+  // optional bytes explicit_hash_key_binary = 6;
+  if (has_explicit_hash_key_binary()) {
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteBytesToArray(
+        6, this->explicit_hash_key_binary(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -2435,7 +2808,7 @@ int PutRecord::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // required string stream_name = 1;
+    // optional string stream_name = 1;
     if (has_stream_name()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
@@ -2463,6 +2836,20 @@ int PutRecord::ByteSize() const {
           this->data());
     }
 
+    // optional uint32 stream_id = 5;
+    if (has_stream_id()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->stream_id());
+    }
+
+    // optional bytes explicit_hash_key_binary = 6;
+    if (has_explicit_hash_key_binary()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::BytesSize(
+          this->explicit_hash_key_binary());
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -2502,6 +2889,12 @@ void PutRecord::MergeFrom(const PutRecord& from) {
     if (from.has_data()) {
       set_data(from.data());
     }
+    if (from.has_stream_id()) {
+      set_stream_id(from.stream_id());
+    }
+    if (from.has_explicit_hash_key_binary()) {
+      set_explicit_hash_key_binary(from.explicit_hash_key_binary());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -2519,7 +2912,7 @@ void PutRecord::CopyFrom(const PutRecord& from) {
 }
 
 bool PutRecord::IsInitialized() const {
-  if ((_has_bits_[0] & 0x0000000b) != 0x0000000b) return false;
+  if ((_has_bits_[0] & 0x0000000a) != 0x0000000a) return false;
 
   return true;
 }
@@ -2530,6 +2923,8 @@ void PutRecord::Swap(PutRecord* other) {
     std::swap(partition_key_, other->partition_key_);
     std::swap(explicit_hash_key_, other->explicit_hash_key_);
     std::swap(data_, other->data_);
+    std::swap(stream_id_, other->stream_id_);
+    std::swap(explicit_hash_key_binary_, other->explicit_hash_key_binary_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -2548,38 +2943,40 @@ void PutRecord::Swap(PutRecord* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int Flush::kStreamNameFieldNumber;
+const int RegisterStream::kStreamIdFieldNumber;
+const int RegisterStream::kStreamNameFieldNumber;
 #endif  // !_MSC_VER
 
-Flush::Flush()
+RegisterStream::RegisterStream()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Flush)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.RegisterStream)
 }
 
-void Flush::InitAsDefaultInstance() {
+void RegisterStream::InitAsDefaultInstance() {
 }
 
-Flush::Flush(const Flush& from)
+RegisterStream::RegisterStream(const RegisterStream& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Flush)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.RegisterStream)
 }
 
-void Flush::SharedCtor() {
+void RegisterStream::SharedCtor() {
   ::google::protobuf::internal::GetEmptyString();
   _cached_size_ = 0;
+  stream_id_ = 0u;
   stream_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-Flush::~Flush() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Flush)
+RegisterStream::~RegisterStream() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.RegisterStream)
   SharedDtor();
 }
 
-void Flush::SharedDtor() {
+void RegisterStream::SharedDtor() {
   if (stream_name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
     delete stream_name_;
   }
@@ -2587,50 +2984,68 @@ void Flush::SharedDtor() {
   }
 }
 
-void Flush::SetCachedSize(int size) const {
+void RegisterStream::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* Flush::descriptor() {
+const ::google::protobuf::Descriptor* RegisterStream::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return Flush_descriptor_;
+  return RegisterStream_descriptor_;
 }
 
-const Flush& Flush::default_instance() {
+const RegisterStream& RegisterStream::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-Flush* Flush::default_instance_ = NULL;
+RegisterStream* RegisterStream::default_instance_ = NULL;
 
-Flush* Flush::New() const {
-  return new Flush;
+RegisterStream* RegisterStream::New() const {
+  return new RegisterStream;
 }
 
-void Flush::Clear() {
-  if (has_stream_name()) {
-    if (stream_name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-      stream_name_->clear();
+void RegisterStream::Clear() {
+  if (_has_bits_[0 / 32] & 3) {
+    stream_id_ = 0u;
+    if (has_stream_name()) {
+      if (stream_name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        stream_name_->clear();
+      }
     }
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool Flush::MergePartialFromCodedStream(
+bool RegisterStream::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Flush)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.RegisterStream)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // optional string stream_name = 1;
+      // required uint32 stream_id = 1;
       case 1: {
-        if (tag == 10) {
+        if (tag == 8) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &stream_id_)));
+          set_has_stream_id();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(18)) goto parse_stream_name;
+        break;
+      }
+
+      // required string stream_name = 2;
+      case 2: {
+        if (tag == 18) {
+         parse_stream_name:
           DO_(::google::protobuf::internal::WireFormatLite::ReadString(
                 input, this->mutable_stream_name()));
           ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
@@ -2658,38 +3073,48 @@ bool Flush::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Flush)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.RegisterStream)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Flush)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.RegisterStream)
   return false;
 #undef DO_
 }
 
-void Flush::SerializeWithCachedSizes(
+void RegisterStream::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Flush)
-  // optional string stream_name = 1;
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.RegisterStream)
+  // required uint32 stream_id = 1;
+  if (has_stream_id()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->stream_id(), output);
+  }
+
+  // required string stream_name = 2;
   if (has_stream_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
       this->stream_name().data(), this->stream_name().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
       "stream_name");
     ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      1, this->stream_name(), output);
+      2, this->stream_name(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Flush)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.RegisterStream)
 }
 
-::google::protobuf::uint8* Flush::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* RegisterStream::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Flush)
-  // optional string stream_name = 1;
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.RegisterStream)
+  // required uint32 stream_id = 1;
+  if (has_stream_id()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->stream_id(), target);
+  }
+
+  // required string stream_name = 2;
   if (has_stream_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
       this->stream_name().data(), this->stream_name().length(),
@@ -2697,22 +3122,29 @@ void Flush::SerializeWithCachedSizes(
       "stream_name");
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->stream_name(), target);
+        2, this->stream_name(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Flush)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.RegisterStream)
   return target;
 }
 
-int Flush::ByteSize() const {
+int RegisterStream::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // optional string stream_name = 1;
+    // required uint32 stream_id = 1;
+    if (has_stream_id()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->stream_id());
+    }
+
+    // required string stream_name = 2;
     if (has_stream_name()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
@@ -2731,10 +3163,10 @@ int Flush::ByteSize() const {
   return total_size;
 }
 
-void Flush::MergeFrom(const ::google::protobuf::Message& from) {
+void RegisterStream::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const Flush* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const Flush*>(
+  const RegisterStream* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const RegisterStream*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -2743,9 +3175,12 @@ void Flush::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void Flush::MergeFrom(const Flush& from) {
+void RegisterStream::MergeFrom(const RegisterStream& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_stream_id()) {
+      set_stream_id(from.stream_id());
+    }
     if (from.has_stream_name()) {
       set_stream_name(from.stream_name());
     }
@@ -2753,25 +3188,27 @@ void Flush::MergeFrom(const Flush& from) {
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void Flush::CopyFrom(const ::google::protobuf::Message& from) {
+void RegisterStream::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void Flush::CopyFrom(const Flush& from) {
+void RegisterStream::CopyFrom(const RegisterStream& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool Flush::IsInitialized() const {
+bool RegisterStream::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
 
   return true;
 }
 
-void Flush::Swap(Flush* other) {
+void RegisterStream::Swap(RegisterStream* other) {
   if (other != this) {
+    std::swap(stream_id_, other->stream_id_);
     std::swap(stream_name_, other->stream_name_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
@@ -2779,11 +3216,11 @@ void Flush::Swap(Flush* other) {
   }
 }
 
-::google::protobuf::Metadata Flush::GetMetadata() const {
+::google::protobuf::Metadata RegisterStream::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = Flush_descriptor_;
-  metadata.reflection = Flush_reflection_;
+  metadata.descriptor = RegisterStream_descriptor_;
+  metadata.reflection = RegisterStream_reflection_;
   return metadata;
 }
 
@@ -2791,191 +3228,1493 @@ void Flush::Swap(Flush* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int Attempt::kDelayFieldNumber;
-const int Attempt::kDurationFieldNumber;
-const int Attempt::kSuccessFieldNumber;
-const int Attempt::kErrorCodeFieldNumber;
-const int Attempt::kErrorMessageFieldNumber;
+const int PutRecordBatch::kRecordsFieldNumber;
+const int PutRecordBatch::kIdOffsetsFieldNumber;
 #endif  // !_MSC_VER
 
-Attempt::Attempt()
+PutRecordBatch::PutRecordBatch()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Attempt)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.PutRecordBatch)
 }
 
-void Attempt::InitAsDefaultInstance() {
+void PutRecordBatch::InitAsDefaultInstance() {
 }
 
-Attempt::Attempt(const Attempt& from)
+PutRecordBatch::PutRecordBatch(const PutRecordBatch& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Attempt)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.PutRecordBatch)
 }
 
-void Attempt::SharedCtor() {
-  ::google::protobuf::internal::GetEmptyString();
+void PutRecordBatch::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+PutRecordBatch::~PutRecordBatch() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.PutRecordBatch)
+  SharedDtor();
+}
+
+void PutRecordBatch::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void PutRecordBatch::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* PutRecordBatch::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return PutRecordBatch_descriptor_;
+}
+
+const PutRecordBatch& PutRecordBatch::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
+  return *default_instance_;
+}
+
+PutRecordBatch* PutRecordBatch::default_instance_ = NULL;
+
+PutRecordBatch* PutRecordBatch::New() const {
+  return new PutRecordBatch;
+}
+
+void PutRecordBatch::Clear() {
+  records_.Clear();
+  id_offsets_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool PutRecordBatch::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
+  ::google::protobuf::uint32 tag;
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.PutRecordBatch)
+  for (;;) {
+    ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
+    tag = p.first;
+    if (!p.second) goto handle_unusual;
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .aws.kinesis.protobuf.PutRecord records = 1;
+      case 1: {
+        if (tag == 10) {
+         parse_records:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_records()));
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(10)) goto parse_records;
+        if (input->ExpectTag(18)) goto parse_id_offsets;
+        break;
+      }
+
+      // repeated uint32 id_offsets = 2 [packed = true];
+      case 2: {
+        if (tag == 18) {
+         parse_id_offsets:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, this->mutable_id_offsets())));
+        } else if (tag == 16) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitiveNoInline<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 1, 18, input, this->mutable_id_offsets())));
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectAtEnd()) goto success;
+        break;
+      }
+
+      default: {
+      handle_unusual:
+        if (tag == 0 ||
+            ::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          goto success;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+success:
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.PutRecordBatch)
+  return true;
+failure:
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.PutRecordBatch)
+  return false;
+#undef DO_
+}
+
+void PutRecordBatch::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.PutRecordBatch)
+  // repeated .aws.kinesis.protobuf.PutRecord records = 1;
+  for (int i = 0; i < this->records_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->records(i), output);
+  }
+
+  // repeated uint32 id_offsets = 2 [packed = true];
+  if (this->id_offsets_size() > 0) {
+    ::google::protobuf::internal::WireFormatLite::WriteTag(2, ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED, output);
+    output->WriteVarint32(_id_offsets_cached_byte_size_);
+  }
+  for (int i = 0; i < this->id_offsets_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32NoTag(
+      this->id_offsets(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.PutRecordBatch)
+}
+
+::google::protobuf::uint8* PutRecordBatch::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.PutRecordBatch)
+  // repeated .aws.kinesis.protobuf.PutRecord records = 1;
+  for (int i = 0; i < this->records_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->records(i), target);
+  }
+
+  // repeated uint32 id_offsets = 2 [packed = true];
+  if (this->id_offsets_size() > 0) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteTagToArray(
+      2,
+      ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED,
+      target);
+    target = ::google::protobuf::io::CodedOutputStream::WriteVarint32ToArray(
+      _id_offsets_cached_byte_size_, target);
+  }
+  for (int i = 0; i < this->id_offsets_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteUInt32NoTagToArray(this->id_offsets(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.PutRecordBatch)
+  return target;
+}
+
+int PutRecordBatch::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .aws.kinesis.protobuf.PutRecord records = 1;
+  total_size += 1 * this->records_size();
+  for (int i = 0; i < this->records_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->records(i));
+  }
+
+  // repeated uint32 id_offsets = 2 [packed = true];
+  {
+    int data_size = 0;
+    for (int i = 0; i < this->id_offsets_size(); i++) {
+      data_size += ::google::protobuf::internal::WireFormatLite::
+        UInt32Size(this->id_offsets(i));
+    }
+    if (data_size > 0) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::Int32Size(data_size);
+    }
+    GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+    _id_offsets_cached_byte_size_ = data_size;
+    GOOGLE_SAFE_CONCURRENT_WRITES_END();
+    total_size += data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void PutRecordBatch::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const PutRecordBatch* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const PutRecordBatch*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void PutRecordBatch::MergeFrom(const PutRecordBatch& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  records_.MergeFrom(from.records_);
+  id_offsets_.MergeFrom(from.id_offsets_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void PutRecordBatch::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void PutRecordBatch::CopyFrom(const PutRecordBatch& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool PutRecordBatch::IsInitialized() const {
+
+  if (!::google::protobuf::internal::AllAreInitialized(this->records())) return false;
+  return true;
+}
+
+void PutRecordBatch::Swap(PutRecordBatch* other) {
+  if (other != this) {
+    records_.Swap(&other->records_);
+    id_offsets_.Swap(&other->id_offsets_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata PutRecordBatch::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = PutRecordBatch_descriptor_;
+  metadata.reflection = PutRecordBatch_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int Flush::kStreamNameFieldNumber;
+#endif  // !_MSC_VER
+
+Flush::Flush()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Flush)
+}
+
+void Flush::InitAsDefaultInstance() {
+}
+
+Flush::Flush(const Flush& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Flush)
+}
+
+void Flush::SharedCtor() {
+  ::google::protobuf::internal::GetEmptyString();
+  _cached_size_ = 0;
+  stream_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+Flush::~Flush() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Flush)
+  SharedDtor();
+}
+
+void Flush::SharedDtor() {
+  if (stream_name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete stream_name_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void Flush::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* Flush::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return Flush_descriptor_;
+}
+
+const Flush& Flush::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
+  return *default_instance_;
+}
+
+Flush* Flush::default_instance_ = NULL;
+
+Flush* Flush::New() const {
+  return new Flush;
+}
+
+void Flush::Clear() {
+  if (has_stream_name()) {
+    if (stream_name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+      stream_name_->clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool Flush::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
+  ::google::protobuf::uint32 tag;
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Flush)
+  for (;;) {
+    ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
+    tag = p.first;
+    if (!p.second) goto handle_unusual;
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional string stream_name = 1;
+      case 1: {
+        if (tag == 10) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_stream_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+            this->stream_name().data(), this->stream_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE,
+            "stream_name");
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectAtEnd()) goto success;
+        break;
+      }
+
+      default: {
+      handle_unusual:
+        if (tag == 0 ||
+            ::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          goto success;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+success:
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Flush)
+  return true;
+failure:
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Flush)
+  return false;
+#undef DO_
+}
+
+void Flush::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Flush)
+  // optional string stream_name = 1;
+  if (has_stream_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->stream_name().data(), this->stream_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "stream_name");
+    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
+      1, this->stream_name(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Flush)
+}
+
+::google::protobuf::uint8* Flush::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Flush)
+  // optional string stream_name = 1;
+  if (has_stream_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->stream_name().data(), this->stream_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "stream_name");
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->stream_name(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Flush)
+  return target;
+}
+
+int Flush::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional string stream_name = 1;
+    if (has_stream_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->stream_name());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void Flush::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const Flush* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Flush*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void Flush::MergeFrom(const Flush& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_stream_name()) {
+      set_stream_name(from.stream_name());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void Flush::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void Flush::CopyFrom(const Flush& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool Flush::IsInitialized() const {
+
+  return true;
+}
+
+void Flush::Swap(Flush* other) {
+  if (other != this) {
+    std::swap(stream_name_, other->stream_name_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata Flush::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = Flush_descriptor_;
+  metadata.reflection = Flush_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int Attempt::kDelayFieldNumber;
+const int Attempt::kDurationFieldNumber;
+const int Attempt::kSuccessFieldNumber;
+const int Attempt::kErrorCodeFieldNumber;
+const int Attempt::kErrorMessageFieldNumber;
+#endif  // !_MSC_VER
+
+Attempt::Attempt()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Attempt)
+}
+
+void Attempt::InitAsDefaultInstance() {
+}
+
+Attempt::Attempt(const Attempt& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Attempt)
+}
+
+void Attempt::SharedCtor() {
+  ::google::protobuf::internal::GetEmptyString();
+  _cached_size_ = 0;
+  delay_ = 0u;
+  duration_ = 0u;
+  success_ = false;
+  error_code_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  error_message_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+Attempt::~Attempt() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Attempt)
+  SharedDtor();
+}
+
+void Attempt::SharedDtor() {
+  if (error_code_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete error_code_;
+  }
+  if (error_message_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete error_message_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void Attempt::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* Attempt::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return Attempt_descriptor_;
+}
+
+const Attempt& Attempt::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
+  return *default_instance_;
+}
+
+Attempt* Attempt::default_instance_ = NULL;
+
+Attempt* Attempt::New() const {
+  return new Attempt;
+}
+
+void Attempt::Clear() {
+#define OFFSET_OF_FIELD_(f) (reinterpret_cast<char*>(      \
+  &reinterpret_cast<Attempt*>(16)->f) - \
+   reinterpret_cast<char*>(16))
+
+#define ZR_(first, last) do {                              \
+    size_t f = OFFSET_OF_FIELD_(first);                    \
+    size_t n = OFFSET_OF_FIELD_(last) - f + sizeof(last);  \
+    ::memset(&first, 0, n);                                \
+  } while (0)
+
+  if (_has_bits_[0 / 32] & 31) {
+    ZR_(delay_, duration_);
+    success_ = false;
+    if (has_error_code()) {
+      if (error_code_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        error_code_->clear();
+      }
+    }
+    if (has_error_message()) {
+      if (error_message_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        error_message_->clear();
+      }
+    }
+  }
+
+#undef OFFSET_OF_FIELD_
+#undef ZR_
+
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool Attempt::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
+  ::google::protobuf::uint32 tag;
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Attempt)
+  for (;;) {
+    ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
+    tag = p.first;
+    if (!p.second) goto handle_unusual;
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required uint32 delay = 1;
+      case 1: {
+        if (tag == 8) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &delay_)));
+          set_has_delay();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(16)) goto parse_duration;
+        break;
+      }
+
+      // required uint32 duration = 2;
+      case 2: {
+        if (tag == 16) {
+         parse_duration:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &duration_)));
+          set_has_duration();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(24)) goto parse_success;
+        break;
+      }
+
+      // required bool success = 3;
+      case 3: {
+        if (tag == 24) {
+         parse_success:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &success_)));
+          set_has_success();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(34)) goto parse_error_code;
+        break;
+      }
+
+      // optional string error_code = 4;
+      case 4: {
+        if (tag == 34) {
+         parse_error_code:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_error_code()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+            this->error_code().data(), this->error_code().length(),
+            ::google::protobuf::internal::WireFormat::PARSE,
+            "error_code");
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(42)) goto parse_error_message;
+        break;
+      }
+
+      // optional string error_message = 5;
+      case 5: {
+        if (tag == 42) {
+         parse_error_message:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_error_message()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+            this->error_message().data(), this->error_message().length(),
+            ::google::protobuf::internal::WireFormat::PARSE,
+            "error_message");
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectAtEnd()) goto success;
+        break;
+      }
+
+      default: {
+      handle_unusual:
+        if (tag == 0 ||
+            ::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          goto success;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+success:
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Attempt)
+  return true;
+failure:
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Attempt)
+  return false;
+#undef DO_
+}
+
+void Attempt::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Attempt)
+  // required uint32 delay = 1;
+  if (has_delay()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->delay(), output);
+  }
+
+  // required uint32 duration = 2;
+  if (has_duration()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->duration(), output);
+  }
+
+  // required bool success = 3;
+  if (has_success()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->success(), output);
+  }
+
+  // optional string error_code = 4;
+  if (has_error_code()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->error_code().data(), this->error_code().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "error_code");
+    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
+      4, this->error_code(), output);
+  }
+
+  // optional string error_message = 5;
+  if (has_error_message()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->error_message().data(), this->error_message().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "error_message");
+    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
+      5, this->error_message(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Attempt)
+}
+
+::google::protobuf::uint8* Attempt::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Attempt)
+  // required uint32 delay = 1;
+  if (has_delay()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->delay(), target);
+  }
+
+  // required uint32 duration = 2;
+  if (has_duration()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->duration(), target);
+  }
+
+  // required bool success = 3;
+  if (has_success()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->success(), target);
+  }
+
+  // optional string error_code = 4;
+  if (has_error_code()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->error_code().data(), this->error_code().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "error_code");
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->error_code(), target);
+  }
+
+  // optional string error_message = 5;
+  if (has_error_message()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->error_message().data(), this->error_message().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "error_message");
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        5, this->error_message(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Attempt)
+  return target;
+}
+
+int Attempt::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 delay = 1;
+    if (has_delay()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->delay());
+    }
+
+    // required uint32 duration = 2;
+    if (has_duration()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->duration());
+    }
+
+    // required bool success = 3;
+    if (has_success()) {
+      total_size += 1 + 1;
+    }
+
+    // optional string error_code = 4;
+    if (has_error_code()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->error_code());
+    }
+
+    // optional string error_message = 5;
+    if (has_error_message()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->error_message());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void Attempt::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const Attempt* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Attempt*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void Attempt::MergeFrom(const Attempt& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_delay()) {
+      set_delay(from.delay());
+    }
+    if (from.has_duration()) {
+      set_duration(from.duration());
+    }
+    if (from.has_success()) {
+      set_success(from.success());
+    }
+    if (from.has_error_code()) {
+      set_error_code(from.error_code());
+    }
+    if (from.has_error_message()) {
+      set_error_message(from.error_message());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void Attempt::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void Attempt::CopyFrom(const Attempt& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool Attempt::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  return true;
+}
+
+void Attempt::Swap(Attempt* other) {
+  if (other != this) {
+    std::swap(delay_, other->delay_);
+    std::swap(duration_, other->duration_);
+    std::swap(success_, other->success_);
+    std::swap(error_code_, other->error_code_);
+    std::swap(error_message_, other->error_message_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata Attempt::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = Attempt_descriptor_;
+  metadata.reflection = Attempt_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int PutRecordResult::kAttemptsFieldNumber;
+const int PutRecordResult::kSuccessFieldNumber;
+const int PutRecordResult::kShardIdFieldNumber;
+const int PutRecordResult::kSequenceNumberFieldNumber;
+#endif  // !_MSC_VER
+
+PutRecordResult::PutRecordResult()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.PutRecordResult)
+}
+
+void PutRecordResult::InitAsDefaultInstance() {
+}
+
+PutRecordResult::PutRecordResult(const PutRecordResult& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.PutRecordResult)
+}
+
+void PutRecordResult::SharedCtor() {
+  ::google::protobuf::internal::GetEmptyString();
   _cached_size_ = 0;
-  delay_ = 0u;
-  duration_ = 0u;
   success_ = false;
-  error_code_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
-  error_message_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  shard_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  sequence_number_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+PutRecordResult::~PutRecordResult() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.PutRecordResult)
+  SharedDtor();
+}
+
+void PutRecordResult::SharedDtor() {
+  if (shard_id_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete shard_id_;
+  }
+  if (sequence_number_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete sequence_number_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void PutRecordResult::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* PutRecordResult::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return PutRecordResult_descriptor_;
+}
+
+const PutRecordResult& PutRecordResult::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
+  return *default_instance_;
+}
+
+PutRecordResult* PutRecordResult::default_instance_ = NULL;
+
+PutRecordResult* PutRecordResult::New() const {
+  return new PutRecordResult;
+}
+
+void PutRecordResult::Clear() {
+  if (_has_bits_[0 / 32] & 14) {
+    success_ = false;
+    if (has_shard_id()) {
+      if (shard_id_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        shard_id_->clear();
+      }
+    }
+    if (has_sequence_number()) {
+      if (sequence_number_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        sequence_number_->clear();
+      }
+    }
+  }
+  attempts_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool PutRecordResult::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
+  ::google::protobuf::uint32 tag;
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.PutRecordResult)
+  for (;;) {
+    ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
+    tag = p.first;
+    if (!p.second) goto handle_unusual;
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .aws.kinesis.protobuf.Attempt attempts = 1;
+      case 1: {
+        if (tag == 10) {
+         parse_attempts:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_attempts()));
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(10)) goto parse_attempts;
+        if (input->ExpectTag(16)) goto parse_success;
+        break;
+      }
+
+      // required bool success = 2;
+      case 2: {
+        if (tag == 16) {
+         parse_success:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &success_)));
+          set_has_success();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(26)) goto parse_shard_id;
+        break;
+      }
+
+      // optional string shard_id = 3;
+      case 3: {
+        if (tag == 26) {
+         parse_shard_id:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_shard_id()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+            this->shard_id().data(), this->shard_id().length(),
+            ::google::protobuf::internal::WireFormat::PARSE,
+            "shard_id");
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(34)) goto parse_sequence_number;
+        break;
+      }
+
+      // optional string sequence_number = 4;
+      case 4: {
+        if (tag == 34) {
+         parse_sequence_number:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_sequence_number()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+            this->sequence_number().data(), this->sequence_number().length(),
+            ::google::protobuf::internal::WireFormat::PARSE,
+            "sequence_number");
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectAtEnd()) goto success;
+        break;
+      }
+
+      default: {
+      handle_unusual:
+        if (tag == 0 ||
+            ::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          goto success;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+success:
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.PutRecordResult)
+  return true;
+failure:
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.PutRecordResult)
+  return false;
+#undef DO_
+}
+
+void PutRecordResult::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.PutRecordResult)
+  // repeated .aws.kinesis.protobuf.Attempt attempts = 1;
+  for (int i = 0; i < this->attempts_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->attempts(i), output);
+  }
+
+  // required bool success = 2;
+  if (has_success()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->success(), output);
+  }
+
+  // optional string shard_id = 3;
+  if (has_shard_id()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->shard_id().data(), this->shard_id().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "shard_id");
+    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
+      3, this->shard_id(), output);
+  }
+
+  // optional string sequence_number = 4;
+  if (has_sequence_number()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->sequence_number().data(), this->sequence_number().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "sequence_number");
+    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
+      4, this->sequence_number(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.PutRecordResult)
+}
+
+::google::protobuf::uint8* PutRecordResult::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.PutRecordResult)
+  // repeated .aws.kinesis.protobuf.Attempt attempts = 1;
+  for (int i = 0; i < this->attempts_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->attempts(i), target);
+  }
+
+  // required bool success = 2;
+  if (has_success()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->success(), target);
+  }
+
+  // optional string shard_id = 3;
+  if (has_shard_id()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->shard_id().data(), this->shard_id().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "shard_id");
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->shard_id(), target);
+  }
+
+  // optional string sequence_number = 4;
+  if (has_sequence_number()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->sequence_number().data(), this->sequence_number().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "sequence_number");
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->sequence_number(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.PutRecordResult)
+  return target;
+}
+
+int PutRecordResult::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    // required bool success = 2;
+    if (has_success()) {
+      total_size += 1 + 1;
+    }
+
+    // optional string shard_id = 3;
+    if (has_shard_id()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->shard_id());
+    }
+
+    // optional string sequence_number = 4;
+    if (has_sequence_number()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->sequence_number());
+    }
+
+  }
+  // repeated .aws.kinesis.protobuf.Attempt attempts = 1;
+  total_size += 1 * this->attempts_size();
+  for (int i = 0; i < this->attempts_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->attempts(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void PutRecordResult::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const PutRecordResult* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const PutRecordResult*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void PutRecordResult::MergeFrom(const PutRecordResult& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  attempts_.MergeFrom(from.attempts_);
+  if (from._has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    if (from.has_success()) {
+      set_success(from.success());
+    }
+    if (from.has_shard_id()) {
+      set_shard_id(from.shard_id());
+    }
+    if (from.has_sequence_number()) {
+      set_sequence_number(from.sequence_number());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void PutRecordResult::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void PutRecordResult::CopyFrom(const PutRecordResult& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool PutRecordResult::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000002) != 0x00000002) return false;
+
+  if (!::google::protobuf::internal::AllAreInitialized(this->attempts())) return false;
+  return true;
+}
+
+void PutRecordResult::Swap(PutRecordResult* other) {
+  if (other != this) {
+    attempts_.Swap(&other->attempts_);
+    std::swap(success_, other->success_);
+    std::swap(shard_id_, other->shard_id_);
+    std::swap(sequence_number_, other->sequence_number_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata PutRecordResult::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = PutRecordResult_descriptor_;
+  metadata.reflection = PutRecordResult_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int Credentials::kAkidFieldNumber;
+const int Credentials::kSecretKeyFieldNumber;
+const int Credentials::kTokenFieldNumber;
+#endif  // !_MSC_VER
+
+Credentials::Credentials()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Credentials)
+}
+
+void Credentials::InitAsDefaultInstance() {
+}
+
+Credentials::Credentials(const Credentials& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Credentials)
+}
+
+void Credentials::SharedCtor() {
+  ::google::protobuf::internal::GetEmptyString();
+  _cached_size_ = 0;
+  akid_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  secret_key_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  token_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-Attempt::~Attempt() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Attempt)
+Credentials::~Credentials() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Credentials)
   SharedDtor();
 }
 
-void Attempt::SharedDtor() {
-  if (error_code_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete error_code_;
+void Credentials::SharedDtor() {
+  if (akid_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete akid_;
   }
-  if (error_message_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete error_message_;
+  if (secret_key_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete secret_key_;
+  }
+  if (token_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete token_;
   }
   if (this != default_instance_) {
   }
 }
 
-void Attempt::SetCachedSize(int size) const {
+void Credentials::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* Attempt::descriptor() {
+const ::google::protobuf::Descriptor* Credentials::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return Attempt_descriptor_;
+  return Credentials_descriptor_;
 }
 
-const Attempt& Attempt::default_instance() {
+const Credentials& Credentials::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-Attempt* Attempt::default_instance_ = NULL;
+Credentials* Credentials::default_instance_ = NULL;
 
-Attempt* Attempt::New() const {
-  return new Attempt;
+Credentials* Credentials::New() const {
+  return new Credentials;
 }
 
-void Attempt::Clear() {
-#define OFFSET_OF_FIELD_(f) (reinterpret_cast<char*>(      \
-  &reinterpret_cast<Attempt*>(16)->f) - \
-   reinterpret_cast<char*>(16))
-
-#define ZR_(first, last) do {                              \
-    size_t f = OFFSET_OF_FIELD_(first);                    \
-    size_t n = OFFSET_OF_FIELD_(last) - f + sizeof(last);  \
-    ::memset(&first, 0, n);                                \
-  } while (0)
-
-  if (_has_bits_[0 / 32] & 31) {
-    ZR_(delay_, duration_);
-    success_ = false;
-    if (has_error_code()) {
-      if (error_code_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        error_code_->clear();
+void Credentials::Clear() {
+  if (_has_bits_[0 / 32] & 7) {
+    if (has_akid()) {
+      if (akid_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        akid_->clear();
       }
     }
-    if (has_error_message()) {
-      if (error_message_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        error_message_->clear();
+    if (has_secret_key()) {
+      if (secret_key_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        secret_key_->clear();
+      }
+    }
+    if (has_token()) {
+      if (token_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        token_->clear();
       }
     }
   }
-
-#undef OFFSET_OF_FIELD_
-#undef ZR_
-
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool Attempt::MergePartialFromCodedStream(
+bool Credentials::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Attempt)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Credentials)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // required uint32 delay = 1;
+      // required string akid = 1;
       case 1: {
-        if (tag == 8) {
-          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
-                 input, &delay_)));
-          set_has_delay();
+        if (tag == 10) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_akid()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+            this->akid().data(), this->akid().length(),
+            ::google::protobuf::internal::WireFormat::PARSE,
+            "akid");
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(16)) goto parse_duration;
+        if (input->ExpectTag(18)) goto parse_secret_key;
         break;
       }
 
-      // required uint32 duration = 2;
+      // required string secret_key = 2;
       case 2: {
-        if (tag == 16) {
-         parse_duration:
-          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
-                 input, &duration_)));
-          set_has_duration();
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(24)) goto parse_success;
-        break;
-      }
-
-      // required bool success = 3;
-      case 3: {
-        if (tag == 24) {
-         parse_success:
-          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
-                 input, &success_)));
-          set_has_success();
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(34)) goto parse_error_code;
-        break;
-      }
-
-      // optional string error_code = 4;
-      case 4: {
-        if (tag == 34) {
-         parse_error_code:
+        if (tag == 18) {
+         parse_secret_key:
           DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_error_code()));
+                input, this->mutable_secret_key()));
           ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->error_code().data(), this->error_code().length(),
+            this->secret_key().data(), this->secret_key().length(),
             ::google::protobuf::internal::WireFormat::PARSE,
-            "error_code");
+            "secret_key");
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(42)) goto parse_error_message;
+        if (input->ExpectTag(26)) goto parse_token;
         break;
       }
 
-      // optional string error_message = 5;
-      case 5: {
-        if (tag == 42) {
-         parse_error_message:
+      // optional string token = 3;
+      case 3: {
+        if (tag == 26) {
+         parse_token:
           DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_error_message()));
+                input, this->mutable_token()));
           ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->error_message().data(), this->error_message().length(),
+            this->token().data(), this->token().length(),
             ::google::protobuf::internal::WireFormat::PARSE,
-            "error_message");
+            "token");
         } else {
           goto handle_unusual;
         }
@@ -2997,142 +4736,121 @@ bool Attempt::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Attempt)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Credentials)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Attempt)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Credentials)
   return false;
 #undef DO_
 }
 
-void Attempt::SerializeWithCachedSizes(
+void Credentials::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Attempt)
-  // required uint32 delay = 1;
-  if (has_delay()) {
-    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->delay(), output);
-  }
-
-  // required uint32 duration = 2;
-  if (has_duration()) {
-    ::google::protobuf::internal::WireFormatLite::WriteUInt32(2, this->duration(), output);
-  }
-
-  // required bool success = 3;
-  if (has_success()) {
-    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->success(), output);
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Credentials)
+  // required string akid = 1;
+  if (has_akid()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->akid().data(), this->akid().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "akid");
+    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
+      1, this->akid(), output);
   }
 
-  // optional string error_code = 4;
-  if (has_error_code()) {
+  // required string secret_key = 2;
+  if (has_secret_key()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->error_code().data(), this->error_code().length(),
+      this->secret_key().data(), this->secret_key().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "error_code");
+      "secret_key");
     ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      4, this->error_code(), output);
+      2, this->secret_key(), output);
   }
 
-  // optional string error_message = 5;
-  if (has_error_message()) {
+  // optional string token = 3;
+  if (has_token()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->error_message().data(), this->error_message().length(),
+      this->token().data(), this->token().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "error_message");
+      "token");
     ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      5, this->error_message(), output);
+      3, this->token(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Attempt)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Credentials)
 }
 
-::google::protobuf::uint8* Attempt::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* Credentials::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Attempt)
-  // required uint32 delay = 1;
-  if (has_delay()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->delay(), target);
-  }
-
-  // required uint32 duration = 2;
-  if (has_duration()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(2, this->duration(), target);
-  }
-
-  // required bool success = 3;
-  if (has_success()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->success(), target);
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Credentials)
+  // required string akid = 1;
+  if (has_akid()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->akid().data(), this->akid().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "akid");
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->akid(), target);
   }
 
-  // optional string error_code = 4;
-  if (has_error_code()) {
+  // required string secret_key = 2;
+  if (has_secret_key()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->error_code().data(), this->error_code().length(),
+      this->secret_key().data(), this->secret_key().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "error_code");
+      "secret_key");
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        4, this->error_code(), target);
+        2, this->secret_key(), target);
   }
 
-  // optional string error_message = 5;
-  if (has_error_message()) {
+  // optional string token = 3;
+  if (has_token()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->error_message().data(), this->error_message().length(),
+      this->token().data(), this->token().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "error_message");
+      "token");
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        5, this->error_message(), target);
+        3, this->token(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Attempt)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Credentials)
   return target;
 }
 
-int Attempt::ByteSize() const {
+int Credentials::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // required uint32 delay = 1;
-    if (has_delay()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::UInt32Size(
-          this->delay());
-    }
-
-    // required uint32 duration = 2;
-    if (has_duration()) {
+    // required string akid = 1;
+    if (has_akid()) {
       total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::UInt32Size(
-          this->duration());
-    }
-
-    // required bool success = 3;
-    if (has_success()) {
-      total_size += 1 + 1;
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->akid());
     }
 
-    // optional string error_code = 4;
-    if (has_error_code()) {
+    // required string secret_key = 2;
+    if (has_secret_key()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->error_code());
+          this->secret_key());
     }
 
-    // optional string error_message = 5;
-    if (has_error_message()) {
+    // optional string token = 3;
+    if (has_token()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->error_message());
+          this->token());
     }
 
   }
@@ -3147,10 +4865,10 @@ int Attempt::ByteSize() const {
   return total_size;
 }
 
-void Attempt::MergeFrom(const ::google::protobuf::Message& from) {
+void Credentials::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const Attempt* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const Attempt*>(
+  const Credentials* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Credentials*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -3159,64 +4877,56 @@ void Attempt::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void Attempt::MergeFrom(const Attempt& from) {
+void Credentials::MergeFrom(const Credentials& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_delay()) {
-      set_delay(from.delay());
-    }
-    if (from.has_duration()) {
-      set_duration(from.duration());
-    }
-    if (from.has_success()) {
-      set_success(from.success());
+    if (from.has_akid()) {
+      set_akid(from.akid());
     }
-    if (from.has_error_code()) {
-      set_error_code(from.error_code());
+    if (from.has_secret_key()) {
+      set_secret_key(from.secret_key());
     }
-    if (from.has_error_message()) {
-      set_error_message(from.error_message());
+    if (from.has_token()) {
+      set_token(from.token());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void Attempt::CopyFrom(const ::google::protobuf::Message& from) {
+void Credentials::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void Attempt::CopyFrom(const Attempt& from) {
+void Credentials::CopyFrom(const Credentials& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool Attempt::IsInitialized() const {
-  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+bool Credentials::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
 
   return true;
 }
 
-void Attempt::Swap(Attempt* other) {
+void Credentials::Swap(Credentials* other) {
   if (other != this) {
-    std::swap(delay_, other->delay_);
-    std::swap(duration_, other->duration_);
-    std::swap(success_, other->success_);
-    std::swap(error_code_, other->error_code_);
-    std::swap(error_message_, other->error_message_);
+    std::swap(akid_, other->akid_);
+    std::swap(secret_key_, other->secret_key_);
+    std::swap(token_, other->token_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata Attempt::GetMetadata() const {
+::google::protobuf::Metadata Credentials::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = Attempt_descriptor_;
-  metadata.reflection = Attempt_reflection_;
+  metadata.descriptor = Credentials_descriptor_;
+  metadata.reflection = Credentials_reflection_;
   return metadata;
 }
 
@@ -3224,159 +4934,107 @@ void Attempt::Swap(Attempt* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int PutRecordResult::kAttemptsFieldNumber;
-const int PutRecordResult::kSuccessFieldNumber;
-const int PutRecordResult::kShardIdFieldNumber;
-const int PutRecordResult::kSequenceNumberFieldNumber;
+const int SetCredentials::kForMetricsFieldNumber;
+const int SetCredentials::kCredentialsFieldNumber;
 #endif  // !_MSC_VER
 
-PutRecordResult::PutRecordResult()
+SetCredentials::SetCredentials()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.PutRecordResult)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.SetCredentials)
 }
 
-void PutRecordResult::InitAsDefaultInstance() {
+void SetCredentials::InitAsDefaultInstance() {
+  credentials_ = const_cast< ::aws::kinesis::protobuf::Credentials*>(&::aws::kinesis::protobuf::Credentials::default_instance());
 }
 
-PutRecordResult::PutRecordResult(const PutRecordResult& from)
+SetCredentials::SetCredentials(const SetCredentials& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.PutRecordResult)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.SetCredentials)
 }
 
-void PutRecordResult::SharedCtor() {
-  ::google::protobuf::internal::GetEmptyString();
+void SetCredentials::SharedCtor() {
   _cached_size_ = 0;
-  success_ = false;
-  shard_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
-  sequence_number_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  for_metrics_ = false;
+  credentials_ = NULL;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-PutRecordResult::~PutRecordResult() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.PutRecordResult)
+SetCredentials::~SetCredentials() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.SetCredentials)
   SharedDtor();
 }
 
-void PutRecordResult::SharedDtor() {
-  if (shard_id_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete shard_id_;
-  }
-  if (sequence_number_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete sequence_number_;
-  }
+void SetCredentials::SharedDtor() {
   if (this != default_instance_) {
+    delete credentials_;
   }
 }
 
-void PutRecordResult::SetCachedSize(int size) const {
+void SetCredentials::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* PutRecordResult::descriptor() {
+const ::google::protobuf::Descriptor* SetCredentials::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return PutRecordResult_descriptor_;
+  return SetCredentials_descriptor_;
 }
 
-const PutRecordResult& PutRecordResult::default_instance() {
+const SetCredentials& SetCredentials::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-PutRecordResult* PutRecordResult::default_instance_ = NULL;
+SetCredentials* SetCredentials::default_instance_ = NULL;
 
-PutRecordResult* PutRecordResult::New() const {
-  return new PutRecordResult;
+SetCredentials* SetCredentials::New() const {
+  return new SetCredentials;
 }
 
-void PutRecordResult::Clear() {
-  if (_has_bits_[0 / 32] & 14) {
-    success_ = false;
-    if (has_shard_id()) {
-      if (shard_id_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        shard_id_->clear();
-      }
-    }
-    if (has_sequence_number()) {
-      if (sequence_number_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        sequence_number_->clear();
-      }
+void SetCredentials::Clear() {
+  if (_has_bits_[0 / 32] & 3) {
+    for_metrics_ = false;
+    if (has_credentials()) {
+      if (credentials_ != NULL) credentials_->::aws::kinesis::protobuf::Credentials::Clear();
     }
   }
-  attempts_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool PutRecordResult::MergePartialFromCodedStream(
+bool SetCredentials::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.PutRecordResult)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.SetCredentials)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // repeated .aws.kinesis.protobuf.Attempt attempts = 1;
+      // optional bool for_metrics = 1;
       case 1: {
-        if (tag == 10) {
-         parse_attempts:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-                input, add_attempts()));
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(10)) goto parse_attempts;
-        if (input->ExpectTag(16)) goto parse_success;
-        break;
-      }
-
-      // required bool success = 2;
-      case 2: {
-        if (tag == 16) {
-         parse_success:
+        if (tag == 8) {
           DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
                    bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
-                 input, &success_)));
-          set_has_success();
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(26)) goto parse_shard_id;
-        break;
-      }
-
-      // optional string shard_id = 3;
-      case 3: {
-        if (tag == 26) {
-         parse_shard_id:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_shard_id()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->shard_id().data(), this->shard_id().length(),
-            ::google::protobuf::internal::WireFormat::PARSE,
-            "shard_id");
+                 input, &for_metrics_)));
+          set_has_for_metrics();
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(34)) goto parse_sequence_number;
+        if (input->ExpectTag(18)) goto parse_credentials;
         break;
       }
 
-      // optional string sequence_number = 4;
-      case 4: {
-        if (tag == 34) {
-         parse_sequence_number:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_sequence_number()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->sequence_number().data(), this->sequence_number().length(),
-            ::google::protobuf::internal::WireFormat::PARSE,
-            "sequence_number");
+      // required .aws.kinesis.protobuf.Credentials credentials = 2;
+      case 2: {
+        if (tag == 18) {
+         parse_credentials:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_credentials()));
         } else {
           goto handle_unusual;
         }
@@ -3398,132 +5056,75 @@ bool PutRecordResult::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.PutRecordResult)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.SetCredentials)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.PutRecordResult)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.SetCredentials)
   return false;
 #undef DO_
 }
 
-void PutRecordResult::SerializeWithCachedSizes(
-    ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.PutRecordResult)
-  // repeated .aws.kinesis.protobuf.Attempt attempts = 1;
-  for (int i = 0; i < this->attempts_size(); i++) {
-    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      1, this->attempts(i), output);
-  }
-
-  // required bool success = 2;
-  if (has_success()) {
-    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->success(), output);
-  }
-
-  // optional string shard_id = 3;
-  if (has_shard_id()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->shard_id().data(), this->shard_id().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "shard_id");
-    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      3, this->shard_id(), output);
+void SetCredentials::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.SetCredentials)
+  // optional bool for_metrics = 1;
+  if (has_for_metrics()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(1, this->for_metrics(), output);
   }
 
-  // optional string sequence_number = 4;
-  if (has_sequence_number()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->sequence_number().data(), this->sequence_number().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "sequence_number");
-    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      4, this->sequence_number(), output);
+  // required .aws.kinesis.protobuf.Credentials credentials = 2;
+  if (has_credentials()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->credentials(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.PutRecordResult)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.SetCredentials)
 }
 
-::google::protobuf::uint8* PutRecordResult::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* SetCredentials::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.PutRecordResult)
-  // repeated .aws.kinesis.protobuf.Attempt attempts = 1;
-  for (int i = 0; i < this->attempts_size(); i++) {
-    target = ::google::protobuf::internal::WireFormatLite::
-      WriteMessageNoVirtualToArray(
-        1, this->attempts(i), target);
-  }
-
-  // required bool success = 2;
-  if (has_success()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->success(), target);
-  }
-
-  // optional string shard_id = 3;
-  if (has_shard_id()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->shard_id().data(), this->shard_id().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "shard_id");
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        3, this->shard_id(), target);
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.SetCredentials)
+  // optional bool for_metrics = 1;
+  if (has_for_metrics()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(1, this->for_metrics(), target);
   }
 
-  // optional string sequence_number = 4;
-  if (has_sequence_number()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->sequence_number().data(), this->sequence_number().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "sequence_number");
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        4, this->sequence_number(), target);
+  // required .aws.kinesis.protobuf.Credentials credentials = 2;
+  if (has_credentials()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->credentials(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.PutRecordResult)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.SetCredentials)
   return target;
 }
 
-int PutRecordResult::ByteSize() const {
+int SetCredentials::ByteSize() const {
   int total_size = 0;
 
-  if (_has_bits_[1 / 32] & (0xffu << (1 % 32))) {
-    // required bool success = 2;
-    if (has_success()) {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional bool for_metrics = 1;
+    if (has_for_metrics()) {
       total_size += 1 + 1;
     }
 
-    // optional string shard_id = 3;
-    if (has_shard_id()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->shard_id());
-    }
-
-    // optional string sequence_number = 4;
-    if (has_sequence_number()) {
+    // required .aws.kinesis.protobuf.Credentials credentials = 2;
+    if (has_credentials()) {
       total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->sequence_number());
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->credentials());
     }
 
   }
-  // repeated .aws.kinesis.protobuf.Attempt attempts = 1;
-  total_size += 1 * this->attempts_size();
-  for (int i = 0; i < this->attempts_size(); i++) {
-    total_size +=
-      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-        this->attempts(i));
-  }
-
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -3535,10 +5136,10 @@ int PutRecordResult::ByteSize() const {
   return total_size;
 }
 
-void PutRecordResult::MergeFrom(const ::google::protobuf::Message& from) {
+void SetCredentials::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const PutRecordResult* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const PutRecordResult*>(
+  const SetCredentials* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const SetCredentials*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -3547,59 +5148,55 @@ void PutRecordResult::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void PutRecordResult::MergeFrom(const PutRecordResult& from) {
+void SetCredentials::MergeFrom(const SetCredentials& from) {
   GOOGLE_CHECK_NE(&from, this);
-  attempts_.MergeFrom(from.attempts_);
-  if (from._has_bits_[1 / 32] & (0xffu << (1 % 32))) {
-    if (from.has_success()) {
-      set_success(from.success());
-    }
-    if (from.has_shard_id()) {
-      set_shard_id(from.shard_id());
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_for_metrics()) {
+      set_for_metrics(from.for_metrics());
     }
-    if (from.has_sequence_number()) {
-      set_sequence_number(from.sequence_number());
+    if (from.has_credentials()) {
+      mutable_credentials()->::aws::kinesis::protobuf::Credentials::MergeFrom(from.credentials());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void PutRecordResult::CopyFrom(const ::google::protobuf::Message& from) {
+void SetCredentials::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void PutRecordResult::CopyFrom(const PutRecordResult& from) {
+void SetCredentials::CopyFrom(const SetCredentials& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool PutRecordResult::IsInitialized() const {
+bool SetCredentials::IsInitialized() const {
   if ((_has_bits_[0] & 0x00000002) != 0x00000002) return false;
 
-  if (!::google::protobuf::internal::AllAreInitialized(this->attempts())) return false;
+  if (has_credentials()) {
+    if (!this->credentials().IsInitialized()) return false;
+  }
   return true;
 }
 
-void PutRecordResult::Swap(PutRecordResult* other) {
+void SetCredentials::Swap(SetCredentials* other) {
   if (other != this) {
-    attempts_.Swap(&other->attempts_);
-    std::swap(success_, other->success_);
-    std::swap(shard_id_, other->shard_id_);
-    std::swap(sequence_number_, other->sequence_number_);
+    std::swap(for_metrics_, other->for_metrics_);
+    std::swap(credentials_, other->credentials_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata PutRecordResult::GetMetadata() const {
+::google::protobuf::Metadata SetCredentials::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = PutRecordResult_descriptor_;
-  metadata.reflection = PutRecordResult_reflection_;
+  metadata.descriptor = SetCredentials_descriptor_;
+  metadata.reflection = SetCredentials_reflection_;
   return metadata;
 }
 
@@ -3607,91 +5204,81 @@ void PutRecordResult::Swap(PutRecordResult* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int Credentials::kAkidFieldNumber;
-const int Credentials::kSecretKeyFieldNumber;
-const int Credentials::kTokenFieldNumber;
+const int Dimension::kKeyFieldNumber;
+const int Dimension::kValueFieldNumber;
 #endif  // !_MSC_VER
 
-Credentials::Credentials()
+Dimension::Dimension()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Credentials)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Dimension)
 }
 
-void Credentials::InitAsDefaultInstance() {
+void Dimension::InitAsDefaultInstance() {
 }
 
-Credentials::Credentials(const Credentials& from)
+Dimension::Dimension(const Dimension& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Credentials)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Dimension)
 }
 
-void Credentials::SharedCtor() {
+void Dimension::SharedCtor() {
   ::google::protobuf::internal::GetEmptyString();
   _cached_size_ = 0;
-  akid_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
-  secret_key_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
-  token_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  key_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  value_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-Credentials::~Credentials() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Credentials)
+Dimension::~Dimension() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Dimension)
   SharedDtor();
 }
 
-void Credentials::SharedDtor() {
-  if (akid_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete akid_;
-  }
-  if (secret_key_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete secret_key_;
+void Dimension::SharedDtor() {
+  if (key_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete key_;
   }
-  if (token_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete token_;
+  if (value_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete value_;
   }
   if (this != default_instance_) {
   }
 }
 
-void Credentials::SetCachedSize(int size) const {
+void Dimension::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* Credentials::descriptor() {
+const ::google::protobuf::Descriptor* Dimension::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return Credentials_descriptor_;
+  return Dimension_descriptor_;
 }
 
-const Credentials& Credentials::default_instance() {
+const Dimension& Dimension::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-Credentials* Credentials::default_instance_ = NULL;
+Dimension* Dimension::default_instance_ = NULL;
 
-Credentials* Credentials::New() const {
-  return new Credentials;
+Dimension* Dimension::New() const {
+  return new Dimension;
 }
 
-void Credentials::Clear() {
-  if (_has_bits_[0 / 32] & 7) {
-    if (has_akid()) {
-      if (akid_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        akid_->clear();
-      }
-    }
-    if (has_secret_key()) {
-      if (secret_key_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        secret_key_->clear();
+void Dimension::Clear() {
+  if (_has_bits_[0 / 32] & 3) {
+    if (has_key()) {
+      if (key_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        key_->clear();
       }
     }
-    if (has_token()) {
-      if (token_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        token_->clear();
+    if (has_value()) {
+      if (value_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        value_->clear();
       }
     }
   }
@@ -3699,59 +5286,42 @@ void Credentials::Clear() {
   mutable_unknown_fields()->Clear();
 }
 
-bool Credentials::MergePartialFromCodedStream(
+bool Dimension::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Credentials)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Dimension)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // required string akid = 1;
+      // required string key = 1;
       case 1: {
         if (tag == 10) {
           DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_akid()));
+                input, this->mutable_key()));
           ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->akid().data(), this->akid().length(),
+            this->key().data(), this->key().length(),
             ::google::protobuf::internal::WireFormat::PARSE,
-            "akid");
+            "key");
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(18)) goto parse_secret_key;
+        if (input->ExpectTag(18)) goto parse_value;
         break;
       }
 
-      // required string secret_key = 2;
+      // required string value = 2;
       case 2: {
         if (tag == 18) {
-         parse_secret_key:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_secret_key()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->secret_key().data(), this->secret_key().length(),
-            ::google::protobuf::internal::WireFormat::PARSE,
-            "secret_key");
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(26)) goto parse_token;
-        break;
-      }
-
-      // optional string token = 3;
-      case 3: {
-        if (tag == 26) {
-         parse_token:
+         parse_value:
           DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_token()));
+                input, this->mutable_value()));
           ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->token().data(), this->token().length(),
+            this->value().data(), this->value().length(),
             ::google::protobuf::internal::WireFormat::PARSE,
-            "token");
+            "value");
         } else {
           goto handle_unusual;
         }
@@ -3773,121 +5343,93 @@ bool Credentials::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Credentials)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Dimension)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Credentials)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Dimension)
   return false;
 #undef DO_
 }
 
-void Credentials::SerializeWithCachedSizes(
+void Dimension::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Credentials)
-  // required string akid = 1;
-  if (has_akid()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->akid().data(), this->akid().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "akid");
-    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      1, this->akid(), output);
-  }
-
-  // required string secret_key = 2;
-  if (has_secret_key()) {
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Dimension)
+  // required string key = 1;
+  if (has_key()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->secret_key().data(), this->secret_key().length(),
+      this->key().data(), this->key().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "secret_key");
+      "key");
     ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      2, this->secret_key(), output);
+      1, this->key(), output);
   }
 
-  // optional string token = 3;
-  if (has_token()) {
+  // required string value = 2;
+  if (has_value()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->token().data(), this->token().length(),
+      this->value().data(), this->value().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "token");
+      "value");
     ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      3, this->token(), output);
+      2, this->value(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Credentials)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Dimension)
 }
 
-::google::protobuf::uint8* Credentials::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* Dimension::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Credentials)
-  // required string akid = 1;
-  if (has_akid()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->akid().data(), this->akid().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "akid");
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->akid(), target);
-  }
-
-  // required string secret_key = 2;
-  if (has_secret_key()) {
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Dimension)
+  // required string key = 1;
+  if (has_key()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->secret_key().data(), this->secret_key().length(),
+      this->key().data(), this->key().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "secret_key");
+      "key");
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        2, this->secret_key(), target);
+        1, this->key(), target);
   }
 
-  // optional string token = 3;
-  if (has_token()) {
+  // required string value = 2;
+  if (has_value()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->token().data(), this->token().length(),
+      this->value().data(), this->value().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "token");
+      "value");
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        3, this->token(), target);
+        2, this->value(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Credentials)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Dimension)
   return target;
 }
 
-int Credentials::ByteSize() const {
+int Dimension::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // required string akid = 1;
-    if (has_akid()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->akid());
-    }
-
-    // required string secret_key = 2;
-    if (has_secret_key()) {
+    // required string key = 1;
+    if (has_key()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->secret_key());
+          this->key());
     }
 
-    // optional string token = 3;
-    if (has_token()) {
+    // required string value = 2;
+    if (has_value()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->token());
+          this->value());
     }
 
   }
@@ -3902,10 +5444,10 @@ int Credentials::ByteSize() const {
   return total_size;
 }
 
-void Credentials::MergeFrom(const ::google::protobuf::Message& from) {
+void Dimension::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const Credentials* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const Credentials*>(
+  const Dimension* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Dimension*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -3914,56 +5456,52 @@ void Credentials::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void Credentials::MergeFrom(const Credentials& from) {
+void Dimension::MergeFrom(const Dimension& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_akid()) {
-      set_akid(from.akid());
-    }
-    if (from.has_secret_key()) {
-      set_secret_key(from.secret_key());
+    if (from.has_key()) {
+      set_key(from.key());
     }
-    if (from.has_token()) {
-      set_token(from.token());
+    if (from.has_value()) {
+      set_value(from.value());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void Credentials::CopyFrom(const ::google::protobuf::Message& from) {
+void Dimension::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void Credentials::CopyFrom(const Credentials& from) {
+void Dimension::CopyFrom(const Dimension& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool Credentials::IsInitialized() const {
+bool Dimension::IsInitialized() const {
   if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
 
   return true;
 }
 
-void Credentials::Swap(Credentials* other) {
+void Dimension::Swap(Dimension* other) {
   if (other != this) {
-    std::swap(akid_, other->akid_);
-    std::swap(secret_key_, other->secret_key_);
-    std::swap(token_, other->token_);
+    std::swap(key_, other->key_);
+    std::swap(value_, other->value_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata Credentials::GetMetadata() const {
+::google::protobuf::Metadata Dimension::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = Credentials_descriptor_;
-  metadata.reflection = Credentials_reflection_;
+  metadata.descriptor = Dimension_descriptor_;
+  metadata.reflection = Dimension_reflection_;
   return metadata;
 }
 
@@ -3971,107 +5509,169 @@ void Credentials::Swap(Credentials* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int SetCredentials::kForMetricsFieldNumber;
-const int SetCredentials::kCredentialsFieldNumber;
+const int Stats::kCountFieldNumber;
+const int Stats::kSumFieldNumber;
+const int Stats::kMeanFieldNumber;
+const int Stats::kMinFieldNumber;
+const int Stats::kMaxFieldNumber;
 #endif  // !_MSC_VER
 
-SetCredentials::SetCredentials()
+Stats::Stats()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.SetCredentials)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Stats)
 }
 
-void SetCredentials::InitAsDefaultInstance() {
-  credentials_ = const_cast< ::aws::kinesis::protobuf::Credentials*>(&::aws::kinesis::protobuf::Credentials::default_instance());
+void Stats::InitAsDefaultInstance() {
 }
 
-SetCredentials::SetCredentials(const SetCredentials& from)
+Stats::Stats(const Stats& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.SetCredentials)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Stats)
 }
 
-void SetCredentials::SharedCtor() {
+void Stats::SharedCtor() {
   _cached_size_ = 0;
-  for_metrics_ = false;
-  credentials_ = NULL;
+  count_ = 0;
+  sum_ = 0;
+  mean_ = 0;
+  min_ = 0;
+  max_ = 0;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-SetCredentials::~SetCredentials() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.SetCredentials)
+Stats::~Stats() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Stats)
   SharedDtor();
 }
 
-void SetCredentials::SharedDtor() {
+void Stats::SharedDtor() {
   if (this != default_instance_) {
-    delete credentials_;
   }
 }
 
-void SetCredentials::SetCachedSize(int size) const {
+void Stats::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* SetCredentials::descriptor() {
+const ::google::protobuf::Descriptor* Stats::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return SetCredentials_descriptor_;
+  return Stats_descriptor_;
 }
 
-const SetCredentials& SetCredentials::default_instance() {
+const Stats& Stats::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-SetCredentials* SetCredentials::default_instance_ = NULL;
+Stats* Stats::default_instance_ = NULL;
 
-SetCredentials* SetCredentials::New() const {
-  return new SetCredentials;
+Stats* Stats::New() const {
+  return new Stats;
 }
 
-void SetCredentials::Clear() {
-  if (_has_bits_[0 / 32] & 3) {
-    for_metrics_ = false;
-    if (has_credentials()) {
-      if (credentials_ != NULL) credentials_->::aws::kinesis::protobuf::Credentials::Clear();
-    }
+void Stats::Clear() {
+#define OFFSET_OF_FIELD_(f) (reinterpret_cast<char*>(      \
+  &reinterpret_cast<Stats*>(16)->f) - \
+   reinterpret_cast<char*>(16))
+
+#define ZR_(first, last) do {                              \
+    size_t f = OFFSET_OF_FIELD_(first);                    \
+    size_t n = OFFSET_OF_FIELD_(last) - f + sizeof(last);  \
+    ::memset(&first, 0, n);                                \
+  } while (0)
+
+  if (_has_bits_[0 / 32] & 31) {
+    ZR_(count_, max_);
   }
+
+#undef OFFSET_OF_FIELD_
+#undef ZR_
+
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool SetCredentials::MergePartialFromCodedStream(
-    ::google::protobuf::io::CodedInputStream* input) {
-#define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
-  ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.SetCredentials)
-  for (;;) {
-    ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
-    tag = p.first;
-    if (!p.second) goto handle_unusual;
-    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // optional bool for_metrics = 1;
-      case 1: {
-        if (tag == 8) {
+bool Stats::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
+  ::google::protobuf::uint32 tag;
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Stats)
+  for (;;) {
+    ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
+    tag = p.first;
+    if (!p.second) goto handle_unusual;
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required double count = 1;
+      case 1: {
+        if (tag == 9) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
+                 input, &count_)));
+          set_has_count();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(17)) goto parse_sum;
+        break;
+      }
+
+      // required double sum = 2;
+      case 2: {
+        if (tag == 17) {
+         parse_sum:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
+                 input, &sum_)));
+          set_has_sum();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(25)) goto parse_mean;
+        break;
+      }
+
+      // required double mean = 3;
+      case 3: {
+        if (tag == 25) {
+         parse_mean:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
+                 input, &mean_)));
+          set_has_mean();
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(33)) goto parse_min;
+        break;
+      }
+
+      // required double min = 4;
+      case 4: {
+        if (tag == 33) {
+         parse_min:
           DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
-                 input, &for_metrics_)));
-          set_has_for_metrics();
+                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
+                 input, &min_)));
+          set_has_min();
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(18)) goto parse_credentials;
+        if (input->ExpectTag(41)) goto parse_max;
         break;
       }
 
-      // required .aws.kinesis.protobuf.Credentials credentials = 2;
-      case 2: {
-        if (tag == 18) {
-         parse_credentials:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-               input, mutable_credentials()));
+      // required double max = 5;
+      case 5: {
+        if (tag == 41) {
+         parse_max:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
+                 input, &max_)));
+          set_has_max();
         } else {
           goto handle_unusual;
         }
@@ -4093,72 +5693,112 @@ bool SetCredentials::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.SetCredentials)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Stats)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.SetCredentials)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Stats)
   return false;
 #undef DO_
 }
 
-void SetCredentials::SerializeWithCachedSizes(
+void Stats::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.SetCredentials)
-  // optional bool for_metrics = 1;
-  if (has_for_metrics()) {
-    ::google::protobuf::internal::WireFormatLite::WriteBool(1, this->for_metrics(), output);
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Stats)
+  // required double count = 1;
+  if (has_count()) {
+    ::google::protobuf::internal::WireFormatLite::WriteDouble(1, this->count(), output);
   }
 
-  // required .aws.kinesis.protobuf.Credentials credentials = 2;
-  if (has_credentials()) {
-    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      2, this->credentials(), output);
+  // required double sum = 2;
+  if (has_sum()) {
+    ::google::protobuf::internal::WireFormatLite::WriteDouble(2, this->sum(), output);
+  }
+
+  // required double mean = 3;
+  if (has_mean()) {
+    ::google::protobuf::internal::WireFormatLite::WriteDouble(3, this->mean(), output);
+  }
+
+  // required double min = 4;
+  if (has_min()) {
+    ::google::protobuf::internal::WireFormatLite::WriteDouble(4, this->min(), output);
+  }
+
+  // required double max = 5;
+  if (has_max()) {
+    ::google::protobuf::internal::WireFormatLite::WriteDouble(5, this->max(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.SetCredentials)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Stats)
 }
 
-::google::protobuf::uint8* SetCredentials::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* Stats::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.SetCredentials)
-  // optional bool for_metrics = 1;
-  if (has_for_metrics()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(1, this->for_metrics(), target);
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Stats)
+  // required double count = 1;
+  if (has_count()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(1, this->count(), target);
   }
 
-  // required .aws.kinesis.protobuf.Credentials credentials = 2;
-  if (has_credentials()) {
-    target = ::google::protobuf::internal::WireFormatLite::
-      WriteMessageNoVirtualToArray(
-        2, this->credentials(), target);
+  // required double sum = 2;
+  if (has_sum()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(2, this->sum(), target);
+  }
+
+  // required double mean = 3;
+  if (has_mean()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(3, this->mean(), target);
+  }
+
+  // required double min = 4;
+  if (has_min()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(4, this->min(), target);
+  }
+
+  // required double max = 5;
+  if (has_max()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(5, this->max(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.SetCredentials)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Stats)
   return target;
 }
 
-int SetCredentials::ByteSize() const {
+int Stats::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // optional bool for_metrics = 1;
-    if (has_for_metrics()) {
-      total_size += 1 + 1;
+    // required double count = 1;
+    if (has_count()) {
+      total_size += 1 + 8;
     }
 
-    // required .aws.kinesis.protobuf.Credentials credentials = 2;
-    if (has_credentials()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-          this->credentials());
+    // required double sum = 2;
+    if (has_sum()) {
+      total_size += 1 + 8;
+    }
+
+    // required double mean = 3;
+    if (has_mean()) {
+      total_size += 1 + 8;
+    }
+
+    // required double min = 4;
+    if (has_min()) {
+      total_size += 1 + 8;
+    }
+
+    // required double max = 5;
+    if (has_max()) {
+      total_size += 1 + 8;
     }
 
   }
@@ -4173,10 +5813,10 @@ int SetCredentials::ByteSize() const {
   return total_size;
 }
 
-void SetCredentials::MergeFrom(const ::google::protobuf::Message& from) {
+void Stats::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const SetCredentials* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const SetCredentials*>(
+  const Stats* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Stats*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -4185,55 +5825,64 @@ void SetCredentials::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void SetCredentials::MergeFrom(const SetCredentials& from) {
+void Stats::MergeFrom(const Stats& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_for_metrics()) {
-      set_for_metrics(from.for_metrics());
+    if (from.has_count()) {
+      set_count(from.count());
     }
-    if (from.has_credentials()) {
-      mutable_credentials()->::aws::kinesis::protobuf::Credentials::MergeFrom(from.credentials());
+    if (from.has_sum()) {
+      set_sum(from.sum());
+    }
+    if (from.has_mean()) {
+      set_mean(from.mean());
+    }
+    if (from.has_min()) {
+      set_min(from.min());
+    }
+    if (from.has_max()) {
+      set_max(from.max());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void SetCredentials::CopyFrom(const ::google::protobuf::Message& from) {
+void Stats::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void SetCredentials::CopyFrom(const SetCredentials& from) {
+void Stats::CopyFrom(const Stats& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool SetCredentials::IsInitialized() const {
-  if ((_has_bits_[0] & 0x00000002) != 0x00000002) return false;
+bool Stats::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000001f) != 0x0000001f) return false;
 
-  if (has_credentials()) {
-    if (!this->credentials().IsInitialized()) return false;
-  }
   return true;
 }
 
-void SetCredentials::Swap(SetCredentials* other) {
+void Stats::Swap(Stats* other) {
   if (other != this) {
-    std::swap(for_metrics_, other->for_metrics_);
-    std::swap(credentials_, other->credentials_);
+    std::swap(count_, other->count_);
+    std::swap(sum_, other->sum_);
+    std::swap(mean_, other->mean_);
+    std::swap(min_, other->min_);
+    std::swap(max_, other->max_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata SetCredentials::GetMetadata() const {
+::google::protobuf::Metadata Stats::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = SetCredentials_descriptor_;
-  metadata.reflection = SetCredentials_reflection_;
+  metadata.descriptor = Stats_descriptor_;
+  metadata.reflection = Stats_reflection_;
   return metadata;
 }
 
@@ -4241,124 +5890,151 @@ void SetCredentials::Swap(SetCredentials* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int Dimension::kKeyFieldNumber;
-const int Dimension::kValueFieldNumber;
+const int Metric::kNameFieldNumber;
+const int Metric::kDimensionsFieldNumber;
+const int Metric::kStatsFieldNumber;
+const int Metric::kSecondsFieldNumber;
 #endif  // !_MSC_VER
 
-Dimension::Dimension()
+Metric::Metric()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Dimension)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Metric)
 }
 
-void Dimension::InitAsDefaultInstance() {
+void Metric::InitAsDefaultInstance() {
+  stats_ = const_cast< ::aws::kinesis::protobuf::Stats*>(&::aws::kinesis::protobuf::Stats::default_instance());
 }
 
-Dimension::Dimension(const Dimension& from)
+Metric::Metric(const Metric& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Dimension)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Metric)
 }
 
-void Dimension::SharedCtor() {
+void Metric::SharedCtor() {
   ::google::protobuf::internal::GetEmptyString();
   _cached_size_ = 0;
-  key_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
-  value_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  name_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  stats_ = NULL;
+  seconds_ = GOOGLE_ULONGLONG(0);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-Dimension::~Dimension() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Dimension)
+Metric::~Metric() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Metric)
   SharedDtor();
 }
 
-void Dimension::SharedDtor() {
-  if (key_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete key_;
-  }
-  if (value_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete value_;
+void Metric::SharedDtor() {
+  if (name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete name_;
   }
   if (this != default_instance_) {
+    delete stats_;
   }
 }
 
-void Dimension::SetCachedSize(int size) const {
+void Metric::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* Dimension::descriptor() {
+const ::google::protobuf::Descriptor* Metric::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return Dimension_descriptor_;
+  return Metric_descriptor_;
 }
 
-const Dimension& Dimension::default_instance() {
+const Metric& Metric::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-Dimension* Dimension::default_instance_ = NULL;
+Metric* Metric::default_instance_ = NULL;
 
-Dimension* Dimension::New() const {
-  return new Dimension;
+Metric* Metric::New() const {
+  return new Metric;
 }
 
-void Dimension::Clear() {
-  if (_has_bits_[0 / 32] & 3) {
-    if (has_key()) {
-      if (key_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        key_->clear();
+void Metric::Clear() {
+  if (_has_bits_[0 / 32] & 13) {
+    if (has_name()) {
+      if (name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        name_->clear();
       }
     }
-    if (has_value()) {
-      if (value_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        value_->clear();
-      }
+    if (has_stats()) {
+      if (stats_ != NULL) stats_->::aws::kinesis::protobuf::Stats::Clear();
     }
+    seconds_ = GOOGLE_ULONGLONG(0);
   }
+  dimensions_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool Dimension::MergePartialFromCodedStream(
+bool Metric::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Dimension)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Metric)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // required string key = 1;
+      // required string name = 1;
       case 1: {
         if (tag == 10) {
           DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_key()));
+                input, this->mutable_name()));
           ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->key().data(), this->key().length(),
+            this->name().data(), this->name().length(),
             ::google::protobuf::internal::WireFormat::PARSE,
-            "key");
+            "name");
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(18)) goto parse_value;
+        if (input->ExpectTag(18)) goto parse_dimensions;
         break;
       }
 
-      // required string value = 2;
+      // repeated .aws.kinesis.protobuf.Dimension dimensions = 2;
       case 2: {
         if (tag == 18) {
-         parse_value:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_value()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->value().data(), this->value().length(),
-            ::google::protobuf::internal::WireFormat::PARSE,
-            "value");
+         parse_dimensions:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_dimensions()));
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(18)) goto parse_dimensions;
+        if (input->ExpectTag(26)) goto parse_stats;
+        break;
+      }
+
+      // required .aws.kinesis.protobuf.Stats stats = 3;
+      case 3: {
+        if (tag == 26) {
+         parse_stats:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_stats()));
+        } else {
+          goto handle_unusual;
+        }
+        if (input->ExpectTag(32)) goto parse_seconds;
+        break;
+      }
+
+      // required uint64 seconds = 4;
+      case 4: {
+        if (tag == 32) {
+         parse_seconds:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &seconds_)));
+          set_has_seconds();
         } else {
           goto handle_unusual;
         }
@@ -4380,96 +6056,126 @@ bool Dimension::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Dimension)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Metric)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Dimension)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Metric)
   return false;
 #undef DO_
 }
 
-void Dimension::SerializeWithCachedSizes(
+void Metric::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Dimension)
-  // required string key = 1;
-  if (has_key()) {
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Metric)
+  // required string name = 1;
+  if (has_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->key().data(), this->key().length(),
+      this->name().data(), this->name().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "key");
+      "name");
     ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      1, this->key(), output);
+      1, this->name(), output);
   }
 
-  // required string value = 2;
-  if (has_value()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->value().data(), this->value().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "value");
-    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      2, this->value(), output);
+  // repeated .aws.kinesis.protobuf.Dimension dimensions = 2;
+  for (int i = 0; i < this->dimensions_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->dimensions(i), output);
+  }
+
+  // required .aws.kinesis.protobuf.Stats stats = 3;
+  if (has_stats()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->stats(), output);
+  }
+
+  // required uint64 seconds = 4;
+  if (has_seconds()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(4, this->seconds(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Dimension)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Metric)
 }
 
-::google::protobuf::uint8* Dimension::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* Metric::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Dimension)
-  // required string key = 1;
-  if (has_key()) {
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Metric)
+  // required string name = 1;
+  if (has_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->key().data(), this->key().length(),
+      this->name().data(), this->name().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "key");
+      "name");
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->key(), target);
+        1, this->name(), target);
   }
 
-  // required string value = 2;
-  if (has_value()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->value().data(), this->value().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "value");
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        2, this->value(), target);
+  // repeated .aws.kinesis.protobuf.Dimension dimensions = 2;
+  for (int i = 0; i < this->dimensions_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->dimensions(i), target);
+  }
+
+  // required .aws.kinesis.protobuf.Stats stats = 3;
+  if (has_stats()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->stats(), target);
+  }
+
+  // required uint64 seconds = 4;
+  if (has_seconds()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(4, this->seconds(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Dimension)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Metric)
   return target;
 }
 
-int Dimension::ByteSize() const {
+int Metric::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // required string key = 1;
-    if (has_key()) {
+    // required string name = 1;
+    if (has_name()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->key());
+          this->name());
     }
 
-    // required string value = 2;
-    if (has_value()) {
+    // required .aws.kinesis.protobuf.Stats stats = 3;
+    if (has_stats()) {
       total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->value());
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->stats());
+    }
+
+    // required uint64 seconds = 4;
+    if (has_seconds()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->seconds());
     }
 
   }
+  // repeated .aws.kinesis.protobuf.Dimension dimensions = 2;
+  total_size += 1 * this->dimensions_size();
+  for (int i = 0; i < this->dimensions_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->dimensions(i));
+  }
+
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -4481,10 +6187,10 @@ int Dimension::ByteSize() const {
   return total_size;
 }
 
-void Dimension::MergeFrom(const ::google::protobuf::Message& from) {
+void Metric::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const Dimension* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const Dimension*>(
+  const Metric* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Metric*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -4493,52 +6199,62 @@ void Dimension::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void Dimension::MergeFrom(const Dimension& from) {
+void Metric::MergeFrom(const Metric& from) {
   GOOGLE_CHECK_NE(&from, this);
+  dimensions_.MergeFrom(from.dimensions_);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_key()) {
-      set_key(from.key());
+    if (from.has_name()) {
+      set_name(from.name());
     }
-    if (from.has_value()) {
-      set_value(from.value());
+    if (from.has_stats()) {
+      mutable_stats()->::aws::kinesis::protobuf::Stats::MergeFrom(from.stats());
+    }
+    if (from.has_seconds()) {
+      set_seconds(from.seconds());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void Dimension::CopyFrom(const ::google::protobuf::Message& from) {
+void Metric::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void Dimension::CopyFrom(const Dimension& from) {
+void Metric::CopyFrom(const Metric& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool Dimension::IsInitialized() const {
-  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+bool Metric::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000000d) != 0x0000000d) return false;
 
+  if (!::google::protobuf::internal::AllAreInitialized(this->dimensions())) return false;
+  if (has_stats()) {
+    if (!this->stats().IsInitialized()) return false;
+  }
   return true;
 }
 
-void Dimension::Swap(Dimension* other) {
+void Metric::Swap(Metric* other) {
   if (other != this) {
-    std::swap(key_, other->key_);
-    std::swap(value_, other->value_);
+    std::swap(name_, other->name_);
+    dimensions_.Swap(&other->dimensions_);
+    std::swap(stats_, other->stats_);
+    std::swap(seconds_, other->seconds_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata Dimension::GetMetadata() const {
+::google::protobuf::Metadata Metric::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = Dimension_descriptor_;
-  metadata.reflection = Dimension_reflection_;
+  metadata.descriptor = Metric_descriptor_;
+  metadata.reflection = Metric_reflection_;
   return metadata;
 }
 
@@ -4546,73 +6262,73 @@ void Dimension::Swap(Dimension* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int Stats::kCountFieldNumber;
-const int Stats::kSumFieldNumber;
-const int Stats::kMeanFieldNumber;
-const int Stats::kMinFieldNumber;
-const int Stats::kMaxFieldNumber;
+const int MetricsRequest::kNameFieldNumber;
+const int MetricsRequest::kSecondsFieldNumber;
+const int MetricsRequest::kSnapshotIntervalFieldNumber;
 #endif  // !_MSC_VER
 
-Stats::Stats()
+MetricsRequest::MetricsRequest()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Stats)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.MetricsRequest)
 }
 
-void Stats::InitAsDefaultInstance() {
+void MetricsRequest::InitAsDefaultInstance() {
 }
 
-Stats::Stats(const Stats& from)
+MetricsRequest::MetricsRequest(const MetricsRequest& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Stats)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.MetricsRequest)
 }
 
-void Stats::SharedCtor() {
-  _cached_size_ = 0;
-  count_ = 0;
-  sum_ = 0;
-  mean_ = 0;
-  min_ = 0;
-  max_ = 0;
+void MetricsRequest::SharedCtor() {
+  ::google::protobuf::internal::GetEmptyString();
+  _cached_size_ = 0;
+  name_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  seconds_ = GOOGLE_ULONGLONG(0);
+  snapshot_interval_ = GOOGLE_ULONGLONG(0);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-Stats::~Stats() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Stats)
+MetricsRequest::~MetricsRequest() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.MetricsRequest)
   SharedDtor();
 }
 
-void Stats::SharedDtor() {
+void MetricsRequest::SharedDtor() {
+  if (name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete name_;
+  }
   if (this != default_instance_) {
   }
 }
 
-void Stats::SetCachedSize(int size) const {
+void MetricsRequest::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* Stats::descriptor() {
+const ::google::protobuf::Descriptor* MetricsRequest::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return Stats_descriptor_;
+  return MetricsRequest_descriptor_;
 }
 
-const Stats& Stats::default_instance() {
+const MetricsRequest& MetricsRequest::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-Stats* Stats::default_instance_ = NULL;
+MetricsRequest* MetricsRequest::default_instance_ = NULL;
 
-Stats* Stats::New() const {
-  return new Stats;
+MetricsRequest* MetricsRequest::New() const {
+  return new MetricsRequest;
 }
 
-void Stats::Clear() {
+void MetricsRequest::Clear() {
 #define OFFSET_OF_FIELD_(f) (reinterpret_cast<char*>(      \
-  &reinterpret_cast<Stats*>(16)->f) - \
+  &reinterpret_cast<MetricsRequest*>(16)->f) - \
    reinterpret_cast<char*>(16))
 
 #define ZR_(first, last) do {                              \
@@ -4621,8 +6337,13 @@ void Stats::Clear() {
     ::memset(&first, 0, n);                                \
   } while (0)
 
-  if (_has_bits_[0 / 32] & 31) {
-    ZR_(count_, max_);
+  if (_has_bits_[0 / 32] & 7) {
+    ZR_(seconds_, snapshot_interval_);
+    if (has_name()) {
+      if (name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+        name_->clear();
+      }
+    }
   }
 
 #undef OFFSET_OF_FIELD_
@@ -4632,83 +6353,55 @@ void Stats::Clear() {
   mutable_unknown_fields()->Clear();
 }
 
-bool Stats::MergePartialFromCodedStream(
+bool MetricsRequest::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Stats)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.MetricsRequest)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // required double count = 1;
+      // optional string name = 1;
       case 1: {
-        if (tag == 9) {
-          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
-                 input, &count_)));
-          set_has_count();
+        if (tag == 10) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+            this->name().data(), this->name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE,
+            "name");
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(17)) goto parse_sum;
+        if (input->ExpectTag(16)) goto parse_seconds;
         break;
       }
 
-      // required double sum = 2;
+      // optional uint64 seconds = 2;
       case 2: {
-        if (tag == 17) {
-         parse_sum:
+        if (tag == 16) {
+         parse_seconds:
           DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
-                 input, &sum_)));
-          set_has_sum();
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &seconds_)));
+          set_has_seconds();
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(25)) goto parse_mean;
+        if (input->ExpectTag(24)) goto parse_snapshot_interval;
         break;
       }
 
-      // required double mean = 3;
+      // optional uint64 snapshot_interval = 3;
       case 3: {
-        if (tag == 25) {
-         parse_mean:
-          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
-                 input, &mean_)));
-          set_has_mean();
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(33)) goto parse_min;
-        break;
-      }
-
-      // required double min = 4;
-      case 4: {
-        if (tag == 33) {
-         parse_min:
-          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
-                 input, &min_)));
-          set_has_min();
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(41)) goto parse_max;
-        break;
-      }
-
-      // required double max = 5;
-      case 5: {
-        if (tag == 41) {
-         parse_max:
+        if (tag == 24) {
+         parse_snapshot_interval:
           DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   double, ::google::protobuf::internal::WireFormatLite::TYPE_DOUBLE>(
-                 input, &max_)));
-          set_has_max();
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
+                 input, &snapshot_interval_)));
+          set_has_snapshot_interval();
         } else {
           goto handle_unusual;
         }
@@ -4730,112 +6423,99 @@ bool Stats::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Stats)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.MetricsRequest)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Stats)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.MetricsRequest)
   return false;
 #undef DO_
 }
 
-void Stats::SerializeWithCachedSizes(
+void MetricsRequest::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Stats)
-  // required double count = 1;
-  if (has_count()) {
-    ::google::protobuf::internal::WireFormatLite::WriteDouble(1, this->count(), output);
-  }
-
-  // required double sum = 2;
-  if (has_sum()) {
-    ::google::protobuf::internal::WireFormatLite::WriteDouble(2, this->sum(), output);
-  }
-
-  // required double mean = 3;
-  if (has_mean()) {
-    ::google::protobuf::internal::WireFormatLite::WriteDouble(3, this->mean(), output);
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.MetricsRequest)
+  // optional string name = 1;
+  if (has_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->name().data(), this->name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "name");
+    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
+      1, this->name(), output);
   }
 
-  // required double min = 4;
-  if (has_min()) {
-    ::google::protobuf::internal::WireFormatLite::WriteDouble(4, this->min(), output);
+  // optional uint64 seconds = 2;
+  if (has_seconds()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(2, this->seconds(), output);
   }
 
-  // required double max = 5;
-  if (has_max()) {
-    ::google::protobuf::internal::WireFormatLite::WriteDouble(5, this->max(), output);
+  // optional uint64 snapshot_interval = 3;
+  if (has_snapshot_interval()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt64(3, this->snapshot_interval(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Stats)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.MetricsRequest)
 }
 
-::google::protobuf::uint8* Stats::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* MetricsRequest::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Stats)
-  // required double count = 1;
-  if (has_count()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(1, this->count(), target);
-  }
-
-  // required double sum = 2;
-  if (has_sum()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(2, this->sum(), target);
-  }
-
-  // required double mean = 3;
-  if (has_mean()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(3, this->mean(), target);
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.MetricsRequest)
+  // optional string name = 1;
+  if (has_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
+      this->name().data(), this->name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE,
+      "name");
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->name(), target);
   }
 
-  // required double min = 4;
-  if (has_min()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(4, this->min(), target);
+  // optional uint64 seconds = 2;
+  if (has_seconds()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(2, this->seconds(), target);
   }
 
-  // required double max = 5;
-  if (has_max()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteDoubleToArray(5, this->max(), target);
+  // optional uint64 snapshot_interval = 3;
+  if (has_snapshot_interval()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(3, this->snapshot_interval(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Stats)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.MetricsRequest)
   return target;
 }
 
-int Stats::ByteSize() const {
+int MetricsRequest::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // required double count = 1;
-    if (has_count()) {
-      total_size += 1 + 8;
-    }
-
-    // required double sum = 2;
-    if (has_sum()) {
-      total_size += 1 + 8;
-    }
-
-    // required double mean = 3;
-    if (has_mean()) {
-      total_size += 1 + 8;
+    // optional string name = 1;
+    if (has_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->name());
     }
 
-    // required double min = 4;
-    if (has_min()) {
-      total_size += 1 + 8;
+    // optional uint64 seconds = 2;
+    if (has_seconds()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->seconds());
     }
 
-    // required double max = 5;
-    if (has_max()) {
-      total_size += 1 + 8;
+    // optional uint64 snapshot_interval = 3;
+    if (has_snapshot_interval()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt64Size(
+          this->snapshot_interval());
     }
 
   }
@@ -4850,10 +6530,10 @@ int Stats::ByteSize() const {
   return total_size;
 }
 
-void Stats::MergeFrom(const ::google::protobuf::Message& from) {
+void MetricsRequest::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const Stats* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const Stats*>(
+  const MetricsRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const MetricsRequest*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -4862,64 +6542,55 @@ void Stats::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void Stats::MergeFrom(const Stats& from) {
+void MetricsRequest::MergeFrom(const MetricsRequest& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_count()) {
-      set_count(from.count());
-    }
-    if (from.has_sum()) {
-      set_sum(from.sum());
-    }
-    if (from.has_mean()) {
-      set_mean(from.mean());
+    if (from.has_name()) {
+      set_name(from.name());
     }
-    if (from.has_min()) {
-      set_min(from.min());
+    if (from.has_seconds()) {
+      set_seconds(from.seconds());
     }
-    if (from.has_max()) {
-      set_max(from.max());
+    if (from.has_snapshot_interval()) {
+      set_snapshot_interval(from.snapshot_interval());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void Stats::CopyFrom(const ::google::protobuf::Message& from) {
+void MetricsRequest::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void Stats::CopyFrom(const Stats& from) {
+void MetricsRequest::CopyFrom(const MetricsRequest& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool Stats::IsInitialized() const {
-  if ((_has_bits_[0] & 0x0000001f) != 0x0000001f) return false;
+bool MetricsRequest::IsInitialized() const {
 
   return true;
 }
 
-void Stats::Swap(Stats* other) {
+void MetricsRequest::Swap(MetricsRequest* other) {
   if (other != this) {
-    std::swap(count_, other->count_);
-    std::swap(sum_, other->sum_);
-    std::swap(mean_, other->mean_);
-    std::swap(min_, other->min_);
-    std::swap(max_, other->max_);
+    std::swap(name_, other->name_);
+    std::swap(seconds_, other->seconds_);
+    std::swap(snapshot_interval_, other->snapshot_interval_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata Stats::GetMetadata() const {
+::google::protobuf::Metadata MetricsRequest::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = Stats_descriptor_;
-  metadata.reflection = Stats_reflection_;
+  metadata.descriptor = MetricsRequest_descriptor_;
+  metadata.reflection = MetricsRequest_reflection_;
   return metadata;
 }
 
@@ -4927,154 +6598,87 @@ void Stats::Swap(Stats* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int Metric::kNameFieldNumber;
-const int Metric::kDimensionsFieldNumber;
-const int Metric::kStatsFieldNumber;
-const int Metric::kSecondsFieldNumber;
+const int MetricsResponse::kMetricsFieldNumber;
 #endif  // !_MSC_VER
 
-Metric::Metric()
+MetricsResponse::MetricsResponse()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Metric)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.MetricsResponse)
 }
 
-void Metric::InitAsDefaultInstance() {
-  stats_ = const_cast< ::aws::kinesis::protobuf::Stats*>(&::aws::kinesis::protobuf::Stats::default_instance());
+void MetricsResponse::InitAsDefaultInstance() {
 }
 
-Metric::Metric(const Metric& from)
+MetricsResponse::MetricsResponse(const MetricsResponse& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Metric)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.MetricsResponse)
 }
 
-void Metric::SharedCtor() {
-  ::google::protobuf::internal::GetEmptyString();
+void MetricsResponse::SharedCtor() {
   _cached_size_ = 0;
-  name_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
-  stats_ = NULL;
-  seconds_ = GOOGLE_ULONGLONG(0);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-Metric::~Metric() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Metric)
+MetricsResponse::~MetricsResponse() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.MetricsResponse)
   SharedDtor();
 }
 
-void Metric::SharedDtor() {
-  if (name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete name_;
-  }
+void MetricsResponse::SharedDtor() {
   if (this != default_instance_) {
-    delete stats_;
   }
 }
 
-void Metric::SetCachedSize(int size) const {
+void MetricsResponse::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* Metric::descriptor() {
+const ::google::protobuf::Descriptor* MetricsResponse::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return Metric_descriptor_;
+  return MetricsResponse_descriptor_;
 }
 
-const Metric& Metric::default_instance() {
+const MetricsResponse& MetricsResponse::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-Metric* Metric::default_instance_ = NULL;
+MetricsResponse* MetricsResponse::default_instance_ = NULL;
 
-Metric* Metric::New() const {
-  return new Metric;
+MetricsResponse* MetricsResponse::New() const {
+  return new MetricsResponse;
 }
 
-void Metric::Clear() {
-  if (_has_bits_[0 / 32] & 13) {
-    if (has_name()) {
-      if (name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        name_->clear();
-      }
-    }
-    if (has_stats()) {
-      if (stats_ != NULL) stats_->::aws::kinesis::protobuf::Stats::Clear();
-    }
-    seconds_ = GOOGLE_ULONGLONG(0);
-  }
-  dimensions_.Clear();
+void MetricsResponse::Clear() {
+  metrics_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool Metric::MergePartialFromCodedStream(
+bool MetricsResponse::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Metric)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.MetricsResponse)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // required string name = 1;
+      // repeated .aws.kinesis.protobuf.Metric metrics = 1;
       case 1: {
         if (tag == 10) {
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_name()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->name().data(), this->name().length(),
-            ::google::protobuf::internal::WireFormat::PARSE,
-            "name");
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(18)) goto parse_dimensions;
-        break;
-      }
-
-      // repeated .aws.kinesis.protobuf.Dimension dimensions = 2;
-      case 2: {
-        if (tag == 18) {
-         parse_dimensions:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-                input, add_dimensions()));
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(18)) goto parse_dimensions;
-        if (input->ExpectTag(26)) goto parse_stats;
-        break;
-      }
-
-      // required .aws.kinesis.protobuf.Stats stats = 3;
-      case 3: {
-        if (tag == 26) {
-         parse_stats:
+         parse_metrics:
           DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-               input, mutable_stats()));
-        } else {
-          goto handle_unusual;
-        }
-        if (input->ExpectTag(32)) goto parse_seconds;
-        break;
-      }
-
-      // required uint64 seconds = 4;
-      case 4: {
-        if (tag == 32) {
-         parse_seconds:
-          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
-                 input, &seconds_)));
-          set_has_seconds();
+                input, add_metrics()));
         } else {
           goto handle_unusual;
         }
+        if (input->ExpectTag(10)) goto parse_metrics;
         if (input->ExpectAtEnd()) goto success;
         break;
       }
@@ -5093,124 +6697,57 @@ bool Metric::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Metric)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.MetricsResponse)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Metric)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.MetricsResponse)
   return false;
 #undef DO_
 }
 
-void Metric::SerializeWithCachedSizes(
+void MetricsResponse::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Metric)
-  // required string name = 1;
-  if (has_name()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->name().data(), this->name().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "name");
-    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      1, this->name(), output);
-  }
-
-  // repeated .aws.kinesis.protobuf.Dimension dimensions = 2;
-  for (int i = 0; i < this->dimensions_size(); i++) {
-    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      2, this->dimensions(i), output);
-  }
-
-  // required .aws.kinesis.protobuf.Stats stats = 3;
-  if (has_stats()) {
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.MetricsResponse)
+  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
+  for (int i = 0; i < this->metrics_size(); i++) {
     ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      3, this->stats(), output);
-  }
-
-  // required uint64 seconds = 4;
-  if (has_seconds()) {
-    ::google::protobuf::internal::WireFormatLite::WriteUInt64(4, this->seconds(), output);
+      1, this->metrics(i), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Metric)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.MetricsResponse)
 }
 
-::google::protobuf::uint8* Metric::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* MetricsResponse::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Metric)
-  // required string name = 1;
-  if (has_name()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->name().data(), this->name().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "name");
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->name(), target);
-  }
-
-  // repeated .aws.kinesis.protobuf.Dimension dimensions = 2;
-  for (int i = 0; i < this->dimensions_size(); i++) {
-    target = ::google::protobuf::internal::WireFormatLite::
-      WriteMessageNoVirtualToArray(
-        2, this->dimensions(i), target);
-  }
-
-  // required .aws.kinesis.protobuf.Stats stats = 3;
-  if (has_stats()) {
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.MetricsResponse)
+  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
+  for (int i = 0; i < this->metrics_size(); i++) {
     target = ::google::protobuf::internal::WireFormatLite::
       WriteMessageNoVirtualToArray(
-        3, this->stats(), target);
-  }
-
-  // required uint64 seconds = 4;
-  if (has_seconds()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(4, this->seconds(), target);
+        1, this->metrics(i), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Metric)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.MetricsResponse)
   return target;
 }
 
-int Metric::ByteSize() const {
+int MetricsResponse::ByteSize() const {
   int total_size = 0;
 
-  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // required string name = 1;
-    if (has_name()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->name());
-    }
-
-    // required .aws.kinesis.protobuf.Stats stats = 3;
-    if (has_stats()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-          this->stats());
-    }
-
-    // required uint64 seconds = 4;
-    if (has_seconds()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::UInt64Size(
-          this->seconds());
-    }
-
-  }
-  // repeated .aws.kinesis.protobuf.Dimension dimensions = 2;
-  total_size += 1 * this->dimensions_size();
-  for (int i = 0; i < this->dimensions_size(); i++) {
+  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
+  total_size += 1 * this->metrics_size();
+  for (int i = 0; i < this->metrics_size(); i++) {
     total_size +=
       ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-        this->dimensions(i));
+        this->metrics(i));
   }
 
   if (!unknown_fields().empty()) {
@@ -5224,74 +6761,56 @@ int Metric::ByteSize() const {
   return total_size;
 }
 
-void Metric::MergeFrom(const ::google::protobuf::Message& from) {
-  GOOGLE_CHECK_NE(&from, this);
-  const Metric* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const Metric*>(
-      &from);
-  if (source == NULL) {
-    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
-  } else {
-    MergeFrom(*source);
-  }
-}
-
-void Metric::MergeFrom(const Metric& from) {
+void MetricsResponse::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  dimensions_.MergeFrom(from.dimensions_);
-  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_name()) {
-      set_name(from.name());
-    }
-    if (from.has_stats()) {
-      mutable_stats()->::aws::kinesis::protobuf::Stats::MergeFrom(from.stats());
-    }
-    if (from.has_seconds()) {
-      set_seconds(from.seconds());
-    }
+  const MetricsResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const MetricsResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
   }
+}
+
+void MetricsResponse::MergeFrom(const MetricsResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  metrics_.MergeFrom(from.metrics_);
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void Metric::CopyFrom(const ::google::protobuf::Message& from) {
+void MetricsResponse::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void Metric::CopyFrom(const Metric& from) {
+void MetricsResponse::CopyFrom(const MetricsResponse& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool Metric::IsInitialized() const {
-  if ((_has_bits_[0] & 0x0000000d) != 0x0000000d) return false;
+bool MetricsResponse::IsInitialized() const {
 
-  if (!::google::protobuf::internal::AllAreInitialized(this->dimensions())) return false;
-  if (has_stats()) {
-    if (!this->stats().IsInitialized()) return false;
-  }
+  if (!::google::protobuf::internal::AllAreInitialized(this->metrics())) return false;
   return true;
 }
 
-void Metric::Swap(Metric* other) {
+void MetricsResponse::Swap(MetricsResponse* other) {
   if (other != this) {
-    std::swap(name_, other->name_);
-    dimensions_.Swap(&other->dimensions_);
-    std::swap(stats_, other->stats_);
-    std::swap(seconds_, other->seconds_);
+    metrics_.Swap(&other->metrics_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata Metric::GetMetadata() const {
+::google::protobuf::Metadata MetricsResponse::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = Metric_descriptor_;
-  metadata.reflection = Metric_reflection_;
+  metadata.descriptor = MetricsResponse_descriptor_;
+  metadata.reflection = MetricsResponse_reflection_;
   return metadata;
 }
 
@@ -5299,115 +6818,102 @@ void Metric::Swap(Metric* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int MetricsRequest::kNameFieldNumber;
-const int MetricsRequest::kSecondsFieldNumber;
+const int MetricsSnapshot::kMetricsFieldNumber;
+const int MetricsSnapshot::kFullFieldNumber;
 #endif  // !_MSC_VER
 
-MetricsRequest::MetricsRequest()
+MetricsSnapshot::MetricsSnapshot()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.MetricsRequest)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.MetricsSnapshot)
 }
 
-void MetricsRequest::InitAsDefaultInstance() {
+void MetricsSnapshot::InitAsDefaultInstance() {
 }
 
-MetricsRequest::MetricsRequest(const MetricsRequest& from)
+MetricsSnapshot::MetricsSnapshot(const MetricsSnapshot& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.MetricsRequest)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.MetricsSnapshot)
 }
 
-void MetricsRequest::SharedCtor() {
-  ::google::protobuf::internal::GetEmptyString();
+void MetricsSnapshot::SharedCtor() {
   _cached_size_ = 0;
-  name_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
-  seconds_ = GOOGLE_ULONGLONG(0);
+  full_ = false;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-MetricsRequest::~MetricsRequest() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.MetricsRequest)
+MetricsSnapshot::~MetricsSnapshot() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.MetricsSnapshot)
   SharedDtor();
 }
 
-void MetricsRequest::SharedDtor() {
-  if (name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-    delete name_;
-  }
+void MetricsSnapshot::SharedDtor() {
   if (this != default_instance_) {
   }
 }
 
-void MetricsRequest::SetCachedSize(int size) const {
+void MetricsSnapshot::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* MetricsRequest::descriptor() {
+const ::google::protobuf::Descriptor* MetricsSnapshot::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return MetricsRequest_descriptor_;
+  return MetricsSnapshot_descriptor_;
 }
 
-const MetricsRequest& MetricsRequest::default_instance() {
+const MetricsSnapshot& MetricsSnapshot::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-MetricsRequest* MetricsRequest::default_instance_ = NULL;
+MetricsSnapshot* MetricsSnapshot::default_instance_ = NULL;
 
-MetricsRequest* MetricsRequest::New() const {
-  return new MetricsRequest;
+MetricsSnapshot* MetricsSnapshot::New() const {
+  return new MetricsSnapshot;
 }
 
-void MetricsRequest::Clear() {
-  if (_has_bits_[0 / 32] & 3) {
-    if (has_name()) {
-      if (name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
-        name_->clear();
-      }
-    }
-    seconds_ = GOOGLE_ULONGLONG(0);
-  }
+void MetricsSnapshot::Clear() {
+  full_ = false;
+  metrics_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool MetricsRequest::MergePartialFromCodedStream(
+bool MetricsSnapshot::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.MetricsRequest)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.MetricsSnapshot)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // optional string name = 1;
+      // repeated .aws.kinesis.protobuf.Metric metrics = 1;
       case 1: {
         if (tag == 10) {
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_name()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-            this->name().data(), this->name().length(),
-            ::google::protobuf::internal::WireFormat::PARSE,
-            "name");
+         parse_metrics:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_metrics()));
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(16)) goto parse_seconds;
+        if (input->ExpectTag(10)) goto parse_metrics;
+        if (input->ExpectTag(16)) goto parse_full;
         break;
       }
 
-      // optional uint64 seconds = 2;
+      // optional bool full = 2;
       case 2: {
         if (tag == 16) {
-         parse_seconds:
+         parse_full:
           DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_UINT64>(
-                 input, &seconds_)));
-          set_has_seconds();
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &full_)));
+          set_has_full();
         } else {
           goto handle_unusual;
         }
@@ -5429,85 +6935,76 @@ bool MetricsRequest::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.MetricsRequest)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.MetricsSnapshot)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.MetricsRequest)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.MetricsSnapshot)
   return false;
 #undef DO_
 }
 
-void MetricsRequest::SerializeWithCachedSizes(
+void MetricsSnapshot::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.MetricsRequest)
-  // optional string name = 1;
-  if (has_name()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->name().data(), this->name().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "name");
-    ::google::protobuf::internal::WireFormatLite::WriteStringMaybeAliased(
-      1, this->name(), output);
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.MetricsSnapshot)
+  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
+  for (int i = 0; i < this->metrics_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->metrics(i), output);
   }
 
-  // optional uint64 seconds = 2;
-  if (has_seconds()) {
-    ::google::protobuf::internal::WireFormatLite::WriteUInt64(2, this->seconds(), output);
+  // optional bool full = 2;
+  if (has_full()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->full(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.MetricsRequest)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.MetricsSnapshot)
 }
 
-::google::protobuf::uint8* MetricsRequest::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* MetricsSnapshot::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.MetricsRequest)
-  // optional string name = 1;
-  if (has_name()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8StringNamedField(
-      this->name().data(), this->name().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE,
-      "name");
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->name(), target);
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.MetricsSnapshot)
+  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
+  for (int i = 0; i < this->metrics_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->metrics(i), target);
   }
 
-  // optional uint64 seconds = 2;
-  if (has_seconds()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteUInt64ToArray(2, this->seconds(), target);
+  // optional bool full = 2;
+  if (has_full()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->full(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.MetricsRequest)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.MetricsSnapshot)
   return target;
 }
 
-int MetricsRequest::ByteSize() const {
+int MetricsSnapshot::ByteSize() const {
   int total_size = 0;
 
-  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // optional string name = 1;
-    if (has_name()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->name());
-    }
-
-    // optional uint64 seconds = 2;
-    if (has_seconds()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::UInt64Size(
-          this->seconds());
+  if (_has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    // optional bool full = 2;
+    if (has_full()) {
+      total_size += 1 + 1;
     }
 
   }
+  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
+  total_size += 1 * this->metrics_size();
+  for (int i = 0; i < this->metrics_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->metrics(i));
+  }
+
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -5519,10 +7016,10 @@ int MetricsRequest::ByteSize() const {
   return total_size;
 }
 
-void MetricsRequest::MergeFrom(const ::google::protobuf::Message& from) {
+void MetricsSnapshot::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const MetricsRequest* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const MetricsRequest*>(
+  const MetricsSnapshot* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const MetricsSnapshot*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -5531,51 +7028,50 @@ void MetricsRequest::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void MetricsRequest::MergeFrom(const MetricsRequest& from) {
+void MetricsSnapshot::MergeFrom(const MetricsSnapshot& from) {
   GOOGLE_CHECK_NE(&from, this);
-  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_name()) {
-      set_name(from.name());
-    }
-    if (from.has_seconds()) {
-      set_seconds(from.seconds());
+  metrics_.MergeFrom(from.metrics_);
+  if (from._has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    if (from.has_full()) {
+      set_full(from.full());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void MetricsRequest::CopyFrom(const ::google::protobuf::Message& from) {
+void MetricsSnapshot::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void MetricsRequest::CopyFrom(const MetricsRequest& from) {
+void MetricsSnapshot::CopyFrom(const MetricsSnapshot& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool MetricsRequest::IsInitialized() const {
+bool MetricsSnapshot::IsInitialized() const {
 
+  if (!::google::protobuf::internal::AllAreInitialized(this->metrics())) return false;
   return true;
 }
 
-void MetricsRequest::Swap(MetricsRequest* other) {
+void MetricsSnapshot::Swap(MetricsSnapshot* other) {
   if (other != this) {
-    std::swap(name_, other->name_);
-    std::swap(seconds_, other->seconds_);
+    metrics_.Swap(&other->metrics_);
+    std::swap(full_, other->full_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata MetricsRequest::GetMetadata() const {
+::google::protobuf::Metadata MetricsSnapshot::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = MetricsRequest_descriptor_;
-  metadata.reflection = MetricsRequest_reflection_;
+  metadata.descriptor = MetricsSnapshot_descriptor_;
+  metadata.reflection = MetricsSnapshot_reflection_;
   return metadata;
 }
 
@@ -5583,87 +7079,88 @@ void MetricsRequest::Swap(MetricsRequest* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int MetricsResponse::kMetricsFieldNumber;
+const int Handshake::kProtocolVersionFieldNumber;
 #endif  // !_MSC_VER
 
-MetricsResponse::MetricsResponse()
+Handshake::Handshake()
   : ::google::protobuf::Message() {
   SharedCtor();
-  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.MetricsResponse)
+  // @@protoc_insertion_point(constructor:aws.kinesis.protobuf.Handshake)
 }
 
-void MetricsResponse::InitAsDefaultInstance() {
+void Handshake::InitAsDefaultInstance() {
 }
 
-MetricsResponse::MetricsResponse(const MetricsResponse& from)
+Handshake::Handshake(const Handshake& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
-  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.MetricsResponse)
+  // @@protoc_insertion_point(copy_constructor:aws.kinesis.protobuf.Handshake)
 }
 
-void MetricsResponse::SharedCtor() {
+void Handshake::SharedCtor() {
   _cached_size_ = 0;
+  protocol_version_ = 0u;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-MetricsResponse::~MetricsResponse() {
-  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.MetricsResponse)
+Handshake::~Handshake() {
+  // @@protoc_insertion_point(destructor:aws.kinesis.protobuf.Handshake)
   SharedDtor();
 }
 
-void MetricsResponse::SharedDtor() {
+void Handshake::SharedDtor() {
   if (this != default_instance_) {
   }
 }
 
-void MetricsResponse::SetCachedSize(int size) const {
+void Handshake::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* MetricsResponse::descriptor() {
+const ::google::protobuf::Descriptor* Handshake::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return MetricsResponse_descriptor_;
+  return Handshake_descriptor_;
 }
 
-const MetricsResponse& MetricsResponse::default_instance() {
+const Handshake& Handshake::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_messages_2eproto();
   return *default_instance_;
 }
 
-MetricsResponse* MetricsResponse::default_instance_ = NULL;
+Handshake* Handshake::default_instance_ = NULL;
 
-MetricsResponse* MetricsResponse::New() const {
-  return new MetricsResponse;
+Handshake* Handshake::New() const {
+  return new Handshake;
 }
 
-void MetricsResponse::Clear() {
-  metrics_.Clear();
+void Handshake::Clear() {
+  protocol_version_ = 0u;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool MetricsResponse::MergePartialFromCodedStream(
+bool Handshake::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) goto failure
   ::google::protobuf::uint32 tag;
-  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.MetricsResponse)
+  // @@protoc_insertion_point(parse_start:aws.kinesis.protobuf.Handshake)
   for (;;) {
     ::std::pair< ::google::protobuf::uint32, bool> p = input->ReadTagWithCutoff(127);
     tag = p.first;
     if (!p.second) goto handle_unusual;
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // repeated .aws.kinesis.protobuf.Metric metrics = 1;
+      // required uint32 protocol_version = 1;
       case 1: {
-        if (tag == 10) {
-         parse_metrics:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-                input, add_metrics()));
+        if (tag == 8) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_UINT32>(
+                 input, &protocol_version_)));
+          set_has_protocol_version();
         } else {
           goto handle_unusual;
         }
-        if (input->ExpectTag(10)) goto parse_metrics;
         if (input->ExpectAtEnd()) goto success;
         break;
       }
@@ -5682,59 +7179,57 @@ bool MetricsResponse::MergePartialFromCodedStream(
     }
   }
 success:
-  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.MetricsResponse)
+  // @@protoc_insertion_point(parse_success:aws.kinesis.protobuf.Handshake)
   return true;
 failure:
-  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.MetricsResponse)
+  // @@protoc_insertion_point(parse_failure:aws.kinesis.protobuf.Handshake)
   return false;
 #undef DO_
 }
 
-void MetricsResponse::SerializeWithCachedSizes(
+void Handshake::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.MetricsResponse)
-  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
-  for (int i = 0; i < this->metrics_size(); i++) {
-    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      1, this->metrics(i), output);
+  // @@protoc_insertion_point(serialize_start:aws.kinesis.protobuf.Handshake)
+  // required uint32 protocol_version = 1;
+  if (has_protocol_version()) {
+    ::google::protobuf::internal::WireFormatLite::WriteUInt32(1, this->protocol_version(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.MetricsResponse)
+  // @@protoc_insertion_point(serialize_end:aws.kinesis.protobuf.Handshake)
 }
 
-::google::protobuf::uint8* MetricsResponse::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* Handshake::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.MetricsResponse)
-  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
-  for (int i = 0; i < this->metrics_size(); i++) {
-    target = ::google::protobuf::internal::WireFormatLite::
-      WriteMessageNoVirtualToArray(
-        1, this->metrics(i), target);
+  // @@protoc_insertion_point(serialize_to_array_start:aws.kinesis.protobuf.Handshake)
+  // required uint32 protocol_version = 1;
+  if (has_protocol_version()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteUInt32ToArray(1, this->protocol_version(), target);
   }
 
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
   }
-  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.MetricsResponse)
+  // @@protoc_insertion_point(serialize_to_array_end:aws.kinesis.protobuf.Handshake)
   return target;
 }
 
-int MetricsResponse::ByteSize() const {
+int Handshake::ByteSize() const {
   int total_size = 0;
 
-  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
-  total_size += 1 * this->metrics_size();
-  for (int i = 0; i < this->metrics_size(); i++) {
-    total_size +=
-      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-        this->metrics(i));
-  }
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required uint32 protocol_version = 1;
+    if (has_protocol_version()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::UInt32Size(
+          this->protocol_version());
+    }
 
+  }
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -5746,10 +7241,10 @@ int MetricsResponse::ByteSize() const {
   return total_size;
 }
 
-void MetricsResponse::MergeFrom(const ::google::protobuf::Message& from) {
+void Handshake::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const MetricsResponse* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const MetricsResponse*>(
+  const Handshake* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const Handshake*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -5758,44 +7253,48 @@ void MetricsResponse::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void MetricsResponse::MergeFrom(const MetricsResponse& from) {
+void Handshake::MergeFrom(const Handshake& from) {
   GOOGLE_CHECK_NE(&from, this);
-  metrics_.MergeFrom(from.metrics_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_protocol_version()) {
+      set_protocol_version(from.protocol_version());
+    }
+  }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void MetricsResponse::CopyFrom(const ::google::protobuf::Message& from) {
+void Handshake::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void MetricsResponse::CopyFrom(const MetricsResponse& from) {
+void Handshake::CopyFrom(const Handshake& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool MetricsResponse::IsInitialized() const {
+bool Handshake::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
 
-  if (!::google::protobuf::internal::AllAreInitialized(this->metrics())) return false;
   return true;
 }
 
-void MetricsResponse::Swap(MetricsResponse* other) {
+void Handshake::Swap(Handshake* other) {
   if (other != this) {
-    metrics_.Swap(&other->metrics_);
+    std::swap(protocol_version_, other->protocol_version_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata MetricsResponse::GetMetadata() const {
+::google::protobuf::Metadata Handshake::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = MetricsResponse_descriptor_;
-  metadata.reflection = MetricsResponse_reflection_;
+  metadata.descriptor = Handshake_descriptor_;
+  metadata.reflection = Handshake_reflection_;
   return metadata;
 }
 
@@ -41,6 +41,8 @@ class Record;
 class AggregatedRecord;
 class Message;
 class PutRecord;
+class RegisterStream;
+class PutRecordBatch;
 class Flush;
 class Attempt;
 class PutRecordResult;
@@ -51,6 +53,8 @@ class Stats;
 class Metric;
 class MetricsRequest;
 class MetricsResponse;
+class MetricsSnapshot;
+class Handshake;
 
 // ===================================================================
 
@@ -417,6 +421,10 @@ class Message : public ::google::protobuf::Message {
     kMetricsRequest = 7,
     kMetricsResponse = 8,
     kSetCredentials = 9,
+    kRegisterStream = 10,
+    kPutRecordBatch = 11,
+    kMetricsSnapshot = 12,
+    kHandshake = 13,
     ACTUAL_MESSAGE_NOT_SET = 0,
   };
 
@@ -527,6 +535,42 @@ class Message : public ::google::protobuf::Message {
   inline ::aws::kinesis::protobuf::SetCredentials* release_set_credentials();
   inline void set_allocated_set_credentials(::aws::kinesis::protobuf::SetCredentials* set_credentials);
 
+  // optional .aws.kinesis.protobuf.RegisterStream register_stream = 10;
+  inline bool has_register_stream() const;
+  inline void clear_register_stream();
+  static const int kRegisterStreamFieldNumber = 10;
+  inline const ::aws::kinesis::protobuf::RegisterStream& register_stream() const;
+  inline ::aws::kinesis::protobuf::RegisterStream* mutable_register_stream();
+  inline ::aws::kinesis::protobuf::RegisterStream* release_register_stream();
+  inline void set_allocated_register_stream(::aws::kinesis::protobuf::RegisterStream* register_stream);
+
+  // optional .aws.kinesis.protobuf.PutRecordBatch put_record_batch = 11;
+  inline bool has_put_record_batch() const;
+  inline void clear_put_record_batch();
+  static const int kPutRecordBatchFieldNumber = 11;
+  inline const ::aws::kinesis::protobuf::PutRecordBatch& put_record_batch() const;
+  inline ::aws::kinesis::protobuf::PutRecordBatch* mutable_put_record_batch();
+  inline ::aws::kinesis::protobuf::PutRecordBatch* release_put_record_batch();
+  inline void set_allocated_put_record_batch(::aws::kinesis::protobuf::PutRecordBatch* put_record_batch);
+
+  // optional .aws.kinesis.protobuf.MetricsSnapshot metrics_snapshot = 12;
+  inline bool has_metrics_snapshot() const;
+  inline void clear_metrics_snapshot();
+  static const int kMetricsSnapshotFieldNumber = 12;
+  inline const ::aws::kinesis::protobuf::MetricsSnapshot& metrics_snapshot() const;
+  inline ::aws::kinesis::protobuf::MetricsSnapshot* mutable_metrics_snapshot();
+  inline ::aws::kinesis::protobuf::MetricsSnapshot* release_metrics_snapshot();
+  inline void set_allocated_metrics_snapshot(::aws::kinesis::protobuf::MetricsSnapshot* metrics_snapshot);
+
+  // optional .aws.kinesis.protobuf.Handshake handshake = 13;
+  inline bool has_handshake() const;
+  inline void clear_handshake();
+  static const int kHandshakeFieldNumber = 13;
+  inline const ::aws::kinesis::protobuf::Handshake& handshake() const;
+  inline ::aws::kinesis::protobuf::Handshake* mutable_handshake();
+  inline ::aws::kinesis::protobuf::Handshake* release_handshake();
+  inline void set_allocated_handshake(::aws::kinesis::protobuf::Handshake* handshake);
+
   inline ActualMessageCase actual_message_case() const;
   // @@protoc_insertion_point(class_scope:aws.kinesis.protobuf.Message)
  private:
@@ -541,6 +585,10 @@ class Message : public ::google::protobuf::Message {
   inline void set_has_metrics_request();
   inline void set_has_metrics_response();
   inline void set_has_set_credentials();
+  inline void set_has_register_stream();
+  inline void set_has_put_record_batch();
+  inline void set_has_metrics_snapshot();
+  inline void set_has_handshake();
 
   inline bool has_actual_message();
   void clear_actual_message();
@@ -560,6 +608,10 @@ class Message : public ::google::protobuf::Message {
     ::aws::kinesis::protobuf::MetricsRequest* metrics_request_;
     ::aws::kinesis::protobuf::MetricsResponse* metrics_response_;
     ::aws::kinesis::protobuf::SetCredentials* set_credentials_;
+    ::aws::kinesis::protobuf::RegisterStream* register_stream_;
+    ::aws::kinesis::protobuf::PutRecordBatch* put_record_batch_;
+    ::aws::kinesis::protobuf::MetricsSnapshot* metrics_snapshot_;
+    ::aws::kinesis::protobuf::Handshake* handshake_;
   } actual_message_;
   ::google::protobuf::uint32 _oneof_case_[1];
 
@@ -625,7 +677,7 @@ class PutRecord : public ::google::protobuf::Message {
 
   // accessors -------------------------------------------------------
 
-  // required string stream_name = 1;
+  // optional string stream_name = 1;
   inline bool has_stream_name() const;
   inline void clear_stream_name();
   static const int kStreamNameFieldNumber = 1;
@@ -673,6 +725,25 @@ class PutRecord : public ::google::protobuf::Message {
   inline ::std::string* release_data();
   inline void set_allocated_data(::std::string* data);
 
+  // optional uint32 stream_id = 5;
+  inline bool has_stream_id() const;
+  inline void clear_stream_id();
+  static const int kStreamIdFieldNumber = 5;
+  inline ::google::protobuf::uint32 stream_id() const;
+  inline void set_stream_id(::google::protobuf::uint32 value);
+
+  // optional bytes explicit_hash_key_binary = 6;
+  inline bool has_explicit_hash_key_binary() const;
+  inline void clear_explicit_hash_key_binary();
+  static const int kExplicitHashKeyBinaryFieldNumber = 6;
+  inline const ::std::string& explicit_hash_key_binary() const;
+  inline void set_explicit_hash_key_binary(const ::std::string& value);
+  inline void set_explicit_hash_key_binary(const char* value);
+  inline void set_explicit_hash_key_binary(const void* value, size_t size);
+  inline ::std::string* mutable_explicit_hash_key_binary();
+  inline ::std::string* release_explicit_hash_key_binary();
+  inline void set_allocated_explicit_hash_key_binary(::std::string* explicit_hash_key_binary);
+
   // @@protoc_insertion_point(class_scope:aws.kinesis.protobuf.PutRecord)
  private:
   inline void set_has_stream_name();
@@ -683,6 +754,10 @@ class PutRecord : public ::google::protobuf::Message {
   inline void clear_has_explicit_hash_key();
   inline void set_has_data();
   inline void clear_has_data();
+  inline void set_has_stream_id();
+  inline void clear_has_stream_id();
+  inline void set_has_explicit_hash_key_binary();
+  inline void clear_has_explicit_hash_key_binary();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -692,6 +767,8 @@ class PutRecord : public ::google::protobuf::Message {
   ::std::string* partition_key_;
   ::std::string* explicit_hash_key_;
   ::std::string* data_;
+  ::std::string* explicit_hash_key_binary_;
+  ::google::protobuf::uint32 stream_id_;
   friend void  protobuf_AddDesc_messages_2eproto();
   friend void protobuf_AssignDesc_messages_2eproto();
   friend void protobuf_ShutdownFile_messages_2eproto();
@@ -701,6 +778,196 @@ class PutRecord : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
+class RegisterStream : public ::google::protobuf::Message {
+ public:
+  RegisterStream();
+  virtual ~RegisterStream();
+
+  RegisterStream(const RegisterStream& from);
+
+  inline RegisterStream& operator=(const RegisterStream& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const RegisterStream& default_instance();
+
+  void Swap(RegisterStream* other);
+
+  // implements Message ----------------------------------------------
+
+  RegisterStream* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const RegisterStream& from);
+  void MergeFrom(const RegisterStream& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 stream_id = 1;
+  inline bool has_stream_id() const;
+  inline void clear_stream_id();
+  static const int kStreamIdFieldNumber = 1;
+  inline ::google::protobuf::uint32 stream_id() const;
+  inline void set_stream_id(::google::protobuf::uint32 value);
+
+  // required string stream_name = 2;
+  inline bool has_stream_name() const;
+  inline void clear_stream_name();
+  static const int kStreamNameFieldNumber = 2;
+  inline const ::std::string& stream_name() const;
+  inline void set_stream_name(const ::std::string& value);
+  inline void set_stream_name(const char* value);
+  inline void set_stream_name(const char* value, size_t size);
+  inline ::std::string* mutable_stream_name();
+  inline ::std::string* release_stream_name();
+  inline void set_allocated_stream_name(::std::string* stream_name);
+
+  // @@protoc_insertion_point(class_scope:aws.kinesis.protobuf.RegisterStream)
+ private:
+  inline void set_has_stream_id();
+  inline void clear_has_stream_id();
+  inline void set_has_stream_name();
+  inline void clear_has_stream_name();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 _has_bits_[1];
+  mutable int _cached_size_;
+  ::std::string* stream_name_;
+  ::google::protobuf::uint32 stream_id_;
+  friend void  protobuf_AddDesc_messages_2eproto();
+  friend void protobuf_AssignDesc_messages_2eproto();
+  friend void protobuf_ShutdownFile_messages_2eproto();
+
+  void InitAsDefaultInstance();
+  static RegisterStream* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class PutRecordBatch : public ::google::protobuf::Message {
+ public:
+  PutRecordBatch();
+  virtual ~PutRecordBatch();
+
+  PutRecordBatch(const PutRecordBatch& from);
+
+  inline PutRecordBatch& operator=(const PutRecordBatch& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const PutRecordBatch& default_instance();
+
+  void Swap(PutRecordBatch* other);
+
+  // implements Message ----------------------------------------------
+
+  PutRecordBatch* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const PutRecordBatch& from);
+  void MergeFrom(const PutRecordBatch& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .aws.kinesis.protobuf.PutRecord records = 1;
+  inline int records_size() const;
+  inline void clear_records();
+  static const int kRecordsFieldNumber = 1;
+  inline const ::aws::kinesis::protobuf::PutRecord& records(int index) const;
+  inline ::aws::kinesis::protobuf::PutRecord* mutable_records(int index);
+  inline ::aws::kinesis::protobuf::PutRecord* add_records();
+  inline const ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::PutRecord >&
+      records() const;
+  inline ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::PutRecord >*
+      mutable_records();
+
+  // repeated uint32 id_offsets = 2 [packed = true];
+  inline int id_offsets_size() const;
+  inline void clear_id_offsets();
+  static const int kIdOffsetsFieldNumber = 2;
+  inline ::google::protobuf::uint32 id_offsets(int index) const;
+  inline void set_id_offsets(int index, ::google::protobuf::uint32 value);
+  inline void add_id_offsets(::google::protobuf::uint32 value);
+  inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+      id_offsets() const;
+  inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+      mutable_id_offsets();
+
+  // @@protoc_insertion_point(class_scope:aws.kinesis.protobuf.PutRecordBatch)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 _has_bits_[1];
+  mutable int _cached_size_;
+  ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::PutRecord > records_;
+  ::google::protobuf::RepeatedField< ::google::protobuf::uint32 > id_offsets_;
+  mutable int _id_offsets_cached_byte_size_;
+  friend void  protobuf_AddDesc_messages_2eproto();
+  friend void protobuf_AssignDesc_messages_2eproto();
+  friend void protobuf_ShutdownFile_messages_2eproto();
+
+  void InitAsDefaultInstance();
+  static PutRecordBatch* default_instance_;
+};
+// -------------------------------------------------------------------
+
 class Flush : public ::google::protobuf::Message {
  public:
   Flush();
@@ -1650,12 +1917,21 @@ class MetricsRequest : public ::google::protobuf::Message {
   inline ::google::protobuf::uint64 seconds() const;
   inline void set_seconds(::google::protobuf::uint64 value);
 
+  // optional uint64 snapshot_interval = 3;
+  inline bool has_snapshot_interval() const;
+  inline void clear_snapshot_interval();
+  static const int kSnapshotIntervalFieldNumber = 3;
+  inline ::google::protobuf::uint64 snapshot_interval() const;
+  inline void set_snapshot_interval(::google::protobuf::uint64 value);
+
   // @@protoc_insertion_point(class_scope:aws.kinesis.protobuf.MetricsRequest)
  private:
   inline void set_has_name();
   inline void clear_has_name();
   inline void set_has_seconds();
   inline void clear_has_seconds();
+  inline void set_has_snapshot_interval();
+  inline void clear_has_snapshot_interval();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -1663,6 +1939,7 @@ class MetricsRequest : public ::google::protobuf::Message {
   mutable int _cached_size_;
   ::std::string* name_;
   ::google::protobuf::uint64 seconds_;
+  ::google::protobuf::uint64 snapshot_interval_;
   friend void  protobuf_AddDesc_messages_2eproto();
   friend void protobuf_AssignDesc_messages_2eproto();
   friend void protobuf_ShutdownFile_messages_2eproto();
@@ -1752,6 +2029,177 @@ class MetricsResponse : public ::google::protobuf::Message {
   void InitAsDefaultInstance();
   static MetricsResponse* default_instance_;
 };
+// -------------------------------------------------------------------
+
+class MetricsSnapshot : public ::google::protobuf::Message {
+ public:
+  MetricsSnapshot();
+  virtual ~MetricsSnapshot();
+
+  MetricsSnapshot(const MetricsSnapshot& from);
+
+  inline MetricsSnapshot& operator=(const MetricsSnapshot& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const MetricsSnapshot& default_instance();
+
+  void Swap(MetricsSnapshot* other);
+
+  // implements Message ----------------------------------------------
+
+  MetricsSnapshot* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const MetricsSnapshot& from);
+  void MergeFrom(const MetricsSnapshot& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .aws.kinesis.protobuf.Metric metrics = 1;
+  inline int metrics_size() const;
+  inline void clear_metrics();
+  static const int kMetricsFieldNumber = 1;
+  inline const ::aws::kinesis::protobuf::Metric& metrics(int index) const;
+  inline ::aws::kinesis::protobuf::Metric* mutable_metrics(int index);
+  inline ::aws::kinesis::protobuf::Metric* add_metrics();
+  inline const ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::Metric >&
+      metrics() const;
+  inline ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::Metric >*
+      mutable_metrics();
+
+  // optional bool full = 2;
+  inline bool has_full() const;
+  inline void clear_full();
+  static const int kFullFieldNumber = 2;
+  inline bool full() const;
+  inline void set_full(bool value);
+
+  // @@protoc_insertion_point(class_scope:aws.kinesis.protobuf.MetricsSnapshot)
+ private:
+  inline void set_has_full();
+  inline void clear_has_full();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 _has_bits_[1];
+  mutable int _cached_size_;
+  ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::Metric > metrics_;
+  bool full_;
+  friend void  protobuf_AddDesc_messages_2eproto();
+  friend void protobuf_AssignDesc_messages_2eproto();
+  friend void protobuf_ShutdownFile_messages_2eproto();
+
+  void InitAsDefaultInstance();
+  static MetricsSnapshot* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class Handshake : public ::google::protobuf::Message {
+ public:
+  Handshake();
+  virtual ~Handshake();
+
+  Handshake(const Handshake& from);
+
+  inline Handshake& operator=(const Handshake& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const Handshake& default_instance();
+
+  void Swap(Handshake* other);
+
+  // implements Message ----------------------------------------------
+
+  Handshake* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const Handshake& from);
+  void MergeFrom(const Handshake& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required uint32 protocol_version = 1;
+  inline bool has_protocol_version() const;
+  inline void clear_protocol_version();
+  static const int kProtocolVersionFieldNumber = 1;
+  inline ::google::protobuf::uint32 protocol_version() const;
+  inline void set_protocol_version(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:aws.kinesis.protobuf.Handshake)
+ private:
+  inline void set_has_protocol_version();
+  inline void clear_has_protocol_version();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 _has_bits_[1];
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 protocol_version_;
+  friend void  protobuf_AddDesc_messages_2eproto();
+  friend void protobuf_AssignDesc_messages_2eproto();
+  friend void protobuf_ShutdownFile_messages_2eproto();
+
+  void InitAsDefaultInstance();
+  static Handshake* default_instance_;
+};
 // ===================================================================
 
 
@@ -2439,128 +2887,300 @@ inline void Message::set_allocated_configuration(::aws::kinesis::protobuf::Confi
 inline bool Message::has_metrics_request() const {
   return actual_message_case() == kMetricsRequest;
 }
-inline void Message::set_has_metrics_request() {
-  _oneof_case_[0] = kMetricsRequest;
+inline void Message::set_has_metrics_request() {
+  _oneof_case_[0] = kMetricsRequest;
+}
+inline void Message::clear_metrics_request() {
+  if (has_metrics_request()) {
+    delete actual_message_.metrics_request_;
+    clear_has_actual_message();
+  }
+}
+inline const ::aws::kinesis::protobuf::MetricsRequest& Message::metrics_request() const {
+  return has_metrics_request() ? *actual_message_.metrics_request_
+                      : ::aws::kinesis::protobuf::MetricsRequest::default_instance();
+}
+inline ::aws::kinesis::protobuf::MetricsRequest* Message::mutable_metrics_request() {
+  if (!has_metrics_request()) {
+    clear_actual_message();
+    set_has_metrics_request();
+    actual_message_.metrics_request_ = new ::aws::kinesis::protobuf::MetricsRequest;
+  }
+  return actual_message_.metrics_request_;
+}
+inline ::aws::kinesis::protobuf::MetricsRequest* Message::release_metrics_request() {
+  if (has_metrics_request()) {
+    clear_has_actual_message();
+    ::aws::kinesis::protobuf::MetricsRequest* temp = actual_message_.metrics_request_;
+    actual_message_.metrics_request_ = NULL;
+    return temp;
+  } else {
+    return NULL;
+  }
+}
+inline void Message::set_allocated_metrics_request(::aws::kinesis::protobuf::MetricsRequest* metrics_request) {
+  clear_actual_message();
+  if (metrics_request) {
+    set_has_metrics_request();
+    actual_message_.metrics_request_ = metrics_request;
+  }
+}
+
+// optional .aws.kinesis.protobuf.MetricsResponse metrics_response = 8;
+inline bool Message::has_metrics_response() const {
+  return actual_message_case() == kMetricsResponse;
+}
+inline void Message::set_has_metrics_response() {
+  _oneof_case_[0] = kMetricsResponse;
+}
+inline void Message::clear_metrics_response() {
+  if (has_metrics_response()) {
+    delete actual_message_.metrics_response_;
+    clear_has_actual_message();
+  }
+}
+inline const ::aws::kinesis::protobuf::MetricsResponse& Message::metrics_response() const {
+  return has_metrics_response() ? *actual_message_.metrics_response_
+                      : ::aws::kinesis::protobuf::MetricsResponse::default_instance();
+}
+inline ::aws::kinesis::protobuf::MetricsResponse* Message::mutable_metrics_response() {
+  if (!has_metrics_response()) {
+    clear_actual_message();
+    set_has_metrics_response();
+    actual_message_.metrics_response_ = new ::aws::kinesis::protobuf::MetricsResponse;
+  }
+  return actual_message_.metrics_response_;
+}
+inline ::aws::kinesis::protobuf::MetricsResponse* Message::release_metrics_response() {
+  if (has_metrics_response()) {
+    clear_has_actual_message();
+    ::aws::kinesis::protobuf::MetricsResponse* temp = actual_message_.metrics_response_;
+    actual_message_.metrics_response_ = NULL;
+    return temp;
+  } else {
+    return NULL;
+  }
+}
+inline void Message::set_allocated_metrics_response(::aws::kinesis::protobuf::MetricsResponse* metrics_response) {
+  clear_actual_message();
+  if (metrics_response) {
+    set_has_metrics_response();
+    actual_message_.metrics_response_ = metrics_response;
+  }
+}
+
+// optional .aws.kinesis.protobuf.SetCredentials set_credentials = 9;
+inline bool Message::has_set_credentials() const {
+  return actual_message_case() == kSetCredentials;
+}
+inline void Message::set_has_set_credentials() {
+  _oneof_case_[0] = kSetCredentials;
+}
+inline void Message::clear_set_credentials() {
+  if (has_set_credentials()) {
+    delete actual_message_.set_credentials_;
+    clear_has_actual_message();
+  }
+}
+inline const ::aws::kinesis::protobuf::SetCredentials& Message::set_credentials() const {
+  return has_set_credentials() ? *actual_message_.set_credentials_
+                      : ::aws::kinesis::protobuf::SetCredentials::default_instance();
+}
+inline ::aws::kinesis::protobuf::SetCredentials* Message::mutable_set_credentials() {
+  if (!has_set_credentials()) {
+    clear_actual_message();
+    set_has_set_credentials();
+    actual_message_.set_credentials_ = new ::aws::kinesis::protobuf::SetCredentials;
+  }
+  return actual_message_.set_credentials_;
+}
+inline ::aws::kinesis::protobuf::SetCredentials* Message::release_set_credentials() {
+  if (has_set_credentials()) {
+    clear_has_actual_message();
+    ::aws::kinesis::protobuf::SetCredentials* temp = actual_message_.set_credentials_;
+    actual_message_.set_credentials_ = NULL;
+    return temp;
+  } else {
+    return NULL;
+  }
+}
+inline void Message::set_allocated_set_credentials(::aws::kinesis::protobuf::SetCredentials* set_credentials) {
+  clear_actual_message();
+  if (set_credentials) {
+    set_has_set_credentials();
+    actual_message_.set_credentials_ = set_credentials;
+  }
+}
+
+// optional .aws.kinesis.protobuf.RegisterStream register_stream = 10;
+inline bool Message::has_register_stream() const {
+  return actual_message_case() == kRegisterStream;
+}
+inline void Message::set_has_register_stream() {
+  _oneof_case_[0] = kRegisterStream;
+}
+inline void Message::clear_register_stream() {
+  if (has_register_stream()) {
+    delete actual_message_.register_stream_;
+    clear_has_actual_message();
+  }
+}
+inline const ::aws::kinesis::protobuf::RegisterStream& Message::register_stream() const {
+  return has_register_stream() ? *actual_message_.register_stream_
+                      : ::aws::kinesis::protobuf::RegisterStream::default_instance();
+}
+inline ::aws::kinesis::protobuf::RegisterStream* Message::mutable_register_stream() {
+  if (!has_register_stream()) {
+    clear_actual_message();
+    set_has_register_stream();
+    actual_message_.register_stream_ = new ::aws::kinesis::protobuf::RegisterStream;
+  }
+  return actual_message_.register_stream_;
+}
+inline ::aws::kinesis::protobuf::RegisterStream* Message::release_register_stream() {
+  if (has_register_stream()) {
+    clear_has_actual_message();
+    ::aws::kinesis::protobuf::RegisterStream* temp = actual_message_.register_stream_;
+    actual_message_.register_stream_ = NULL;
+    return temp;
+  } else {
+    return NULL;
+  }
+}
+inline void Message::set_allocated_register_stream(::aws::kinesis::protobuf::RegisterStream* register_stream) {
+  clear_actual_message();
+  if (register_stream) {
+    set_has_register_stream();
+    actual_message_.register_stream_ = register_stream;
+  }
+}
+
+// optional .aws.kinesis.protobuf.PutRecordBatch put_record_batch = 11;
+inline bool Message::has_put_record_batch() const {
+  return actual_message_case() == kPutRecordBatch;
+}
+inline void Message::set_has_put_record_batch() {
+  _oneof_case_[0] = kPutRecordBatch;
 }
-inline void Message::clear_metrics_request() {
-  if (has_metrics_request()) {
-    delete actual_message_.metrics_request_;
+inline void Message::clear_put_record_batch() {
+  if (has_put_record_batch()) {
+    delete actual_message_.put_record_batch_;
     clear_has_actual_message();
   }
 }
-inline const ::aws::kinesis::protobuf::MetricsRequest& Message::metrics_request() const {
-  return has_metrics_request() ? *actual_message_.metrics_request_
-                      : ::aws::kinesis::protobuf::MetricsRequest::default_instance();
+inline const ::aws::kinesis::protobuf::PutRecordBatch& Message::put_record_batch() const {
+  return has_put_record_batch() ? *actual_message_.put_record_batch_
+                      : ::aws::kinesis::protobuf::PutRecordBatch::default_instance();
 }
-inline ::aws::kinesis::protobuf::MetricsRequest* Message::mutable_metrics_request() {
-  if (!has_metrics_request()) {
+inline ::aws::kinesis::protobuf::PutRecordBatch* Message::mutable_put_record_batch() {
+  if (!has_put_record_batch()) {
     clear_actual_message();
-    set_has_metrics_request();
-    actual_message_.metrics_request_ = new ::aws::kinesis::protobuf::MetricsRequest;
+    set_has_put_record_batch();
+    actual_message_.put_record_batch_ = new ::aws::kinesis::protobuf::PutRecordBatch;
   }
-  return actual_message_.metrics_request_;
+  return actual_message_.put_record_batch_;
 }
-inline ::aws::kinesis::protobuf::MetricsRequest* Message::release_metrics_request() {
-  if (has_metrics_request()) {
+inline ::aws::kinesis::protobuf::PutRecordBatch* Message::release_put_record_batch() {
+  if (has_put_record_batch()) {
     clear_has_actual_message();
-    ::aws::kinesis::protobuf::MetricsRequest* temp = actual_message_.metrics_request_;
-    actual_message_.metrics_request_ = NULL;
+    ::aws::kinesis::protobuf::PutRecordBatch* temp = actual_message_.put_record_batch_;
+    actual_message_.put_record_batch_ = NULL;
     return temp;
   } else {
     return NULL;
   }
 }
-inline void Message::set_allocated_metrics_request(::aws::kinesis::protobuf::MetricsRequest* metrics_request) {
+inline void Message::set_allocated_put_record_batch(::aws::kinesis::protobuf::PutRecordBatch* put_record_batch) {
   clear_actual_message();
-  if (metrics_request) {
-    set_has_metrics_request();
-    actual_message_.metrics_request_ = metrics_request;
+  if (put_record_batch) {
+    set_has_put_record_batch();
+    actual_message_.put_record_batch_ = put_record_batch;
   }
 }
 
-// optional .aws.kinesis.protobuf.MetricsResponse metrics_response = 8;
-inline bool Message::has_metrics_response() const {
-  return actual_message_case() == kMetricsResponse;
+// optional .aws.kinesis.protobuf.MetricsSnapshot metrics_snapshot = 12;
+inline bool Message::has_metrics_snapshot() const {
+  return actual_message_case() == kMetricsSnapshot;
 }
-inline void Message::set_has_metrics_response() {
-  _oneof_case_[0] = kMetricsResponse;
+inline void Message::set_has_metrics_snapshot() {
+  _oneof_case_[0] = kMetricsSnapshot;
 }
-inline void Message::clear_metrics_response() {
-  if (has_metrics_response()) {
-    delete actual_message_.metrics_response_;
+inline void Message::clear_metrics_snapshot() {
+  if (has_metrics_snapshot()) {
+    delete actual_message_.metrics_snapshot_;
     clear_has_actual_message();
   }
 }
-inline const ::aws::kinesis::protobuf::MetricsResponse& Message::metrics_response() const {
-  return has_metrics_response() ? *actual_message_.metrics_response_
-                      : ::aws::kinesis::protobuf::MetricsResponse::default_instance();
+inline const ::aws::kinesis::protobuf::MetricsSnapshot& Message::metrics_snapshot() const {
+  return has_metrics_snapshot() ? *actual_message_.metrics_snapshot_
+                      : ::aws::kinesis::protobuf::MetricsSnapshot::default_instance();
 }
-inline ::aws::kinesis::protobuf::MetricsResponse* Message::mutable_metrics_response() {
-  if (!has_metrics_response()) {
+inline ::aws::kinesis::protobuf::MetricsSnapshot* Message::mutable_metrics_snapshot() {
+  if (!has_metrics_snapshot()) {
     clear_actual_message();
-    set_has_metrics_response();
-    actual_message_.metrics_response_ = new ::aws::kinesis::protobuf::MetricsResponse;
+    set_has_metrics_snapshot();
+    actual_message_.metrics_snapshot_ = new ::aws::kinesis::protobuf::MetricsSnapshot;
   }
-  return actual_message_.metrics_response_;
+  return actual_message_.metrics_snapshot_;
 }
-inline ::aws::kinesis::protobuf::MetricsResponse* Message::release_metrics_response() {
-  if (has_metrics_response()) {
+inline ::aws::kinesis::protobuf::MetricsSnapshot* Message::release_metrics_snapshot() {
+  if (has_metrics_snapshot()) {
     clear_has_actual_message();
-    ::aws::kinesis::protobuf::MetricsResponse* temp = actual_message_.metrics_response_;
-    actual_message_.metrics_response_ = NULL;
+    ::aws::kinesis::protobuf::MetricsSnapshot* temp = actual_message_.metrics_snapshot_;
+    actual_message_.metrics_snapshot_ = NULL;
     return temp;
   } else {
     return NULL;
   }
 }
-inline void Message::set_allocated_metrics_response(::aws::kinesis::protobuf::MetricsResponse* metrics_response) {
+inline void Message::set_allocated_metrics_snapshot(::aws::kinesis::protobuf::MetricsSnapshot* metrics_snapshot) {
   clear_actual_message();
-  if (metrics_response) {
-    set_has_metrics_response();
-    actual_message_.metrics_response_ = metrics_response;
+  if (metrics_snapshot) {
+    set_has_metrics_snapshot();
+    actual_message_.metrics_snapshot_ = metrics_snapshot;
   }
 }
 
-// optional .aws.kinesis.protobuf.SetCredentials set_credentials = 9;
-inline bool Message::has_set_credentials() const {
-  return actual_message_case() == kSetCredentials;
+// optional .aws.kinesis.protobuf.Handshake handshake = 13;
+inline bool Message::has_handshake() const {
+  return actual_message_case() == kHandshake;
 }
-inline void Message::set_has_set_credentials() {
-  _oneof_case_[0] = kSetCredentials;
+inline void Message::set_has_handshake() {
+  _oneof_case_[0] = kHandshake;
 }
-inline void Message::clear_set_credentials() {
-  if (has_set_credentials()) {
-    delete actual_message_.set_credentials_;
+inline void Message::clear_handshake() {
+  if (has_handshake()) {
+    delete actual_message_.handshake_;
     clear_has_actual_message();
   }
 }
-inline const ::aws::kinesis::protobuf::SetCredentials& Message::set_credentials() const {
-  return has_set_credentials() ? *actual_message_.set_credentials_
-                      : ::aws::kinesis::protobuf::SetCredentials::default_instance();
+inline const ::aws::kinesis::protobuf::Handshake& Message::handshake() const {
+  return has_handshake() ? *actual_message_.handshake_
+                      : ::aws::kinesis::protobuf::Handshake::default_instance();
 }
-inline ::aws::kinesis::protobuf::SetCredentials* Message::mutable_set_credentials() {
-  if (!has_set_credentials()) {
+inline ::aws::kinesis::protobuf::Handshake* Message::mutable_handshake() {
+  if (!has_handshake()) {
     clear_actual_message();
-    set_has_set_credentials();
-    actual_message_.set_credentials_ = new ::aws::kinesis::protobuf::SetCredentials;
+    set_has_handshake();
+    actual_message_.handshake_ = new ::aws::kinesis::protobuf::Handshake;
   }
-  return actual_message_.set_credentials_;
+  return actual_message_.handshake_;
 }
-inline ::aws::kinesis::protobuf::SetCredentials* Message::release_set_credentials() {
-  if (has_set_credentials()) {
+inline ::aws::kinesis::protobuf::Handshake* Message::release_handshake() {
+  if (has_handshake()) {
     clear_has_actual_message();
-    ::aws::kinesis::protobuf::SetCredentials* temp = actual_message_.set_credentials_;
-    actual_message_.set_credentials_ = NULL;
+    ::aws::kinesis::protobuf::Handshake* temp = actual_message_.handshake_;
+    actual_message_.handshake_ = NULL;
     return temp;
   } else {
     return NULL;
   }
 }
-inline void Message::set_allocated_set_credentials(::aws::kinesis::protobuf::SetCredentials* set_credentials) {
+inline void Message::set_allocated_handshake(::aws::kinesis::protobuf::Handshake* handshake) {
   clear_actual_message();
-  if (set_credentials) {
-    set_has_set_credentials();
-    actual_message_.set_credentials_ = set_credentials;
+  if (handshake) {
+    set_has_handshake();
+    actual_message_.handshake_ = handshake;
   }
 }
 
@@ -2577,7 +3197,7 @@ inline Message::ActualMessageCase Message::actual_message_case() const {
 
 // PutRecord
 
-// required string stream_name = 1;
+// optional string stream_name = 1;
 inline bool PutRecord::has_stream_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
@@ -2881,6 +3501,274 @@ inline void PutRecord::set_allocated_data(::std::string* data) {
   // @@protoc_insertion_point(field_set_allocated:aws.kinesis.protobuf.PutRecord.data)
 }
 
+// optional uint32 stream_id = 5;
+inline bool PutRecord::has_stream_id() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void PutRecord::set_has_stream_id() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void PutRecord::clear_has_stream_id() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void PutRecord::clear_stream_id() {
+  stream_id_ = 0u;
+  clear_has_stream_id();
+}
+inline ::google::protobuf::uint32 PutRecord::stream_id() const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.PutRecord.stream_id)
+  return stream_id_;
+}
+inline void PutRecord::set_stream_id(::google::protobuf::uint32 value) {
+  set_has_stream_id();
+  stream_id_ = value;
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.PutRecord.stream_id)
+}
+
+// optional bytes explicit_hash_key_binary = 6;
+inline bool PutRecord::has_explicit_hash_key_binary() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void PutRecord::set_has_explicit_hash_key_binary() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void PutRecord::clear_has_explicit_hash_key_binary() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void PutRecord::clear_explicit_hash_key_binary() {
+  if (explicit_hash_key_binary_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    explicit_hash_key_binary_->clear();
+  }
+  clear_has_explicit_hash_key_binary();
+}
+inline const ::std::string& PutRecord::explicit_hash_key_binary() const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.PutRecord.explicit_hash_key_binary)
+  return *explicit_hash_key_binary_;
+}
+inline void PutRecord::set_explicit_hash_key_binary(const ::std::string& value) {
+  set_has_explicit_hash_key_binary();
+  if (explicit_hash_key_binary_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    explicit_hash_key_binary_ = new ::std::string;
+  }
+  explicit_hash_key_binary_->assign(value);
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.PutRecord.explicit_hash_key_binary)
+}
+inline void PutRecord::set_explicit_hash_key_binary(const char* value) {
+  set_has_explicit_hash_key_binary();
+  if (explicit_hash_key_binary_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    explicit_hash_key_binary_ = new ::std::string;
+  }
+  explicit_hash_key_binary_->assign(value);
+  // @@protoc_insertion_point(field_set_char:aws.kinesis.protobuf.PutRecord.explicit_hash_key_binary)
+}
+inline void PutRecord::set_explicit_hash_key_binary(const void* value, size_t size) {
+  set_has_explicit_hash_key_binary();
+  if (explicit_hash_key_binary_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    explicit_hash_key_binary_ = new ::std::string;
+  }
+  explicit_hash_key_binary_->assign(reinterpret_cast<const char*>(value), size);
+  // @@protoc_insertion_point(field_set_pointer:aws.kinesis.protobuf.PutRecord.explicit_hash_key_binary)
+}
+inline ::std::string* PutRecord::mutable_explicit_hash_key_binary() {
+  set_has_explicit_hash_key_binary();
+  if (explicit_hash_key_binary_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    explicit_hash_key_binary_ = new ::std::string;
+  }
+  // @@protoc_insertion_point(field_mutable:aws.kinesis.protobuf.PutRecord.explicit_hash_key_binary)
+  return explicit_hash_key_binary_;
+}
+inline ::std::string* PutRecord::release_explicit_hash_key_binary() {
+  clear_has_explicit_hash_key_binary();
+  if (explicit_hash_key_binary_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    return NULL;
+  } else {
+    ::std::string* temp = explicit_hash_key_binary_;
+    explicit_hash_key_binary_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+    return temp;
+  }
+}
+inline void PutRecord::set_allocated_explicit_hash_key_binary(::std::string* explicit_hash_key_binary) {
+  if (explicit_hash_key_binary_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete explicit_hash_key_binary_;
+  }
+  if (explicit_hash_key_binary) {
+    set_has_explicit_hash_key_binary();
+    explicit_hash_key_binary_ = explicit_hash_key_binary;
+  } else {
+    clear_has_explicit_hash_key_binary();
+    explicit_hash_key_binary_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  }
+  // @@protoc_insertion_point(field_set_allocated:aws.kinesis.protobuf.PutRecord.explicit_hash_key_binary)
+}
+
+// -------------------------------------------------------------------
+
+// RegisterStream
+
+// required uint32 stream_id = 1;
+inline bool RegisterStream::has_stream_id() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void RegisterStream::set_has_stream_id() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void RegisterStream::clear_has_stream_id() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void RegisterStream::clear_stream_id() {
+  stream_id_ = 0u;
+  clear_has_stream_id();
+}
+inline ::google::protobuf::uint32 RegisterStream::stream_id() const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.RegisterStream.stream_id)
+  return stream_id_;
+}
+inline void RegisterStream::set_stream_id(::google::protobuf::uint32 value) {
+  set_has_stream_id();
+  stream_id_ = value;
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.RegisterStream.stream_id)
+}
+
+// required string stream_name = 2;
+inline bool RegisterStream::has_stream_name() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void RegisterStream::set_has_stream_name() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void RegisterStream::clear_has_stream_name() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void RegisterStream::clear_stream_name() {
+  if (stream_name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    stream_name_->clear();
+  }
+  clear_has_stream_name();
+}
+inline const ::std::string& RegisterStream::stream_name() const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.RegisterStream.stream_name)
+  return *stream_name_;
+}
+inline void RegisterStream::set_stream_name(const ::std::string& value) {
+  set_has_stream_name();
+  if (stream_name_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    stream_name_ = new ::std::string;
+  }
+  stream_name_->assign(value);
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.RegisterStream.stream_name)
+}
+inline void RegisterStream::set_stream_name(const char* value) {
+  set_has_stream_name();
+  if (stream_name_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    stream_name_ = new ::std::string;
+  }
+  stream_name_->assign(value);
+  // @@protoc_insertion_point(field_set_char:aws.kinesis.protobuf.RegisterStream.stream_name)
+}
+inline void RegisterStream::set_stream_name(const char* value, size_t size) {
+  set_has_stream_name();
+  if (stream_name_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    stream_name_ = new ::std::string;
+  }
+  stream_name_->assign(reinterpret_cast<const char*>(value), size);
+  // @@protoc_insertion_point(field_set_pointer:aws.kinesis.protobuf.RegisterStream.stream_name)
+}
+inline ::std::string* RegisterStream::mutable_stream_name() {
+  set_has_stream_name();
+  if (stream_name_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    stream_name_ = new ::std::string;
+  }
+  // @@protoc_insertion_point(field_mutable:aws.kinesis.protobuf.RegisterStream.stream_name)
+  return stream_name_;
+}
+inline ::std::string* RegisterStream::release_stream_name() {
+  clear_has_stream_name();
+  if (stream_name_ == &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    return NULL;
+  } else {
+    ::std::string* temp = stream_name_;
+    stream_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+    return temp;
+  }
+}
+inline void RegisterStream::set_allocated_stream_name(::std::string* stream_name) {
+  if (stream_name_ != &::google::protobuf::internal::GetEmptyStringAlreadyInited()) {
+    delete stream_name_;
+  }
+  if (stream_name) {
+    set_has_stream_name();
+    stream_name_ = stream_name;
+  } else {
+    clear_has_stream_name();
+    stream_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::GetEmptyStringAlreadyInited());
+  }
+  // @@protoc_insertion_point(field_set_allocated:aws.kinesis.protobuf.RegisterStream.stream_name)
+}
+
+// -------------------------------------------------------------------
+
+// PutRecordBatch
+
+// repeated .aws.kinesis.protobuf.PutRecord records = 1;
+inline int PutRecordBatch::records_size() const {
+  return records_.size();
+}
+inline void PutRecordBatch::clear_records() {
+  records_.Clear();
+}
+inline const ::aws::kinesis::protobuf::PutRecord& PutRecordBatch::records(int index) const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.PutRecordBatch.records)
+  return records_.Get(index);
+}
+inline ::aws::kinesis::protobuf::PutRecord* PutRecordBatch::mutable_records(int index) {
+  // @@protoc_insertion_point(field_mutable:aws.kinesis.protobuf.PutRecordBatch.records)
+  return records_.Mutable(index);
+}
+inline ::aws::kinesis::protobuf::PutRecord* PutRecordBatch::add_records() {
+  // @@protoc_insertion_point(field_add:aws.kinesis.protobuf.PutRecordBatch.records)
+  return records_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::PutRecord >&
+PutRecordBatch::records() const {
+  // @@protoc_insertion_point(field_list:aws.kinesis.protobuf.PutRecordBatch.records)
+  return records_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::PutRecord >*
+PutRecordBatch::mutable_records() {
+  // @@protoc_insertion_point(field_mutable_list:aws.kinesis.protobuf.PutRecordBatch.records)
+  return &records_;
+}
+
+// repeated uint32 id_offsets = 2 [packed = true];
+inline int PutRecordBatch::id_offsets_size() const {
+  return id_offsets_.size();
+}
+inline void PutRecordBatch::clear_id_offsets() {
+  id_offsets_.Clear();
+}
+inline ::google::protobuf::uint32 PutRecordBatch::id_offsets(int index) const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.PutRecordBatch.id_offsets)
+  return id_offsets_.Get(index);
+}
+inline void PutRecordBatch::set_id_offsets(int index, ::google::protobuf::uint32 value) {
+  id_offsets_.Set(index, value);
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.PutRecordBatch.id_offsets)
+}
+inline void PutRecordBatch::add_id_offsets(::google::protobuf::uint32 value) {
+  id_offsets_.Add(value);
+  // @@protoc_insertion_point(field_add:aws.kinesis.protobuf.PutRecordBatch.id_offsets)
+}
+inline const ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >&
+PutRecordBatch::id_offsets() const {
+  // @@protoc_insertion_point(field_list:aws.kinesis.protobuf.PutRecordBatch.id_offsets)
+  return id_offsets_;
+}
+inline ::google::protobuf::RepeatedField< ::google::protobuf::uint32 >*
+PutRecordBatch::mutable_id_offsets() {
+  // @@protoc_insertion_point(field_mutable_list:aws.kinesis.protobuf.PutRecordBatch.id_offsets)
+  return &id_offsets_;
+}
+
 // -------------------------------------------------------------------
 
 // Flush
@@ -4259,6 +5147,30 @@ inline void MetricsRequest::set_seconds(::google::protobuf::uint64 value) {
   // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.MetricsRequest.seconds)
 }
 
+// optional uint64 snapshot_interval = 3;
+inline bool MetricsRequest::has_snapshot_interval() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void MetricsRequest::set_has_snapshot_interval() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void MetricsRequest::clear_has_snapshot_interval() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void MetricsRequest::clear_snapshot_interval() {
+  snapshot_interval_ = GOOGLE_ULONGLONG(0);
+  clear_has_snapshot_interval();
+}
+inline ::google::protobuf::uint64 MetricsRequest::snapshot_interval() const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.MetricsRequest.snapshot_interval)
+  return snapshot_interval_;
+}
+inline void MetricsRequest::set_snapshot_interval(::google::protobuf::uint64 value) {
+  set_has_snapshot_interval();
+  snapshot_interval_ = value;
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.MetricsRequest.snapshot_interval)
+}
+
 // -------------------------------------------------------------------
 
 // MetricsResponse
@@ -4293,6 +5205,92 @@ MetricsResponse::mutable_metrics() {
   return &metrics_;
 }
 
+// -------------------------------------------------------------------
+
+// MetricsSnapshot
+
+// repeated .aws.kinesis.protobuf.Metric metrics = 1;
+inline int MetricsSnapshot::metrics_size() const {
+  return metrics_.size();
+}
+inline void MetricsSnapshot::clear_metrics() {
+  metrics_.Clear();
+}
+inline const ::aws::kinesis::protobuf::Metric& MetricsSnapshot::metrics(int index) const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.MetricsSnapshot.metrics)
+  return metrics_.Get(index);
+}
+inline ::aws::kinesis::protobuf::Metric* MetricsSnapshot::mutable_metrics(int index) {
+  // @@protoc_insertion_point(field_mutable:aws.kinesis.protobuf.MetricsSnapshot.metrics)
+  return metrics_.Mutable(index);
+}
+inline ::aws::kinesis::protobuf::Metric* MetricsSnapshot::add_metrics() {
+  // @@protoc_insertion_point(field_add:aws.kinesis.protobuf.MetricsSnapshot.metrics)
+  return metrics_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::Metric >&
+MetricsSnapshot::metrics() const {
+  // @@protoc_insertion_point(field_list:aws.kinesis.protobuf.MetricsSnapshot.metrics)
+  return metrics_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::aws::kinesis::protobuf::Metric >*
+MetricsSnapshot::mutable_metrics() {
+  // @@protoc_insertion_point(field_mutable_list:aws.kinesis.protobuf.MetricsSnapshot.metrics)
+  return &metrics_;
+}
+
+// optional bool full = 2;
+inline bool MetricsSnapshot::has_full() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void MetricsSnapshot::set_has_full() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void MetricsSnapshot::clear_has_full() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void MetricsSnapshot::clear_full() {
+  full_ = false;
+  clear_has_full();
+}
+inline bool MetricsSnapshot::full() const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.MetricsSnapshot.full)
+  return full_;
+}
+inline void MetricsSnapshot::set_full(bool value) {
+  set_has_full();
+  full_ = value;
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.MetricsSnapshot.full)
+}
+
+// -------------------------------------------------------------------
+
+// Handshake
+
+// required uint32 protocol_version = 1;
+inline bool Handshake::has_protocol_version() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void Handshake::set_has_protocol_version() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void Handshake::clear_has_protocol_version() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void Handshake::clear_protocol_version() {
+  protocol_version_ = 0u;
+  clear_has_protocol_version();
+}
+inline ::google::protobuf::uint32 Handshake::protocol_version() const {
+  // @@protoc_insertion_point(field_get:aws.kinesis.protobuf.Handshake.protocol_version)
+  return protocol_version_;
+}
+inline void Handshake::set_protocol_version(::google::protobuf::uint32 value) {
+  set_has_protocol_version();
+  protocol_version_ = value;
+  // @@protoc_insertion_point(field_set:aws.kinesis.protobuf.Handshake.protocol_version)
+}
+
 
 // @@protoc_insertion_point(namespace_scope)
 
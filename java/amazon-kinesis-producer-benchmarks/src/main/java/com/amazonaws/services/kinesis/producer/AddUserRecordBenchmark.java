@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The whole Java path of a record: validation, encoding, framing onto the pipe, decoding the result and completing
+ * the future. A {@link StandInChild} in this JVM answers every record straight away, so the child process is out of
+ * the picture. Each invocation puts {@link #RECORDS} records and waits for all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class AddUserRecordBenchmark {
+    static final int RECORDS = 1000;
+
+    @Param({ "16", "1024" })
+    int dataSize;
+
+    private StandInChild.InProcess child;
+    private KinesisProducer producer;
+    private StreamHandle stream;
+    private ByteBuffer data;
+    private final String[] partitionKeys = new String[RECORDS];
+    private final List<UserRecord> userRecords = new ArrayList<>(RECORDS);
+    @SuppressWarnings("unchecked")
+    private final ListenableFuture<UserRecordResult>[] futures = new ListenableFuture[RECORDS];
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        child = StandInChild.inProcess(true);
+        producer = new KinesisProducer(child.getInPipe(), child.getOutPipe());
+        stream = producer.stream("stream");
+        data = ByteBuffer.wrap(new byte[dataSize]);
+        for (int i = 0; i < RECORDS; i++) {
+            partitionKeys[i] = "partitionKey-" + i;
+            userRecords.add(new UserRecord("stream", partitionKeys[i], data));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producer.destroy();
+        child.close();
+    }
+
+    private void awaitAll() throws Exception {
+        for (ListenableFuture<UserRecordResult> f : futures) {
+            f.get();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void addUserRecord() throws Exception {
+        for (int i = 0; i < RECORDS; i++) {
+            futures[i] = producer.addUserRecord("stream", partitionKeys[i], data.duplicate());
+        }
+        awaitAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void streamHandle() throws Exception {
+        for (int i = 0; i < RECORDS; i++) {
+            futures[i] = stream.addUserRecord(partitionKeys[i], data.duplicate());
+        }
+        awaitAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public UserRecordBatchResult addUserRecords() throws Exception {
+        for (UserRecord r : userRecords) {
+            r.getData().rewind();
+        }
+        return producer.addUserRecords(userRecords).get();
+    }
+}
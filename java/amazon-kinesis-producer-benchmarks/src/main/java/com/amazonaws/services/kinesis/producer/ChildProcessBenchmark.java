@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A producer set up the way an application would set it up, with its child process started by the {@link Daemon},
+ * except that the child is a {@link StandInChild}. This is the ceiling of what the Java side can push through a real
+ * child process. Each invocation puts {@link #RECORDS} records and waits for all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class ChildProcessBenchmark {
+    static final int RECORDS = 1000;
+
+    @Param({ "0", "50" })
+    long latency;
+
+    @Param({ "0", "0.1" })
+    double retryRate;
+
+    @Param({ "1", "4" })
+    int children;
+
+    @Param({ "PIPES", "SHARED_MEMORY", "UNIX_SOCKET" })
+    String transport;
+
+    private File dir;
+    private KinesisProducer producer;
+    private ByteBuffer data;
+    private final String[] partitionKeys = new String[RECORDS];
+    @SuppressWarnings("unchecked")
+    private final ListenableFuture<UserRecordResult>[] futures = new ListenableFuture[RECORDS];
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("kpl-stand-in").toFile();
+        Properties settings = new Properties();
+        settings.setProperty(StandInChild.PREFIX + "latency", Long.toString(latency));
+        settings.setProperty(StandInChild.PREFIX + "retryRate", Double.toString(retryRate));
+        settings.setProperty(StandInChild.PREFIX + "seed", "1");
+
+        producer = new KinesisProducer(new KinesisProducerConfiguration()
+                .setNativeExecutable(StandInChild.install(dir, settings).getAbsolutePath())
+                .setChildProcessCount(children)
+                .setIpcTransport(transport)
+                .setRegion("us-west-2")
+                .setCredentialsProvider(new AWSStaticCredentialsProvider(new BasicAWSCredentials("akid", "secret"))));
+        data = ByteBuffer.wrap(new byte[128]);
+        for (int i = 0; i < RECORDS; i++) {
+            partitionKeys[i] = "partitionKey-" + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        producer.destroy();
+        FileUtils.deleteDirectory(dir);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void addUserRecord() throws Exception {
+        for (int i = 0; i < RECORDS; i++) {
+            futures[i] = producer.addUserRecord("stream", partitionKeys[i], data.duplicate());
+        }
+        for (ListenableFuture<UserRecordResult> f : futures) {
+            f.get();
+        }
+    }
+}
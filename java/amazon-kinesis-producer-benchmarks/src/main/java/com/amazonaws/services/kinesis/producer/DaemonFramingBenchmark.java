@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Queueing records on a {@link Daemon} and having its sender thread batch and write them to a real FIFO. The other
+ * end of the pipe is drained by a {@link StandInChild} in this JVM that doesn't answer. Each invocation queues
+ * {@link #RECORDS} records and waits until the sender has written all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class DaemonFramingBenchmark {
+    static final int RECORDS = 1000;
+
+    @Param({ "16", "1024" })
+    int dataSize;
+
+    private StandInChild.InProcess child;
+    private Daemon daemon;
+    private StreamHandle stream;
+    private ByteBuffer data;
+    private final AtomicLong written = new AtomicLong();
+    private final Consumer<ByteBuffer> onWritten = b -> written.incrementAndGet();
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        child = StandInChild.inProcess(false);
+        daemon = new Daemon(child.getInPipe(), child.getOutPipe(), null);
+        stream = new StreamHandle(null, "stream", 0);
+        data = ByteBuffer.wrap(new byte[dataSize]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        daemon.destroy();
+        child.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void addAndWrite() {
+        long target = written.get() + RECORDS;
+        for (int i = 0; i < RECORDS; i++) {
+            daemon.add(new PutRecordFrame(id++, stream, "partitionKey", 12, null, data.duplicate(), onWritten));
+        }
+        while (written.get() < target) {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord;
+import com.google.protobuf.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding records into the send buffer, without any IPC. The protobuf builder benchmark is the way records used to be
+ * encoded, kept as a point of comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class FrameEncodingBenchmark {
+    static final int BATCH = 100;
+
+    @Param({ "16", "1024" })
+    int dataSize;
+
+    private StreamHandle stream;
+    private StreamHandle unregisteredStream;
+    private ByteBuffer data;
+    private ByteBuffer buf;
+    private String partitionKey;
+    private String explicitHashKey;
+
+    @Setup
+    public void setUp() {
+        stream = new StreamHandle(null, "stream", 0);
+        unregisteredStream = new StreamHandle(null, "stream", -1);
+        data = ByteBuffer.wrap(new byte[dataSize]);
+        buf = ByteBuffer.allocateDirect(4 * 1024 * 1024);
+        partitionKey = "partitionKey-12345";
+        explicitHashKey = "170141183460469231731687303715884105728";
+    }
+
+    private PutRecordFrame frame(long id, StreamHandle s, ExplicitHashKey ehk) {
+        return new PutRecordFrame(id, s, partitionKey, partitionKey.length(), ehk, data.duplicate(), null);
+    }
+
+    @Benchmark
+    public ByteBuffer putRecordFrame() {
+        buf.clear();
+        PutRecordFrame f = frame(1, stream, null);
+        buf.putInt(f.getSerializedSize());
+        f.writeTo(buf);
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuffer putRecordFrameWithStreamName() {
+        buf.clear();
+        PutRecordFrame f = frame(1, unregisteredStream, null);
+        buf.putInt(f.getSerializedSize());
+        f.writeTo(buf);
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuffer putRecordFrameWithExplicitHashKey() {
+        buf.clear();
+        PutRecordFrame f = frame(1, stream, KinesisProducer.explicitHashKey(explicitHashKey));
+        buf.putInt(f.getSerializedSize());
+        f.writeTo(buf);
+        return buf;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public ByteBuffer putRecordBatchFrame() {
+        buf.clear();
+        List<OutgoingFrame> records = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            records.add(frame(i, stream, null));
+        }
+        PutRecordBatchFrame f = new PutRecordBatchFrame(records);
+        buf.putInt(f.getSerializedSize());
+        f.writeTo(buf);
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuffer protobufBuilder() {
+        buf.clear();
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        Message m = Message.newBuilder()
+                .setId(1)
+                .setPutRecord(PutRecord.newBuilder()
+                        .setStreamName("stream")
+                        .setPartitionKey(partitionKey)
+                        .setData(ByteString.copyFrom(bytes)))
+                .build();
+        byte[] serialized = m.toByteArray();
+        buf.putInt(serialized.length);
+        buf.put(serialized);
+        return buf;
+    }
+}
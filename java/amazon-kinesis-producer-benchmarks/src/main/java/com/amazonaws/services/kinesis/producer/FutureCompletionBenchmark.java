@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lifecycle of a record's future on its own: into the {@link CompletionTable}, out again when its result arrives,
+ * completed, and its callback run. No IPC is involved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class FutureCompletionBenchmark {
+    static final int RECORDS = 1000;
+
+    private CompletionTable table;
+    private UserRecordResult result;
+    private long nextId;
+    private long completed;
+    private final FutureCallback<UserRecordResult> callback = new FutureCallback<UserRecordResult>() {
+        @Override
+        public void onSuccess(UserRecordResult r) {
+            completed++;
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        table = new CompletionTable();
+        result = new UserRecordResult(Collections.<Attempt>emptyList(), "1", "shardId-000000000000", true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(long first) {
+        for (long id = first; id < first + RECORDS; id++) {
+            ((ResultFuture<UserRecordResult>) table.remove(id)).set(result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long withoutListener() {
+        long first = nextId;
+        for (int i = 0; i < RECORDS; i++) {
+            table.put(new ResultFuture<UserRecordResult>(nextId++));
+        }
+        complete(first);
+        return completed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long withCallback() {
+        long first = nextId;
+        for (int i = 0; i < RECORDS; i++) {
+            ResultFuture<UserRecordResult> f = new ResultFuture<>(nextId++);
+            table.put(f);
+            Futures.addCallback(f, callback, MoreExecutors.directExecutor());
+        }
+        complete(first);
+        return completed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public UserRecordBatchResult batch() throws Exception {
+        long first = nextId;
+        BatchResultFuture batch = new BatchResultFuture(first, RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            table.put(batch.entry(nextId++, i));
+        }
+        complete(first);
+        return batch.get();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.kinesis.producer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link MessageQueue} in front of the {@link Daemon}'s sender, compared with the {@link LinkedBlockingQueue} it
+ * replaced. Producer threads add items while the benchmark thread drains them in batches, the way the sender does.
+ * Each invocation moves {@link #ITEMS} items, split evenly between the producers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class MessageQueueBenchmark {
+    static final int ITEMS = 1 << 16;
+    static final int MAX_BATCH = 4096;
+
+    @Param({ "1", "2", "4", "8", "16" })
+    int producers;
+
+    @Param({ "MessageQueue", "LinkedBlockingQueue" })
+    String queue;
+
+    private interface Queue {
+        void add(Object item);
+
+        int drainTo(List<Object> dest) throws InterruptedException;
+    }
+
+    private static final Object ITEM = new Object();
+
+    private Queue q;
+    private ExecutorService exec;
+    private final List<Object> batch = new ArrayList<>(MAX_BATCH);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (queue.equals("MessageQueue")) {
+            MessageQueue<Object> mq = new MessageQueue<>();
+            q = new Queue() {
+                @Override
+                public void add(Object item) {
+                    mq.add(item);
+                }
+
+                @Override
+                public int drainTo(List<Object> dest) throws InterruptedException {
+                    return mq.drainTo(dest, MAX_BATCH);
+                }
+            };
+        } else {
+            LinkedBlockingQueue<Object> lbq = new LinkedBlockingQueue<>();
+            q = new Queue() {
+                @Override
+                public void add(Object item) {
+                    lbq.add(item);
+                }
+
+                @Override
+                public int drainTo(List<Object> dest) throws InterruptedException {
+                    dest.add(lbq.take());
+                    return 1 + lbq.drainTo(dest, MAX_BATCH - 1);
+                }
+            };
+        }
+        exec = Executors.newFixedThreadPool(producers, r -> {
+            Thread t = new Thread(r, "kpl-benchmark-producer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        exec.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public int addAndDrain() throws InterruptedException {
+        int perProducer = ITEMS / producers;
+        for (int p = 0; p < producers; p++) {
+            exec.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    q.add(ITEM);
+                }
+            });
+        }
+        int remaining = perProducer * producers;
+        while (remaining > 0) {
+            batch.clear();
+            remaining -= q.drainTo(batch);
+        }
+        return remaining;
+    }
+}
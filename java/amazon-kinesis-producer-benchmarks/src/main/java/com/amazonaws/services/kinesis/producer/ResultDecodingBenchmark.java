@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult;
+import com.google.protobuf.CodedInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding results the way the Daemon's reader does: length-prefixed frames parsed in place out of the receive
+ * buffer, then turned into {@link UserRecordResult}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class ResultDecodingBenchmark {
+    static final int RESULTS = 100;
+
+    /**
+     * Attempts per result. Records that were retried carry more than one.
+     */
+    @Param({ "1", "3" })
+    int attempts;
+
+    private ByteBuffer rcvBuf;
+
+    @Setup
+    public void setUp() {
+        PutRecordResult.Builder result = PutRecordResult.newBuilder()
+                .setSuccess(true)
+                .setShardId("shardId-000000000000")
+                .setSequenceNumber("49590338271490256608559692538361571095921575989136588898");
+        for (int i = 0; i < attempts - 1; i++) {
+            result.addAttempts(Attempt.newBuilder().setDelay(100).setDuration(20).setSuccess(false)
+                    .setErrorCode("ProvisionedThroughputExceededException")
+                    .setErrorMessage("Rate exceeded for shard shardId-000000000000"));
+        }
+        result.addAttempts(Attempt.newBuilder().setDelay(0).setDuration(5).setSuccess(true));
+
+        rcvBuf = ByteBuffer.allocate(1024 * 1024);
+        for (int i = 0; i < RESULTS; i++) {
+            byte[] b = Message.newBuilder()
+                    .setId(i)
+                    .setSourceId(i)
+                    .setPutRecordResult(result)
+                    .build()
+                    .toByteArray();
+            rcvBuf.putInt(b.length);
+            rcvBuf.put(b);
+        }
+        rcvBuf.flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESULTS)
+    public void decode(Blackhole bh) throws IOException {
+        ByteBuffer buf = rcvBuf.duplicate();
+        while (buf.remaining() >= 4) {
+            int len = buf.getInt(buf.position());
+            CodedInputStream cis = CodedInputStream.newInstance(buf.array(),
+                    buf.arrayOffset() + buf.position() + 4, len);
+            Message m = Message.parseFrom(cis);
+            buf.position(buf.position() + 4 + len);
+            bh.consume(UserRecordResult.fromProtobufMessage(m.getPutRecordResult()));
+        }
+    }
+}
@@ -0,0 +1,590 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats;
+import com.google.protobuf.CodedInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A stand-in for the native {@code kinesis_producer} binary that speaks the same protocol, over the FIFOs, a shared
+ * memory ring or a Unix domain socket, but never talks to Kinesis. Point {@link KinesisProducerConfiguration#setNativeExecutable(String)} at a launcher made with
+ * {@code --install} and the whole Java side runs for real against it, with no network and no AWS account.
+ *
+ * <p>
+ * Like a current native binary, it starts with a Handshake for the protocol version this Daemon speaks. Records are
+ * answered after a configurable latency, or straight away when a Flush arrives, like the real child
+ * holding records in its buffers. A configurable share of records fails outright, and successful ones can carry
+ * throttled attempts before the one that succeeded. MetricsRequests are answered with a few counters, and snapshots
+ * are pushed if asked for. Everything else is read and ignored.
+ *
+ * <p>
+ * Settings are system properties, baked into the launcher when it is installed:
+ * <ul>
+ * <li>{@code kpl.standin.latency}: milliseconds between receiving a record and answering it, 0 by default.</li>
+ * <li>{@code kpl.standin.failureRate}: the share of records that fail after all their attempts, 0 by default.</li>
+ * <li>{@code kpl.standin.retryRate}: the chance of each attempt of a successful record being throttled, 0 by
+ * default.</li>
+ * <li>{@code kpl.standin.maxAttempts}: the most attempts a record gets, 3 by default.</li>
+ * <li>{@code kpl.standin.seed}: seeds the failures, so runs can be repeated.</li>
+ * </ul>
+ */
+public class StandInChild {
+    static final String PREFIX = "kpl.standin.";
+    private static final String SHARD_ID = "shardId-000000000000";
+    private static final String SEQUENCE_NUMBER = "49590338271490256608559692538361571095921575989136588898";
+
+    private final long latencyNanos;
+    private final double failureRate;
+    private final double retryRate;
+    private final int maxAttempts;
+    private final Random random;
+    private final boolean reply;
+
+    /**
+     * Results for successful records, by the number of throttled attempts they had first, and for failed records.
+     * Built up front so answering a record only costs the enclosing Message.
+     */
+    private final PutRecordResult[] successes;
+    private final PutRecordResult failure;
+
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+    private long received;
+    private long answered;
+    private long flushedUpTo;
+
+    private final long started = System.nanoTime();
+    private final AtomicLong messageId = new AtomicLong();
+    private final AtomicLong recordsReceived = new AtomicLong();
+    private final AtomicLong recordsPut = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final ScheduledExecutorService snapshots = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "kpl-stand-in-snapshots");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private DataOutputStream toParent;
+
+    private static final class Pending {
+        final long sourceId;
+        final long due;
+
+        Pending(long sourceId, long due) {
+            this.sourceId = sourceId;
+            this.due = due;
+        }
+    }
+
+    StandInChild(long latencyMillis, double failureRate, double retryRate, int maxAttempts, long seed) {
+        this(latencyMillis, failureRate, retryRate, maxAttempts, seed, true);
+    }
+
+    /**
+     * @param reply
+     *            Whether to answer anything at all. If not, everything the Daemon sends is read and thrown away
+     *            without being parsed.
+     */
+    StandInChild(long latencyMillis, double failureRate, double retryRate, int maxAttempts, long seed,
+            boolean reply) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1, got " + maxAttempts);
+        }
+        this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        this.failureRate = failureRate;
+        this.retryRate = retryRate;
+        this.maxAttempts = maxAttempts;
+        this.random = new Random(seed);
+        this.reply = reply;
+
+        int duration = (int) Math.max(1, latencyMillis / maxAttempts);
+        successes = new PutRecordResult[maxAttempts];
+        for (int throttled = 0; throttled < maxAttempts; throttled++) {
+            successes[throttled] = attempts(throttled, duration)
+                    .addAttempts(Attempt.newBuilder().setDelay(throttled == 0 ? 0 : 100).setDuration(duration)
+                            .setSuccess(true))
+                    .setSuccess(true)
+                    .setShardId(SHARD_ID)
+                    .setSequenceNumber(SEQUENCE_NUMBER)
+                    .build();
+        }
+        failure = attempts(maxAttempts, duration).setSuccess(false).build();
+    }
+
+    private static PutRecordResult.Builder attempts(int throttled, int duration) {
+        PutRecordResult.Builder b = PutRecordResult.newBuilder();
+        for (int i = 0; i < throttled; i++) {
+            b.addAttempts(Attempt.newBuilder()
+                    .setDelay(i == 0 ? 0 : 100)
+                    .setDuration(duration)
+                    .setSuccess(false)
+                    .setErrorCode("ProvisionedThroughputExceededException")
+                    .setErrorMessage("Rate exceeded for shard " + SHARD_ID));
+        }
+        return b;
+    }
+
+    /**
+     * Serve the Daemon on the given pipes until it closes them.
+     *
+     * @param fromParent
+     *            The pipe the Daemon writes to, passed to the native binary as {@code -o}.
+     * @param toParentPipe
+     *            The pipe the Daemon reads from, passed as {@code -i}.
+     * @param ringFile
+     *            The shared memory file passed as {@code -r}, or null to send everything through the pipes.
+     */
+    void serve(File fromParent, File toParentPipe, File ringFile) throws IOException {
+        SharedMemoryRing ring = ringFile == null ? null : SharedMemoryRing.open(ringFile);
+
+        // Opened in the same order as the Daemon opens its ends
+        FileOutputStream toParentStream = new FileOutputStream(toParentPipe);
+        OutputStream out = ring == null ? toParentStream
+                : Channels.newOutputStream(ring.writer(SharedMemoryRing.CHILD_TO_PARENT, toParentStream.getChannel()));
+        FileInputStream fromParentStream = new FileInputStream(fromParent);
+        InputStream in = ring == null ? fromParentStream
+                : Channels.newInputStream(ring.reader(SharedMemoryRing.PARENT_TO_CHILD, fromParentStream.getChannel()));
+        serve(in, out);
+    }
+
+    /**
+     * Serve the Daemon over the Unix domain socket it listens on, passed to the native binary as {@code -s}.
+     */
+    void serve(File socketFile) throws IOException {
+        SocketChannel socket = UnixDomainSockets.connect(socketFile.toPath());
+        // Not Channels.newInputStream and newOutputStream, which share a lock on a socket, so that a blocked read
+        // would hold up every write
+        InputStream in = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return socket.read(ByteBuffer.wrap(b, off, len));
+            }
+        };
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ByteBuffer buf = ByteBuffer.wrap(b, off, len);
+                while (buf.hasRemaining()) {
+                    socket.write(buf);
+                }
+            }
+        };
+        serve(in, out);
+    }
+
+    private void serve(InputStream is, OutputStream out) throws IOException {
+        toParent = new DataOutputStream(new BufferedOutputStream(out, 1 << 20));
+        write(Message.newBuilder()
+                .setId(messageId.getAndIncrement())
+                .setHandshake(Handshake.newBuilder().setProtocolVersion(Daemon.PROTOCOL_VERSION))
+                .build(), true);
+        Thread answerer = new Thread(this::answer, "kpl-stand-in-answerer");
+        answerer.setDaemon(true);
+        answerer.start();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(is, 1 << 20))) {
+            byte[] buf = new byte[1 << 20];
+            while (true) {
+                int len = in.readInt();
+                if (len > buf.length) {
+                    buf = new byte[len];
+                }
+                in.readFully(buf, 0, len);
+                if (reply) {
+                    onMessage(Message.parseFrom(CodedInputStream.newInstance(buf, 0, len)));
+                }
+            }
+        } catch (IOException e) {
+            // The Daemon went away
+        } finally {
+            answerer.interrupt();
+            snapshots.shutdownNow();
+        }
+    }
+
+    private void onMessage(Message m) throws IOException {
+        if (m.hasPutRecord()) {
+            receive(m.getId());
+        } else if (m.hasPutRecordBatch()) {
+            PutRecordBatch batch = m.getPutRecordBatch();
+            for (int i = 0; i < batch.getIdOffsetsCount(); i++) {
+                receive(m.getId() + batch.getIdOffsets(i));
+            }
+        } else if (m.hasFlush()) {
+            // Flushing one stream answers everything received so far, which is close enough for a stand-in
+            synchronized (pending) {
+                flushedUpTo = received;
+                pending.notify();
+            }
+        } else if (m.hasMetricsRequest()) {
+            onMetricsRequest(m);
+        }
+    }
+
+    private void receive(long sourceId) {
+        recordsReceived.incrementAndGet();
+        synchronized (pending) {
+            pending.addLast(new Pending(sourceId, System.nanoTime() + latencyNanos));
+            received++;
+            if (pending.size() == 1) {
+                pending.notify();
+            }
+        }
+    }
+
+    /**
+     * Runs on its own thread, answering records once they're due, in the order they came in. Answers are buffered and
+     * only flushed when nothing else is due yet.
+     */
+    private void answer() {
+        try {
+            while (true) {
+                Pending p = nextDue();
+                if (p == null) {
+                    synchronized (this) {
+                        toParent.flush();
+                    }
+                    awaitDue();
+                    continue;
+                }
+                write(Message.newBuilder()
+                        .setId(messageId.getAndIncrement())
+                        .setSourceId(p.sourceId)
+                        .setPutRecordResult(result())
+                        .build(), false);
+            }
+        } catch (InterruptedException | IOException e) {
+            // Shutting down
+        }
+    }
+
+    private boolean isDue(Pending p) {
+        return answered < flushedUpTo || p.due - System.nanoTime() <= 0;
+    }
+
+    private Pending nextDue() {
+        synchronized (pending) {
+            Pending p = pending.peekFirst();
+            if (p == null || !isDue(p)) {
+                return null;
+            }
+            pending.removeFirst();
+            answered++;
+            return p;
+        }
+    }
+
+    private void awaitDue() throws InterruptedException {
+        synchronized (pending) {
+            Pending p = pending.peekFirst();
+            if (p == null) {
+                pending.wait();
+            } else if (!isDue(p)) {
+                TimeUnit.NANOSECONDS.timedWait(pending, p.due - System.nanoTime());
+            }
+        }
+    }
+
+    private PutRecordResult result() {
+        if (failureRate > 0 && random.nextDouble() < failureRate) {
+            errors.addAndGet(maxAttempts);
+            return failure;
+        }
+        int throttled = 0;
+        while (throttled < maxAttempts - 1 && retryRate > 0 && random.nextDouble() < retryRate) {
+            throttled++;
+        }
+        errors.addAndGet(throttled);
+        recordsPut.incrementAndGet();
+        return successes[throttled];
+    }
+
+    private void onMetricsRequest(Message m) throws IOException {
+        MetricsRequest req = m.getMetricsRequest();
+        if (req.hasSnapshotInterval()) {
+            long interval = req.getSnapshotInterval();
+            if (interval > 0) {
+                snapshots.scheduleAtFixedRate(this::pushSnapshot, 0, interval, TimeUnit.MILLISECONDS);
+            }
+            return;
+        }
+
+        long seconds = req.hasSeconds() ? req.getSeconds() : elapsedSeconds();
+        MetricsResponse.Builder res = MetricsResponse.newBuilder();
+        for (Metric metric : metrics(seconds)) {
+            if (!req.hasName() || req.getName().equals(metric.getName())) {
+                res.addMetrics(metric);
+            }
+        }
+        write(Message.newBuilder()
+                .setId(messageId.getAndIncrement())
+                .setSourceId(m.getId())
+                .setMetricsResponse(res)
+                .build(), true);
+    }
+
+    private void pushSnapshot() {
+        try {
+            write(Message.newBuilder()
+                    .setId(messageId.getAndIncrement())
+                    .setMetricsSnapshot(MetricsSnapshot.newBuilder()
+                            .addAllMetrics(metrics(elapsedSeconds()))
+                            .setFull(true))
+                    .build(), true);
+        } catch (IOException e) {
+            snapshots.shutdown();
+        }
+    }
+
+    private long elapsedSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started);
+    }
+
+    /**
+     * The counters kept here don't track windows, so they are always totals since the start, whatever window was asked
+     * for.
+     */
+    private List<Metric> metrics(long seconds) {
+        return Arrays.asList(
+                metric("UserRecordsReceived", recordsReceived.get(), seconds),
+                metric("UserRecordsPut", recordsPut.get(), seconds),
+                metric("AllErrors", errors.get(), seconds));
+    }
+
+    private static Metric metric(String name, long count, long seconds) {
+        double one = count == 0 ? 0 : 1;
+        return Metric.newBuilder()
+                .setName(name)
+                .addDimensions(Dimension.newBuilder().setKey("StreamName").setValue("stand-in"))
+                .setStats(Stats.newBuilder().setCount(count).setSum(count).setMean(one).setMin(one).setMax(one))
+                .setSeconds(seconds)
+                .build();
+    }
+
+    private synchronized void write(Message m, boolean flush) throws IOException {
+        byte[] b = m.toByteArray();
+        toParent.writeInt(b.length);
+        toParent.write(b);
+        if (flush) {
+            toParent.flush();
+        }
+    }
+
+    /**
+     * Serve a stand-in from a thread in this JVM, over a new pair of FIFOs, for benchmarks that connect a
+     * {@link Daemon} or a producer to the pipes themselves. Records are answered straight away and always succeed.
+     *
+     * @param reply
+     *            Whether to answer records, rather than only reading them.
+     */
+    static InProcess inProcess(boolean reply) throws IOException, InterruptedException {
+        return new InProcess(new StandInChild(0, 0, 0, 1, 0, reply));
+    }
+
+    /**
+     * A stand-in running in this JVM. The Daemon has to be connected to {@link #getInPipe()} and
+     * {@link #getOutPipe()} right after it is created, since opening a FIFO blocks until both ends are open.
+     */
+    static final class InProcess implements AutoCloseable {
+        private final File inPipe;
+        private final File outPipe;
+        private final Thread thread;
+
+        private InProcess(StandInChild child) throws IOException, InterruptedException {
+            File dir = new File(System.getProperty("java.io.tmpdir"));
+            inPipe = new File(dir, "kpl-bench-in-" + UUID.randomUUID());
+            outPipe = new File(dir, "kpl-bench-out-" + UUID.randomUUID());
+            Process p = new ProcessBuilder("mkfifo", inPipe.getAbsolutePath(), outPipe.getAbsolutePath()).start();
+            if (p.waitFor() != 0) {
+                throw new IOException("mkfifo failed");
+            }
+
+            thread = new Thread(() -> {
+                try {
+                    child.serve(outPipe, inPipe, null);
+                } catch (IOException e) {
+                    // The Daemon went away
+                }
+            }, "kpl-stand-in");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        /**
+         * @return The pipe the Daemon reads from.
+         */
+        File getInPipe() {
+            return inPipe;
+        }
+
+        /**
+         * @return The pipe the Daemon writes to.
+         */
+        File getOutPipe() {
+            return outPipe;
+        }
+
+        @Override
+        public void close() {
+            thread.interrupt();
+            inPipe.delete();
+            outPipe.delete();
+        }
+    }
+
+    static StandInChild fromSystemProperties() {
+        return new StandInChild(
+                Long.getLong(PREFIX + "latency", 0),
+                Double.parseDouble(System.getProperty(PREFIX + "failureRate", "0")),
+                Double.parseDouble(System.getProperty(PREFIX + "retryRate", "0")),
+                Integer.getInteger(PREFIX + "maxAttempts", 3),
+                Long.getLong(PREFIX + "seed", System.nanoTime()));
+    }
+
+    /**
+     * Write a launcher script that runs the stand-in with this JVM's java binary and classpath, passing it the
+     * {@code kpl.standin.*} settings among the given properties.
+     *
+     * <p>
+     * The producer extracts its CA certificates next to the native executable, so the launcher gets a directory of
+     * its own.
+     *
+     * @param dir
+     *            The directory to create the launcher in.
+     * @param settings
+     *            Properties to take the stand-in's settings from.
+     * @return The launcher, to be passed to {@link KinesisProducerConfiguration#setNativeExecutable(String)}.
+     */
+    public static File install(File dir, Properties settings) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create " + dir);
+        }
+        StringBuilder props = new StringBuilder();
+        for (String name : settings.stringPropertyNames()) {
+            if (name.startsWith(PREFIX)) {
+                props.append(" '-D").append(name).append('=').append(settings.getProperty(name)).append('\'');
+            }
+        }
+
+        StringBuilder classPath = new StringBuilder();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (classPath.length() > 0) {
+                classPath.append(File.pathSeparator);
+            }
+            classPath.append(new File(entry).getAbsolutePath());
+        }
+
+        File launcher = new File(dir, "kinesis_producer");
+        try (PrintWriter w = new PrintWriter(launcher, StandardCharsets.UTF_8.name())) {
+            w.println("#!/bin/sh");
+            w.println("exec '" + new File(System.getProperty("java.home"), "bin/java") + "'" + props
+                    + " $KPL_STAND_IN_OPTS -cp '" + classPath + "' "
+                    + StandInChild.class.getName() + " \"$@\"");
+        }
+        if (!launcher.setExecutable(true)) {
+            throw new IOException("Could not make " + launcher + " executable");
+        }
+        return launcher;
+    }
+
+    /**
+     * Either serve a Daemon, taking the same arguments as the native binary, or with {@code --install <dir>}, write a
+     * launcher script into the directory and print its path. The launcher is given the {@code kpl.standin.*} system
+     * properties this command was run with.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals("--install")) {
+            System.out.println(install(new File(args[1]), System.getProperties()).getAbsolutePath());
+            return;
+        }
+
+        String fromParent = null;
+        String toParent = null;
+        File ring = null;
+        File socket = null;
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("-o")) {
+                fromParent = args[++i];
+            } else if (args[i].equals("-i")) {
+                toParent = args[++i];
+            } else if (args[i].equals("-r")) {
+                ring = new File(args[++i]);
+            } else if (args[i].equals("-s")) {
+                socket = new File(args[++i]);
+            }
+        }
+        if (socket != null) {
+            fromSystemProperties().serve(socket);
+            System.exit(0);
+        }
+        if (fromParent == null || toParent == null) {
+            System.err.println("Usage: StandInChild -o <pipe to read> -i <pipe to write> [-r <shared memory ring>] "
+                    + "[native binary options]");
+            System.err.println("       StandInChild -s <socket> [native binary options]");
+            System.err.println("       StandInChild --install <dir>");
+            System.exit(1);
+        }
+
+        fromSystemProperties().serve(new File(fromParent), new File(toParent), ring);
+        System.exit(0);
+    }
+}
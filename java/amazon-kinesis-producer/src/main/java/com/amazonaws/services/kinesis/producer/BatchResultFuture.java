@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.UserRecordBatchResult.FailedRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Future for a whole batch of records, completed once every record in it has finished.
+ *
+ * <p>
+ * Each record still has an {@link Entry} in the {@link CompletionTable} so results from the child process can be
+ * matched up, but entries report straight into the batch rather than carrying listeners of their own.
+ */
+class BatchResultFuture extends ResultFuture<UserRecordBatchResult> {
+    private final int recordCount;
+    private final AtomicInteger remaining;
+    // Guarded by itself
+    private final List<FailedRecord> failed = new ArrayList<>();
+
+    BatchResultFuture(long id, int recordCount) {
+        super(id);
+        this.recordCount = recordCount;
+        this.remaining = new AtomicInteger(recordCount);
+        if (recordCount == 0) {
+            set(new UserRecordBatchResult(0, Collections.<FailedRecord>emptyList()));
+        }
+    }
+
+    /**
+     * @return A future for the record at the given position in the batch, to be put in the {@link CompletionTable}.
+     */
+    Entry entry(long id, int index) {
+        return new Entry(id, index);
+    }
+
+    /**
+     * Count the record at the given position as failed without it ever being sent.
+     */
+    void fail(int index, Throwable cause) {
+        finished(index, cause);
+    }
+
+    private void finished(int index, Throwable cause) {
+        if (cause != null) {
+            synchronized (failed) {
+                failed.add(new FailedRecord(index, cause));
+            }
+        }
+        if (remaining.decrementAndGet() == 0) {
+            List<FailedRecord> result;
+            synchronized (failed) {
+                result = new ArrayList<>(failed);
+            }
+            result.sort(Comparator.comparingInt(FailedRecord::getIndex));
+            set(new UserRecordBatchResult(recordCount, Collections.unmodifiableList(result)));
+        }
+    }
+
+    /**
+     * Stands in for the future of a single record in the batch.
+     */
+    class Entry extends ResultFuture<UserRecordResult> {
+        private final int index;
+
+        private Entry(long id, int index) {
+            super(id);
+            this.index = index;
+        }
+
+        @Override
+        boolean set(UserRecordResult value) {
+            if (!super.set(value)) {
+                return false;
+            }
+            finished(index, null);
+            return true;
+        }
+
+        @Override
+        boolean setException(Throwable t) {
+            if (!super.setException(t)) {
+                return false;
+            }
+            finished(index, t);
+            return true;
+        }
+    }
+}
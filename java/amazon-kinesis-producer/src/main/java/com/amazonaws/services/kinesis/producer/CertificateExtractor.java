@@ -17,6 +17,9 @@ package com.amazonaws.services.kinesis.producer;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.channels.OverlappingFileLockException;
@@ -27,9 +30,14 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Properties;
+
+import javax.xml.bind.DatatypeConverter;
 
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
@@ -39,6 +47,8 @@ class CertificateExtractor {
 
     static final String CA_CERTS_DIRECTORY_NAME = "cacerts";
     static final String LOCK_FILE_NAME = CA_CERTS_DIRECTORY_NAME + ".lock";
+    // Digests of the certificates as last extracted, checked against the manifest to skip extraction
+    static final String DIGESTS_FILE_NAME = CA_CERTS_DIRECTORY_NAME + ".digests";
     static final List<String> CERTIFICATE_FILES = Arrays.asList("062cdee6.0", "09789157.0", "116bf586.0", "1d3472b9.0",
             "244b5494.0", "2c543cd1.0", "2e4eed3c.0", "3513523f.0", "480720ec.0", "4a6481c9.0", "4bfab552.0",
             "5ad8a5d6.0", "607986c7.0", "653b494a.0", "6d41d539.0", "75d1b2ed.0", "76cb8f92.0", "7d0b38bd.0",
@@ -48,6 +58,7 @@ class CertificateExtractor {
 
     private static final Logger log = LoggerFactory.getLogger(CertificateExtractor.class);
     private final Class<?> certificateSourceClass;
+    private final ExtractionManifest manifest;
 
     private final List<File> extractedCertificates = new ArrayList<>();
 
@@ -57,19 +68,24 @@ class CertificateExtractor {
 
     CertificateExtractor(Class<?> certificateSourceClass) {
         this.certificateSourceClass = certificateSourceClass;
+        this.manifest = ExtractionManifest.load(certificateSourceClass.getClassLoader());
     }
 
     String extractCertificates(File tempDirectory) throws IOException {
 
         Path lockFile = new File(tempDirectory, LOCK_FILE_NAME).toPath();
+        Path digestsFile = new File(tempDirectory, DIGESTS_FILE_NAME).toPath();
         boolean lockHeld = false;
         int attempts = 1;
         File destinationCaDirectory = prepareDestination(tempDirectory);
+        if (alreadyExtracted(destinationCaDirectory, digestsFile)) {
+            return destinationCaDirectory.getAbsolutePath();
+        }
         while (!lockHeld) {
             try {
                 try (FileLock lock = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE).lock()) {
                     lockHeld = true;
-                    extractAndVerifyCertificates(destinationCaDirectory);
+                    extractAndVerifyCertificates(destinationCaDirectory, digestsFile);
                 }
             } catch (OverlappingFileLockException ofle) {
                 attempts++;
@@ -103,7 +119,35 @@ class CertificateExtractor {
         return destinationCaCerts;
     }
 
-    private void extractAndVerifyCertificates(File destinationPath) throws IOException {
+    /**
+     * Whether every certificate was extracted by an earlier run with the digest the manifest expects and still has
+     * the expected size. If so, they are used as they are.
+     */
+    private boolean alreadyExtracted(File destinationPath, Path digestsFile) throws IOException {
+        if (manifest == null || !Files.isRegularFile(digestsFile)) {
+            return false;
+        }
+        Properties digests = new Properties();
+        try (Reader reader = Files.newBufferedReader(digestsFile, StandardCharsets.UTF_8)) {
+            digests.load(reader);
+        }
+        List<File> certificates = new ArrayList<>(CERTIFICATE_FILES.size());
+        for (String certificate : CERTIFICATE_FILES) {
+            ExtractionManifest.Entry expected = manifest.get(CA_CERTS_DIRECTORY_NAME + "/" + certificate);
+            File destinationCertificate = new File(destinationPath, certificate);
+            if (expected == null || !expected.digest.equals(digests.getProperty(certificate))
+                    || destinationCertificate.length() != expected.size) {
+                return false;
+            }
+            certificates.add(destinationCertificate.getAbsoluteFile());
+        }
+        log.debug("Certificates in '{}' match the manifest. Skipping extraction", destinationPath);
+        extractedCertificates.addAll(certificates);
+        return true;
+    }
+
+    private void extractAndVerifyCertificates(File destinationPath, Path digestsFile) throws IOException {
+        Properties digests = new Properties();
         for (String certificate : CERTIFICATE_FILES) {
             InputStream certificateSource = certificateSourceClass.getClassLoader()
                     .getResourceAsStream(CA_CERTS_DIRECTORY_NAME + "/" + certificate);
@@ -111,6 +155,7 @@ class CertificateExtractor {
             File destinationCertificate = new File(destinationPath, certificate);
             log.debug("Extracting certificate '{}' to '{}'", certificate, destinationCertificate);
             byte[] certificateData = IOUtils.toByteArray(certificateSource);
+            digests.setProperty(certificate, digest(certificateData));
             extractedCertificates.add(destinationCertificate.getAbsoluteFile());
             if (destinationCertificate.exists()) {
                 byte[] existingData = Files.readAllBytes(destinationCertificate.toPath());
@@ -123,5 +168,26 @@ class CertificateExtractor {
             Files.write(destinationCertificate.toPath(), certificateData, StandardOpenOption.WRITE,
                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
         }
+
+        // Replaced in one go so a run that doesn't take the lock never reads half of it
+        Path tempFile = Files.createTempFile(digestsFile.getParent(), HashedFileCopier.TEMP_PREFIX,
+                HashedFileCopier.TEMP_SUFFIX);
+        try {
+            try (OutputStream os = Files.newOutputStream(tempFile)) {
+                digests.store(os, null);
+            }
+            Files.move(tempFile, digestsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static String digest(byte[] data) {
+        try {
+            return DatatypeConverter.printHexBinary(
+                    MessageDigest.getInstance(HashedFileCopier.MESSAGE_DIGEST_ALGORITHM).digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Outstanding futures, keyed by message id.
+ *
+ * <p>
+ * Message ids are handed out sequentially, so the low bits of the id index straight into a fixed ring of slots. A
+ * slot that is still occupied by an older message when its index comes around again sends the newer entry to an
+ * overflow map instead; that only happens when a record has been outstanding for longer than it takes to add as many
+ * records as there are slots.
+ */
+class CompletionTable {
+    static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final AtomicReferenceArray<ResultFuture<?>> slots;
+    private final int mask;
+    private final Map<Long, ResultFuture<?>> overflow = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    CompletionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    CompletionTable(int minCapacity) {
+        int n = 1;
+        while (n < minCapacity) {
+            n <<= 1;
+        }
+        slots = new AtomicReferenceArray<>(n);
+        mask = n - 1;
+    }
+
+    void put(ResultFuture<?> f) {
+        size.incrementAndGet();
+        if (!slots.compareAndSet(index(f.getId()), null, f)) {
+            overflow.put(f.getId(), f);
+        }
+    }
+
+    /**
+     * @return The future with the given id, or null if there isn't one.
+     */
+    ResultFuture<?> remove(long id) {
+        int i = index(id);
+        ResultFuture<?> f = slots.get(i);
+        if (f != null && f.getId() == id && slots.compareAndSet(i, f, null)) {
+            size.decrementAndGet();
+            return f;
+        }
+        if (overflow.isEmpty()) {
+            return null;
+        }
+        f = overflow.remove(id);
+        if (f != null) {
+            size.decrementAndGet();
+        }
+        return f;
+    }
+
+    /**
+     * Remove and return every outstanding future.
+     */
+    List<ResultFuture<?>> removeAll() {
+        List<ResultFuture<?>> removed = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                ResultFuture<?> f = slots.getAndSet(i, null);
+                if (f != null) {
+                    removed.add(f);
+                }
+            }
+        }
+        for (Long id : overflow.keySet()) {
+            ResultFuture<?> f = overflow.remove(id);
+            if (f != null) {
+                removed.add(f);
+            }
+        }
+        size.addAndGet(-removed.size());
+        return removed;
+    }
+
+    int size() {
+        return Math.max(0, size.get());
+    }
+
+    private int index(long id) {
+        return (int) id & mask;
+    }
+}
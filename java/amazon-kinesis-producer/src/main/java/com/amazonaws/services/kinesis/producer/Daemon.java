@@ -16,7 +16,7 @@
 package com.amazonaws.services.kinesis.producer;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
@@ -32,25 +32,32 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -73,12 +80,44 @@ public class Daemon {
 
         public void onMessage(Message m);
 
+        /**
+         * Receive every message decoded from a single read of the pipe. Called on the thread reading from the child
+         * process, so implementations should hand the work off rather than block. The list is not reused by the
+         * caller.
+         */
+        public default void onMessages(List<Message> messages) {
+            for (Message m : messages) {
+                onMessage(m);
+            }
+        }
+
         @KplTraceLog
         public void onError(Throwable t);
     }
 
-    private BlockingQueue<Message> outgoingMessages = new LinkedBlockingQueue<>();
-    private BlockingQueue<Message> incomingMessages = new LinkedBlockingQueue<>();
+    /**
+     * Size of the reusable buffer outgoing frames are packed into. Messages are limited to 2MB on the native side, so
+     * a single frame always fits unless it is going to be rejected by the child anyway.
+     */
+    private static final int SEND_BUFFER_SIZE = 2 * 1024 * 1024;
+
+    /**
+     * Upper bound on the number of messages taken off the queue in one go by the writer.
+     */
+    private static final int MAX_SEND_BATCH = 4096;
+
+    /**
+     * Protocol assumed for a child that hasn't sent a Handshake, which is what children built before there was one
+     * understand. See Handshake in messages.proto.
+     */
+    static final int BASELINE_PROTOCOL_VERSION = 1;
+
+    /**
+     * Protocol needed for RegisterStream, stream ids, binary explicit hash keys, PutRecordBatch and MetricsSnapshot.
+     */
+    static final int PROTOCOL_VERSION = 2;
+
+    private MessageQueue<OutgoingFrame> outgoingMessages = new MessageQueue<>();
 
     private ExecutorService executor = Executors
             .newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("kpl-daemon-%04d").build());
@@ -86,17 +125,34 @@ public class Daemon {
     private Process process = null;
     private LogInputStreamReader stdOutReader;
     private LogInputStreamReader stdErrReader;
+    private volatile NativeLogForwarder logForwarder;
     private AtomicBoolean shutdown = new AtomicBoolean(false);
 
     private File inPipe = null;
     private File outPipe = null;
-    private FileChannel inChannel = null;
-    private FileChannel outChannel = null;
-    private OutputStream outStream;
-
-    private ByteBuffer lenBuf = ByteBuffer.allocate(4);
+    private ReadableByteChannel inChannel = null;
+    private WritableByteChannel outChannel = null;
+    private File ringFile = null;
+    private SharedMemoryRing ring = null;
+    private Path socketPath = null;
+    private ServerSocketChannel server = null;
+
+    private final List<OutgoingFrame> sendBatch = new ArrayList<>();
+    private ByteBuffer sendBuf = ByteBuffer.allocateDirect(SEND_BUFFER_SIZE);
+    // Ids of the streams this child has been told about. Only touched by the writer thread.
+    private final BitSet registeredStreams = new BitSet();
+    private volatile int childProtocolVersion = BASELINE_PROTOCOL_VERSION;
+    // Frames a baseline child doesn't understand, waiting for its Handshake
+    private final Queue<OutgoingFrame> awaitingHandshake = new ConcurrentLinkedQueue<>();
     private ByteBuffer rcvBuf = ByteBuffer.allocate(8 * 1024 * 1024);
 
+    private final AtomicLong ipcWrites = new AtomicLong(0);
+    private final AtomicLong framesWritten = new AtomicLong(0);
+    private final AtomicLong bytesWritten = new AtomicLong(0);
+    private final AtomicLong messagesRead = new AtomicLong(0);
+    // In microseconds
+    private final Log2Histogram writeLatency = new Log2Histogram();
+
     private final String pathToExecutable;
     private final MessageHandler handler;
     private final String workingDir;
@@ -119,7 +175,7 @@ public class Daemon {
         this.config = config;
         this.environmentVariables = environmentVariables;
 
-        lenBuf.order(ByteOrder.BIG_ENDIAN);
+        sendBuf.order(ByteOrder.BIG_ENDIAN);
         rcvBuf.order(ByteOrder.BIG_ENDIAN);
 
         executor.execute(() -> {
@@ -165,16 +221,31 @@ public class Daemon {
      */
     @KplTraceLog
     public void add(Message m) {
+        add(new OutgoingFrame.ProtobufFrame(m));
+    }
+
+    /**
+     * Enqueue a frame that encodes itself to be sent to the child process.
+     */
+    void add(OutgoingFrame f) {
         if (shutdown.get()) {
             throw new DaemonException(
                     "The child process has been shutdown and can no longer accept messages.");
         }
 
-        try {
-            outgoingMessages.put(m);
-        } catch (InterruptedException e) {
-            fatalError("Unexpected error", e);
+        outgoingMessages.add(f);
+    }
+
+    /**
+     * Enqueue several frames at once. They are sent in the order given.
+     */
+    void addAll(Collection<? extends OutgoingFrame> frames) {
+        if (shutdown.get()) {
+            throw new DaemonException(
+                    "The child process has been shutdown and can no longer accept messages.");
         }
+
+        outgoingMessages.addAll(frames);
     }
 
     /**
@@ -210,79 +281,284 @@ public class Daemon {
     }
 
     /**
-     * Send a message to the child process. If there are no messages available in the queue, this method blocks until
-     * there is one.
+     * @return Whether the child process has died or been destroyed, after which no more messages are accepted.
+     */
+    boolean isShutdown() {
+        return shutdown.get();
+    }
+
+    /**
+     * @return Number of write calls made against the pipe to the child process.
+     */
+    public long getIpcWriteCount() {
+        return ipcWrites.get();
+    }
+
+    /**
+     * @return Number of length-prefixed frames (i.e. messages) written to the child process.
+     */
+    public long getIpcFramesWritten() {
+        return framesWritten.get();
+    }
+
+    /**
+     * @return Number of bytes, including the length prefixes, written to the child process.
+     */
+    public long getIpcBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * @return Number of messages read from the child process.
+     */
+    public long getIpcMessagesRead() {
+        return messagesRead.get();
+    }
+
+    /**
+     * @return Number of log messages from the child process that were dropped rather than logged.
+     * @see KinesisProducerConfiguration#setNativeLogRateLimit(long)
+     */
+    public long getNativeLogMessagesDropped() {
+        NativeLogForwarder forwarder = logForwarder;
+        return forwarder == null ? 0 : forwarder.getDropped();
+    }
+
+    /**
+     * @return Time taken by each write to the pipe, in microseconds.
+     */
+    Log2Histogram getIpcWriteLatency() {
+        return writeLatency;
+    }
+
+    /**
+     * @return Average number of frames coalesced into a single write, or 0 if nothing has been written yet.
+     */
+    public double getFramesPerWrite() {
+        long writes = ipcWrites.get();
+        return writes == 0 ? 0 : (double) framesWritten.get() / writes;
+    }
+
+    /**
+     * @return Average number of bytes pushed to the child process per write, or 0 if nothing has been written yet.
+     */
+    public double getBytesPerWrite() {
+        long writes = ipcWrites.get();
+        return writes == 0 ? 0 : (double) bytesWritten.get() / writes;
+    }
+
+    /**
+     * Send messages to the child process. Blocks until at least one message is available, then drains everything
+     * else that is currently queued and frames it into a single buffer, so that a burst of records costs one write
+     * instead of two per record. The wire format is unchanged: each message is preceded by its length as a 4 byte big
+     * endian integer. Frames encode themselves straight into a direct buffer, so the write doesn't need another copy.
      */
     private void sendMessage() {
         String kplErrorText = "Error writing message to daemon";
         try {
-            Message m = outgoingMessages.take();
-            int size = m.getSerializedSize();
-            lenBuf.rewind();
-            lenBuf.putInt(size);
-            lenBuf.rewind();
-            outChannel.write(lenBuf);
-            m.writeTo(outStream);
-            outStream.flush();
+            outgoingMessages.drainTo(sendBatch, MAX_SEND_BATCH);
+            if (childProtocolVersion >= PROTOCOL_VERSION) {
+                registerStreams();
+                batchRecords();
+            } else {
+                useBaselineProtocol();
+            }
+
+            int i = 0;
+            while (i < sendBatch.size()) {
+                ByteBuffer buf = sendBuf;
+                buf.clear();
+                int frames = 0;
+                while (i < sendBatch.size()) {
+                    OutgoingFrame f = sendBatch.get(i);
+                    int size = f.getSerializedSize();
+                    if (buf.remaining() < 4 + size) {
+                        if (frames > 0) {
+                            break;
+                        }
+                        // Oversized message; give it a buffer of its own.
+                        buf = ByteBuffer.allocate(4 + size);
+                    }
+                    buf.putInt(size);
+                    int end = buf.position() + size;
+                    f.writeTo(buf);
+                    if (buf.position() != end) {
+                        throw new IllegalStateException("Frame wrote " + (buf.position() - end + size) +
+                                                        " bytes, expected " + size);
+                    }
+                    f.onSerialized();
+                    frames++;
+                    i++;
+                }
+                buf.flip();
+                int bytes = buf.remaining();
+                long start = System.nanoTime();
+                while (buf.hasRemaining()) {
+                    outChannel.write(buf);
+                }
+                writeLatency.record((System.nanoTime() - start) / 1000);
+                ipcWrites.incrementAndGet();
+                framesWritten.addAndGet(frames);
+                bytesWritten.addAndGet(bytes);
+            }
         } catch (IOException ioe) {
             logError(ioe, "ioException", kplErrorText, "sendMessage", "all");
             fatalError(kplErrorText, ioe);
         } catch (InterruptedException ie) {
             logError(ie, "interruptedException", kplErrorText, "sendMessage", "all");
             fatalError(kplErrorText, ie);
+        } catch (RuntimeException re) {
+            // A frame that doesn't encode as promised would otherwise end the writer thread silently and wedge the
+            // producer
+            logError(re, "runtimeException", kplErrorText, "sendMessage", "all");
+            fatalError(kplErrorText, re);
+        } finally {
+            sendBatch.clear();
         }
     }
 
     /**
-     * Read a message from the child process off the wire. If there are no bytes available on the socket, or there if
-     * there are not enough bytes to form a complete message, this method blocks until there is.
+     * Encode the batch for a child that hasn't sent a Handshake, holding back what it wouldn't understand.
      */
-    private void receiveMessage() {
-        String kplErrorText = "Error reading message from daemon";
-        try {
-            // Read message length (4 bytes)
-            readSome(4);
-            int len = rcvBuf.getInt();
-            if (len <= 0 || len > rcvBuf.capacity()) {
-                throw new IllegalArgumentException("Invalid message size (" + len +
-                                                   " bytes, at most " + rcvBuf.capacity() + " supported)");
+    private void useBaselineProtocol() {
+        int n = sendBatch.size();
+        int out = 0;
+        boolean held = false;
+        for (int i = 0; i < n; i++) {
+            OutgoingFrame f = sendBatch.get(i);
+            if (f.useBaselineProtocol()) {
+                sendBatch.set(out++, f);
+            } else {
+                awaitingHandshake.add(f);
+                held = true;
+            }
+        }
+        sendBatch.subList(out, n).clear();
+        // The Handshake may have arrived after the check in sendMessage, and the reader only releases what it sees
+        if (held && childProtocolVersion >= PROTOCOL_VERSION) {
+            OutgoingFrame f;
+            while ((f = awaitingHandshake.poll()) != null) {
+                sendBatch.add(f);
             }
+        }
+    }
 
-            // Read message
-            readSome(len);
+    /**
+     * Insert a RegisterStream message ahead of the first record in the batch for each stream the child hasn't seen
+     * yet. Records refer to their stream by id, and a restarted child starts out knowing no streams, so this is
+     * tracked per Daemon.
+     */
+    private void registerStreams() {
+        for (int i = 0; i < sendBatch.size(); i++) {
+            StreamHandle stream = sendBatch.get(i).getStream();
+            if (stream == null || stream.getId() < 0 || registeredStreams.get(stream.getId())) {
+                continue;
+            }
+            registeredStreams.set(stream.getId());
+            sendBatch.add(i++, new OutgoingFrame.ProtobufFrame(makeRegisterStreamMessage(stream)));
+        }
+    }
 
-            // Deserialize message and add it to the queue
-            Message m = Message.parseFrom(ByteString.copyFrom(rcvBuf));
-            incomingMessages.put(m);
-        } catch (IOException ioe) {
-            logError(ioe, "ioException", kplErrorText, "receiveMessage", "all");
-            fatalError(kplErrorText, ioe);
-        } catch (InterruptedException ie) {
-            logError(ie, "interruptedException", kplErrorText, "receiveMessage", "all");
-            fatalError(kplErrorText, ie);
+    /**
+     * Replace each run of records in the batch with a single {@link PutRecordBatchFrame}, keeping everything else
+     * where it is.
+     */
+    private void batchRecords() {
+        int n = sendBatch.size();
+        int out = 0;
+        int i = 0;
+        while (i < n) {
+            int end = PutRecordBatchFrame.batchEnd(sendBatch, i);
+            if (end - i > 1) {
+                sendBatch.set(out++, new PutRecordBatchFrame(sendBatch.subList(i, end)));
+                i = end;
+            } else {
+                sendBatch.set(out++, sendBatch.get(i++));
+            }
         }
+        sendBatch.subList(out, n).clear();
     }
 
     /**
-     * Invokes the message handler, giving it a message received from the child process.
+     * Read from the child process off the wire. A single read pulls in as many bytes as the pipe currently holds, and
+     * every complete length-prefixed frame in the buffer is decoded in place and passed to the handler as one batch. A
+     * partial frame at the end is kept for the next read. If there are no bytes available on the pipe, this method
+     * blocks until there are.
      */
-    private void returnMessage() {
-        String kplErrorText = "Unexpected error";
+    private void receiveMessage() {
+        String kplErrorText = "Error reading message from daemon";
         try {
-            Message m = incomingMessages.take();
-            if (handler != null) {
+            if (inChannel.read(rcvBuf) < 0) {
+                fatalError("EOF reached during read");
+                return;
+            }
+
+            rcvBuf.flip();
+            List<Message> batch = null;
+            while (rcvBuf.remaining() >= 4) {
+                int len = rcvBuf.getInt(rcvBuf.position());
+                if (len <= 0 || len > rcvBuf.capacity() - 4) {
+                    // The stream is out of step with the frames, so nothing after this can be trusted either
+                    fatalError("Invalid message size (" + len + " bytes, at most " + (rcvBuf.capacity() - 4) +
+                               " supported)");
+                    return;
+                }
+                if (rcvBuf.remaining() < 4 + len) {
+                    break;
+                }
+
+                // Deserialize straight out of the receive buffer
+                CodedInputStream cis = CodedInputStream.newInstance(rcvBuf.array(),
+                        rcvBuf.arrayOffset() + rcvBuf.position() + 4, len);
+                Message m = Message.parseFrom(cis);
+                rcvBuf.position(rcvBuf.position() + 4 + len);
+                if (m.hasHandshake()) {
+                    onHandshake(m.getHandshake().getProtocolVersion());
+                    continue;
+                }
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                }
+                batch.add(m);
+            }
+            rcvBuf.compact();
+
+            if (batch != null && handler != null) {
+                messagesRead.addAndGet(batch.size());
                 try {
-                    handler.onMessage(m);
+                    handler.onMessages(batch);
                 } catch (Exception e) {
                     log.error("Error in message handler", e);
                 }
             }
-        } catch (InterruptedException ie) {
-            logError(ie, "interruptedException", kplErrorText, "returnMessage", "all");
-            fatalError(kplErrorText, ie);
+        } catch (IOException ioe) {
+            logError(ioe, "ioException", kplErrorText, "receiveMessage", "all");
+            fatalError(kplErrorText, ioe);
+        } catch (RuntimeException re) {
+            // Would otherwise end the reader thread silently, leaving every outstanding future hanging
+            logError(re, "runtimeException", kplErrorText, "receiveMessage", "all");
+            fatalError(kplErrorText, re);
         }
     }
 
+    private void onHandshake(int version) {
+        log.info("Native process speaks protocol version {}", version);
+        childProtocolVersion = version;
+        if (version >= PROTOCOL_VERSION) {
+            OutgoingFrame f;
+            while ((f = awaitingHandshake.poll()) != null) {
+                outgoingMessages.add(f);
+            }
+        }
+    }
+
+    /**
+     * @return The protocol version the child said it speaks, or {@link #BASELINE_PROTOCOL_VERSION} if it hasn't said.
+     */
+    int getChildProtocolVersion() {
+        return childProtocolVersion;
+    }
+
     /**
      * Start up the loops that continuously send and receive messages to and from the child process.
      */
@@ -305,14 +581,10 @@ public class Daemon {
             }
         });
 
-        executor.execute(new Runnable() {
-            @Override
-            public void run() {
-                while (!shutdown.get()) {
-                    returnMessage();
-                }
-            }
-        });
+        // Connected to existing pipes for testing, with no configuration to take credentials from
+        if (config == null) {
+            return;
+        }
 
         executor.execute(new Runnable() {
             @Override
@@ -350,6 +622,19 @@ public class Daemon {
 
     @KplTraceLog
     private void connectToChild() throws IOException {
+        if (server != null) {
+            // Blocks until the child connects. If the child dies first, the executor is shut down, which interrupts
+            // the accept.
+            SocketChannel socket = server.accept();
+            server.close();
+            Files.deleteIfExists(socketPath);
+            UnixDomainSockets.setBufferSizes(socket, (int) config.getSocketBufferBytes());
+            inChannel = socket;
+            outChannel = socket;
+            log.info("loggerType=kplError methodName=connectToChild action=socketConnected");
+            return;
+        }
+
         long start = System.nanoTime();
         while (true) {
             log.info("loggerType=kplError methodName=connectToChild action=begin");
@@ -358,8 +643,11 @@ public class Daemon {
                 log.info("loggerType=kplError methodName=connectToChild action=inChannelCreated");
                 outChannel = FileChannel.open(Paths.get(outPipe.getAbsolutePath()), StandardOpenOption.WRITE);
                 log.info("loggerType=kplError methodName=connectToChild action=outChannelCreated");
-                outStream = Channels.newOutputStream(outChannel);
-                log.info("loggerType=kplError methodName=connectToChild action=outStreamCreated");
+                if (ring != null) {
+                    // The pipes are only used to wake up the side that is waiting on a ring
+                    inChannel = ring.reader(SharedMemoryRing.CHILD_TO_PARENT, inChannel);
+                    outChannel = ring.writer(SharedMemoryRing.PARENT_TO_CHILD, outChannel);
+                }
                 break;
             } catch (IOException ioe) {
                 logError(ioe, "ioException", "None", "connectToChild", "all");
@@ -387,6 +675,11 @@ public class Daemon {
     }
 
     private void createPipes() throws IOException {
+        if (config != null && config.getIpcTransport() == KinesisProducerConfiguration.IpcTransport.UNIX_SOCKET
+                && createSocket()) {
+            return;
+        }
+
         if (SystemUtils.IS_OS_WINDOWS) {
             createPipesWindows();
         } else {
@@ -395,6 +688,62 @@ public class Daemon {
 
         inPipe.deleteOnExit();
         outPipe.deleteOnExit();
+
+        if (config != null && config.getIpcTransport() == KinesisProducerConfiguration.IpcTransport.SHARED_MEMORY) {
+            createRing();
+        }
+    }
+
+    /**
+     * Listen on a Unix domain socket in the working directory for the child to connect to, for
+     * {@link KinesisProducerConfiguration.IpcTransport#UNIX_SOCKET}.
+     *
+     * @return False if that isn't possible here, in which case pipes are used.
+     */
+    private boolean createSocket() throws IOException {
+        if (SystemUtils.IS_OS_WINDOWS || !UnixDomainSockets.isSupported()) {
+            log.warn("Unix domain socket IPC needs Java 16 or later on Linux or macOS, using pipes");
+            return false;
+        }
+        File dir = new File(workingDir);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Could not create " + dir);
+        }
+        Path path;
+        do {
+            path = dir.toPath().toAbsolutePath().resolve("amz-aws-kpl-sock-" + uuid8Chars());
+        } while (Files.exists(path));
+        if (!UnixDomainSockets.fits(path)) {
+            log.warn("Socket path {} is longer than {} bytes, using pipes; set a shorter temp directory to use a "
+                    + "socket", path, UnixDomainSockets.MAX_PATH_LENGTH);
+            return false;
+        }
+        server = UnixDomainSockets.bind(path);
+        socketPath = path;
+        path.toFile().deleteOnExit();
+        log.info("Using Unix domain socket IPC through {}", path);
+        return true;
+    }
+
+    /**
+     * Create the shared memory file for {@link KinesisProducerConfiguration.IpcTransport#SHARED_MEMORY}, in /dev/shm
+     * if there is one, or else next to the pipes. Where that isn't possible the pipes are used on their own.
+     */
+    private void createRing() throws IOException {
+        if (SystemUtils.IS_OS_WINDOWS || !SharedMemoryRing.isSupported()) {
+            log.warn("Shared memory IPC is not supported on this platform, using pipes");
+            return;
+        }
+        File dir = new File("/dev/shm");
+        if (!dir.isDirectory()) {
+            dir = new File(workingDir);
+        }
+        do {
+            ringFile = new File(dir, "amz-aws-kpl-ring-" + uuid8Chars());
+        } while (ringFile.exists());
+        ringFile.deleteOnExit();
+        ring = SharedMemoryRing.create(ringFile, SharedMemoryRing.ringCapacity(config.getSharedMemoryRingBytes()));
+        log.info("Using shared memory IPC through {}, with {} byte rings", ringFile, ring.getCapacity());
     }
 
     private void createPipesWindows() {
@@ -467,10 +816,20 @@ public class Daemon {
     @KplTraceLog
     private void deletePipes() {
         try {
+            if (server != null) {
+                server.close();
+            }
             inChannel.close();
             outChannel.close();
-            inPipe.delete();
-            outPipe.delete();
+            if (socketPath != null) {
+                Files.deleteIfExists(socketPath);
+            } else {
+                inPipe.delete();
+                outPipe.delete();
+            }
+            if (ringFile != null) {
+                ringFile.delete();
+            }
         } catch (Exception e) {
             logError(e, "exception", "None", "deletePipes", "all");
         }
@@ -478,11 +837,17 @@ public class Daemon {
 
     @KplTraceLog
     private void startChildProcess() throws IOException, InterruptedException {
-        List<String> args = new ArrayList<>(Arrays.asList(pathToExecutable, "-o", outPipe.getAbsolutePath(), "-i",
-                                                          inPipe.getAbsolutePath(), "-c",
-                                                          protobufToHex(config.toProtobufMessage()), "-k",
-                                                          protobufToHex(makeSetCredentialsMessage(
-                                                                  config.getCredentialsProvider(), false)), "-t"));
+        List<String> args = new ArrayList<>();
+        args.add(pathToExecutable);
+        if (socketPath != null) {
+            args.addAll(Arrays.asList("-s", socketPath.toString(), "-b",
+                                      Long.toString(config.getSocketBufferBytes())));
+        } else {
+            args.addAll(Arrays.asList("-o", outPipe.getAbsolutePath(), "-i", inPipe.getAbsolutePath()));
+        }
+        args.addAll(Arrays.asList("-c", protobufToHex(config.toProtobufMessage()), "-k",
+                                  protobufToHex(makeSetCredentialsMessage(config.getCredentialsProvider(), false)),
+                                  "-t"));
 
         AWSCredentialsProvider metricsCreds = config.getMetricsCredentialsProvider();
         if (metricsCreds == null) {
@@ -491,6 +856,11 @@ public class Daemon {
         args.add("-w");
         args.add(protobufToHex(makeSetCredentialsMessage(metricsCreds, true)));
 
+        if (ringFile != null) {
+            args.add("-r");
+            args.add(ringFile.getAbsolutePath());
+        }
+
         log.info("loggerType=kpl Starting Native Process: {}", StringUtils.join(args, " "));
 
         final ProcessBuilder pb = new ProcessBuilder(args);
@@ -517,12 +887,14 @@ public class Daemon {
             fatalError(kplErrorText, e, false);
         }
 
-        stdOutReader = new LogInputStreamReader(process.getInputStream(), "StdOut",
-                                                (logger, message) -> logger.info(message));
+        logForwarder = new NativeLogForwarder(config.getNativeLogRateLimit());
+        stdOutReader = new LogInputStreamReader(process.getInputStream(), "StdOut", NativeLogForwarder.Level.INFO,
+                                                logForwarder);
 
-        stdErrReader = new LogInputStreamReader(process.getErrorStream(), "StdErr",
-                                                (logger, message) -> logger.warn(message));
+        stdErrReader = new LogInputStreamReader(process.getErrorStream(), "StdErr", NativeLogForwarder.Level.WARN,
+                                                logForwarder);
 
+        executor.execute(logForwarder);
         executor.execute(stdOutReader);
         executor.execute(stdErrReader);
         try {
@@ -533,18 +905,20 @@ public class Daemon {
         } finally {
             stdOutReader.shutdown();
             stdErrReader.shutdown();
+            logForwarder.close();
             deletePipes();
         }
     }
 
     private void updateCredentials() throws InterruptedException {
         try {
-            outgoingMessages.put(makeSetCredentialsMessage(config.getCredentialsProvider(), false));
+            outgoingMessages.add(new OutgoingFrame.ProtobufFrame(
+                    makeSetCredentialsMessage(config.getCredentialsProvider(), false)));
             AWSCredentialsProvider metricsCreds = config.getMetricsCredentialsProvider();
             if (metricsCreds == null) {
                 metricsCreds = config.getCredentialsProvider();
             }
-            outgoingMessages.put(makeSetCredentialsMessage(metricsCreds, true));
+            outgoingMessages.add(new OutgoingFrame.ProtobufFrame(makeSetCredentialsMessage(metricsCreds, true)));
         } catch (Exception e) {
             logError(e, "exception", "None", "updateCredentials", "catch");
         }
@@ -602,21 +976,6 @@ public class Daemon {
         }
     }
 
-    private void readSome(int n) throws IOException {
-        rcvBuf.rewind();
-        rcvBuf.limit(n);
-        int total = 0;
-        while (total < n) {
-            int r = inChannel.read(rcvBuf);
-            if (r >= 0) {
-                total += r;
-            } else {
-                fatalError("EOF reached during read");
-            }
-        }
-        rcvBuf.rewind();
-    }
-
     private static String uuid8Chars() {
         return UUID.randomUUID().toString().substring(0, 8);
     }
@@ -642,6 +1001,18 @@ public class Daemon {
                 .build();
     }
 
+    private static Messages.Message makeRegisterStreamMessage(StreamHandle stream) {
+        Messages.RegisterStream registerStream = Messages.RegisterStream.newBuilder()
+                .setStreamId(stream.getId())
+                .setStreamName(stream.getStreamName())
+                .build();
+
+        return Messages.Message.newBuilder()
+                .setRegisterStream(registerStream)
+                .setId(Long.MAX_VALUE)
+                .build();
+    }
+
     private static String protobufToHex(com.google.protobuf.Message msg) {
         return DatatypeConverter.printHexBinary(msg.toByteArray());
     }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * An explicit hash key as it is sent to the child process: either the canonical decimal string the user gave, or the
+ * 128-bit value itself when the user gave it in binary. Binary keys are only converted to decimal on this side for a
+ * child too old to take them.
+ */
+final class ExplicitHashKey {
+    // Field tags in PutRecord, (field_number << 3) | wire_type
+    static final int PUT_RECORD_EXPLICIT_HASH_KEY = (3 << 3) | 2;
+    static final int PUT_RECORD_EXPLICIT_HASH_KEY_BINARY = (6 << 3) | 2;
+
+    private final String decimal;
+    private final long high;
+    private final long low;
+
+    private ExplicitHashKey(String decimal, long high, long low) {
+        this.decimal = decimal;
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * @param decimal
+     *            Key in canonical decimal form, as returned by {@link KinesisProducer#normalizeExplicitHashKey(String)}.
+     */
+    static ExplicitHashKey decimal(String decimal) {
+        return new ExplicitHashKey(decimal, 0, 0);
+    }
+
+    /**
+     * @param high
+     *            Most significant 64 bits of the key, treated as unsigned.
+     * @param low
+     *            Least significant 64 bits of the key, treated as unsigned.
+     */
+    static ExplicitHashKey binary(long high, long low) {
+        return new ExplicitHashKey(null, high, low);
+    }
+
+    /**
+     * @param key
+     *            The key as 16 bytes, most significant byte first.
+     * @throws IllegalArgumentException
+     *             if the key isn't 16 bytes long
+     */
+    static ExplicitHashKey binary(byte[] key) {
+        if (key.length != 16) {
+            throw new IllegalArgumentException(
+                    "Invalid explicitHashKey, binary keys must be 16 bytes, got " + key.length);
+        }
+        ByteBuffer b = ByteBuffer.wrap(key);
+        return binary(b.getLong(), b.getLong());
+    }
+
+    boolean isBinary() {
+        return decimal == null;
+    }
+
+    /**
+     * @return The key in decimal, for a child that doesn't take binary keys.
+     */
+    ExplicitHashKey toDecimal() {
+        if (!isBinary()) {
+            return this;
+        }
+        byte[] bytes = new byte[16];
+        ByteBuffer.wrap(bytes).putLong(high).putLong(low);
+        return decimal(new BigInteger(1, bytes).toString());
+    }
+
+    /**
+     * @return Encoded size of the PutRecord field holding this key.
+     */
+    int fieldSize() {
+        return isBinary() ? 2 + 16 : PutRecordFrame.fieldSize(PUT_RECORD_EXPLICIT_HASH_KEY, decimal.length());
+    }
+
+    /**
+     * Write the PutRecord field holding this key.
+     */
+    void writeTo(ByteBuffer buf) {
+        if (isBinary()) {
+            buf.put((byte) PUT_RECORD_EXPLICIT_HASH_KEY_BINARY);
+            buf.put((byte) 16);
+            putLong(buf, high);
+            putLong(buf, low);
+        } else {
+            buf.put((byte) PUT_RECORD_EXPLICIT_HASH_KEY);
+            PutRecordFrame.putVarint(buf, decimal.length());
+            PutRecordFrame.putUtf8(buf, decimal);
+        }
+    }
+
+    // Big endian whatever the order of the buffer
+    private static void putLong(ByteBuffer buf, long v) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buf.put((byte) (v >>> shift));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isBinary() ? String.format("0x%016x%016x", high, low) : decimal;
+    }
+}
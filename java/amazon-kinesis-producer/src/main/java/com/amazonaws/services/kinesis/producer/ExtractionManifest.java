@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sizes and digests of the native binaries and certificates in the jar, written by pack.py when the binaries are
+ * packed. With these, files extracted by an earlier run can be recognized without reading them out of the jar and
+ * hashing them again.
+ *
+ * <p>
+ * Each entry maps the resource path to its upper case hex SHA-1 digest and its size in bytes, separated by a space.
+ */
+class ExtractionManifest {
+    private static final Logger log = LoggerFactory.getLogger(ExtractionManifest.class);
+
+    static final String RESOURCE = "amazon-kinesis-producer-native-binaries/manifest.properties";
+
+    static class Entry {
+        final String digest;
+        final long size;
+
+        Entry(String digest, long size) {
+            this.digest = digest;
+            this.size = size;
+        }
+    }
+
+    private final Map<String, Entry> entries;
+
+    ExtractionManifest(Map<String, Entry> entries) {
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * @return The manifest packed with the given class loader's resources, or null if there isn't one, in which case
+     *         everything is extracted and hashed as it always was.
+     */
+    static ExtractionManifest load(ClassLoader classLoader) {
+        try (InputStream is = classLoader.getResourceAsStream(RESOURCE)) {
+            if (is == null) {
+                log.debug("No extraction manifest found");
+                return null;
+            }
+            Properties properties = new Properties();
+            properties.load(is);
+            Map<String, Entry> entries = new HashMap<>();
+            for (String resource : properties.stringPropertyNames()) {
+                String[] value = properties.getProperty(resource).trim().split("\\s+");
+                entries.put(resource, new Entry(value[0], Long.parseLong(value[1])));
+            }
+            return new ExtractionManifest(entries);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read the extraction manifest, extracting everything", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return The entry for a resource, or null if the manifest doesn't have it.
+     */
+    Entry get(String resource) {
+        return entries.get(resource);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets a flush wait for exactly the records that were put before it, and no others.
+ *
+ * <p>
+ * Records are counted against the current epoch until their futures complete. A barrier closes the current epoch and
+ * opens a new one; its future completes as soon as the closed epoch, and every epoch before it, has no records left.
+ * Records put after the barrier land in the new epoch, so steady traffic can't hold a barrier up.
+ */
+class FlushTracker {
+    private static final class Epoch {
+        // Starts at one, for the barrier that will eventually close the epoch
+        private final AtomicLong outstanding = new AtomicLong(1);
+        private final ResultFuture<Void> drained = new ResultFuture<>(-1);
+        // Dropped once it has drained, so a long run of epochs doesn't stay reachable
+        private volatile Epoch previous;
+
+        Epoch(Epoch previous) {
+            this.previous = previous;
+        }
+
+        void release() {
+            if (outstanding.decrementAndGet() != 0) {
+                return;
+            }
+            Epoch p = previous;
+            if (p == null) {
+                drained.set(null);
+            } else {
+                p.drained.addListener(() -> {
+                    previous = null;
+                    drained.set(null);
+                }, MoreExecutors.directExecutor());
+            }
+        }
+    }
+
+    private volatile Epoch current = new Epoch(null);
+
+    /**
+     * Count a record against the current epoch until its future completes.
+     */
+    void track(ResultFuture<?> f) {
+        final Epoch e = current;
+        e.outstanding.incrementAndGet();
+        f.addListener(e::release, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * @return A future that completes once every record tracked before this call has completed.
+     */
+    synchronized ListenableFuture<Void> barrier() {
+        Epoch closed = current;
+        current = new Epoch(closed);
+        closed.release();
+        return closed.drained;
+    }
+
+    /**
+     * @return A future that completes once all of the given futures have.
+     */
+    static ListenableFuture<Void> allOf(Collection<ListenableFuture<Void>> futures) {
+        final ResultFuture<Void> all = new ResultFuture<>(-1);
+        final AtomicInteger remaining = new AtomicInteger(futures.size() + 1);
+        Runnable countDown = () -> {
+            if (remaining.decrementAndGet() == 0) {
+                all.set(null);
+            }
+        };
+        for (ListenableFuture<Void> f : futures) {
+            f.addListener(countDown, MoreExecutors.directExecutor());
+        }
+        countDown.run();
+        return all;
+    }
+}
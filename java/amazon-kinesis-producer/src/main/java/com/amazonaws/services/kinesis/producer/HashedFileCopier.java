@@ -39,6 +39,21 @@ public class HashedFileCopier {
     static final String TEMP_SUFFIX = ".tmp";
     static final String LOCK_SUFFIX = ".lock";
 
+    /**
+     * Find a file copied by an earlier run, without reading the source. Files are only renamed into place once their
+     * digest is known, so a file named for the expected digest that has the expected size is taken to be the same.
+     *
+     * @return The file, or null if it has to be copied.
+     */
+    static File findCopiedFile(ExtractionManifest.Entry expected, File destinationDirectory, String fileNameFormat) {
+        File finalFile = new File(destinationDirectory, String.format(fileNameFormat, expected.digest));
+        if (finalFile.isFile() && finalFile.length() == expected.size) {
+            log.info("'{}' already exists, and matches the manifest.  Not copying.", finalFile.getAbsolutePath());
+            return finalFile;
+        }
+        return null;
+    }
+
     public static File copyFileFrom(InputStream sourceData, File destinationDirectory, String fileNameFormat)
             throws Exception {
         File tempFile = null;
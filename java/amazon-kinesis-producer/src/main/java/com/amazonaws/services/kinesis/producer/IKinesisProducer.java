@@ -1,8 +1,11 @@
 package com.amazonaws.services.kinesis.producer;
 
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import com.google.common.util.concurrent.ListenableFuture;
 
 
@@ -13,8 +16,22 @@ public interface IKinesisProducer {
 
     ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey, String explicitHashKey, ByteBuffer data);
 
+    ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey, long explicitHashKeyHigh, long explicitHashKeyLow, ByteBuffer data);
+
+    ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey, String explicitHashKey, byte[] data, int offset, int length);
+
+    ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey, String explicitHashKey, ByteBuffer data, Consumer<ByteBuffer> onRelease);
+
+    ListenableFuture<UserRecordBatchResult> addUserRecords(Collection<UserRecord> userRecords);
+
+    StreamHandle stream(String streamName);
+
     int getOutstandingRecordsCount();
 
+    KinesisProducerMXBean getStatistics();
+
+    long getOutstandingBytes();
+
     List<Metric> getMetrics(String metricName, int windowSeconds) throws InterruptedException, ExecutionException;
 
     List<Metric> getMetrics(String metricName) throws InterruptedException, ExecutionException;
@@ -23,11 +40,21 @@ public interface IKinesisProducer {
 
     List<Metric> getMetrics(int windowSeconds) throws InterruptedException, ExecutionException;
 
+    ListenableFuture<List<Metric>> getMetricsAsync(String metricName, int windowSeconds);
+
+    ListenableFuture<List<Metric>> getMetricsAsync();
+
     void destroy();
 
     void flush(String stream);
 
     void flush();
 
+    ListenableFuture<Void> flushAsync(String stream);
+
+    ListenableFuture<Void> flushAsync();
+
     void flushSync();
+
+    boolean flushSync(long timeout, TimeUnit unit) throws InterruptedException;
 }
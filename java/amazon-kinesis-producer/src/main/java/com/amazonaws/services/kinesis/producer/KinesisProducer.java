@@ -15,18 +15,20 @@
 
 package com.amazonaws.services.kinesis.producer;
 
+import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import com.google.protobuf.ByteString;
 
+import com.amazonaws.services.kinesis.producer.KinesisProducerConfiguration.BackpressurePolicy;
+import com.amazonaws.services.kinesis.producer.KinesisProducerConfiguration.ChildRouting;
 import com.amazonaws.services.kinesis.producer.protobuf.Messages;
 import com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush;
 import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
 import com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest;
 import com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse;
-import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord;
 import com.amazonaws.services.kinesis.producer.util.KplTraceLog;
 
 import org.apache.commons.lang.StringUtils;
@@ -37,21 +39,39 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import static java.lang.String.format;
 
@@ -82,62 +102,128 @@ public class KinesisProducer implements IKinesisProducer {
     private static final Logger log = LoggerFactory.getLogger(KinesisProducer.class);
 
     private static final BigInteger UINT_128_MAX = new BigInteger(StringUtils.repeat("FF", 16), 16);
+    private static final String UINT_128_MAX_STRING = UINT_128_MAX.toString(10);
     private static final Object EXTRACT_BIN_MUTEX = new Object();
 
     private static final AtomicInteger callbackCompletionPoolNumber = new AtomicInteger(0);
+    private static final AtomicInteger mbeanNumber = new AtomicInteger(0);
+
+    /**
+     * Maximum number of results completed by a single task submitted to the callback executor.
+     */
+    private static final int CALLBACK_BATCH_SIZE = 128;
+
+    /**
+     * How long a flushSync waits on its barrier before flushing again, for records the last flush left buffered.
+     */
+    private static final long FLUSH_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
 
     private final KinesisProducerConfiguration config;
     private final Map<String, String> env;
-    private final AtomicLong messageNumber = new AtomicLong(1);
-    private final Map<Long, SettableFuture<?>> futures = new ConcurrentHashMap<>();
-
-    private final ExecutorService callbackCompletionExecutor = new ThreadPoolExecutor(
-            1,
-            Runtime.getRuntime().availableProcessors() * 4,
-            5,
-            TimeUnit.MINUTES,
-            new LinkedBlockingQueue<Runnable>(),
-            new ThreadFactoryBuilder()
-                    .setDaemon(true)
-                    .setNameFormat("kpl-callback-pool-" + callbackCompletionPoolNumber.getAndIncrement() + "-thread-%d")
-                    .build(),
-            new RejectedExecutionHandler() {
-                /**
-                 * Execute the runnable inline if we can't submit it to the
-                 * executor. This shouldn't happen since we're using a linked
-                 * queue which doesn't have a bound; but it's here just in case.
-                 */
-                @Override
-                public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
-                    r.run();
-                }
-            });
-
+    private final AtomicLong messageNumber;
+    private final ConcurrentMap<String, StreamHandle> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger nextStreamId = new AtomicInteger();
+    private final OutstandingRecordLimiter limiter;
+    private final Queue<DeferredRecord> deferred = new ConcurrentLinkedQueue<>();
+    private final AtomicLong deferredBytes = new AtomicLong();
+    private final ReplayBuffer replayBuffer;
+    private final ChildSlot[] children;
+    private final ChildRouting childRouting;
+    // Tag of this producer's messages in the child processes it shares, or 0 if it doesn't share them
+    private final int sharingTag;
+
+    private final ExecutorService ownedCallbackExecutor;
+    private final Executor callbackCompletionExecutor;
+    private final ProducerStatistics statistics;
+    private ObjectName mbeanName;
 
     private String pathToExecutable;
     private String pathToLibDir;
     private String pathToTmpDir;
 
-    private volatile Daemon child;
-    private volatile long lastChild = System.nanoTime();
     private volatile boolean destroyed = false;
     private ProcessFailureBehavior processFailureBehavior = ProcessFailureBehavior.AutoRestart;
 
+    /**
+     * A record held back under {@link BackpressurePolicy#DEFER} until there's room for it.
+     */
+    private static class DeferredRecord {
+        final PutRecordFrame message;
+        final ResultFuture<?> future;
+        final long size;
+
+        DeferredRecord(PutRecordFrame message, ResultFuture<?> future, long size) {
+            this.message = message;
+            this.future = future;
+            this.size = size;
+        }
+    }
+
+    /**
+     * One of the child processes, along with the futures of the messages sent to it and the metrics it has pushed.
+     * The Daemon is replaced whenever the child is restarted.
+     */
+    private static class ChildSlot {
+        final int index;
+        final CompletionTable futures = new CompletionTable();
+        final MetricsCache metricsCache = new MetricsCache();
+        // Set when the child is shared with other producers
+        SharedChild shared;
+        volatile Daemon daemon;
+        volatile long lastStarted = System.nanoTime();
+
+        ChildSlot(int index) {
+            this.index = index;
+        }
+    }
+
     private class MessageHandler implements Daemon.MessageHandler {
+        private final ChildSlot slot;
+
+        MessageHandler(ChildSlot slot) {
+            this.slot = slot;
+        }
+
         @Override
         public void onMessage(final Message m) {
-            callbackCompletionExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    if (m.hasPutRecordResult()) {
-                        onPutRecordResult(m);
-                    } else if (m.hasMetricsResponse()) {
-                        onMetricsResponse(m);
-                    } else {
-                        log.error("Unexpected message type from child process");
-                    }
+            onMessages(Collections.singletonList(m));
+        }
+
+        /**
+         * Complete the futures for a batch of results read from the child process. The batch is split into chunks of
+         * at most {@link #CALLBACK_BATCH_SIZE} results, each completed by a single task on the callback executor.
+         */
+        @Override
+        public void onMessages(final List<Message> messages) {
+            for (Message m : messages) {
+                // Applied here rather than on the callback executor so they can't be reordered
+                if (m.hasMetricsSnapshot()) {
+                    slot.metricsCache.apply(m.getMetricsSnapshot());
                 }
-            });
+            }
+            for (int i = 0; i < messages.size(); i += CALLBACK_BATCH_SIZE) {
+                final List<Message> chunk = messages.subList(i, Math.min(messages.size(), i + CALLBACK_BATCH_SIZE));
+                executeCallback(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (Message m : chunk) {
+                            try {
+                                if (m.hasPutRecordResult()) {
+                                    onPutRecordResult(m);
+                                } else if (m.hasMetricsResponse()) {
+                                    onMetricsResponse(m);
+                                } else if (m.hasMetricsSnapshot()) {
+                                    // Already applied
+                                } else {
+                                    log.error("Unexpected message type from child process");
+                                }
+                            } catch (Exception e) {
+                                log.error("Error completing result for message " + m.getSourceId(), e);
+                            }
+                        }
+                    }
+                });
+            }
         }
 
         @Override
@@ -150,27 +236,78 @@ public class KinesisProducer implements IKinesisProducer {
                 log.error("Error in child process", t);
             }
 
-            // Fail all outstanding futures
-            for (final Map.Entry<Long, SettableFuture<?>> entry : futures.entrySet()) {
-                callbackCompletionExecutor.execute(() -> entry.getValue().setException(t));
-            }
-            futures.clear();
-
+            boolean restart;
             if (processFailureBehavior == ProcessFailureBehavior.AutoRestart && !destroyed) {
                 log.info("loggerType=kplError methodName=onError action=restartChild1");
-                log.info("Restarting native producer process.");
-                child = new Daemon(pathToExecutable, new MessageHandler(), pathToTmpDir, config, env);
-            } else {
+                restart = true;
+            } else if (!(t instanceof IrrecoverableError) && System.nanoTime() - slot.lastStarted > 3e9) {
                 // Only restart child if it's not an irrecoverable error, and if
                 // there has been some time (3 seconds) between the last child
                 // creation. If the child process crashes almost immediately, we're
                 // going to abort to avoid going into a loop.
-                if (!(t instanceof IrrecoverableError) && System.nanoTime() - lastChild > 3e9) {
-                    log.info("loggerType=kplError methodName=onError action=restartChild2");
-                    lastChild = System.nanoTime();
-                    child = new Daemon(pathToExecutable, new MessageHandler(), pathToTmpDir, config, env);
+                log.info("loggerType=kplError methodName=onError action=restartChild2");
+                slot.lastStarted = System.nanoTime();
+                restart = true;
+            } else {
+                restart = false;
+            }
+            boolean replay = restart && replayBuffer != null;
+
+            // Records for this child that haven't been sent yet wait for the new child if there's going to be one
+            // to replay to
+            Set<ResultFuture<?>> deferredFutures = Collections.newSetFromMap(new IdentityHashMap<>());
+            synchronized (deferred) {
+                for (Iterator<DeferredRecord> it = deferred.iterator(); it.hasNext();) {
+                    DeferredRecord r = it.next();
+                    if (route(r.message) != slot) {
+                        continue;
+                    }
+                    if (replay) {
+                        deferredFutures.add(r.future);
+                    } else {
+                        it.remove();
+                        deferredBytes.addAndGet(-r.size);
+                    }
                 }
             }
+
+            // Fail all outstanding futures, apart from those of records that can be sent to the new child
+            final List<ResultFuture<?>> failed = new ArrayList<>();
+            List<PutRecordFrame> replayed = new ArrayList<>();
+            long now = System.nanoTime();
+            long ttl = replay ? TimeUnit.MILLISECONDS.toNanos(config.getRecordTtl()) : 0;
+            for (ResultFuture<?> f : slot.futures.removeAll()) {
+                PutRecordFrame frame = replay ? replayBuffer.get(f.getId()) : null;
+                if (deferredFutures.contains(f)) {
+                    slot.futures.put(f);
+                } else if (frame != null && now - f.getCreatedNanos() <= ttl) {
+                    slot.futures.put(f);
+                    replayed.add(frame);
+                } else {
+                    failed.add(f);
+                }
+            }
+            if (!failed.isEmpty()) {
+                executeCallback(() -> {
+                    for (ResultFuture<?> f : failed) {
+                        f.setException(t);
+                    }
+                });
+            }
+
+            if (restart) {
+                log.info("Restarting native producer process.");
+                statistics.childRestarted();
+                slot.metricsCache.clear();
+                if (replay) {
+                    log.info("Sending {} records again to the new native producer process, {} failed",
+                            replayed.size(), failed.size());
+                    statistics.recordsReplayed(replayed.size());
+                    // In the order they were put, so records with the same partition key stay in order
+                    replayed.sort(Comparator.comparingLong(PutRecordFrame::getId));
+                }
+                startChild(slot, replayed);
+            }
         }
 
         /**
@@ -184,7 +321,8 @@ public class KinesisProducer implements IKinesisProducer {
          * @param msg
          */
         private void onPutRecordResult(Message msg) {
-            SettableFuture<UserRecordResult> f = getFuture(msg);
+            ResultFuture<UserRecordResult> f = getFuture(msg);
+            statistics.recordCompleted(System.nanoTime() - f.getCreatedNanos());
             UserRecordResult result = UserRecordResult.fromProtobufMessage(msg.getPutRecordResult());
             if (result.isSuccessful()) {
                 f.set(result);
@@ -194,7 +332,7 @@ public class KinesisProducer implements IKinesisProducer {
         }
 
         private void onMetricsResponse(Message msg) {
-            SettableFuture<List<Metric>> f = getFuture(msg);
+            ResultFuture<List<Metric>> f = getFuture(msg);
 
             List<Metric> userMetrics = new ArrayList<>();
             MetricsResponse res = msg.getMetricsResponse();
@@ -202,13 +340,13 @@ public class KinesisProducer implements IKinesisProducer {
                 userMetrics.add(new Metric(metric));
             }
 
-            f.set(userMetrics);
+            f.set(ownMetrics(userMetrics));
         }
 
-        private <T> SettableFuture<T> getFuture(Message msg) {
+        private <T> ResultFuture<T> getFuture(Message msg) {
             long id = msg.getSourceId();
             @SuppressWarnings("unchecked")
-            SettableFuture<T> f = (SettableFuture<T>) futures.remove(id);
+            ResultFuture<T> f = (ResultFuture<T>) slot.futures.remove(id);
             if (f == null) {
                 throw new RuntimeException("Future for message id " + id + " not found");
             }
@@ -237,6 +375,16 @@ public class KinesisProducer implements IKinesisProducer {
     public KinesisProducer(KinesisProducerConfiguration config) {
         log.info("loggerType=kpl action=initializeKinesisProducer config={}", config.toString());
         this.config = config;
+        this.limiter = new OutstandingRecordLimiter(config.getMaxOutstandingRecords(), config.getMaxOutstandingBytes());
+        if (config.getCallbackExecutor() != null) {
+            this.ownedCallbackExecutor = null;
+            this.callbackCompletionExecutor = config.getCallbackExecutor();
+        } else {
+            this.ownedCallbackExecutor = createCallbackExecutor();
+            this.callbackCompletionExecutor = ownedCallbackExecutor;
+        }
+        this.statistics = new ProducerStatistics(this, callbackCompletionExecutor);
+        this.replayBuffer = config.getReplayBufferBytes() > 0 ? new ReplayBuffer(config.getReplayBufferBytes()) : null;
 
         String caDirectory = extractBinaries();
 
@@ -246,7 +394,18 @@ public class KinesisProducer implements IKinesisProducer {
                 .put("CA_DIR", caDirectory)
                 .build();
 
-        child = new Daemon(pathToExecutable, new MessageHandler(), pathToTmpDir, config, env);
+        childRouting = config.getChildRouting();
+        sharingTag = config.isShareChildProcess() ? SharedChild.allocateTag() : 0;
+        messageNumber = new AtomicLong(((long) sharingTag << SharedChild.TAG_SHIFT) + 1);
+        children = new ChildSlot[config.getChildProcessCount()];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = new ChildSlot(i);
+            startChild(children[i], Collections.emptyList());
+        }
+
+        if (config.isJmxEnabled()) {
+            registerMBean();
+        }
     }
 
     /**
@@ -270,8 +429,139 @@ public class KinesisProducer implements IKinesisProducer {
         this(new KinesisProducerConfiguration());
     }
 
+    /**
+     * @return The first child process, which is the only one unless
+     *         {@link KinesisProducerConfiguration#setChildProcessCount(int)}
+     *         says otherwise.
+     */
     public Daemon getChild() {
-        return child;
+        return children[0].daemon;
+    }
+
+    /**
+     * @return The current child processes.
+     */
+    List<Daemon> getChildren() {
+        List<Daemon> daemons = new ArrayList<>(children.length);
+        for (ChildSlot c : children) {
+            daemons.add(c.daemon);
+        }
+        return daemons;
+    }
+
+    /**
+     * Start a child process in the given slot, replacing the one that was there if any. When sharing, this attaches
+     * to the shared child the first time, and afterwards takes whichever child replaced the one that died.
+     */
+    /**
+     * Start the child process for a slot, or attach to a shared one.
+     *
+     * @param first
+     *            Frames to queue on the new Daemon before puts can see it, so that records being sent again aren't
+     *            overtaken by ones put while the child restarts.
+     */
+    private void startChild(ChildSlot slot, List<? extends OutgoingFrame> first) {
+        Daemon daemon;
+        if (sharingTag == 0) {
+            daemon = new Daemon(pathToExecutable, new MessageHandler(slot), pathToTmpDir, config, env);
+        } else if (slot.shared == null) {
+            slot.shared = SharedChild.attach(SharedChild.key(config, pathToExecutable, slot.index), sharingTag,
+                    new MessageHandler(slot), pathToExecutable, pathToTmpDir, config, env);
+            daemon = slot.shared.getDaemon();
+        } else {
+            daemon = slot.shared.restart(slot.daemon);
+        }
+        if (!first.isEmpty()) {
+            daemon.addAll(first);
+        }
+        slot.daemon = daemon;
+        requestMetricsSnapshots(slot);
+    }
+
+    /**
+     * @return The child that records for the given stream and partition key go to.
+     */
+    private ChildSlot route(StreamHandle stream, String partitionKey) {
+        if (children.length == 1) {
+            return children[0];
+        }
+        int h = childRouting == ChildRouting.STREAM ? stream.getId() : partitionKey.hashCode();
+        return children[((h ^ (h >>> 16)) & Integer.MAX_VALUE) % children.length];
+    }
+
+    private ChildSlot route(PutRecordFrame m) {
+        return route(m.getStream(), m.getPartitionKey());
+    }
+
+    /**
+     * Get statistics about the Java side of the producer: queue depths, IPC
+     * throughput and latency, and time from put to result. These are cheap to
+     * keep and are always collected.
+     *
+     * @return A live view of the statistics.
+     * @see KinesisProducerConfiguration#setJmxEnabled(boolean)
+     */
+    @Override
+    public KinesisProducerMXBean getStatistics() {
+        return statistics;
+    }
+
+    private void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(
+                    "com.amazonaws.services.kinesis.producer:type=KinesisProducer,id=" + mbeanNumber.getAndIncrement());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, name);
+            mbeanName = name;
+        } catch (JMException e) {
+            log.warn("Could not register KinesisProducer MBean", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        if (mbeanName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+        } catch (JMException e) {
+            log.warn("Could not unregister KinesisProducer MBean", e);
+        }
+        mbeanName = null;
+    }
+
+    private static ExecutorService createCallbackExecutor() {
+        return new ThreadPoolExecutor(
+                1,
+                Runtime.getRuntime().availableProcessors() * 4,
+                5,
+                TimeUnit.MINUTES,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("kpl-callback-pool-" + callbackCompletionPoolNumber.getAndIncrement() + "-thread-%d")
+                        .build(),
+                new RejectedExecutionHandler() {
+                    /**
+                     * Execute the runnable inline if we can't submit it to the
+                     * executor. This shouldn't happen since we're using a linked
+                     * queue which doesn't have a bound; but it's here just in case.
+                     */
+                    @Override
+                    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+                        r.run();
+                    }
+                });
+    }
+
+    /**
+     * Run a task on the callback executor, or inline if the executor won't take it.
+     */
+    private void executeCallback(Runnable r) {
+        try {
+            callbackCompletionExecutor.execute(r);
+        } catch (RejectedExecutionException e) {
+            r.run();
+        }
     }
 
     /**
@@ -284,7 +574,16 @@ public class KinesisProducer implements IKinesisProducer {
     protected KinesisProducer(File inPipe, File outPipe) {
         this.config = null;
         this.env = null;
-        child = new Daemon(inPipe, outPipe, new MessageHandler());
+        this.limiter = new OutstandingRecordLimiter(0, 0);
+        this.ownedCallbackExecutor = createCallbackExecutor();
+        this.callbackCompletionExecutor = ownedCallbackExecutor;
+        this.statistics = new ProducerStatistics(this, callbackCompletionExecutor);
+        this.replayBuffer = null;
+        this.childRouting = ChildRouting.PARTITION_KEY;
+        this.sharingTag = 0;
+        this.messageNumber = new AtomicLong(1);
+        this.children = new ChildSlot[] { new ChildSlot(0) };
+        children[0].daemon = new Daemon(inPipe, outPipe, new MessageHandler(children[0]));
     }
 
     /**
@@ -347,9 +646,7 @@ public class KinesisProducer implements IKinesisProducer {
     @Override
     @KplTraceLog
     public ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey, ByteBuffer data) {
-        log.info("loggerType=kpl action=addUserRecord partitionId=false stream={} partitionKey={}", stream,
-                 partitionKey);
-        return addUserRecord(stream, partitionKey, null, data);
+        return putRecord(stream(stream), partitionKey, null, data, true, null);
     }
 
     /**
@@ -407,7 +704,133 @@ public class KinesisProducer implements IKinesisProducer {
     @Override
     @KplTraceLog
     public ListenableFuture<UserRecordResult> addUserRecord(UserRecord userRecord) {
-        return addUserRecord(userRecord.getStreamName(), userRecord.getPartitionKey(), userRecord.getExplicitHashKey(), userRecord.getData());
+        return putRecord(stream(userRecord.getStreamName()), userRecord.getPartitionKey(),
+                explicitHashKey(userRecord), userRecord.getData(), true, null);
+    }
+
+    /**
+     * Put a batch of records asynchronously. A single {@link ListenableFuture}
+     * is returned, which completes once every record in the batch has
+     * finished.
+     *
+     * <p>
+     * This does the same as calling {@link #addUserRecord(UserRecord)} for
+     * each record, but costs much less per record: the whole batch is
+     * validated and encoded in one pass, handed to the child process in one
+     * go, and tracked by one future instead of one per record.
+     *
+     * <p>
+     * Every record is validated before any of them is sent, so if one is
+     * invalid an exception is thrown and nothing in the batch is put. The data
+     * of each record is copied, and its position advanced to its limit, only
+     * once the whole batch has passed validation.
+     *
+     * <p>
+     * The future succeeds even if some of the records failed; check
+     * {@link UserRecordBatchResult#getFailedRecords()}, which describes only
+     * the records that did not succeed. Records that can't be admitted under
+     * the configured {@link BackpressurePolicy} are reported there with an
+     * {@link OutstandingLimitExceededException} rather than thrown, since
+     * others in the batch may already be on their way.
+     *
+     * @param userRecords
+     *            Records to put. Copied into an array once, so a
+     *            collection changed concurrently can't change the batch
+     *            after its size has been taken.
+     * @return A future for the result of the batch.
+     * @throws IllegalArgumentException
+     *             if any record does not meet the constraints of
+     *             {@link #addUserRecord(UserRecord)}
+     * @throws DaemonException
+     *             if the child process is dead
+     * @see UserRecordBatchResult
+     */
+    @Override
+    public ListenableFuture<UserRecordBatchResult> addUserRecords(Collection<UserRecord> userRecords) {
+        if (userRecords == null) {
+            String errorMessage = "userRecords cannot be null";
+            log.error("loggerType=kpl errorMessage={}", errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        UserRecord[] rs = userRecords.toArray(new UserRecord[0]);
+        int n = rs.length;
+        long baseId = messageNumber.getAndAdd(n);
+        PutRecordFrame[] frames = new PutRecordFrame[n];
+        long[] sizes = new long[n];
+        String lastStreamName = null;
+        StreamHandle stream = null;
+        int i;
+        for (i = 0; i < n; i++) {
+            UserRecord r = rs[i];
+            try {
+                if (r == null) {
+                    throw new IllegalArgumentException("userRecord cannot be null");
+                }
+                // Batches usually go to one stream, so skip the lookup while the name stays the same
+                if (stream == null || !lastStreamName.equals(r.getStreamName())) {
+                    stream = stream(r.getStreamName());
+                    lastStreamName = r.getStreamName();
+                }
+                String partitionKey = r.getPartitionKey();
+                int partitionKeyLength = validatePartitionKey(partitionKey);
+                ExplicitHashKey explicitHashKey = explicitHashKey(r);
+                ByteBuffer data = r.getData();
+                validateData(data);
+
+                byte[] bytes = new byte[data != null ? data.remaining() : 0];
+                if (data != null) {
+                    data.duplicate().get(bytes);
+                }
+                frames[i] = new PutRecordFrame(baseId + i, stream, partitionKey, partitionKeyLength,
+                        explicitHashKey, ByteBuffer.wrap(bytes), null);
+                sizes[i] = partitionKeyLength + bytes.length;
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid record at index " + i + ": " + e.getMessage(), e);
+            }
+        }
+        for (UserRecord r : rs) {
+            if (r.getData() != null) {
+                r.getData().position(r.getData().limit());
+            }
+        }
+
+        BatchResultFuture batch = new BatchResultFuture(baseId, n);
+        List<PutRecordFrame> ready = new ArrayList<>(n);
+        boolean anyDeferred = false;
+        for (i = 0; i < n; i++) {
+            boolean admitted = tryAdmit(sizes[i]);
+            if (!admitted) {
+                // Whatever has been admitted so far has to go out before waiting for room, or it would never be freed
+                sendAll(ready);
+                ready.clear();
+                try {
+                    admitted = admit(sizes[i]);
+                } catch (OutstandingLimitExceededException e) {
+                    batch.fail(i, e);
+                    continue;
+                }
+            }
+
+            ResultFuture<UserRecordResult> f = batch.entry(frames[i].getId(), i);
+            route(frames[i]).futures.put(f);
+            frames[i].getStream().getFlushTracker().track(f);
+            if (admitted) {
+                releaseOnCompletion(f, sizes[i]);
+                retainForReplay(frames[i], f, sizes[i]);
+                ready.add(frames[i]);
+            } else {
+                deferredBytes.addAndGet(sizes[i]);
+                deferred.add(new DeferredRecord(frames[i], f, sizes[i]));
+                anyDeferred = true;
+            }
+        }
+        sendAll(ready);
+        if (anyDeferred) {
+            drainDeferred();
+        }
+
+        return batch;
     }
 
     /**
@@ -475,22 +898,259 @@ public class KinesisProducer implements IKinesisProducer {
     @Override
     @KplTraceLog
     public ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey, String explicitHashKey, ByteBuffer data) {
-        log.info("loggerType=kpl action=addUserRecord partitionId=true stream={} partitionKey={}, explicitHashKey={}",
-                 stream, partitionKey, explicitHashKey);
-        if (stream == null) {
+        return putRecord(stream(stream), partitionKey, explicitHashKey(explicitHashKey), data, true, null);
+    }
+
+    /**
+     * Put a record asynchronously, with the explicit hash key given as a
+     * 128-bit number split into two longs instead of a decimal string.
+     *
+     * <p>
+     * The key is sent to the child process in binary and only turned into a
+     * decimal string when the request to Kinesis is built, so this is cheaper
+     * than {@link #addUserRecord(String, String, String, ByteBuffer)} for
+     * applications that compute hash keys themselves.
+     *
+     * <p>
+     * <b>Thread safe.</b>
+     *
+     * @param stream
+     *            Stream to put to.
+     * @param partitionKey
+     *            Partition key. Length must be at least one, and at most 256
+     *            (inclusive).
+     * @param explicitHashKeyHigh
+     *            Most significant 64 bits of the explicit hash key, treated as
+     *            unsigned.
+     * @param explicitHashKeyLow
+     *            Least significant 64 bits of the explicit hash key, treated as
+     *            unsigned.
+     * @param data
+     *            Binary data of the record. Maximum size 1MiB.
+     * @return A future for the result of the put.
+     * @throws IllegalArgumentException
+     *             if input does not meet stated constraints
+     * @throws DaemonException
+     *             if the child process is dead
+     * @see #addUserRecord(String, String, String, ByteBuffer)
+     * @see UserRecord#setExplicitHashKeyBytes(byte[])
+     */
+    @Override
+    public ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey,
+            long explicitHashKeyHigh, long explicitHashKeyLow, ByteBuffer data) {
+        return putRecord(stream(stream), partitionKey, ExplicitHashKey.binary(explicitHashKeyHigh, explicitHashKeyLow),
+                data, true, null);
+    }
+
+    /**
+     * Put a record asynchronously, taking the data from a region of a byte
+     * array. The data is copied before this method returns, so the array can
+     * be reused right away.
+     *
+     * <p>
+     * <b>Thread safe.</b>
+     *
+     * @param stream
+     *            Stream to put to.
+     * @param partitionKey
+     *            Partition key. Length must be at least one, and at most 256
+     *            (inclusive).
+     * @param explicitHashKey
+     *            The hash value used to explicitly determine the shard the data
+     *            record is assigned to by overriding the partition key hash, or
+     *            null. See {@link #addUserRecord(String, String, String, ByteBuffer)}.
+     * @param data
+     *            Array holding the binary data of the record.
+     * @param offset
+     *            Offset of the data within the array.
+     * @param length
+     *            Length of the data. Maximum 1MiB.
+     * @return A future for the result of the put.
+     * @throws IllegalArgumentException
+     *             if input does not meet stated constraints
+     * @throws DaemonException
+     *             if the child process is dead
+     * @see #addUserRecord(String, String, String, ByteBuffer)
+     */
+    @Override
+    public ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey, String explicitHashKey,
+            byte[] data, int offset, int length) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        return putRecord(stream(stream), partitionKey, explicitHashKey(explicitHashKey),
+                ByteBuffer.wrap(data, offset, length), true, null);
+    }
+
+    /**
+     * Put a record asynchronously without copying its data up front. The KPL
+     * takes ownership of the buffer until it calls
+     * <code>onRelease</code> with it, which normally happens once the data has
+     * been copied into the frame sent to the child process, or when the
+     * returned future completes if that happens first. The buffer, including
+     * its position and limit, must not be modified until then. This makes it
+     * possible to recycle payload buffers (heap or direct) through a pool while
+     * the data is copied only once on its way to the child process.
+     *
+     * <p>
+     * If {@link KinesisProducerConfiguration#getReplayBufferBytes()} is more
+     * than 0, records are kept so they can be sent again to a restarted child
+     * process, and a kept record's buffer is only released when its future
+     * completes, not once it has been copied. Pools should be sized for
+     * buffers staying out for the whole life of a record. Records put while
+     * the replay buffer is full aren't kept and are released as usual.
+     *
+     * <p>
+     * <code>onRelease</code> is called on an internal thread and should return
+     * quickly. It is not called if this method throws, in which case the caller
+     * still owns the buffer.
+     *
+     * <p>
+     * <b>Thread safe.</b>
+     *
+     * @param stream
+     *            Stream to put to.
+     * @param partitionKey
+     *            Partition key. Length must be at least one, and at most 256
+     *            (inclusive).
+     * @param explicitHashKey
+     *            The hash value used to explicitly determine the shard the data
+     *            record is assigned to by overriding the partition key hash, or
+     *            null. See {@link #addUserRecord(String, String, String, ByteBuffer)}.
+     * @param data
+     *            Binary data of the record, from position to limit. Maximum
+     *            size 1MiB.
+     * @param onRelease
+     *            Called with <code>data</code> once the KPL no longer needs it.
+     * @return A future for the result of the put.
+     * @throws IllegalArgumentException
+     *             if input does not meet stated constraints
+     * @throws DaemonException
+     *             if the child process is dead
+     * @see #addUserRecord(String, String, String, ByteBuffer)
+     */
+    @Override
+    public ListenableFuture<UserRecordResult> addUserRecord(String stream, String partitionKey, String explicitHashKey,
+            ByteBuffer data, Consumer<ByteBuffer> onRelease) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (onRelease == null) {
+            throw new IllegalArgumentException("onRelease cannot be null");
+        }
+        return putRecord(stream(stream), partitionKey, explicitHashKey(explicitHashKey), data, false, onRelease);
+    }
+
+    /**
+     * Get a handle for putting records to a stream. The stream name is
+     * validated and encoded once here rather than on every put. Handles are
+     * cached, so calling this repeatedly with the same name is cheap, but
+     * keeping the handle around is cheaper still.
+     *
+     * <p>
+     * <b>Thread safe.</b>
+     *
+     * @param streamName
+     *            Name of the stream.
+     * @return A handle for the stream.
+     * @throws IllegalArgumentException
+     *             if the stream name is null or empty
+     */
+    @Override
+    public StreamHandle stream(String streamName) {
+        if (streamName == null) {
             String errorMessage = "Stream name cannot be null";
             log.error("loggerType=kpl errorMessage={}", errorMessage);
             throw new IllegalArgumentException(errorMessage);
         }
 
-        stream = stream.trim();
+        StreamHandle handle = streams.get(streamName);
+        if (handle != null) {
+            return handle;
+        }
 
-        if (stream.length() == 0) {
+        String trimmed = streamName.trim();
+        if (trimmed.length() == 0) {
             String errorMessage = "Stream name cannot be empty";
             log.error("loggerType=kpl errorMessage={}", errorMessage);
             throw new IllegalArgumentException(errorMessage);
         }
+        // Keyed by the trimmed name, so that names differing only in whitespace share one handle and one stream id
+        return streams.computeIfAbsent(trimmed,
+                k -> new StreamHandle(this, trimmed,
+                        sharingTag == 0 ? nextStreamId.getAndIncrement() : SharedChild.streamId(trimmed)));
+    }
 
+    /**
+     * Validate a record and send it to the child process.
+     *
+     * @param copy
+     *            Whether data has to be copied before returning. If so, its
+     *            position is advanced to its limit once the record is accepted.
+     * @param onRelease
+     *            Called with data once the KPL is done with it, or null.
+     */
+    ListenableFuture<UserRecordResult> putRecord(StreamHandle stream, String partitionKey,
+            ExplicitHashKey explicitHashKey, ByteBuffer data, boolean copy, Consumer<ByteBuffer> onRelease) {
+        if (log.isTraceEnabled()) {
+            log.trace("loggerType=kpl action=addUserRecord stream={} partitionKey={} explicitHashKey={}",
+                      stream.getStreamName(), partitionKey, explicitHashKey);
+        }
+
+        int partitionKeyLength = validatePartitionKey(partitionKey);
+        validateData(data);
+
+        long size = partitionKeyLength + (data != null ? data.remaining() : 0);
+        // Leaves the caller's buffer untouched if the record is rejected, so it can be retried as is
+        boolean admitted = admit(size);
+
+        ByteBuffer payload;
+        if (data == null) {
+            payload = ByteBuffer.allocate(0);
+        } else if (copy) {
+            byte[] bytes = new byte[data.remaining()];
+            data.duplicate().get(bytes);
+            data.position(data.limit());
+            payload = ByteBuffer.wrap(bytes);
+        } else {
+            payload = data;
+        }
+
+        long id = messageNumber.getAndIncrement();
+        ResultFuture<UserRecordResult> f = new ResultFuture<>(id);
+        route(stream, partitionKey).futures.put(f);
+        stream.getFlushTracker().track(f);
+
+        final PutRecordFrame m = new PutRecordFrame(id, stream, partitionKey, partitionKeyLength,
+                explicitHashKey, payload, onRelease);
+        if (onRelease != null) {
+            // Hands the buffer back if the record fails before it was ever written
+            f.addListener(m::release, MoreExecutors.directExecutor());
+        }
+        if (admitted) {
+            if (log.isTraceEnabled()) {
+                log.trace("loggerType=kpl action=childAdd messageNumber={}", id);
+            }
+            send(m, f, size);
+        } else {
+            if (log.isTraceEnabled()) {
+                log.trace("loggerType=kpl action=defer messageNumber={}", id);
+            }
+            deferredBytes.addAndGet(size);
+            deferred.add(new DeferredRecord(m, f, size));
+            // Room may have freed up before the record was queued, in which case nothing else would pick it up
+            drainDeferred();
+        }
+
+        return f;
+    }
+
+    /**
+     * @return Length of the partition key in UTF-8.
+     * @throws IllegalArgumentException
+     *             if the partition key is invalid
+     */
+    private static int validatePartitionKey(String partitionKey) {
         if (partitionKey == null) {
             String errorMessage = "partitionKey cannot be null";
             log.error("loggerType=kpl errorMessage={}", errorMessage);
@@ -504,61 +1164,236 @@ public class KinesisProducer implements IKinesisProducer {
             throw new IllegalArgumentException(errorMessage);
         }
 
-        try {
-            partitionKey.getBytes("UTF-8");
-        } catch (Exception e) {
+        int partitionKeyLength = PutRecordFrame.utf8Length(partitionKey);
+        if (partitionKeyLength < 0) {
             String errorMessage = "Partition key must be valid UTF-8";
             log.error("loggerType=kpl errorMessage={}", errorMessage);
             throw new IllegalArgumentException(errorMessage);
         }
 
-        BigInteger b = null;
-        if (explicitHashKey != null) {
-            explicitHashKey = explicitHashKey.trim();
+        return partitionKeyLength;
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *             if the data is too large
+     */
+    private static void validateData(ByteBuffer data) {
+        if (data != null && data.remaining() > 1024 * 1024) {
+            String errorMessage = format("Data must be less than or equal to 1MB in size, got %d bytes",
+                                         data.remaining());
+            log.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+    /**
+     * @return The explicit hash key given as a decimal string, validated and
+     *         ready to send, or null if there isn't one.
+     * @throws IllegalArgumentException
+     *             if the hash key is invalid
+     */
+    static ExplicitHashKey explicitHashKey(String explicitHashKey) {
+        return explicitHashKey != null ? ExplicitHashKey.decimal(normalizeExplicitHashKey(explicitHashKey)) : null;
+    }
+
+    /**
+     * @return The explicit hash key of the record, whichever form it was set
+     *         in, or null if there isn't one.
+     * @throws IllegalArgumentException
+     *             if the hash key is invalid, or set in both forms
+     */
+    private static ExplicitHashKey explicitHashKey(UserRecord userRecord) {
+        byte[] binary = userRecord.getExplicitHashKeyBytes();
+        if (binary == null) {
+            return explicitHashKey(userRecord.getExplicitHashKey());
+        }
+        if (userRecord.getExplicitHashKey() != null) {
+            String errorMessage = "Only one of explicitHashKey and explicitHashKeyBytes can be set";
+            log.error("loggerType=kpl errorMessage={}", errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+        return ExplicitHashKey.binary(binary);
+    }
+
+    /**
+     * Check that an explicit hash key is a decimal integer between 0 and
+     * 2^128 - 1, and return it in canonical form. Plain digit strings, which
+     * is what nearly everyone passes, are checked without parsing them into a
+     * BigInteger; anything else goes through BigInteger as before.
+     *
+     * @throws IllegalArgumentException
+     *             if the hash key is invalid
+     */
+    static String normalizeExplicitHashKey(String explicitHashKey) {
+        String s = explicitHashKey.trim();
+        int len = s.length();
+        boolean digitsOnly = len > 0;
+        for (int i = 0; i < len && digitsOnly; i++) {
+            char c = s.charAt(i);
+            digitsOnly = c >= '0' && c <= '9';
+        }
+
+        if (!digitsOnly) {
+            BigInteger b;
             try {
-                b = new BigInteger(explicitHashKey);
+                b = new BigInteger(s);
             } catch (NumberFormatException e) {
-                String errorMessage = format("Invalid explicitHashKey, must be an integer, got %s", explicitHashKey);
+                String errorMessage = format("Invalid explicitHashKey, must be an integer, got %s", s);
                 log.error("loggerType=kpl errorMessage={}", errorMessage);
                 throw new IllegalArgumentException(errorMessage);
             }
-            if (b != null) {
-                if (b.compareTo(UINT_128_MAX) > 0 || b.compareTo(BigInteger.ZERO) < 0) {
-                    String errorMessage = format("Invalid explicitHashKey, must be greater or equal to zero and less " +
-                                              "than or equal to (2^128 - 1), got %s", explicitHashKey);
-                    log.error("loggerType=kpl errorMessage={}", errorMessage);
-                    throw new IllegalArgumentException(errorMessage);
+            if (b.compareTo(UINT_128_MAX) > 0 || b.compareTo(BigInteger.ZERO) < 0) {
+                throw explicitHashKeyOutOfRange(s);
+            }
+            return b.toString(10);
+        }
+
+        int start = 0;
+        while (start < len - 1 && s.charAt(start) == '0') {
+            start++;
+        }
+        int digits = len - start;
+        if (digits > UINT_128_MAX_STRING.length()) {
+            throw explicitHashKeyOutOfRange(s);
+        }
+        if (digits == UINT_128_MAX_STRING.length()) {
+            for (int i = 0; i < digits; i++) {
+                int d = s.charAt(start + i) - UINT_128_MAX_STRING.charAt(i);
+                if (d > 0) {
+                    throw explicitHashKeyOutOfRange(s);
+                } else if (d < 0) {
+                    break;
                 }
             }
         }
+        return start == 0 ? s : s.substring(start);
+    }
 
-        if (data != null && data.remaining() > 1024 * 1024) {
-            String errorMessage = format("Data must be less than or equal to 1MB in size, got %d bytes",
-                                         data.remaining());
-            log.error(errorMessage);
-            throw new IllegalArgumentException(errorMessage);
+    private static IllegalArgumentException explicitHashKeyOutOfRange(String explicitHashKey) {
+        String errorMessage = format("Invalid explicitHashKey, must be greater or equal to zero and less " +
+                                     "than or equal to (2^128 - 1), got %s", explicitHashKey);
+        log.error("loggerType=kpl errorMessage={}", errorMessage);
+        return new IllegalArgumentException(errorMessage);
+    }
+
+    /**
+     * Reserve room for a record of the given size according to the configured {@link BackpressurePolicy}.
+     *
+     * @return true if the record can be sent now, false if it has to be deferred.
+     * @throws OutstandingLimitExceededException
+     *             if the record can't be accepted.
+     */
+    private boolean admit(long size) {
+        BackpressurePolicy policy = config != null ? config.getBackpressurePolicy() : BackpressurePolicy.BLOCK;
+        switch (policy) {
+        case DEFER:
+            return deferred.isEmpty() && limiter.tryAcquire(size);
+        case FAIL_FAST:
+            if (limiter.tryAcquire(size)) {
+                return true;
+            }
+            throw new OutstandingLimitExceededException(format(
+                    "Limit on outstanding records reached (records=%d, bytes=%d)",
+                    limiter.getRecords(), limiter.getBytes()));
+        default:
+            long timeout = config != null ? config.getBackpressureTimeout() : 0;
+            try {
+                if (limiter.acquire(size, timeout)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OutstandingLimitExceededException(
+                        "Interrupted while waiting for the number of outstanding records to go down");
+            }
+            throw new OutstandingLimitExceededException(format(
+                    "Timed out after %d ms waiting for the number of outstanding records to go down " +
+                    "(records=%d, bytes=%d)", timeout, limiter.getRecords(), limiter.getBytes()));
         }
+    }
 
-        long id = messageNumber.getAndIncrement();
-        SettableFuture<UserRecordResult> f = SettableFuture.create();
-        futures.put(id, f);
+    /**
+     * Reserve room for a record if there is some right now, without blocking, failing or jumping ahead of deferred
+     * records.
+     */
+    private boolean tryAdmit(long size) {
+        BackpressurePolicy policy = config != null ? config.getBackpressurePolicy() : BackpressurePolicy.BLOCK;
+        return (policy != BackpressurePolicy.DEFER || deferred.isEmpty()) && limiter.tryAcquire(size);
+    }
 
-        PutRecord.Builder pr = PutRecord.newBuilder()
-                .setStreamName(stream)
-                .setPartitionKey(partitionKey)
-                .setData(data != null ? ByteString.copyFrom(data) : ByteString.EMPTY);
-        if (b != null) {
-            pr.setExplicitHashKey(b.toString(10));
+    /**
+     * Hand an admitted record to the child, and give its room back once its future completes.
+     */
+    private void send(PutRecordFrame m, ResultFuture<?> f, long size) {
+        releaseOnCompletion(f, size);
+        retainForReplay(m, f, size);
+        route(m).daemon.add(m);
+    }
+
+    /**
+     * Queue admitted records for their children, keeping their order.
+     */
+    private void sendAll(List<PutRecordFrame> frames) {
+        if (children.length == 1) {
+            children[0].daemon.addAll(frames);
+            return;
         }
+        List<List<PutRecordFrame>> perChild = new ArrayList<>(children.length);
+        for (int i = 0; i < children.length; i++) {
+            perChild.add(new ArrayList<PutRecordFrame>());
+        }
+        for (PutRecordFrame m : frames) {
+            perChild.get(route(m).index).add(m);
+        }
+        for (int i = 0; i < children.length; i++) {
+            if (!perChild.get(i).isEmpty()) {
+                children[i].daemon.addAll(perChild.get(i));
+            }
+        }
+    }
 
-        Message m = Message.newBuilder()
-                .setId(id)
-                .setPutRecord(pr.build())
-                .build();
-        log.info("loggerType=kpl action=childAdd messageNumber={}", id);
-        child.add(m);
+    /**
+     * Keep a record for sending again if the child dies before answering it, if replay is enabled and there's room.
+     */
+    private void retainForReplay(PutRecordFrame m, ResultFuture<?> f, long size) {
+        if (replayBuffer != null) {
+            replayBuffer.retain(m, f, size);
+        }
+    }
 
-        return f;
+    /**
+     * Give an admitted record's room back once its future completes.
+     */
+    private void releaseOnCompletion(ResultFuture<?> f, final long size) {
+        f.addListener(new Runnable() {
+            @Override
+            public void run() {
+                limiter.release(size);
+                if (!deferred.isEmpty()) {
+                    drainDeferred();
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Send as many deferred records as there is room for, oldest first.
+     */
+    private void drainDeferred() {
+        synchronized (deferred) {
+            DeferredRecord r;
+            while ((r = deferred.peek()) != null) {
+                if (!r.future.isDone() && !limiter.tryAcquire(r.size)) {
+                    break;
+                }
+                deferred.poll();
+                deferredBytes.addAndGet(-r.size);
+                if (!r.future.isDone()) {
+                    send(r.message, r.future, r.size);
+                }
+            }
+        }
     }
 
     /**
@@ -574,7 +1409,24 @@ public class KinesisProducer implements IKinesisProducer {
      */
     @Override
     public int getOutstandingRecordsCount() {
-        return futures.size();
+        int n = 0;
+        for (ChildSlot c : children) {
+            n += c.futures.size();
+        }
+        return n;
+    }
+
+    /**
+     * Get the approximate number of bytes held by unfinished records, counting
+     * the data and partition key of each. This includes records held back
+     * under {@link BackpressurePolicy#DEFER}.
+     *
+     * @return The number of bytes held by unfinished records.
+     * @see KinesisProducerConfiguration#setMaxOutstandingBytes(long)
+     */
+    @Override
+    public long getOutstandingBytes() {
+        return limiter.getBytes() + deferredBytes.get();
     }
 
     /**
@@ -595,7 +1447,10 @@ public class KinesisProducer implements IKinesisProducer {
      *
      * <p>
      * This method is synchronous and will block while the data is being
-     * retrieved.
+     * retrieved, unless
+     * {@link KinesisProducerConfiguration#setMetricsSnapshotInterval(long)} is
+     * enabled, in which case it returns the metrics last pushed by the child
+     * process.
      *
      * @param metricName
      *            Name of the metrics to fetch.
@@ -615,6 +1470,46 @@ public class KinesisProducer implements IKinesisProducer {
      */
     @Override
     public List<Metric> getMetrics(String metricName, int windowSeconds) throws InterruptedException, ExecutionException {
+        return getMetricsAsync(metricName, windowSeconds).get();
+    }
+
+    /**
+     * Get metrics from the KPL without blocking.
+     *
+     * <p>
+     * If {@link KinesisProducerConfiguration#setMetricsSnapshotInterval(long)}
+     * is enabled and no window is given, the returned future is already
+     * complete with the metrics last pushed by the child process. Otherwise
+     * the metrics are requested from the child process and the future
+     * completes when they arrive.
+     *
+     * @param metricName
+     *            Name of the metrics to fetch, or null for all of them.
+     * @param windowSeconds
+     *            Fetch data from the last N seconds, or 0 or less for
+     *            cumulative statistics.
+     * @return A future for the list of metrics.
+     * @see #getMetrics(String, int)
+     */
+    @Override
+    public ListenableFuture<List<Metric>> getMetricsAsync(String metricName, int windowSeconds) {
+        if (windowSeconds <= 0) {
+            List<List<Metric>> cached = new ArrayList<>(children.length);
+            for (ChildSlot c : children) {
+                List<Metric> metrics = c.metricsCache.get(metricName);
+                if (metrics == null) {
+                    cached = null;
+                    break;
+                }
+                cached.add(metrics);
+            }
+            if (cached != null) {
+                ResultFuture<List<Metric>> f = new ResultFuture<>(-1);
+                f.set(ownMetrics(children.length == 1 ? cached.get(0) : Metric.merge(cached)));
+                return f;
+            }
+        }
+
         MetricsRequest.Builder mrb = MetricsRequest.newBuilder();
         if (metricName != null) {
             mrb.setName(metricName);
@@ -623,16 +1518,70 @@ public class KinesisProducer implements IKinesisProducer {
             mrb.setSeconds(windowSeconds);
         }
 
-        long id = messageNumber.getAndIncrement();
-        SettableFuture<List<Metric>> f = SettableFuture.create();
-        futures.put(id, f);
+        MetricsRequest request = mrb.build();
+        List<ListenableFuture<List<Metric>>> perChild = new ArrayList<>(children.length);
+        for (ChildSlot c : children) {
+            long id = messageNumber.getAndIncrement();
+            ResultFuture<List<Metric>> f = new ResultFuture<>(id);
+            c.futures.put(f);
+            c.daemon.add(Message.newBuilder()
+                    .setId(id)
+                    .setMetricsRequest(request)
+                    .build());
+            perChild.add(f);
+        }
 
-        child.add(Message.newBuilder()
-                .setId(id)
-                .setMetricsRequest(mrb.build())
-                .build());
+        if (children.length == 1) {
+            return perChild.get(0);
+        }
+        return Futures.transform(Futures.allAsList(perChild),
+                (Function<List<List<Metric>>, List<Metric>>) Metric::merge);
+    }
 
-        return f.get();
+    /**
+     * Leave out the metrics of streams that belong to other producers sharing the child processes.
+     */
+    private List<Metric> ownMetrics(List<Metric> metrics) {
+        if (sharingTag == 0) {
+            return metrics;
+        }
+        Set<String> names = new HashSet<>();
+        for (StreamHandle handle : streams.values()) {
+            names.add(handle.getStreamName());
+        }
+        List<Metric> own = new ArrayList<>(metrics.size());
+        for (Metric m : metrics) {
+            String stream = m.getDimensions().get("StreamName");
+            if (stream == null || names.contains(stream)) {
+                own.add(m);
+            }
+        }
+        return own;
+    }
+
+    /**
+     * Get all metrics from the KPL without blocking.
+     *
+     * @return A future for the list of all of the metrics maintained by the KPL.
+     * @see #getMetricsAsync(String, int)
+     */
+    @Override
+    public ListenableFuture<List<Metric>> getMetricsAsync() {
+        return getMetricsAsync(null, -1);
+    }
+
+    /**
+     * Ask a newly started child process to push metrics snapshots, if enabled.
+     */
+    private void requestMetricsSnapshots(ChildSlot slot) {
+        if (config.getMetricsSnapshotInterval() > 0) {
+            slot.daemon.add(Message.newBuilder()
+                    .setId(messageNumber.getAndIncrement())
+                    .setMetricsRequest(MetricsRequest.newBuilder()
+                            .setSnapshotInterval(config.getMetricsSnapshotInterval())
+                            .build())
+                    .build());
+        }
     }
 
     /**
@@ -658,7 +1607,10 @@ public class KinesisProducer implements IKinesisProducer {
      *
      * <p>
      * This method is synchronous and will block while the data is being
-     * retrieved.
+     * retrieved, unless
+     * {@link KinesisProducerConfiguration#setMetricsSnapshotInterval(long)} is
+     * enabled, in which case it returns the metrics last pushed by the child
+     * process.
      *
      * @param metricName
      *            Name of the metrics to fetch.
@@ -698,7 +1650,10 @@ public class KinesisProducer implements IKinesisProducer {
      *
      * <p>
      * This method is synchronous and will block while the data is being
-     * retrieved.
+     * retrieved, unless
+     * {@link KinesisProducerConfiguration#setMetricsSnapshotInterval(long)} is
+     * enabled, in which case it returns the metrics last pushed by the child
+     * process.
      *
      * @return A list of all of the metrics maintained by the KPL.
       * @throws ExecutionException
@@ -731,7 +1686,10 @@ public class KinesisProducer implements IKinesisProducer {
      *
      * <p>
      * This method is synchronous and will block while the data is being
-     * retrieved.
+     * retrieved, unless
+     * {@link KinesisProducerConfiguration#setMetricsSnapshotInterval(long)} is
+     * enabled, in which case it returns the metrics last pushed by the child
+     * process.
      *
      * @param windowSeconds
      *            Fetch data from the last N seconds. The KPL maintains data at
@@ -764,7 +1722,8 @@ public class KinesisProducer implements IKinesisProducer {
      * futures. If you were sending a very high volume of data you may need to
      * call flush multiple times to clear all buffers.</li>
      * <li>Poll {@link #getOutstandingRecordsCount()} until it returns 0.</li>
-     * <li>Call {@link #flushSync()}, which blocks until completion.</li>
+     * <li>Call {@link #flushSync()}, which blocks until completion, or
+     * {@link #flushSync(long, TimeUnit)} to give up after a time limit.</li>
      * </ul>
      *
      * Once all records are confirmed with one of the above, call destroy to
@@ -775,8 +1734,23 @@ public class KinesisProducer implements IKinesisProducer {
     @KplTraceLog
     public void destroy() {
         destroyed = true;
-        this.callbackCompletionExecutor.shutdownNow();
-        child.destroy();
+        unregisterMBean();
+        if (ownedCallbackExecutor != null) {
+            ownedCallbackExecutor.shutdownNow();
+        }
+        for (ChildSlot c : children) {
+            if (c.shared == null) {
+                c.daemon.destroy();
+            } else {
+                // The child carries on for the other producers; fail this one's outstanding records as if it had
+                // been destroyed
+                c.shared.detach(sharingTag);
+                new MessageHandler(c).onError(new IrrecoverableError("Destroy is called"));
+            }
+        }
+        if (sharingTag != 0) {
+            SharedChild.releaseTag(sharingTag);
+        }
     }
 
     /**
@@ -799,6 +1773,13 @@ public class KinesisProducer implements IKinesisProducer {
     @Override
     @KplTraceLog
     public void flush(String stream) {
+        if (stream == null && sharingTag != 0) {
+            // Flushing every stream would also flush those of the other producers sharing the child
+            for (StreamHandle handle : streams.values()) {
+                flush(handle.getStreamName());
+            }
+            return;
+        }
         Flush.Builder f = Flush.newBuilder();
         if (stream != null) {
             f.setStreamName(stream);
@@ -807,7 +1788,9 @@ public class KinesisProducer implements IKinesisProducer {
                 .setId(messageNumber.getAndIncrement())
                 .setFlush(f.build())
                 .build();
-        child.add(m);
+        for (ChildSlot c : children) {
+            c.daemon.add(m);
+        }
     }
 
     /**
@@ -831,9 +1814,98 @@ public class KinesisProducer implements IKinesisProducer {
         flush(null);
     }
 
+    /**
+     * Instruct the child process to perform a flush of the specified stream,
+     * and get a future that completes once every record put to that stream
+     * before this call is complete (either succeeding or failing).
+     *
+     * <p>
+     * Records put after this call are not waited for, so the future completes
+     * even while the stream stays busy. If the flush leaves some records
+     * buffered, they are still sent once their buffering time is up.
+     *
+     * @param stream
+     *            Stream to flush
+     * @return A future that completes with null once the records have
+     *         completed. It never fails.
+     * @throws DaemonException
+     *             if the child process is dead
+     */
+    @Override
+    public ListenableFuture<Void> flushAsync(String stream) {
+        ListenableFuture<Void> barrier = stream(stream).getFlushTracker().barrier();
+        flush(stream);
+        return barrier;
+    }
+
+    /**
+     * Instruct the child process to perform a flush, and get a future that
+     * completes once every record put before this call is complete (either
+     * succeeding or failing). Applies to all streams.
+     *
+     * @return A future that completes with null once the records have
+     *         completed. It never fails.
+     * @throws DaemonException
+     *             if the child process is dead
+     *
+     * @see #flushAsync(String)
+     */
+    @Override
+    public ListenableFuture<Void> flushAsync() {
+        List<ListenableFuture<Void>> barriers = new ArrayList<>(streams.size());
+        for (StreamHandle handle : streams.values()) {
+            barriers.add(handle.getFlushTracker().barrier());
+        }
+        flush();
+        return FlushTracker.allOf(barriers);
+    }
+
+    /**
+     * Instructs the child process to flush all records and waits until all
+     * records put before the call are complete (either succeeding or failing),
+     * or until the timeout expires.
+     *
+     * <p>
+     * The flush is repeated every half second in case the first one left some
+     * records buffered, but the wait ends as soon as the last record completes.
+     *
+     * @param timeout
+     *            Maximum time to wait
+     * @param unit
+     *            Unit of timeout
+     * @return true if all records completed, false if the timeout expired first
+     * @throws InterruptedException
+     *             if the calling thread is interrupted while waiting
+     * @throws DaemonException
+     *             if the child process is dead
+     *
+     * @see #flushSync()
+     */
+    @Override
+    @KplTraceLog
+    public boolean flushSync(long timeout, TimeUnit unit) throws InterruptedException {
+        ListenableFuture<Void> barrier = flushAsync();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return barrier.isDone();
+            }
+            try {
+                barrier.get(Math.min(remaining, FLUSH_RETRY_NANOS), TimeUnit.NANOSECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                flush();
+            } catch (ExecutionException e) {
+                // Barriers never fail
+                return true;
+            }
+        }
+    }
+
     /**
      * Instructs the child process to flush all records and waits until all
-     * records are complete (either succeeding or failing).
+     * records put before the call are complete (either succeeding or failing).
      *
      * <p>
      * The wait includes any retries that need to be performed. Depending on
@@ -843,7 +1915,12 @@ public class KinesisProducer implements IKinesisProducer {
      *
      * <p>
      * This is useful if you need to shutdown your application and want to make
-     * sure all records are delivered before doing so.
+     * sure all records are delivered before doing so. Records put by other
+     * threads while this is waiting are not waited for.
+     *
+     * <p>
+     * An interrupt does not end the wait; the thread's interrupt status is set
+     * again once it returns.
      *
      * @throws DaemonException
      *             if the child process is dead
@@ -854,11 +1931,22 @@ public class KinesisProducer implements IKinesisProducer {
     @Override
     @KplTraceLog
     public void flushSync() {
-        while (getOutstandingRecordsCount() > 0) {
-            flush();
+        ListenableFuture<Void> barrier = flushAsync();
+        boolean interrupted = false;
+        while (!barrier.isDone()) {
             try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) { }
+                barrier.get(FLUSH_RETRY_NANOS, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                flush();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                // Barriers never fail
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -915,10 +2003,25 @@ public class KinesisProducer implements IKinesisProducer {
                     String extension = os.equals("windows") ? ".exe" : "";
                     String executableName = "kinesis_producer" + extension;
 
-                    InputStream is = this.getClass().getClassLoader().getResourceAsStream(root + "/" + os + "/" + executableName);
+                    String resource = root + "/" + os + "/" + executableName;
                     String resultFileFormat = "kinesis_producer_%s" + extension;
 
-                    File extracted = HashedFileCopier.copyFileFrom(is, tmpDirFile, resultFileFormat);
+                    // Skip reading the binary out of the jar if an earlier run already extracted it
+                    ExtractionManifest manifest = ExtractionManifest.load(this.getClass().getClassLoader());
+                    ExtractionManifest.Entry expected = manifest != null ? manifest.get(resource) : null;
+                    File extracted = expected != null
+                            ? HashedFileCopier.findCopiedFile(expected, tmpDirFile, resultFileFormat)
+                            : null;
+                    if (extracted == null) {
+                        try (InputStream is = this.getClass().getClassLoader().getResourceAsStream(resource)) {
+                            extracted = HashedFileCopier.copyFileFrom(is, tmpDirFile, resultFileFormat);
+                        }
+                        if (expected != null
+                                && !extracted.getName().equals(String.format(resultFileFormat, expected.digest))) {
+                            log.warn("The extraction manifest doesn't match {}, so it will be extracted again next "
+                                    + "time. Run pack.py to update the manifest.", resource);
+                        }
+                    }
                     watchFiles.add(extracted);
                     extracted.setExecutable(true);
                     pathToExecutable = extracted.getAbsolutePath();
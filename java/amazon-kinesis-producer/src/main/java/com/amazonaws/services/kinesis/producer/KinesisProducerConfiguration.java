@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 
 import lombok.ToString;
@@ -46,6 +47,21 @@ public class KinesisProducerConfiguration {
     private List<AdditionalDimension> additionalDims = new ArrayList<>();
     private AWSCredentialsProvider credentialsProvider = new DefaultAWSCredentialsProviderChain();
     private AWSCredentialsProvider metricsCredentialsProvider = null;
+    private long maxOutstandingRecords = 0;
+    private long maxOutstandingBytes = 0;
+    private BackpressurePolicy backpressurePolicy = BackpressurePolicy.BLOCK;
+    private long backpressureTimeout = 0;
+    private long metricsSnapshotInterval = 0;
+    private boolean jmxEnabled = false;
+    private long replayBufferBytes = 0;
+    private int childProcessCount = 1;
+    private ChildRouting childRouting = ChildRouting.PARTITION_KEY;
+    private boolean shareChildProcess = false;
+    private Executor callbackExecutor = null;
+    private long nativeLogRateLimit = 1000;
+    private IpcTransport ipcTransport = IpcTransport.PIPES;
+    private long sharedMemoryRingBytes = 16 * 1024 * 1024;
+    private long socketBufferBytes = 1024 * 1024;
 
     /**
      * Add an additional, custom dimension to the metrics emitted by the KPL.
@@ -140,7 +156,445 @@ public class KinesisProducerConfiguration {
         this.metricsCredentialsProvider = metricsCredentialsProvider;
         return this;
     }
-    
+
+    /**
+     * Maximum number of records that can be outstanding at once.
+     *
+     * @see #setMaxOutstandingRecords(long)
+     */
+    public long getMaxOutstandingRecords() {
+        return maxOutstandingRecords;
+    }
+
+    /**
+     * Maximum number of records that can be outstanding at once, i.e. added with
+     * {@link KinesisProducer#addUserRecord} but not yet completed. Once the limit is reached, further puts are
+     * handled according to {@link #setBackpressurePolicy(BackpressurePolicy)}.
+     * <p>
+     * 0 means unlimited.
+     * <p>
+     * Default: 0
+     * <p>
+     * Minimum: 0
+     */
+    public KinesisProducerConfiguration setMaxOutstandingRecords(long val) {
+        if (val < 0) {
+            throw new IllegalArgumentException("maxOutstandingRecords must be greater than or equal to 0, got " + val);
+        }
+        maxOutstandingRecords = val;
+        return this;
+    }
+
+    /**
+     * Maximum number of bytes of record data that can be outstanding at once.
+     *
+     * @see #setMaxOutstandingBytes(long)
+     */
+    public long getMaxOutstandingBytes() {
+        return maxOutstandingBytes;
+    }
+
+    /**
+     * Maximum number of bytes that can be outstanding at once, counting the data and partition key of each record
+     * added with {@link KinesisProducer#addUserRecord} but not yet completed. Once the limit is reached, further puts
+     * are handled according to {@link #setBackpressurePolicy(BackpressurePolicy)}.
+     * <p>
+     * Use this to keep the heap from filling up with buffered records when a stream is being throttled. A single
+     * record larger than the limit is still accepted when nothing else is outstanding.
+     * <p>
+     * 0 means unlimited.
+     * <p>
+     * Default: 0
+     * <p>
+     * Minimum: 0
+     */
+    public KinesisProducerConfiguration setMaxOutstandingBytes(long val) {
+        if (val < 0) {
+            throw new IllegalArgumentException("maxOutstandingBytes must be greater than or equal to 0, got " + val);
+        }
+        maxOutstandingBytes = val;
+        return this;
+    }
+
+    /**
+     * @return the {@link BackpressurePolicy} applied when the outstanding limits are reached.
+     */
+    public BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    /**
+     * What {@link KinesisProducer#addUserRecord} does when {@link #setMaxOutstandingRecords(long)} or
+     * {@link #setMaxOutstandingBytes(long)} has been reached.
+     * <p>
+     * Default: BLOCK
+     */
+    public KinesisProducerConfiguration setBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+        if (backpressurePolicy == null) {
+            throw new NullPointerException("backpressurePolicy cannot be null");
+        }
+        this.backpressurePolicy = backpressurePolicy;
+        return this;
+    }
+
+    /**
+     * Sets the backpressure policy from its name, one of BLOCK, FAIL_FAST or DEFER.
+     *
+     * @see #setBackpressurePolicy(BackpressurePolicy)
+     */
+    public KinesisProducerConfiguration setBackpressurePolicy(String backpressurePolicy) {
+        return setBackpressurePolicy(BackpressurePolicy.valueOf(backpressurePolicy));
+    }
+
+    /**
+     * Maximum time, in milliseconds, that a put waits for room under the BLOCK policy.
+     *
+     * @see #setBackpressureTimeout(long)
+     */
+    public long getBackpressureTimeout() {
+        return backpressureTimeout;
+    }
+
+    /**
+     * Maximum time, in milliseconds, that {@link KinesisProducer#addUserRecord} waits for room under the
+     * {@link BackpressurePolicy#BLOCK} policy before throwing {@link OutstandingLimitExceededException}.
+     * <p>
+     * 0 means wait indefinitely.
+     * <p>
+     * Default: 0
+     * <p>
+     * Minimum: 0
+     */
+    public KinesisProducerConfiguration setBackpressureTimeout(long val) {
+        if (val < 0) {
+            throw new IllegalArgumentException("backpressureTimeout must be greater than or equal to 0, got " + val);
+        }
+        backpressureTimeout = val;
+        return this;
+    }
+
+    /**
+     * How often, in milliseconds, the child process pushes metrics to the KinesisProducer.
+     *
+     * @see #setMetricsSnapshotInterval(long)
+     */
+    public long getMetricsSnapshotInterval() {
+        return metricsSnapshotInterval;
+    }
+
+    /**
+     * How often, in milliseconds, the child process pushes metrics to the KinesisProducer. Each push carries only the
+     * metrics that changed since the last one.
+     * <p>
+     * When enabled, {@link KinesisProducer#getMetrics(String)} and {@link KinesisProducer#getMetrics()} read the most
+     * recent push instead of asking the child process, so they return immediately but may be up to this old. Metrics
+     * over a given number of seconds are still fetched from the child process.
+     * <p>
+     * 0 disables pushes.
+     * <p>
+     * Default: 0
+     * <p>
+     * Minimum: 0
+     */
+    public KinesisProducerConfiguration setMetricsSnapshotInterval(long val) {
+        if (val < 0) {
+            throw new IllegalArgumentException(
+                    "metricsSnapshotInterval must be greater than or equal to 0, got " + val);
+        }
+        metricsSnapshotInterval = val;
+        return this;
+    }
+
+    /**
+     * Whether the KinesisProducer registers its {@link KinesisProducerMXBean} with the platform MBean server.
+     *
+     * @see #setJmxEnabled(boolean)
+     */
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
+    /**
+     * Register a {@link KinesisProducerMXBean} for the KinesisProducer with the platform MBean server, under
+     * com.amazonaws.services.kinesis.producer:type=KinesisProducer,id=N. It is unregistered by
+     * {@link KinesisProducer#destroy()}. The statistics are kept either way and are available from
+     * {@link KinesisProducer#getStatistics()}.
+     * <p>
+     * Default: false
+     */
+    public KinesisProducerConfiguration setJmxEnabled(boolean val) {
+        jmxEnabled = val;
+        return this;
+    }
+
+    /**
+     * Most bytes of records kept for sending again to a restarted child process.
+     *
+     * @see #setReplayBufferBytes(long)
+     */
+    public long getReplayBufferBytes() {
+        return replayBufferBytes;
+    }
+
+    /**
+     * Most bytes of records, counting partition keys and data, that the KinesisProducer keeps after sending them to the
+     * child process, until their results arrive. If the child process dies and is restarted, the records kept are sent
+     * to the new one instead of being failed, unless they are older than {@link #getRecordTtl()}. Records put while the
+     * limit is reached are not kept, and are failed if the child process dies, as they are when this is 0.
+     * <p>
+     * Kept records hold on to their data, so buffers lent with
+     * {@link KinesisProducer#addUserRecord(String, String, String, java.nio.ByteBuffer, java.util.function.Consumer)}
+     * are handed back when the record completes rather than once it has been sent.
+     * <p>
+     * 0 disables replay.
+     * <p>
+     * Default: 0
+     * <p>
+     * Minimum: 0
+     */
+    public KinesisProducerConfiguration setReplayBufferBytes(long val) {
+        if (val < 0) {
+            throw new IllegalArgumentException("replayBufferBytes must be greater than or equal to 0, got " + val);
+        }
+        replayBufferBytes = val;
+        return this;
+    }
+
+    /**
+     * Number of native child processes the KinesisProducer runs.
+     *
+     * @see #setChildProcessCount(int)
+     */
+    public int getChildProcessCount() {
+        return childProcessCount;
+    }
+
+    /**
+     * Number of native child processes the KinesisProducer runs, each with its own pipes, threads and connections.
+     * Records are spread over them according to {@link #setChildRouting(ChildRouting)}. A single child process can
+     * become the bottleneck on hosts with many cores.
+     * <p>
+     * Flushes go to every child process, and metrics are added up across them, so a KinesisProducer with several
+     * children behaves like one with a single child. A child that dies is restarted on its own, and only the records
+     * sent to it are affected.
+     * <p>
+     * Default: 1
+     * <p>
+     * Minimum: 1
+     */
+    public KinesisProducerConfiguration setChildProcessCount(int val) {
+        if (val < 1) {
+            throw new IllegalArgumentException("childProcessCount must be at least 1, got " + val);
+        }
+        childProcessCount = val;
+        return this;
+    }
+
+    /**
+     * @return How records are spread over the child processes.
+     */
+    public ChildRouting getChildRouting() {
+        return childRouting;
+    }
+
+    /**
+     * How records are spread over the child processes when {@link #setChildProcessCount(int)} is more than 1.
+     * <p>
+     * Default: PARTITION_KEY
+     */
+    public KinesisProducerConfiguration setChildRouting(ChildRouting childRouting) {
+        if (childRouting == null) {
+            throw new NullPointerException("childRouting cannot be null");
+        }
+        this.childRouting = childRouting;
+        return this;
+    }
+
+    /**
+     * Sets the child routing from its name, either PARTITION_KEY or STREAM.
+     *
+     * @see #setChildRouting(ChildRouting)
+     */
+    public KinesisProducerConfiguration setChildRouting(String childRouting) {
+        return setChildRouting(ChildRouting.valueOf(childRouting));
+    }
+
+    /**
+     * @return Whether the child processes are shared with other KinesisProducers in the JVM.
+     * @see #setShareChildProcess(boolean)
+     */
+    public boolean isShareChildProcess() {
+        return shareChildProcess;
+    }
+
+    /**
+     * Share the child processes with other KinesisProducers in the same JVM that also enable this and whose
+     * configuration is otherwise the same, including the credentials providers. Applications that create a
+     * KinesisProducer per stream or per tenant then run one child process and one set of connections rather than one
+     * each.
+     * <p>
+     * Each KinesisProducer still has its own futures, outstanding record limits and callback executor. Flushes only
+     * apply to its own streams, and metrics with a stream dimension only include its own streams; metrics without one
+     * cover every KinesisProducer sharing the child, as do the IPC figures in {@link KinesisProducer#getStatistics()}. The
+     * child is destroyed when the last KinesisProducer using it is.
+     * <p>
+     * Default: false
+     */
+    public KinesisProducerConfiguration setShareChildProcess(boolean val) {
+        shareChildProcess = val;
+        return this;
+    }
+
+    /**
+     * {@link Executor} used to complete the futures returned by {@link KinesisProducer#addUserRecord}.
+     *
+     * @see #setCallbackExecutor(Executor)
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * {@link Executor} used to complete the futures returned by {@link KinesisProducer#addUserRecord}, and therefore
+     * to run any listeners registered on them with a direct executor. Results are handed to it in batches, one task
+     * per batch.
+     * <p>
+     * On Java 21 and later, a virtual-thread-per-task executor works well here. The KinesisProducer does not shut down
+     * an executor supplied this way.
+     * <p>
+     * If not given, the KinesisProducer creates and owns a thread pool of up to 4 threads per core.
+     */
+    public KinesisProducerConfiguration setCallbackExecutor(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        return this;
+    }
+
+    /**
+     * Most log messages per second passed on from each child process.
+     *
+     * @see #setNativeLogRateLimit(long)
+     */
+    public long getNativeLogRateLimit() {
+        return nativeLogRateLimit;
+    }
+
+    /**
+     * Most log messages per second, with bursts of up to a second's worth, that are passed on from each child process
+     * to the logger of {@link LogInputStreamReader}. Messages are logged on a thread of their own, so a slow logger
+     * never holds up the child. Messages over the limit, or that arrive while logging has fallen behind, are dropped;
+     * how many is logged as a warning and counted in {@link KinesisProducerMXBean#getNativeLogMessagesDropped()}.
+     * Messages at levels the logger has disabled are not counted.
+     * <p>
+     * 0 means no limit.
+     * <p>
+     * Default: 1000
+     * <p>
+     * Minimum: 0
+     */
+    public KinesisProducerConfiguration setNativeLogRateLimit(long val) {
+        if (val < 0) {
+            throw new IllegalArgumentException("nativeLogRateLimit must be greater than or equal to 0, got " + val);
+        }
+        nativeLogRateLimit = val;
+        return this;
+    }
+
+    /**
+     * @return How records and results travel between the KinesisProducer and its child processes.
+     */
+    public IpcTransport getIpcTransport() {
+        return ipcTransport;
+    }
+
+    /**
+     * How records and results travel between the KinesisProducer and its child processes.
+     * <p>
+     * {@link IpcTransport#SHARED_MEMORY} is only available on Linux and macOS, and only where the JVM allows ordered
+     * access to memory-mapped files, which HotSpot-based JVMs do. {@link IpcTransport#UNIX_SOCKET} is only available on
+     * Linux and macOS with Java 16 or later. Elsewhere pipes are used, and a warning is logged.
+     * <p>
+     * Default: PIPES
+     */
+    public KinesisProducerConfiguration setIpcTransport(IpcTransport ipcTransport) {
+        if (ipcTransport == null) {
+            throw new NullPointerException("ipcTransport cannot be null");
+        }
+        this.ipcTransport = ipcTransport;
+        return this;
+    }
+
+    /**
+     * Sets the IPC transport from its name: PIPES, SHARED_MEMORY or UNIX_SOCKET.
+     *
+     * @see #setIpcTransport(IpcTransport)
+     */
+    public KinesisProducerConfiguration setIpcTransport(String ipcTransport) {
+        return setIpcTransport(IpcTransport.valueOf(ipcTransport));
+    }
+
+    /**
+     * Size in bytes of each of the two rings used with {@link IpcTransport#SHARED_MEMORY}.
+     *
+     * @see #setSharedMemoryRingBytes(long)
+     */
+    public long getSharedMemoryRingBytes() {
+        return sharedMemoryRingBytes;
+    }
+
+    /**
+     * Size in bytes of each of the two rings, one each way, in the shared memory file of each child process when the
+     * transport is {@link IpcTransport#SHARED_MEMORY}. Rounded up to a power of two. The file lives in /dev/shm where
+     * there is one, so it takes up memory rather than disk.
+     * <p>
+     * A writer that finds its ring full waits for the other side to catch up, just as it would on a full pipe, so a
+     * bigger ring absorbs longer bursts.
+     * <p>
+     * Default: 16777216
+     * <p>
+     * Minimum: 65536
+     * <p>
+     * Maximum (inclusive): 536870912
+     */
+    public KinesisProducerConfiguration setSharedMemoryRingBytes(long val) {
+        if (val < SharedMemoryRing.MIN_CAPACITY || val > SharedMemoryRing.MAX_CAPACITY) {
+            throw new IllegalArgumentException("sharedMemoryRingBytes must be between " + SharedMemoryRing.MIN_CAPACITY
+                    + " and " + SharedMemoryRing.MAX_CAPACITY + ", got " + val);
+        }
+        sharedMemoryRingBytes = val;
+        return this;
+    }
+
+    /**
+     * Send and receive buffer size in bytes asked for on each end of the socket used with
+     * {@link IpcTransport#UNIX_SOCKET}.
+     *
+     * @see #setSocketBufferBytes(long)
+     */
+    public long getSocketBufferBytes() {
+        return socketBufferBytes;
+    }
+
+    /**
+     * Send and receive buffer size in bytes asked for on each end of the socket between the KinesisProducer and each
+     * child process when the transport is {@link IpcTransport#UNIX_SOCKET}. A pipe holds 64KB; a bigger buffer lets
+     * either side get further ahead of the other before it has to wait. The system may cap it, on Linux at
+     * net.core.wmem_max and net.core.rmem_max.
+     * <p>
+     * Default: 1048576
+     * <p>
+     * Minimum: 4096
+     * <p>
+     * Maximum (inclusive): 2147483647
+     */
+    public KinesisProducerConfiguration setSocketBufferBytes(long val) {
+        if (val < 4096 || val > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("socketBufferBytes must be between 4096 and " + Integer.MAX_VALUE
+                    + ", got " + val);
+        }
+        socketBufferBytes = val;
+        return this;
+    }
+
     /**
      * Load configuration from a properties file. Any fields not found in the
      * target file will take on default values.
@@ -223,7 +677,7 @@ public class KinesisProducerConfiguration {
     }
     
     protected Configuration.Builder additionalConfigsToProtobuf(Configuration.Builder builder) {
-        return builder.addAllAdditionalMetricDims(additionalDims);
+        return builder.addAllAdditionalMetricDims(additionalDims).addAllPrewarmStreams(prewarmStreams);
     }
 
     /**
@@ -247,8 +701,67 @@ public class KinesisProducerConfiguration {
         }
     }
 
+    /**
+     * Controls what happens to a put when the limits on outstanding records or bytes have been reached.
+     */
+    public enum BackpressurePolicy {
+        /**
+         * Block the calling thread until room frees up, or until the backpressure timeout elapses, in which case
+         * {@link OutstandingLimitExceededException} is thrown.
+         */
+        BLOCK,
+        /**
+         * Throw {@link OutstandingLimitExceededException} immediately.
+         */
+        FAIL_FAST,
+        /**
+         * Return a future right away, but hold the record back in the Java process until room frees up. Deferred
+         * records still count towards {@link KinesisProducer#getOutstandingBytes()}.
+         */
+        DEFER
+    }
+
+    /**
+     * Decides which child process a record goes to, when there is more than one. Records that go to the same child
+     * reach Kinesis in the order they were put, as they do with a single child.
+     */
+    public enum ChildRouting {
+        /**
+         * By a hash of the partition key, so all records with the same partition key go to the same child. This
+         * spreads the load evenly, even over a single stream.
+         */
+        PARTITION_KEY,
+        /**
+         * By stream, so all records for a stream go to the same child. Records are aggregated with more of their
+         * neighbours, but a single busy stream only uses one child.
+         */
+        STREAM
+    }
+
+    /**
+     * How bytes move between the KinesisProducer and a child process.
+     */
+    public enum IpcTransport {
+        /**
+         * A pair of named pipes. Every byte is copied into the kernel and back out again.
+         */
+        PIPES,
+        /**
+         * A memory-mapped file with a ring buffer each way. Bytes are copied straight into memory the other side
+         * reads from, and the pipes are only used to wake up a side that has run out of work. A busy producer makes
+         * no system calls to move records.
+         */
+        SHARED_MEMORY,
+        /**
+         * A single Unix domain socket, which the child connects to, with bigger buffers than a pipe has. Needs Java
+         * 16 or later.
+         */
+        UNIX_SOCKET
+    }
+
     // __GENERATED_CODE__
     private boolean aggregationEnabled = true;
+    private boolean aggregationHoldForShardMap = false;
     private long aggregationMaxCount = 4294967295L;
     private long aggregationMaxSize = 51200L;
     private String cloudwatchEndpoint = "";
@@ -269,6 +782,7 @@ public class KinesisProducerConfiguration {
     private long metricsUploadDelay = 60000L;
     private long minConnections = 1L;
     private String nativeExecutable = "";
+    private List<String> prewarmStreams = new ArrayList<>();
     private long rateLimit = 150L;
     private long recordMaxBufferedTime = 100L;
     private long recordTtl = 30000L;
@@ -293,6 +807,24 @@ public class KinesisProducerConfiguration {
       return aggregationEnabled;
     }
 
+    /**
+     * Hold records while the shard map of their stream is being loaded, until it is ready or until
+     * their buffering time is up, instead of sending each one unaggregated.
+     * 
+     * <p>
+     * The shard map of a stream is loaded when its first record is put, and again whenever records
+     * land on shards other than the ones predicted, e.g. after a reshard. Without it records can't
+     * be aggregated, so until it's loaded every record is sent by itself, which right after a deploy
+     * can mean throttling. Records still held once {@link #getRecordMaxBufferedTime()} is up are sent
+     * unaggregated.
+     * 
+     * <p><b>Default</b>: false
+     * @see #setPrewarmStreams(List)
+     */
+    public boolean isAggregationHoldForShardMap() {
+      return aggregationHoldForShardMap;
+    }
+
     /**
      * Maximum number of items to pack into an aggregated record.
      * 
@@ -612,6 +1144,17 @@ public class KinesisProducerConfiguration {
       return nativeExecutable;
     }
 
+    /**
+     * Streams to set up when the child process starts, instead of on their first record. Their
+     * shard maps are loaded, and up to minConnections connections are opened, before records arrive.
+     * 
+     * <p><b>Default</b>: empty
+     * @see #setAggregationHoldForShardMap(boolean)
+     */
+    public List<String> getPrewarmStreams() {
+      return prewarmStreams;
+    }
+
     /**
      * Limits the maximum allowed put rate for a shard, as a percentage of the backend limits.
      * 
@@ -787,6 +1330,25 @@ public class KinesisProducerConfiguration {
         return this;
     }
 
+    /**
+     * Hold records while the shard map of their stream is being loaded, until it is ready or until
+     * their buffering time is up, instead of sending each one unaggregated.
+     * 
+     * <p>
+     * The shard map of a stream is loaded when its first record is put, and again whenever records
+     * land on shards other than the ones predicted, e.g. after a reshard. Without it records can't
+     * be aggregated, so until it's loaded every record is sent by itself, which right after a deploy
+     * can mean throttling. Records still held once {@link #getRecordMaxBufferedTime()} is up are sent
+     * unaggregated.
+     * 
+     * <p><b>Default</b>: false
+     * @see #setPrewarmStreams(List)
+     */
+    public KinesisProducerConfiguration setAggregationHoldForShardMap(boolean val) {
+        aggregationHoldForShardMap = val;
+        return this;
+    }
+
     /**
      * Maximum number of items to pack into an aggregated record.
      * 
@@ -1177,6 +1739,37 @@ public class KinesisProducerConfiguration {
         return this;
     }
 
+    /**
+     * Streams to set up when the child process starts, instead of on their first record. Their
+     * shard maps are loaded, and up to minConnections connections are opened, before records arrive.
+     * 
+     * <p><b>Default</b>: empty
+     * @see #setAggregationHoldForShardMap(boolean)
+     */
+    public KinesisProducerConfiguration setPrewarmStreams(List<String> val) {
+        if (val == null) {
+            throw new NullPointerException("prewarmStreams cannot be null");
+        }
+        prewarmStreams = new ArrayList<>(val);
+        return this;
+    }
+
+    /**
+     * Sets the streams to set up when the child process starts from a comma separated list of
+     * stream names.
+     *
+     * @see #setPrewarmStreams(List)
+     */
+    public KinesisProducerConfiguration setPrewarmStreams(String val) {
+        List<String> streams = new ArrayList<>();
+        for (String stream : val.split(",")) {
+            if (!stream.trim().isEmpty()) {
+                streams.add(stream.trim());
+            }
+        }
+        return setPrewarmStreams(streams);
+    }
+
     /**
      * Limits the maximum allowed put rate for a shard, as a percentage of the backend limits.
      * 
@@ -1385,6 +1978,7 @@ public class KinesisProducerConfiguration {
         Configuration.Builder builder = Configuration.newBuilder()
                 //@formatter:off
                 .setAggregationEnabled(aggregationEnabled)
+                .setAggregationHoldForShardMap(aggregationHoldForShardMap)
                 .setAggregationMaxCount(aggregationMaxCount)
                 .setAggregationMaxSize(aggregationMaxSize)
                 .setCloudwatchEndpoint(cloudwatchEndpoint)
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+/**
+ * Internals of the Java side of a {@link KinesisProducer}, for telling whether the JVM or the child process is the
+ * bottleneck. Obtained from {@link KinesisProducer#getStatistics()}, and registered with the platform MBean server
+ * when {@link KinesisProducerConfiguration#setJmxEnabled(boolean)} is set.
+ *
+ * <p>
+ * IPC figures are added up across the current child processes, and a child's share starts over when it is restarted.
+ * Latency histograms have one count per power of two: bucket 0 counts zeros and bucket b counts values in
+ * [2^(b-1), 2^b). Percentiles are the upper bound of the bucket they fall in, so they are accurate to within a factor
+ * of two.
+ */
+public interface KinesisProducerMXBean {
+    /**
+     * @return Messages queued for the child processes but not yet written.
+     */
+    long getOutgoingQueueSize();
+
+    /**
+     * @return Batches of results waiting for a callback thread, or -1 if the callback executor doesn't say.
+     */
+    long getCallbackQueueSize();
+
+    /**
+     * @see KinesisProducer#getOutstandingRecordsCount()
+     */
+    long getOutstandingRecordsCount();
+
+    /**
+     * @return Number of times the child process has been restarted.
+     */
+    long getChildRestartCount();
+
+    /**
+     * @return Records sent again to a restarted child process instead of being failed.
+     * @see KinesisProducerConfiguration#setReplayBufferBytes(long)
+     */
+    long getRecordsReplayed();
+
+    /**
+     * @return Log messages from the child processes dropped rather than logged, because they went over the rate limit
+     *         or logging fell behind.
+     * @see KinesisProducerConfiguration#setNativeLogRateLimit(long)
+     */
+    long getNativeLogMessagesDropped();
+
+    long getIpcWriteCount();
+
+    long getIpcFramesWritten();
+
+    long getIpcBytesWritten();
+
+    /**
+     * @return Messages read back from the child process, mostly record results.
+     */
+    long getIpcMessagesRead();
+
+    double getFramesPerWrite();
+
+    double getBytesPerFrame();
+
+    long getIpcWriteLatencyP50Micros();
+
+    long getIpcWriteLatencyP99Micros();
+
+    long getIpcWriteLatencyMaxMicros();
+
+    /**
+     * @return Counts of write latencies in microseconds, per power-of-two bucket.
+     */
+    long[] getIpcWriteLatencyHistogram();
+
+    long getRecordLatencyP50Millis();
+
+    long getRecordLatencyP99Millis();
+
+    long getRecordLatencyMaxMillis();
+
+    /**
+     * @return Counts of times in milliseconds from a record being put to its result arriving, per power-of-two
+     *         bucket.
+     */
+    long[] getRecordLatencyHistogram();
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative values in power-of-two buckets. Bucket 0 counts zeros and bucket b counts values in
+ * [2^(b-1), 2^b). Recording is a single striped increment, so it is cheap enough for the put path; percentiles are
+ * only accurate to within a factor of two, which is enough to tell where time goes.
+ */
+class Log2Histogram {
+    static final int BUCKETS = 64;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    Log2Histogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    void record(long value) {
+        counts[bucket(value)].increment();
+    }
+
+    static int bucket(long value) {
+        return value <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * @return Largest value that falls in the given bucket.
+     */
+    static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    long[] bucketCounts() {
+        long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            result[i] = counts[i].sum();
+        }
+        return result;
+    }
+
+    long count() {
+        long total = 0;
+        for (LongAdder c : counts) {
+            total += c.sum();
+        }
+        return total;
+    }
+
+    /**
+     * @param quantile
+     *            Between 0 and 1.
+     * @return Upper bound of the bucket holding the given quantile, or 0 if nothing has been recorded.
+     */
+    long percentile(double quantile) {
+        return percentile(bucketCounts(), quantile);
+    }
+
+    /**
+     * @return Upper bound of the bucket holding the given quantile of the given bucket counts, or 0 if they're all 0.
+     */
+    static long percentile(long[] c, double quantile) {
+        long total = 0;
+        for (long n : c) {
+            total += n;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += c[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * @return Upper bound of the highest non-empty bucket, or 0 if nothing has been recorded.
+     */
+    long max() {
+        return max(bucketCounts());
+    }
+
+    /**
+     * @return Upper bound of the highest non-empty bucket of the given bucket counts, or 0 if they're all 0.
+     */
+    static long max(long[] c) {
+        for (int i = BUCKETS - 1; i > 0; i--) {
+            if (c[i] > 0) {
+                return upperBound(i);
+            }
+        }
+        return 0;
+    }
+}
@@ -15,139 +15,125 @@
 
 package com.amazonaws.services.kinesis.producer;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.io.Charsets;
-import org.apache.commons.lang.StringUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.amazonaws.services.kinesis.producer.NativeLogForwarder.Level;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Reads one of the child's output streams and hands what it logs to a {@link NativeLogForwarder}. The stream is read
+ * in large chunks and split into lines here. Multi-line records are framed by lines starting with "++++" and "----",
+ * and carry their level in brackets, e.g. "[warning]". Lines outside a record are logged at the default level of the
+ * stream.
+ */
 public class LogInputStreamReader implements Runnable {
 
     private static final Logger log = LoggerFactory.getLogger(LogInputStreamReader.class);
 
-    private static final Pattern LEVEL_REGEX = Pattern.compile(
-            "\\[(?<level>trace|debug|info|warn(?:ing)?|error|fatal)\\]", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
-
-    private static final Map<String, LoggingFunction> EMITTERS = makeEmitters();
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
 
-    private static Map<String, LoggingFunction> makeEmitters() {
-
-        Map<String, LoggingFunction> emitters = new HashMap<>();
-        emitters.put("trace", new LoggingFunction() {
-            @Override
-            public void apply(String message) {
-                log.trace(message);
-            }
-        });
-        emitters.put("debug", new LoggingFunction() {
-            @Override
-            public void apply(String message) {
-                log.debug(message);
-            }
-        });
-        emitters.put("info", new LoggingFunction() {
-            @Override
-            public void apply(String message) {
-                log.info(message);
-            }
-        });
-        emitters.put("warn", new LoggingFunction() {
-            @Override
-            public void apply(String message) {
-                log.warn(message);
-            }
-        });
-        emitters.put("warning", new LoggingFunction() {
-            @Override
-            public void apply(String message) {
-                log.warn(message);
-            }
-        });
-        emitters.put("error", new LoggingFunction() {
-            @Override
-            public void apply(String message) {
-                log.error(message);
-            }
-        });
-        emitters.put("fatal", new LoggingFunction() {
-            @Override
-            public void apply(String message) {
-                log.error(message);
-            }
-        });
-
-        return Collections.unmodifiableMap(emitters);
-    }
+    private static final String[] LEVEL_NAMES = { "trace", "debug", "info", "warning", "warn", "error", "fatal" };
+    private static final Level[] LEVELS = { Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.WARN, Level.ERROR,
+            Level.ERROR };
 
     private final String streamType;
-    private final BufferedReader reader;
-    private final DefaultLoggingFunction logFunction;
+    private final InputStream is;
+    private final Level defaultLevel;
+    private final NativeLogForwarder forwarder;
     private volatile boolean running = true;
     private volatile boolean shuttingDown = false;
 
+    private final byte[] readBuf = new byte[READ_BUFFER_SIZE];
+    private byte[] line = new byte[256];
+    private int lineLength = 0;
+
     private boolean isReadingRecord = false;
-    private final LinkedList<String> messageData = new LinkedList<>();
+    private final StringBuilder messageData = new StringBuilder();
 
-    public LogInputStreamReader(InputStream is, String streamType, DefaultLoggingFunction logFunction) {
+    LogInputStreamReader(InputStream is, String streamType, Level defaultLevel, NativeLogForwarder forwarder) {
         this.streamType = streamType;
-        this.reader = new BufferedReader(new InputStreamReader(is, Charsets.US_ASCII));
-        this.logFunction = logFunction;
+        this.is = is;
+        this.defaultLevel = defaultLevel;
+        this.forwarder = forwarder;
     }
 
     @Override
     public void run() {
-        while (running) {
-            String logLine;
-            try {
-                logLine = reader.readLine();
-                // log.info("Considering({}): {}", streamType, logLine);
-                if (logLine == null) {
-                    continue;
-                }
-                if (logLine.startsWith("++++")) {
-                    startRead();
-                } else if (logLine.startsWith("----")) {
-                    finishRead();
-                } else if (isReadingRecord) {
-                    messageData.add(logLine);
-                } else {
-                    logFunction.apply(log, logLine);
+        try {
+            int n;
+            while (running && (n = is.read(readBuf)) != -1) {
+                int start = 0;
+                for (int i = 0; i < n; i++) {
+                    if (readBuf[i] == '\n') {
+                        appendToLine(start, i - start);
+                        onLine(takeLine());
+                        start = i + 1;
+                    }
                 }
-            } catch (IOException ioex) {
-                if (shuttingDown) {
+                appendToLine(start, n - start);
+            }
+        } catch (IOException ioex) {
+            if (shuttingDown) {
+                //
+                // Since the Daemon calls destroy instead of letting the process exit normally
+                // the input streams coming from the process will end up truncated.
+                // When we know the process is shutting down we can report the exception as info
+                //
+                if (ioex.getMessage() == null || !ioex.getMessage().contains("Stream closed")) {
                     //
-                    // Since the Daemon calls destroy instead of letting the process exit normally
-                    // the input streams coming from the process will end up truncated.
-                    // When we know the process is shutting down we can report the exception as info
+                    // If the message is "Stream closed" we can safely ignore it. This is probably a bug
+                    // with the UNIXProcess#ProcessPipeInputStream that it throws the exception. There
+                    // is no other way to detect the other side of the request being closed.
                     //
-                    if (ioex.getMessage() == null || !ioex.getMessage().contains("Stream closed")) {
-                        //
-                        // If the message is "Stream closed" we can safely ignore it. This is probably a bug
-                        // with the UNIXProcess#ProcessPipeInputStream that it throws the exception. There
-                        // is no other way to detect the other side of the request being closed.
-                        //
-                        log.info("Received IO Exception during shutdown.  This can happen, but should indicate "
-                                + "that the stream has been closed: {}", ioex.getMessage());
+                    log.info("Received IO Exception during shutdown.  This can happen, but should indicate "
+                            + "that the stream has been closed: {}", ioex.getMessage());
 
-                    }
-                } else {
-                    log.error("Caught IO Exception while reading log line", ioex);
                 }
-
+            } else {
+                log.error("Caught IO Exception while reading log line", ioex);
             }
         }
-        if (!messageData.isEmpty()) {
-            logFunction.apply(log, makeMessage());
+        if (lineLength > 0) {
+            onLine(takeLine());
+        }
+        if (messageData.length() > 0) {
+            forwarder.offer(defaultLevel, messageData.toString());
+        }
+    }
+
+    private void appendToLine(int offset, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(readBuf, offset, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private String takeLine() {
+        int length = lineLength;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        lineLength = 0;
+        return new String(line, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private void onLine(String logLine) {
+        if (logLine.startsWith("++++")) {
+            startRead();
+        } else if (logLine.startsWith("----")) {
+            finishRead();
+        } else if (isReadingRecord) {
+            if (messageData.length() > 0) {
+                messageData.append('\n');
+            }
+            messageData.append(logLine);
+        } else {
+            forwarder.offer(defaultLevel, logLine);
         }
     }
 
@@ -156,44 +142,44 @@ public class LogInputStreamReader implements Runnable {
             log.warn("{}: Terminator encountered, but wasn't reading record.", streamType);
         }
         isReadingRecord = false;
-        if (!messageData.isEmpty()) {
-            String message = makeMessage();
-            getLevelOrDefault(message).apply(message);
+        if (messageData.length() > 0) {
+            String message = messageData.toString();
+            Level level = parseLevel(message);
+            if (level != null) {
+                forwarder.offer(level, message);
+            } else {
+                forwarder.offer(defaultLevel, "!!Failed to extract level!! - " + message);
+            }
         } else {
             log.warn("{}: Finished reading record, but didn't find any message data.", streamType);
         }
-        messageData.clear();
+        messageData.setLength(0);
     }
 
     private void startRead() {
         isReadingRecord = true;
-        if (!messageData.isEmpty()) {
-            log.warn("{}: New log record started, but message data has existing data: {}", streamType, makeMessage());
-            messageData.clear();
+        if (messageData.length() > 0) {
+            log.warn("{}: New log record started, but message data has existing data: {}", streamType, messageData);
+            messageData.setLength(0);
         }
     }
 
-    private LoggingFunction getLevelOrDefault(String message) {
-        Matcher matcher = LEVEL_REGEX.matcher(message);
-        if (matcher.find()) {
-            String level = matcher.group("level");
-            if (level != null) {
-                LoggingFunction res = EMITTERS.get(level.toLowerCase());
-                if (res != null) {
-                    return res;
+    /**
+     * @return The level named by the first bracketed level name in the message, ignoring case, or null if there isn't
+     *         one.
+     */
+    static Level parseLevel(String message) {
+        for (int i = message.indexOf('['); i >= 0; i = message.indexOf('[', i + 1)) {
+            for (int j = 0; j < LEVEL_NAMES.length; j++) {
+                String name = LEVEL_NAMES[j];
+                int end = i + 1 + name.length();
+                if (end < message.length() && message.charAt(end) == ']'
+                        && message.regionMatches(true, i + 1, name, 0, name.length())) {
+                    return LEVELS[j];
                 }
             }
         }
-        return new LoggingFunction() {
-            @Override
-            public void apply(String message) {
-                logFunction.apply(log, "!!Failed to extract level!! - " + message);
-            }
-        };
-    }
-
-    private String makeMessage() {
-        return StringUtils.join(messageData, "\n");
+        return null;
     }
 
     public void shutdown() {
@@ -204,12 +190,4 @@ public class LogInputStreamReader implements Runnable {
         this.shuttingDown = true;
     }
 
-    static interface LoggingFunction {
-        void apply(String message);
-    }
-
-    static interface DefaultLoggingFunction {
-        void apply(Logger logger, String message);
-    }
-
 }
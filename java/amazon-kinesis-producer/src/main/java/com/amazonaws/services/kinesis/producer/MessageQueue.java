@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Multi-producer, single-consumer queue used to hand messages to the thread that writes to the child process.
+ *
+ * <p>
+ * Producers add to a single lock-free queue, so application threads adding records concurrently don't all serialize
+ * on one lock the way they do with a {@link java.util.concurrent.LinkedBlockingQueue}, and the consumer drains it in
+ * batches.
+ *
+ * <p>
+ * Items come out in the order they were added, across threads as well as within one: if adding one item happens
+ * before adding another, the first is delivered first. Records with the same partition key put from a thread pool
+ * therefore keep their order, and a flush can't overtake the records put before it.
+ *
+ * @param <T> Type of the queued items.
+ */
+class MessageQueue<T> {
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final LongAdder size = new LongAdder();
+    private volatile Thread waiter;
+
+    /**
+     * Add an item. Never blocks. Safe to call from any thread.
+     */
+    void add(T item) {
+        queue.offer(item);
+        size.increment();
+        wakeUp();
+    }
+
+    /**
+     * Add several items, in order, with a single wake-up of the consumer. Never blocks. Safe to call from any thread.
+     */
+    void addAll(Collection<? extends T> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        queue.addAll(items);
+        size.add(items.size());
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        Thread w = waiter;
+        if (w != null) {
+            LockSupport.unpark(w);
+        }
+    }
+
+    /**
+     * Move up to max items into the given collection, blocking until at least one is available. Must only be called
+     * from a single consumer thread.
+     *
+     * @return Number of items moved.
+     * @throws InterruptedException
+     *             If the consumer thread is interrupted while waiting.
+     */
+    int drainTo(Collection<? super T> dest, int max) throws InterruptedException {
+        int n = drainAvailable(dest, max);
+        if (n > 0) {
+            return n;
+        }
+
+        // Publish ourselves before checking again, so a producer that adds after the check is sure to wake us up.
+        waiter = Thread.currentThread();
+        try {
+            while ((n = drainAvailable(dest, max)) == 0) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                LockSupport.park(this);
+            }
+            return n;
+        } finally {
+            waiter = null;
+        }
+    }
+
+    /**
+     * Move up to max items that are currently available into the given collection without blocking. Must only be
+     * called from a single consumer thread.
+     *
+     * @return Number of items moved.
+     */
+    int drainAvailable(Collection<? super T> dest, int max) {
+        int n = 0;
+        T item;
+        while (n < max && (item = queue.poll()) != null) {
+            dest.add(item);
+            n++;
+        }
+        if (n > 0) {
+            size.add(-n);
+        }
+        return n;
+    }
+
+    /**
+     * @return Approximate number of queued items.
+     */
+    int size() {
+        return (int) Math.max(0, size.sum());
+    }
+}
@@ -15,8 +15,11 @@
 
 package com.amazonaws.services.kinesis.producer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension;
@@ -107,6 +110,37 @@ public class Metric {
         this.sampleCount = s.getCount();
     }
 
+    private Metric(Metric a, Metric b) {
+        this.name = a.name;
+        this.duration = Math.max(a.duration, b.duration);
+        this.dimensions = a.dimensions;
+        this.sum = a.sum + b.sum;
+        this.sampleCount = a.sampleCount + b.sampleCount;
+        this.mean = sampleCount == 0 ? 0 : sum / sampleCount;
+        if (a.sampleCount == 0 || b.sampleCount == 0) {
+            this.min = a.sampleCount == 0 ? b.min : a.min;
+            this.max = a.sampleCount == 0 ? b.max : a.max;
+        } else {
+            this.min = Math.min(a.min, b.min);
+            this.max = Math.max(a.max, b.max);
+        }
+    }
+
+    /**
+     * Add up the metrics of several child processes, combining metrics with the same name and dimensions into one.
+     */
+    static List<Metric> merge(List<List<Metric>> perChild) {
+        Map<List<Object>, Metric> merged = new LinkedHashMap<List<Object>, Metric>();
+        for (List<Metric> metrics : perChild) {
+            for (Metric m : metrics) {
+                List<Object> key = Arrays.<Object>asList(m.name, m.dimensions);
+                Metric existing = merged.get(key);
+                merged.put(key, existing == null ? m : new Metric(existing, m));
+            }
+        }
+        return new ArrayList<Metric>(merged.values());
+    }
+
     @Override
     public String toString() {
         return "Metric [name=" + name + ", duration=" + duration + ", dimensions=" + dimensions + ", sum=" + sum
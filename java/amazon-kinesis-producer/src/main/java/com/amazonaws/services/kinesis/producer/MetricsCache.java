@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The latest metrics pushed by the child process, merged from {@link MetricsSnapshot} messages.
+ *
+ * <p>
+ * Snapshots arrive every few seconds while metrics are read far more often, so each snapshot builds a new map and
+ * readers never take a lock.
+ */
+class MetricsCache {
+    // Null until the first full snapshot arrives
+    private volatile Map<List<Object>, Metric> metrics;
+
+    /**
+     * Merge a snapshot into the cache. A full snapshot replaces everything; otherwise only the metrics it carries are
+     * updated. Snapshots have to be applied in the order they were read.
+     */
+    synchronized void apply(MetricsSnapshot snapshot) {
+        Map<List<Object>, Metric> current = metrics;
+        if (current == null && !snapshot.getFull()) {
+            // Left over from before the cache was cleared
+            return;
+        }
+        Map<List<Object>, Metric> next = snapshot.getFull() ? new LinkedHashMap<>() : new LinkedHashMap<>(current);
+        for (com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric m : snapshot.getMetricsList()) {
+            Metric metric = new Metric(m);
+            next.put(Arrays.<Object>asList(metric.getName(), metric.getDimensions()), metric);
+        }
+        metrics = next;
+    }
+
+    /**
+     * Forget everything, e.g. because the child process was restarted and its metrics started over.
+     */
+    synchronized void clear() {
+        metrics = null;
+    }
+
+    /**
+     * @param metricName
+     *            Name of the metrics to get, or null for all of them.
+     * @return The cached metrics, or null if no full snapshot has arrived yet.
+     */
+    List<Metric> get(String metricName) {
+        Map<List<Object>, Metric> current = metrics;
+        if (current == null) {
+            return null;
+        }
+        List<Metric> result = new ArrayList<>();
+        for (Metric m : current.values()) {
+            if (metricName == null || metricName.equals(m.getName())) {
+                result.add(m);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands log messages read from the child process to SLF4J on a thread of its own, so that a slow appender never holds
+ * up the readers, and through them the child, which blocks when its stdout or stderr pipe is full.
+ *
+ * <p>
+ * Messages at levels the logger has disabled are discarded straight away. The rest are dropped, and counted, if they
+ * go over the rate limit or if the queue is full because logging has fallen behind. How many were dropped is logged
+ * every {@link #DROP_REPORT_INTERVAL_MILLIS} while it keeps happening.
+ */
+class NativeLogForwarder implements Runnable {
+    enum Level {
+        TRACE, DEBUG, INFO, WARN, ERROR
+    }
+
+    static final int QUEUE_CAPACITY = 16 * 1024;
+    static final long DROP_REPORT_INTERVAL_MILLIS = 10000;
+    private static final int MAX_BATCH = 1024;
+
+    private static final class Event {
+        final Level level;
+        final String message;
+
+        Event(Level level, String message) {
+            this.level = level;
+            this.message = message;
+        }
+    }
+
+    private final Logger logger;
+    private final long rateLimit;
+    private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong droppedOverRate = new AtomicLong();
+    private final AtomicLong droppedQueueFull = new AtomicLong();
+    private volatile boolean closed = false;
+
+    // Guarded by this
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    // Only touched by the forwarding thread
+    private long reportedOverRate = 0;
+    private long reportedQueueFull = 0;
+    private long lastReport = System.nanoTime();
+
+    /**
+     * Forward to the logger the child's output has always gone to.
+     *
+     * @param rateLimit
+     *            Most messages forwarded per second, or 0 for no limit.
+     */
+    NativeLogForwarder(long rateLimit) {
+        this(LoggerFactory.getLogger(LogInputStreamReader.class), rateLimit);
+    }
+
+    NativeLogForwarder(Logger logger, long rateLimit) {
+        this.logger = logger;
+        this.rateLimit = rateLimit;
+        this.tokens = rateLimit;
+    }
+
+    /**
+     * Queue a message for logging. Never blocks.
+     *
+     * @return Whether the message was queued.
+     */
+    boolean offer(Level level, String message) {
+        if (!isEnabled(level)) {
+            return false;
+        }
+        if (!acquire()) {
+            droppedOverRate.incrementAndGet();
+            return false;
+        }
+        if (!queue.offer(new Event(level, message))) {
+            droppedQueueFull.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Messages dropped so far, whether over the rate limit or because the queue was full.
+     */
+    long getDropped() {
+        return droppedOverRate.get() + droppedQueueFull.get();
+    }
+
+    /**
+     * Stop once everything already queued has been logged.
+     */
+    void close() {
+        closed = true;
+    }
+
+    @Override
+    public void run() {
+        List<Event> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Event e = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (e != null) {
+                    batch.add(e);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    emitAll(batch);
+                }
+                if (System.nanoTime() - lastReport >= TimeUnit.MILLISECONDS.toNanos(DROP_REPORT_INTERVAL_MILLIS)) {
+                    reportDrops();
+                }
+            }
+        } catch (InterruptedException e) {
+            queue.drainTo(batch);
+            emitAll(batch);
+        }
+        reportDrops();
+    }
+
+    private synchronized boolean acquire() {
+        if (rateLimit == 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        tokens = Math.min(rateLimit, tokens + (now - lastRefill) * rateLimit / 1e9);
+        lastRefill = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    private void emitAll(List<Event> batch) {
+        for (Event e : batch) {
+            emit(e.level, e.message);
+        }
+        batch.clear();
+    }
+
+    private void reportDrops() {
+        lastReport = System.nanoTime();
+        long overRate = droppedOverRate.get();
+        long queueFull = droppedQueueFull.get();
+        if (overRate == reportedOverRate && queueFull == reportedQueueFull) {
+            return;
+        }
+        logger.warn("Dropped {} log messages from the native process: {} over the limit of {} per second, {} because "
+                + "logging fell behind", overRate - reportedOverRate + queueFull - reportedQueueFull,
+                overRate - reportedOverRate, rateLimit, queueFull - reportedQueueFull);
+        reportedOverRate = overRate;
+        reportedQueueFull = queueFull;
+    }
+
+    private boolean isEnabled(Level level) {
+        switch (level) {
+        case TRACE:
+            return logger.isTraceEnabled();
+        case DEBUG:
+            return logger.isDebugEnabled();
+        case INFO:
+            return logger.isInfoEnabled();
+        case WARN:
+            return logger.isWarnEnabled();
+        default:
+            return logger.isErrorEnabled();
+        }
+    }
+
+    private void emit(Level level, String message) {
+        switch (level) {
+        case TRACE:
+            logger.trace(message);
+            break;
+        case DEBUG:
+            logger.debug(message);
+            break;
+        case INFO:
+            logger.info(message);
+            break;
+        case WARN:
+            logger.warn(message);
+            break;
+        default:
+            logger.error(message);
+            break;
+        }
+    }
+}
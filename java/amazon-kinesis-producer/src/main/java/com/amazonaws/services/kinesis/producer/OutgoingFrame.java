@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A message queued for the child process, able to write its own protobuf encoding into the Daemon's frame buffer.
+ */
+interface OutgoingFrame {
+    /**
+     * @return Size in bytes of the encoded {@link Message}, not counting the length prefix.
+     */
+    int getSerializedSize();
+
+    /**
+     * Write the encoded {@link Message}, without the length prefix, at the buffer's current position. The buffer has
+     * at least {@link #getSerializedSize()} bytes remaining.
+     */
+    void writeTo(ByteBuffer buf);
+
+    /**
+     * @return The stream this frame refers to by id, which the child must have registered before the frame arrives,
+     *         or null if it doesn't refer to one.
+     */
+    default StreamHandle getStream() {
+        return null;
+    }
+
+    /**
+     * Called on the writer thread once the frame has been copied into the frame buffer.
+     */
+    default void onSerialized() {
+    }
+
+    /**
+     * Switch to the encoding understood by a child that hasn't sent a Handshake, which may be one built before there
+     * was one. Called on the writer thread before the frame is written to such a child.
+     *
+     * @return false if there is no such encoding. The frame is then held until the child says it speaks a newer
+     *         protocol, and never sent if it doesn't.
+     */
+    default boolean useBaselineProtocol() {
+        return true;
+    }
+
+    /**
+     * Wraps a regular protobuf {@link Message}. Used for everything other than records, which are rare enough that
+     * the extra copy through a byte array doesn't matter.
+     */
+    final class ProtobufFrame implements OutgoingFrame {
+        private final Message message;
+
+        ProtobufFrame(Message message) {
+            this.message = message;
+        }
+
+        @Override
+        public int getSerializedSize() {
+            return message.getSerializedSize();
+        }
+
+        @Override
+        public void writeTo(ByteBuffer buf) {
+            buf.put(message.toByteArray());
+        }
+
+        @Override
+        public boolean useBaselineProtocol() {
+            return !message.hasRegisterStream() && !message.hasPutRecordBatch()
+                    && !(message.hasMetricsRequest() && message.getMetricsRequest().hasSnapshotInterval());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+/**
+ * Thrown by {@link KinesisProducer#addUserRecord} when the record can't be accepted because the limits set by
+ * {@link KinesisProducerConfiguration#setMaxOutstandingRecords(long)} or
+ * {@link KinesisProducerConfiguration#setMaxOutstandingBytes(long)} have been reached.
+ */
+public class OutstandingLimitExceededException extends RuntimeException {
+    private static final long serialVersionUID = 6950624306364744283L;
+
+    public OutstandingLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps count of the records and bytes that have been handed to the child process but not yet completed, and
+ * optionally caps them.
+ *
+ * <p>
+ * A limit of 0 means unlimited. A single record larger than the byte limit is still admitted when nothing else is
+ * outstanding, otherwise it could never be sent.
+ */
+class OutstandingRecordLimiter {
+    private final long maxRecords;
+    private final long maxBytes;
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final Object lock = new Object();
+
+    OutstandingRecordLimiter(long maxRecords, long maxBytes) {
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Reserve room for a record if it fits within the limits. Never blocks.
+     *
+     * @return true if the record was admitted, in which case {@link #release(long)} must be called once it completes.
+     */
+    boolean tryAcquire(long size) {
+        long r = records.incrementAndGet();
+        long b = bytes.addAndGet(size);
+        if ((maxRecords > 0 && r > maxRecords) || (maxBytes > 0 && b > maxBytes && r > 1)) {
+            release(size);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reserve room for a record, waiting for other records to complete if necessary.
+     *
+     * @param timeoutMillis
+     *            Maximum time to wait. 0 or less waits indefinitely.
+     * @return true if the record was admitted, false if the timeout elapsed first.
+     * @throws InterruptedException
+     *             If the thread is interrupted while waiting.
+     */
+    boolean acquire(long size, long timeoutMillis) throws InterruptedException {
+        if (tryAcquire(size)) {
+            return true;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        // Register before re-checking so a concurrent release is sure to notify us.
+        waiters.incrementAndGet();
+        try {
+            synchronized (lock) {
+                while (!tryAcquire(size)) {
+                    if (timeoutMillis <= 0) {
+                        lock.wait();
+                    } else {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return false;
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    }
+                }
+                return true;
+            }
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Give back the room taken by a record admitted through {@link #tryAcquire(long)} or {@link #acquire(long, long)}.
+     */
+    void release(long size) {
+        records.decrementAndGet();
+        bytes.addAndGet(-size);
+        if (waiters.get() > 0) {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    long getRecords() {
+        return Math.max(0, records.get());
+    }
+
+    long getBytes() {
+        return Math.max(0, bytes.get());
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Backs {@link KinesisProducerMXBean}. Gauges are read from the producer and its current child when asked for; only
+ * the counters that have to outlive a child process are kept here.
+ */
+class ProducerStatistics implements KinesisProducerMXBean {
+    private final KinesisProducer producer;
+    private final Executor callbackExecutor;
+    private final AtomicLong childRestarts = new AtomicLong();
+    private final AtomicLong recordsReplayed = new AtomicLong();
+    private final Log2Histogram recordLatency = new Log2Histogram();
+
+    ProducerStatistics(KinesisProducer producer, Executor callbackExecutor) {
+        this.producer = producer;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    void childRestarted() {
+        childRestarts.incrementAndGet();
+    }
+
+    void recordsReplayed(long n) {
+        recordsReplayed.addAndGet(n);
+    }
+
+    /**
+     * @param nanos
+     *            Time from a record being put to its result arriving.
+     */
+    void recordCompleted(long nanos) {
+        recordLatency.record(TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    @Override
+    public long getOutgoingQueueSize() {
+        long n = 0;
+        for (Daemon child : producer.getChildren()) {
+            n += child.getQueueSize();
+        }
+        return n;
+    }
+
+    @Override
+    public long getCallbackQueueSize() {
+        if (callbackExecutor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) callbackExecutor).getQueue().size();
+        }
+        return -1;
+    }
+
+    @Override
+    public long getOutstandingRecordsCount() {
+        return producer.getOutstandingRecordsCount();
+    }
+
+    @Override
+    public long getChildRestartCount() {
+        return childRestarts.get();
+    }
+
+    @Override
+    public long getRecordsReplayed() {
+        return recordsReplayed.get();
+    }
+
+    @Override
+    public long getNativeLogMessagesDropped() {
+        long n = 0;
+        for (Daemon child : producer.getChildren()) {
+            n += child.getNativeLogMessagesDropped();
+        }
+        return n;
+    }
+
+    @Override
+    public long getIpcWriteCount() {
+        long n = 0;
+        for (Daemon child : producer.getChildren()) {
+            n += child.getIpcWriteCount();
+        }
+        return n;
+    }
+
+    @Override
+    public long getIpcFramesWritten() {
+        long n = 0;
+        for (Daemon child : producer.getChildren()) {
+            n += child.getIpcFramesWritten();
+        }
+        return n;
+    }
+
+    @Override
+    public long getIpcBytesWritten() {
+        long n = 0;
+        for (Daemon child : producer.getChildren()) {
+            n += child.getIpcBytesWritten();
+        }
+        return n;
+    }
+
+    @Override
+    public long getIpcMessagesRead() {
+        long n = 0;
+        for (Daemon child : producer.getChildren()) {
+            n += child.getIpcMessagesRead();
+        }
+        return n;
+    }
+
+    @Override
+    public double getFramesPerWrite() {
+        long writes = getIpcWriteCount();
+        return writes == 0 ? 0 : (double) getIpcFramesWritten() / writes;
+    }
+
+    @Override
+    public double getBytesPerFrame() {
+        long frames = getIpcFramesWritten();
+        return frames == 0 ? 0 : (double) getIpcBytesWritten() / frames;
+    }
+
+    /**
+     * @return Write latency bucket counts, added up across the child processes.
+     */
+    private long[] ipcWriteLatency() {
+        long[] counts = new long[Log2Histogram.BUCKETS];
+        for (Daemon child : producer.getChildren()) {
+            long[] c = child.getIpcWriteLatency().bucketCounts();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += c[i];
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public long getIpcWriteLatencyP50Micros() {
+        return Log2Histogram.percentile(ipcWriteLatency(), 0.5);
+    }
+
+    @Override
+    public long getIpcWriteLatencyP99Micros() {
+        return Log2Histogram.percentile(ipcWriteLatency(), 0.99);
+    }
+
+    @Override
+    public long getIpcWriteLatencyMaxMicros() {
+        return Log2Histogram.max(ipcWriteLatency());
+    }
+
+    @Override
+    public long[] getIpcWriteLatencyHistogram() {
+        return ipcWriteLatency();
+    }
+
+    @Override
+    public long getRecordLatencyP50Millis() {
+        return recordLatency.percentile(0.5);
+    }
+
+    @Override
+    public long getRecordLatencyP99Millis() {
+        return recordLatency.percentile(0.99);
+    }
+
+    @Override
+    public long getRecordLatencyMaxMillis() {
+        return recordLatency.max();
+    }
+
+    @Override
+    public long[] getRecordLatencyHistogram() {
+        return recordLatency.bucketCounts();
+    }
+}
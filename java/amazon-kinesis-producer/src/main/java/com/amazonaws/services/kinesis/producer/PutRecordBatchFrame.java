@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static com.amazonaws.services.kinesis.producer.PutRecordFrame.fieldSize;
+import static com.amazonaws.services.kinesis.producer.PutRecordFrame.putVarint;
+import static com.amazonaws.services.kinesis.producer.PutRecordFrame.varintSize;
+
+/**
+ * Encodes several {@link PutRecordFrame}s as a single {@link Message} carrying a {@link PutRecordBatch}, so the child
+ * process reads and parses one frame for all of them instead of one per record.
+ *
+ * <p>
+ * The id of the message is the smallest record id in the batch, and each record's id is sent as an offset from it.
+ */
+class PutRecordBatchFrame implements OutgoingFrame {
+    // Field tags, (field_number << 3) | wire_type
+    private static final int MESSAGE_ID = (1 << 3) | 0;
+    private static final int MESSAGE_PUT_RECORD_BATCH = (11 << 3) | 2;
+    private static final int BATCH_RECORDS = (1 << 3) | 2;
+    private static final int BATCH_ID_OFFSETS = (2 << 3) | 2;
+
+    /**
+     * Most records put in one batch.
+     */
+    static final int MAX_RECORDS = 500;
+
+    /**
+     * Most bytes of encoded records put in one batch. Records larger than this are sent on their own.
+     */
+    static final int MAX_BYTES = 256 * 1024;
+
+    private static final long MAX_ID_OFFSET = 0xFFFFFFFFL;
+
+    private final PutRecordFrame[] records;
+    private final long baseId;
+    private final int offsetsSize;
+    private final int batchSize;
+
+    /**
+     * @param records
+     *            Records to send, as found by {@link #batchEnd(List, int)}. They are copied out of the list.
+     */
+    PutRecordBatchFrame(List<? extends OutgoingFrame> records) {
+        this.records = records.toArray(new PutRecordFrame[records.size()]);
+
+        long min = Long.MAX_VALUE;
+        for (PutRecordFrame r : this.records) {
+            min = Math.min(min, r.getId());
+        }
+        this.baseId = min;
+
+        int offsets = 0;
+        int size = 0;
+        for (PutRecordFrame r : this.records) {
+            offsets += varintSize(r.getId() - baseId);
+            size += fieldSize(BATCH_RECORDS, r.getPutRecordSize());
+        }
+        this.offsetsSize = offsets;
+        this.batchSize = size + fieldSize(BATCH_ID_OFFSETS, offsets);
+    }
+
+    /**
+     * Find the run of records starting at the given index that can go into one batch.
+     *
+     * @return Index just past the end of the run. A run of one or none means the frame at start should be sent as it
+     *         is.
+     */
+    static int batchEnd(List<? extends OutgoingFrame> frames, int start) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        int bytes = 0;
+        int i = start;
+        while (i < frames.size() && i - start < MAX_RECORDS) {
+            OutgoingFrame f = frames.get(i);
+            if (!(f instanceof PutRecordFrame)) {
+                break;
+            }
+            PutRecordFrame r = (PutRecordFrame) f;
+            long id = r.getId();
+            bytes += r.getPutRecordSize();
+            if (bytes > MAX_BYTES || Math.max(max, id) - Math.min(min, id) > MAX_ID_OFFSET) {
+                break;
+            }
+            min = Math.min(min, id);
+            max = Math.max(max, id);
+            i++;
+        }
+        return i;
+    }
+
+    @Override
+    public int getSerializedSize() {
+        return 1 + varintSize(baseId) + fieldSize(MESSAGE_PUT_RECORD_BATCH, batchSize);
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buf) {
+        buf.put((byte) MESSAGE_ID);
+        putVarint(buf, baseId);
+        buf.put((byte) MESSAGE_PUT_RECORD_BATCH);
+        putVarint(buf, batchSize);
+        for (PutRecordFrame r : records) {
+            buf.put((byte) BATCH_RECORDS);
+            putVarint(buf, r.getPutRecordSize());
+            r.writePutRecordTo(buf);
+        }
+        buf.put((byte) BATCH_ID_OFFSETS);
+        putVarint(buf, offsetsSize);
+        for (PutRecordFrame r : records) {
+            putVarint(buf, r.getId() - baseId);
+        }
+    }
+
+    @Override
+    public void onSerialized() {
+        for (PutRecordFrame r : records) {
+            r.onSerialized();
+        }
+    }
+
+    @Override
+    public boolean useBaselineProtocol() {
+        return false;
+    }
+}
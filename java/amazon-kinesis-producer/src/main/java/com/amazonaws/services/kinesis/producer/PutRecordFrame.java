@@ -0,0 +1,278 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Encodes a {@link Message} carrying a {@link PutRecord} directly in protobuf wire format, without building the
+ * protobuf objects or copying the payload into a ByteString first.
+ *
+ * <p>
+ * The payload is read from the caller's buffer when the frame is written. If a release callback is given, the buffer
+ * belongs to the KPL until the callback runs, which happens once the payload has been copied into the frame buffer, or
+ * when the record's future completes if that happens first (e.g. because the child process died). Without a callback
+ * the payload must be a private copy. A frame kept for replay holds on to its payload until the future completes.
+ */
+class PutRecordFrame implements OutgoingFrame {
+    // Field tags, (field_number << 3) | wire_type
+    private static final int MESSAGE_ID = (1 << 3) | 0;
+    private static final int MESSAGE_PUT_RECORD = (3 << 3) | 2;
+    private static final int PUT_RECORD_STREAM_NAME = (1 << 3) | 2;
+    private static final int PUT_RECORD_PARTITION_KEY = (2 << 3) | 2;
+    private static final int PUT_RECORD_DATA = (4 << 3) | 2;
+    private static final int PUT_RECORD_STREAM_ID = (5 << 3) | 0;
+
+    private final long id;
+    private final StreamHandle stream;
+    private final String partitionKey;
+    private final int partitionKeyLength;
+    private ExplicitHashKey explicitHashKey;
+    private final ByteBuffer data;
+    private final ByteBuffer owner;
+    private final Consumer<ByteBuffer> releaseCallback;
+    private final AtomicBoolean released;
+    // Only changed on the writer thread before the frame is first written, see useBaselineProtocol()
+    private boolean byName;
+    private int putRecordSize;
+    private volatile boolean retained;
+
+    /**
+     * @param stream
+     *            Stream the record goes to. Sent as the stream's id if it has one, otherwise by name.
+     * @param partitionKey
+     *            Partition key, encoded to UTF-8 as the frame is written.
+     * @param partitionKeyLength
+     *            Length of the partition key in UTF-8, as returned by {@link #utf8Length(String)}.
+     * @param explicitHashKey
+     *            Explicit hash key, or null.
+     * @param data
+     *            Payload, from position to limit. Its position is not modified.
+     * @param releaseCallback
+     *            Called with data once the KPL is done with it, or null if data is a private copy.
+     */
+    PutRecordFrame(long id, StreamHandle stream, String partitionKey, int partitionKeyLength,
+            ExplicitHashKey explicitHashKey, ByteBuffer data, Consumer<ByteBuffer> releaseCallback) {
+        this.id = id;
+        this.stream = stream;
+        this.partitionKey = partitionKey;
+        this.partitionKeyLength = partitionKeyLength;
+        this.explicitHashKey = explicitHashKey;
+        this.data = data.slice();
+        this.owner = data;
+        this.releaseCallback = releaseCallback;
+        this.released = releaseCallback != null ? new AtomicBoolean(false) : null;
+        this.byName = stream.getId() < 0;
+        this.putRecordSize = computePutRecordSize();
+    }
+
+    private int computePutRecordSize() {
+        int size = byName
+                ? fieldSize(PUT_RECORD_STREAM_NAME, stream.getStreamNameBytes().length)
+                : 1 + varintSize(stream.getId());
+        size += fieldSize(PUT_RECORD_PARTITION_KEY, partitionKeyLength)
+                + fieldSize(PUT_RECORD_DATA, data.remaining());
+        if (explicitHashKey != null) {
+            size += explicitHashKey.fieldSize();
+        }
+        return size;
+    }
+
+    /**
+     * Refer to the stream by name and send a binary explicit hash key in decimal from now on.
+     */
+    @Override
+    public boolean useBaselineProtocol() {
+        if (!byName || (explicitHashKey != null && explicitHashKey.isBinary())) {
+            byName = true;
+            if (explicitHashKey != null) {
+                explicitHashKey = explicitHashKey.toDecimal();
+            }
+            putRecordSize = computePutRecordSize();
+        }
+        return true;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    @Override
+    public StreamHandle getStream() {
+        return stream;
+    }
+
+    String getPartitionKey() {
+        return partitionKey;
+    }
+
+    @Override
+    public int getSerializedSize() {
+        return 1 + varintSize(id) + fieldSize(MESSAGE_PUT_RECORD, putRecordSize);
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buf) {
+        buf.put((byte) MESSAGE_ID);
+        putVarint(buf, id);
+        buf.put((byte) MESSAGE_PUT_RECORD);
+        putVarint(buf, putRecordSize);
+        writePutRecordTo(buf);
+    }
+
+    /**
+     * @return Size in bytes of the encoded {@link PutRecord} on its own, without the enclosing {@link Message}.
+     */
+    int getPutRecordSize() {
+        return putRecordSize;
+    }
+
+    /**
+     * Write the encoded {@link PutRecord} on its own, without the enclosing {@link Message} or a length prefix.
+     */
+    void writePutRecordTo(ByteBuffer buf) {
+        if (byName) {
+            putBytes(buf, PUT_RECORD_STREAM_NAME, stream.getStreamNameBytes());
+        }
+        buf.put((byte) PUT_RECORD_PARTITION_KEY);
+        putVarint(buf, partitionKeyLength);
+        putUtf8(buf, partitionKey);
+        if (explicitHashKey != null && !explicitHashKey.isBinary()) {
+            explicitHashKey.writeTo(buf);
+        }
+        buf.put((byte) PUT_RECORD_DATA);
+        putVarint(buf, data.remaining());
+        buf.put(data.duplicate());
+        // Fields go in field number order, same as the protobuf library writes them
+        if (!byName) {
+            buf.put((byte) PUT_RECORD_STREAM_ID);
+            putVarint(buf, stream.getId());
+        }
+        if (explicitHashKey != null && explicitHashKey.isBinary()) {
+            explicitHashKey.writeTo(buf);
+        }
+    }
+
+    @Override
+    public void onSerialized() {
+        if (!retained) {
+            release();
+        }
+    }
+
+    /**
+     * Keep the payload after the frame is written, so it can be written again. It is then only released when the
+     * record's future completes.
+     */
+    void retainPayload() {
+        retained = true;
+    }
+
+    /**
+     * Hand the payload buffer back to the caller, if it was lent to us. Only the first call has any effect.
+     */
+    void release() {
+        if (releaseCallback != null && released.compareAndSet(false, true)) {
+            releaseCallback.accept(owner);
+        }
+    }
+
+    private static void putBytes(ByteBuffer buf, int tag, byte[] bytes) {
+        buf.put((byte) tag);
+        putVarint(buf, bytes.length);
+        buf.put(bytes);
+    }
+
+    /**
+     * @return Length of the string in UTF-8, or -1 if it contains an unpaired surrogate and so has no valid UTF-8
+     *         encoding.
+     */
+    static int utf8Length(String s) {
+        int n = 0;
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                n += 1;
+            } else if (c < 0x800) {
+                n += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    n += 4;
+                    i++;
+                } else {
+                    return -1;
+                }
+            } else {
+                n += 3;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Encode a string that has passed {@link #utf8Length(String)} as UTF-8.
+     */
+    static void putUtf8(ByteBuffer buf, String s) {
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                buf.put((byte) c);
+            } else if (c < 0x800) {
+                buf.put((byte) (0xC0 | (c >> 6)));
+                buf.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                buf.put((byte) (0xF0 | (cp >> 18)));
+                buf.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                buf.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                buf.put((byte) (0x80 | (cp & 0x3F)));
+            } else {
+                buf.put((byte) (0xE0 | (c >> 12)));
+                buf.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buf.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * @return Encoded size of a single byte tag followed by a length delimited value of the given length.
+     */
+    static int fieldSize(int tag, int length) {
+        return 1 + varintSize(length) + length;
+    }
+
+    static int varintSize(long v) {
+        int n = 1;
+        while ((v & ~0x7FL) != 0) {
+            v >>>= 7;
+            n++;
+        }
+        return n;
+    }
+
+    static void putVarint(ByteBuffer buf, long v) {
+        while ((v & ~0x7FL) != 0) {
+            buf.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buf.put((byte) v);
+    }
+}
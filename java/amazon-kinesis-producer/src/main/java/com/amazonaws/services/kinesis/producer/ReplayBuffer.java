@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds on to records that have been sent to the child process until their results arrive, so that they can be sent
+ * again to a new child if the current one dies. The records held are limited by their total size; records that don't
+ * fit aren't held, and are failed along with everything else if the child dies.
+ */
+class ReplayBuffer {
+    private final long capacity;
+    private final AtomicLong bytes = new AtomicLong();
+    private final ConcurrentMap<Long, PutRecordFrame> frames = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity
+     *            Most bytes of partition keys and data to hold at once.
+     */
+    ReplayBuffer(long capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Hold a record until its future completes, if there's room for it. This has to happen before the record is
+     * queued for the child, since a held record keeps its payload rather than handing it back once it's written.
+     *
+     * @return Whether the record is held.
+     */
+    boolean retain(final PutRecordFrame frame, ResultFuture<?> f, final long size) {
+        long b;
+        do {
+            b = bytes.get();
+            if (b + size > capacity) {
+                return false;
+            }
+        } while (!bytes.compareAndSet(b, b + size));
+
+        frame.retainPayload();
+        frames.put(frame.getId(), frame);
+        f.addListener(new Runnable() {
+            @Override
+            public void run() {
+                if (frames.remove(frame.getId()) != null) {
+                    bytes.addAndGet(-size);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        return true;
+    }
+
+    /**
+     * @return The record with the given id, if it's held, or null. It stays held until its future completes.
+     */
+    PutRecordFrame get(long id) {
+        return frames.get(id);
+    }
+
+    /**
+     * @return Bytes held.
+     */
+    long getBytes() {
+        return bytes.get();
+    }
+}
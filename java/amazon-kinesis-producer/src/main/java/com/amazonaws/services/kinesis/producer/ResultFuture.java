@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Future handed out for each message sent to the child process. Carries the id of the message so it can be looked up
+ * in a {@link CompletionTable}.
+ *
+ * <p>
+ * This does the same job as Guava's SettableFuture but without the separate synchronizer and execution list objects
+ * that come with every instance of it, since one of these is created for every user record.
+ *
+ * @param <V> Type of the result.
+ */
+class ResultFuture<V> implements ListenableFuture<V> {
+    private static final Logger log = LoggerFactory.getLogger(ResultFuture.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ResultFuture, Object> RESULT =
+            AtomicReferenceFieldUpdater.newUpdater(ResultFuture.class, Object.class, "result");
+
+    /**
+     * Stands in for a null result, since a null result field means not yet done.
+     */
+    private static final Object NULL = new Object();
+
+    private static final class Failure {
+        final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    private static final class Listener {
+        final Runnable runnable;
+        final Executor executor;
+        final Listener next;
+
+        Listener(Runnable runnable, Executor executor, Listener next) {
+            this.runnable = runnable;
+            this.executor = executor;
+            this.next = next;
+        }
+    }
+
+    private final long id;
+    private final long createdNanos = System.nanoTime();
+    private volatile Object result;
+    // Guarded by this
+    private Listener listeners;
+    // Guarded by this
+    private boolean waiting;
+
+    ResultFuture(long id) {
+        this.id = id;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    /**
+     * @return {@link System#nanoTime()} when the future was created.
+     */
+    long getCreatedNanos() {
+        return createdNanos;
+    }
+
+    /**
+     * Complete the future with a value.
+     *
+     * @return false if the future was already done.
+     */
+    boolean set(V value) {
+        return complete(value == null ? NULL : value);
+    }
+
+    /**
+     * Complete the future with an exception.
+     *
+     * @return false if the future was already done.
+     */
+    boolean setException(Throwable t) {
+        if (t == null) {
+            throw new NullPointerException("t cannot be null");
+        }
+        return complete(new Failure(t));
+    }
+
+    private boolean complete(Object r) {
+        if (!RESULT.compareAndSet(this, null, r)) {
+            return false;
+        }
+        Listener head;
+        synchronized (this) {
+            head = listeners;
+            listeners = null;
+            if (waiting) {
+                notifyAll();
+            }
+        }
+        // Listeners are pushed onto the front of the list, so reverse it to run them in the order they were added
+        Listener reversed = null;
+        for (Listener l = head; l != null; l = l.next) {
+            reversed = new Listener(l.runnable, l.executor, reversed);
+        }
+        for (Listener l = reversed; l != null; l = l.next) {
+            execute(l.runnable, l.executor);
+        }
+        return true;
+    }
+
+    private static void execute(Runnable runnable, Executor executor) {
+        try {
+            executor.execute(runnable);
+        } catch (RuntimeException e) {
+            log.error("RuntimeException while executing runnable " + runnable + " with executor " + executor, e);
+        }
+    }
+
+    @Override
+    public void addListener(Runnable listener, Executor executor) {
+        if (listener == null || executor == null) {
+            throw new NullPointerException("listener and executor cannot be null");
+        }
+        if (result == null) {
+            synchronized (this) {
+                if (result == null) {
+                    listeners = new Listener(listener, executor, listeners);
+                    return;
+                }
+            }
+        }
+        execute(listener, executor);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return complete(new Failure(new CancellationException("Future was cancelled")));
+    }
+
+    @Override
+    public boolean isCancelled() {
+        Object r = result;
+        return r instanceof Failure && ((Failure) r).cause instanceof CancellationException;
+    }
+
+    @Override
+    public boolean isDone() {
+        return result != null;
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        if (result == null) {
+            synchronized (this) {
+                waiting = true;
+                while (result == null) {
+                    wait();
+                }
+            }
+        }
+        return report();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (result == null) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (this) {
+                waiting = true;
+                while (result == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException("Timed out waiting for result of message " + id);
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+        }
+        return report();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V report() throws ExecutionException {
+        Object r = result;
+        if (r instanceof Failure) {
+            Throwable cause = ((Failure) r).cause;
+            if (cause instanceof CancellationException) {
+                throw (CancellationException) new CancellationException(cause.getMessage()).initCause(cause);
+            }
+            throw new ExecutionException(cause);
+        }
+        return r == NULL ? null : (V) r;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A child process shared by the KinesisProducers in the JVM whose configuration is the same, see
+ * {@link KinesisProducerConfiguration#setShareChildProcess(boolean)}.
+ *
+ * <p>
+ * Each producer is given a tag that makes up the top bits of the ids of the messages it sends. The child echoes the id
+ * back as the source id of the result, which is how results find their way back to the producer's handler. Metrics
+ * snapshots go to every producer. Stream ids are handed out JVM-wide, so that the same id never means two different
+ * streams to the child.
+ */
+class SharedChild implements Daemon.MessageHandler {
+    private static final Logger log = LoggerFactory.getLogger(SharedChild.class);
+
+    /**
+     * Message ids of a sharing producer are its tag shifted left by this, plus a counter.
+     */
+    static final int TAG_SHIFT = 48;
+
+    /**
+     * Largest tag; tags are positive so ids stay positive.
+     */
+    static final int MAX_TAG = (1 << (63 - TAG_SHIFT)) - 1;
+
+    // Guarded by the class lock
+    private static final Map<List<Object>, SharedChild> children = new HashMap<>();
+    private static final BitSet tags = new BitSet();
+    private static int lastTag = 0;
+
+    private static final ConcurrentMap<String, Integer> streamIds = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextStreamId = new AtomicInteger();
+
+    private final List<Object> key;
+    private final String pathToExecutable;
+    private final String workingDir;
+    private final KinesisProducerConfiguration config;
+    private final Map<String, String> environmentVariables;
+    private final ConcurrentMap<Integer, Daemon.MessageHandler> handlers = new ConcurrentHashMap<>();
+    private volatile Daemon daemon;
+    private volatile boolean closed;
+
+    private SharedChild(List<Object> key, String pathToExecutable, String workingDir,
+                        KinesisProducerConfiguration config, Map<String, String> environmentVariables) {
+        this.key = key;
+        this.pathToExecutable = pathToExecutable;
+        this.workingDir = workingDir;
+        this.config = config;
+        this.environmentVariables = environmentVariables;
+    }
+
+    /**
+     * Take a tag for a producer that's going to share child processes. Tags are handed out in turn rather than lowest
+     * first, so that results still on their way to a destroyed producer don't land in a new one straight away.
+     *
+     * @throws IllegalStateException
+     *             if {@link #MAX_TAG} producers are already sharing.
+     */
+    static synchronized int allocateTag() {
+        int tag = tags.nextClearBit(lastTag + 1);
+        if (tag > MAX_TAG) {
+            tag = tags.nextClearBit(1);
+            if (tag > MAX_TAG) {
+                throw new IllegalStateException("Too many KinesisProducers sharing child processes, at most "
+                        + MAX_TAG + " can exist at once");
+            }
+        }
+        tags.set(tag);
+        lastTag = tag;
+        return tag;
+    }
+
+    static synchronized void releaseTag(int tag) {
+        tags.clear(tag);
+    }
+
+    /**
+     * @return The id the given stream is registered with in every shared child.
+     */
+    static int streamId(String streamName) {
+        return streamIds.computeIfAbsent(streamName, k -> nextStreamId.getAndIncrement());
+    }
+
+    /**
+     * Everything that has to be the same for two producers to share a child: what the child is started with, and
+     * the credentials it is kept supplied with. Default credentials provider chains are interchangeable.
+     *
+     * @param index
+     *            Which of the producer's child processes this is.
+     */
+    static List<Object> key(KinesisProducerConfiguration config, String pathToExecutable, int index) {
+        return Arrays.<Object>asList(
+                config.toProtobufMessage().getConfiguration().toByteString(),
+                pathToExecutable,
+                config.getTempDirectory(),
+                credentialsKey(config.getCredentialsProvider()),
+                credentialsKey(config.getMetricsCredentialsProvider()),
+                config.getMetricsSnapshotInterval(),
+                config.getIpcTransport(),
+                config.getSharedMemoryRingBytes(),
+                config.getSocketBufferBytes(),
+                index);
+    }
+
+    private static Object credentialsKey(AWSCredentialsProvider provider) {
+        return provider instanceof DefaultAWSCredentialsProviderChain ? DefaultAWSCredentialsProviderChain.class
+                : provider;
+    }
+
+    /**
+     * Attach a producer's handler to the child with the given key, starting the child if there isn't one running.
+     */
+    static synchronized SharedChild attach(List<Object> key, int tag, Daemon.MessageHandler handler,
+            String pathToExecutable, String workingDir, KinesisProducerConfiguration config,
+            Map<String, String> environmentVariables) {
+        SharedChild child = children.get(key);
+        if (child == null) {
+            child = new SharedChild(key, pathToExecutable, workingDir, config, environmentVariables);
+            children.put(key, child);
+        }
+        child.handlers.put(tag, handler);
+        child.startIfShutdown();
+        return child;
+    }
+
+    /**
+     * Detach a producer. Once the last one is detached the child is destroyed.
+     */
+    void detach(int tag) {
+        Daemon last = null;
+        synchronized (SharedChild.class) {
+            handlers.remove(tag);
+            if (handlers.isEmpty()) {
+                children.remove(key);
+                synchronized (this) {
+                    closed = true;
+                    last = daemon;
+                }
+            }
+        }
+        if (last != null) {
+            last.destroy();
+        }
+    }
+
+    Daemon getDaemon() {
+        return daemon;
+    }
+
+    /**
+     * Replace the given child, which has died, with a new one. Every producer sharing it asks for this, so only the
+     * first request starts one.
+     *
+     * @return The current child.
+     */
+    synchronized Daemon restart(Daemon failed) {
+        if (daemon == failed && !closed) {
+            log.info("Restarting shared native producer process.");
+            daemon = new Daemon(pathToExecutable, this, workingDir, config, environmentVariables);
+        }
+        return daemon;
+    }
+
+    private synchronized void startIfShutdown() {
+        if (daemon == null || daemon.isShutdown()) {
+            daemon = new Daemon(pathToExecutable, this, workingDir, config, environmentVariables);
+        }
+    }
+
+    @Override
+    public void onMessage(Message m) {
+        onMessages(Collections.singletonList(m));
+    }
+
+    @Override
+    public void onMessages(List<Message> messages) {
+        Map<Integer, List<Message>> byTag = new HashMap<>();
+        for (Message m : messages) {
+            if (m.hasMetricsSnapshot()) {
+                for (Integer tag : handlers.keySet()) {
+                    byTag.computeIfAbsent(tag, k -> new ArrayList<>()).add(m);
+                }
+            } else {
+                byTag.computeIfAbsent((int) (m.getSourceId() >>> TAG_SHIFT), k -> new ArrayList<>()).add(m);
+            }
+        }
+        for (Map.Entry<Integer, List<Message>> e : byTag.entrySet()) {
+            Daemon.MessageHandler handler = handlers.get(e.getKey());
+            if (handler != null) {
+                handler.onMessages(e.getValue());
+            } else {
+                log.debug("Dropping {} messages for a KinesisProducer that has been destroyed", e.getValue().size());
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (closed) {
+            return;
+        }
+        for (Daemon.MessageHandler handler : handlers.values()) {
+            handler.onError(t);
+        }
+    }
+}
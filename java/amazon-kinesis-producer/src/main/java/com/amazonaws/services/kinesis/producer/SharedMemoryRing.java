@@ -0,0 +1,439 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory-mapped file holding one single-producer, single-consumer byte ring in each direction between the Java
+ * process and the child, see {@link KinesisProducerConfiguration.IpcTransport#SHARED_MEMORY}. The native side is
+ * aws/kinesis/core/shared_memory_ring.h; the layout here has to match it.
+ *
+ * <p>
+ * The rings carry exactly the bytes that would otherwise go through the pipes, so the framing doesn't change. Each
+ * ring has a write position and a read position that only ever grow, and a flag the reader sets before it goes to
+ * sleep. A writer that sees the flag clears it and writes a byte to the pipe going the same way as the ring, which the
+ * reader blocks on. While the reader keeps up, neither side makes a system call. A writer that finds the ring full
+ * backs off and polls, since the reader frees space without telling anyone.
+ *
+ * <p>
+ * Layout, in native byte order: a 4KB header with the magic number, the version and the capacity of each ring, then
+ * for each ring a 4KB control page, holding the write position at 0, the read position at 64 and the reader's flag
+ * at 128, followed by the ring's data.
+ */
+class SharedMemoryRing {
+    private static final Logger log = LoggerFactory.getLogger(SharedMemoryRing.class);
+
+    static final int PARENT_TO_CHILD = 0;
+    static final int CHILD_TO_PARENT = 1;
+
+    static final int MAGIC = 0x4B504C52;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4096;
+    static final int CONTROL_SIZE = 4096;
+    static final long MIN_CAPACITY = 64 * 1024;
+    static final long MAX_CAPACITY = 512 * 1024 * 1024;
+
+    private static final int WRITE_POS = 0;
+    private static final int READ_POS = 64;
+    private static final int READER_WAITING = 128;
+
+    /**
+     * Times an empty reader or a full writer yields before it sleeps.
+     */
+    private static final int SPINS = 64;
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /*
+     * Java 8 has no supported way to order accesses to memory outside the heap, so sun.misc.Unsafe is used. It is
+     * looked up by reflection, like the Unix domain socket API in UnixDomainSockets, so the module compiles without
+     * referring to it, and called through method handles, which the JIT inlines since they are constants.
+     */
+    private static final MethodHandle GET_LONG_VOLATILE;
+    private static final MethodHandle PUT_LONG_VOLATILE;
+    private static final MethodHandle PUT_ORDERED_LONG;
+    private static final MethodHandle GET_INT_VOLATILE;
+    private static final MethodHandle PUT_INT_VOLATILE;
+    private static final MethodHandle COMPARE_AND_SWAP_INT;
+    private static final MethodHandle BUFFER_ADDRESS;
+
+    static {
+        MethodHandle getLongVolatile = null;
+        MethodHandle putLongVolatile = null;
+        MethodHandle putOrderedLong = null;
+        MethodHandle getIntVolatile = null;
+        MethodHandle putIntVolatile = null;
+        MethodHandle compareAndSwapInt = null;
+        MethodHandle bufferAddress = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field f = unsafeClass.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            Object unsafe = f.get(null);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            getLongVolatile = lookup.findVirtual(unsafeClass, "getLongVolatile",
+                    MethodType.methodType(long.class, Object.class, long.class)).bindTo(unsafe);
+            putLongVolatile = lookup.findVirtual(unsafeClass, "putLongVolatile",
+                    MethodType.methodType(void.class, Object.class, long.class, long.class)).bindTo(unsafe);
+            putOrderedLong = lookup.findVirtual(unsafeClass, "putOrderedLong",
+                    MethodType.methodType(void.class, Object.class, long.class, long.class)).bindTo(unsafe);
+            getIntVolatile = lookup.findVirtual(unsafeClass, "getIntVolatile",
+                    MethodType.methodType(int.class, Object.class, long.class)).bindTo(unsafe);
+            putIntVolatile = lookup.findVirtual(unsafeClass, "putIntVolatile",
+                    MethodType.methodType(void.class, Object.class, long.class, int.class)).bindTo(unsafe);
+            compareAndSwapInt = lookup.findVirtual(unsafeClass, "compareAndSwapInt",
+                    MethodType.methodType(boolean.class, Object.class, long.class, int.class, int.class))
+                    .bindTo(unsafe);
+
+            long addressOffset = (long) lookup.findVirtual(unsafeClass, "objectFieldOffset",
+                    MethodType.methodType(long.class, Field.class)).bindTo(unsafe)
+                    .invoke(Buffer.class.getDeclaredField("address"));
+            bufferAddress = MethodHandles.insertArguments(lookup.findVirtual(unsafeClass, "getLong",
+                    MethodType.methodType(long.class, Object.class, long.class)).bindTo(unsafe), 1, addressOffset)
+                    .asType(MethodType.methodType(long.class, Buffer.class));
+        } catch (Throwable t) {
+            log.debug("Ordered access to shared memory is not available", t);
+            getLongVolatile = null;
+        }
+        GET_LONG_VOLATILE = getLongVolatile;
+        PUT_LONG_VOLATILE = putLongVolatile;
+        PUT_ORDERED_LONG = putOrderedLong;
+        GET_INT_VOLATILE = getIntVolatile;
+        PUT_INT_VOLATILE = putIntVolatile;
+        COMPARE_AND_SWAP_INT = compareAndSwapInt;
+        BUFFER_ADDRESS = bufferAddress;
+    }
+
+    /**
+     * @return Whether this JVM lets us order accesses to shared memory. Without that, pipes have to be used.
+     */
+    static boolean isSupported() {
+        return GET_LONG_VOLATILE != null;
+    }
+
+    private static long getLongVolatile(long address) {
+        try {
+            return (long) GET_LONG_VOLATILE.invokeExact((Object) null, address);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static void putLongVolatile(long address, long value) {
+        try {
+            PUT_LONG_VOLATILE.invokeExact((Object) null, address, value);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static void putOrderedLong(long address, long value) {
+        try {
+            PUT_ORDERED_LONG.invokeExact((Object) null, address, value);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static int getIntVolatile(long address) {
+        try {
+            return (int) GET_INT_VOLATILE.invokeExact((Object) null, address);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static void putIntVolatile(long address, int value) {
+        try {
+            PUT_INT_VOLATILE.invokeExact((Object) null, address, value);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static boolean compareAndSwapInt(long address, int expected, int value) {
+        try {
+            return (boolean) COMPARE_AND_SWAP_INT.invokeExact((Object) null, address, expected, value);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static long address(Buffer buffer) {
+        try {
+            return (long) BUFFER_ADDRESS.invokeExact(buffer);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * @return The capacity given, rounded up to a power of two and kept within bounds.
+     */
+    static long ringCapacity(long requested) {
+        long capped = Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, requested));
+        long capacity = Long.highestOneBit(capped);
+        return capacity < capped ? capacity << 1 : capacity;
+    }
+
+    private final MappedByteBuffer buffer;
+    private final long address;
+    private final long capacity;
+
+    private SharedMemoryRing(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.buffer.order(ByteOrder.nativeOrder());
+        this.address = address(buffer);
+        this.capacity = buffer.getLong(8);
+    }
+
+    /**
+     * Create the file, sized for two rings of the given capacity, and map it. The file must not exist yet.
+     */
+    static SharedMemoryRing create(File file, long capacity) throws IOException {
+        if (Long.bitCount(capacity) != 1 || capacity < MIN_CAPACITY || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two between " + MIN_CAPACITY + " and "
+                    + MAX_CAPACITY + ", got " + capacity);
+        }
+        if (!file.createNewFile()) {
+            throw new IOException(file + " already exists");
+        }
+        MappedByteBuffer buffer = map(file, HEADER_SIZE + 2 * (CONTROL_SIZE + capacity));
+        buffer.order(ByteOrder.nativeOrder());
+        buffer.putLong(8, capacity);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(0, MAGIC);
+        return new SharedMemoryRing(buffer);
+    }
+
+    /**
+     * Map a file created by {@link #create(File, long)}, as the child does.
+     */
+    static SharedMemoryRing open(File file) throws IOException {
+        MappedByteBuffer buffer = map(file, file.length());
+        buffer.order(ByteOrder.nativeOrder());
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException(file + " is not a version " + VERSION + " ring file");
+        }
+        return new SharedMemoryRing(buffer);
+    }
+
+    private static MappedByteBuffer map(File file, long size) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @param ring
+     *            {@link #PARENT_TO_CHILD} or {@link #CHILD_TO_PARENT}.
+     * @param doorbell
+     *            The pipe the writer of the ring wakes the reader up with. Closed along with the returned channel.
+     */
+    ReadableByteChannel reader(int ring, ReadableByteChannel doorbell) {
+        return new Reader(ring, doorbell);
+    }
+
+    /**
+     * @param ring
+     *            {@link #PARENT_TO_CHILD} or {@link #CHILD_TO_PARENT}.
+     * @param doorbell
+     *            The pipe to wake the reader of the ring up with. Closed along with the returned channel.
+     */
+    WritableByteChannel writer(int ring, WritableByteChannel doorbell) {
+        return new Writer(ring, doorbell);
+    }
+
+    private abstract class End {
+        final long control;
+        final int data;
+        // Each end is only used from one thread at a time, so the view's position can be moved freely
+        final ByteBuffer view = buffer.duplicate();
+        volatile boolean open = true;
+
+        End(int ring) {
+            long offset = HEADER_SIZE + ring * (CONTROL_SIZE + capacity);
+            control = address + offset;
+            data = (int) (offset + CONTROL_SIZE);
+        }
+
+        /**
+         * @return The part of the data from the given position to the end of the ring or the given length, whichever
+         *         comes first.
+         */
+        ByteBuffer region(long pos, int length) {
+            int offset = (int) (pos & (capacity - 1));
+            view.limit(data + offset + (int) Math.min(length, capacity - offset));
+            view.position(data + offset);
+            return view;
+        }
+
+        void ensureOpen() throws ClosedChannelException {
+            if (!open) {
+                throw new ClosedChannelException();
+            }
+        }
+    }
+
+    private final class Reader extends End implements ReadableByteChannel {
+        private final ReadableByteChannel doorbell;
+        private final ByteBuffer bell = ByteBuffer.allocate(64);
+        private long readPos;
+
+        Reader(int ring, ReadableByteChannel doorbell) {
+            super(ring);
+            this.doorbell = doorbell;
+            this.readPos = getLongVolatile(control + READ_POS);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            int spins = 0;
+            while (true) {
+                ensureOpen();
+                long available = getLongVolatile(control + WRITE_POS) - readPos;
+                if (available > 0 || !dst.hasRemaining()) {
+                    int n = (int) Math.min(available, dst.remaining());
+                    int copied = 0;
+                    while (copied < n) {
+                        ByteBuffer src = region(readPos + copied, n - copied);
+                        copied += src.remaining();
+                        dst.put(src);
+                    }
+                    readPos += n;
+                    putOrderedLong(control + READ_POS, readPos);
+                    return n;
+                }
+                if (spins++ < SPINS) {
+                    Thread.yield();
+                    continue;
+                }
+                putIntVolatile(control + READER_WAITING, 1);
+                if (getLongVolatile(control + WRITE_POS) != readPos) {
+                    putIntVolatile(control + READER_WAITING, 0);
+                    continue;
+                }
+                bell.clear();
+                if (doorbell.read(bell) < 0) {
+                    return -1;
+                }
+                spins = 0;
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() throws IOException {
+            open = false;
+            doorbell.close();
+        }
+    }
+
+    private final class Writer extends End implements WritableByteChannel {
+        private final WritableByteChannel doorbell;
+        private final ByteBuffer bell = ByteBuffer.allocate(1);
+        private long writePos;
+
+        Writer(int ring, WritableByteChannel doorbell) {
+            super(ring);
+            this.doorbell = doorbell;
+            this.writePos = getLongVolatile(control + WRITE_POS);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int spins = 0;
+            long backoff = 1000;
+            while (true) {
+                ensureOpen();
+                long free = capacity - (writePos - getLongVolatile(control + READ_POS));
+                if (free > 0 || !src.hasRemaining()) {
+                    int n = (int) Math.min(free, src.remaining());
+                    int copied = 0;
+                    int limit = src.limit();
+                    while (copied < n) {
+                        ByteBuffer dst = region(writePos + copied, n - copied);
+                        int chunk = dst.remaining();
+                        src.limit(src.position() + chunk);
+                        dst.put(src);
+                        src.limit(limit);
+                        copied += chunk;
+                    }
+                    writePos += n;
+                    putLongVolatile(control + WRITE_POS, writePos);
+                    if (getIntVolatile(control + READER_WAITING) != 0
+                            && compareAndSwapInt(control + READER_WAITING, 1, 0)) {
+                        bell.clear();
+                        while (bell.hasRemaining()) {
+                            doorbell.write(bell);
+                        }
+                    }
+                    return n;
+                }
+                if (Thread.interrupted()) {
+                    close();
+                    throw new ClosedByInterruptException();
+                }
+                if (spins++ < SPINS) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(backoff);
+                    backoff = Math.min(MAX_BACKOFF_NANOS, backoff * 2);
+                }
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() throws IOException {
+            open = false;
+            doorbell.close();
+        }
+    }
+}
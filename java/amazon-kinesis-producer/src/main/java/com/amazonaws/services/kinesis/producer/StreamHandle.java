@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * A stream of a {@link KinesisProducer}, obtained from {@link KinesisProducer#stream(String)}.
+ *
+ * <p>
+ * The stream name is validated and encoded once, when the handle is created, so putting through a handle skips that
+ * work on every record. Handles are cached by the producer and can be kept and shared between threads.
+ *
+ * <p>
+ * Each method behaves like the {@link KinesisProducer} method with the same parameters plus the stream name.
+ */
+public final class StreamHandle {
+    /**
+     * Number of stream ids the child process keeps a table for. Must match kMaxStreamIds in kinesis_producer.h.
+     */
+    static final int MAX_STREAM_IDS = 4096;
+
+    private final KinesisProducer producer;
+    private final String streamName;
+    private final byte[] streamNameBytes;
+    private final int id;
+    private final FlushTracker flushTracker = new FlushTracker();
+
+    /**
+     * @param id
+     *            Id records for this stream are sent with, or -1 to send the stream name with every record instead.
+     */
+    StreamHandle(KinesisProducer producer, String streamName, int id) {
+        this.producer = producer;
+        this.streamName = streamName;
+        this.streamNameBytes = streamName.getBytes(StandardCharsets.UTF_8);
+        this.id = id >= 0 && id < MAX_STREAM_IDS ? id : -1;
+    }
+
+    public String getStreamName() {
+        return streamName;
+    }
+
+    byte[] getStreamNameBytes() {
+        return streamNameBytes;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    FlushTracker getFlushTracker() {
+        return flushTracker;
+    }
+
+    /**
+     * @see KinesisProducer#flushAsync(String)
+     */
+    public ListenableFuture<Void> flushAsync() {
+        return producer.flushAsync(streamName);
+    }
+
+    /**
+     * @see KinesisProducer#addUserRecord(String, String, ByteBuffer)
+     */
+    public ListenableFuture<UserRecordResult> addUserRecord(String partitionKey, ByteBuffer data) {
+        return producer.putRecord(this, partitionKey, null, data, true, null);
+    }
+
+    /**
+     * @see KinesisProducer#addUserRecord(String, String, String, ByteBuffer)
+     */
+    public ListenableFuture<UserRecordResult> addUserRecord(String partitionKey, String explicitHashKey,
+            ByteBuffer data) {
+        return producer.putRecord(this, partitionKey, KinesisProducer.explicitHashKey(explicitHashKey), data, true,
+                null);
+    }
+
+    /**
+     * @see KinesisProducer#addUserRecord(String, String, long, long, ByteBuffer)
+     */
+    public ListenableFuture<UserRecordResult> addUserRecord(String partitionKey, long explicitHashKeyHigh,
+            long explicitHashKeyLow, ByteBuffer data) {
+        return producer.putRecord(this, partitionKey, ExplicitHashKey.binary(explicitHashKeyHigh, explicitHashKeyLow),
+                data, true, null);
+    }
+
+    /**
+     * @see KinesisProducer#addUserRecord(String, String, String, byte[], int, int)
+     */
+    public ListenableFuture<UserRecordResult> addUserRecord(String partitionKey, String explicitHashKey, byte[] data,
+            int offset, int length) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        return producer.putRecord(this, partitionKey, KinesisProducer.explicitHashKey(explicitHashKey),
+                ByteBuffer.wrap(data, offset, length), true, null);
+    }
+
+    /**
+     * @see KinesisProducer#addUserRecord(String, String, String, ByteBuffer, Consumer)
+     */
+    public ListenableFuture<UserRecordResult> addUserRecord(String partitionKey, String explicitHashKey,
+            ByteBuffer data, Consumer<ByteBuffer> onRelease) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (onRelease == null) {
+            throw new IllegalArgumentException("onRelease cannot be null");
+        }
+        return producer.putRecord(this, partitionKey, KinesisProducer.explicitHashKey(explicitHashKey), data, false,
+                onRelease);
+    }
+
+    @Override
+    public String toString() {
+        return "StreamHandle(" + streamName + ")";
+    }
+}
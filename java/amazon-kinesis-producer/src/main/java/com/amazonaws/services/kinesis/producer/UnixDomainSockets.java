@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unix domain socket channels, for {@link KinesisProducerConfiguration.IpcTransport#UNIX_SOCKET}. These arrived in
+ * Java 16, and the library is built for Java 8, so they are reached by reflection. On older JVMs
+ * {@link #isSupported()} is false and the pipes are used instead.
+ */
+class UnixDomainSockets {
+    private static final Logger log = LoggerFactory.getLogger(UnixDomainSockets.class);
+
+    /**
+     * Longest socket path, in bytes, that fits in a sockaddr_un on every platform we run on.
+     */
+    static final int MAX_PATH_LENGTH = 103;
+
+    private static final ProtocolFamily UNIX;
+    private static final Method OPEN_SERVER;
+    private static final Method OPEN_CLIENT;
+    private static final Method ADDRESS_OF;
+
+    static {
+        ProtocolFamily unix = null;
+        Method openServer = null;
+        Method openClient = null;
+        Method addressOf = null;
+        try {
+            unix = StandardProtocolFamily.valueOf("UNIX");
+            openServer = ServerSocketChannel.class.getMethod("open", ProtocolFamily.class);
+            openClient = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+            addressOf = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Unix domain sockets are not available in this JVM", e);
+            unix = null;
+        }
+        UNIX = unix;
+        OPEN_SERVER = openServer;
+        OPEN_CLIENT = openClient;
+        ADDRESS_OF = addressOf;
+    }
+
+    static boolean isSupported() {
+        return UNIX != null;
+    }
+
+    /**
+     * @return Whether a socket can be bound at the given path, which has to fit in a sockaddr_un.
+     */
+    static boolean fits(Path path) {
+        return path.toString().getBytes(StandardCharsets.UTF_8).length <= MAX_PATH_LENGTH;
+    }
+
+    /**
+     * Bind a server socket at the given path, which must not exist yet.
+     */
+    static ServerSocketChannel bind(Path path) throws IOException {
+        ServerSocketChannel server = (ServerSocketChannel) invoke(OPEN_SERVER, null, UNIX);
+        try {
+            server.bind(address(path), 1);
+        } catch (IOException | RuntimeException e) {
+            server.close();
+            throw e;
+        }
+        return server;
+    }
+
+    /**
+     * Connect to the server socket at the given path.
+     */
+    static SocketChannel connect(Path path) throws IOException {
+        SocketChannel channel = (SocketChannel) invoke(OPEN_CLIENT, null, UNIX);
+        try {
+            channel.connect(address(path));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    /**
+     * Ask for the given send and receive buffer sizes. The system may round them or cap them, and a socket that
+     * doesn't take them keeps its defaults.
+     */
+    static void setBufferSizes(SocketChannel channel, int bytes) {
+        try {
+            channel.setOption(StandardSocketOptions.SO_SNDBUF, bytes);
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, bytes);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("Could not set the socket buffer size to {} bytes", bytes, e);
+        }
+    }
+
+    private static SocketAddress address(Path path) throws IOException {
+        return (SocketAddress) invoke(ADDRESS_OF, null, path);
+    }
+
+    private static Object invoke(Method method, Object target, Object arg) throws IOException {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Unix domain sockets need Java 16 or later");
+        }
+        try {
+            return method.invoke(target, arg);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
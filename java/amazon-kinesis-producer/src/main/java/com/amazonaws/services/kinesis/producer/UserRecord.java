@@ -21,6 +21,13 @@ public class UserRecord {
      */
     private String explicitHashKey;
 
+    /**
+     * The same as explicitHashKey, as 16 bytes, most significant byte first.
+     * Cheaper to send than the decimal string. At most one of the two can be
+     * set.
+     */
+    private byte[] explicitHashKeyBytes;
+
     /**
      * Binary data of the record. Maximum size 1MiB.
      */
@@ -93,4 +100,17 @@ public class UserRecord {
         this.explicitHashKey = explicitHashKey;
         return this;
     }
+
+    public byte[] getExplicitHashKeyBytes() {
+        return explicitHashKeyBytes;
+    }
+
+    public void setExplicitHashKeyBytes(byte[] explicitHashKeyBytes) {
+        this.explicitHashKeyBytes = explicitHashKeyBytes;
+    }
+
+    public UserRecord withExplicitHashKeyBytes(byte[] explicitHashKeyBytes) {
+        this.explicitHashKeyBytes = explicitHashKeyBytes;
+        return this;
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import java.util.List;
+
+/**
+ * The result of a {@link KinesisProducer#addUserRecords} operation, available once every record in the batch has
+ * finished. Only the records that failed are described individually; all the others were confirmed by the backend.
+ */
+public class UserRecordBatchResult {
+    private final int recordCount;
+    private final List<FailedRecord> failedRecords;
+
+    public UserRecordBatchResult(int recordCount, List<FailedRecord> failedRecords) {
+        this.recordCount = recordCount;
+        this.failedRecords = failedRecords;
+    }
+
+    /**
+     * @return Number of records in the batch.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return Number of records in the batch that were confirmed by the backend.
+     */
+    public int getSuccessfulRecordCount() {
+        return recordCount - failedRecords.size();
+    }
+
+    /**
+     * @return The records that failed, in the order they appeared in the batch. Empty if they all succeeded.
+     */
+    public List<FailedRecord> getFailedRecords() {
+        return failedRecords;
+    }
+
+    /**
+     * @return Whether every record in the batch was confirmed by the backend.
+     */
+    public boolean isSuccessful() {
+        return failedRecords.isEmpty();
+    }
+
+    /**
+     * A record from a batch that failed.
+     */
+    public static class FailedRecord {
+        private final int index;
+        private final Throwable cause;
+
+        public FailedRecord(int index, Throwable cause) {
+            this.index = index;
+            this.cause = cause;
+        }
+
+        /**
+         * @return Position of the record in the batch, counting from 0 in iteration order.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return Why the record failed. This is what the future returned by {@link KinesisProducer#addUserRecord}
+         *         would have failed with: usually a {@link UserRecordFailedException} carrying the attempts made, or
+         *         an {@link OutstandingLimitExceededException} if the record was never admitted.
+         */
+        public Throwable getCause() {
+            return cause;
+        }
+
+        /**
+         * @return The result from the backend, with details of each attempt made, or null if the record failed
+         *         without one (e.g. because the child process died).
+         */
+        public UserRecordResult getResult() {
+            return cause instanceof UserRecordFailedException ? ((UserRecordFailedException) cause).getResult()
+                    : null;
+        }
+
+        @Override
+        public String toString() {
+            return "FailedRecord(index=" + index + ", cause=" + cause + ")";
+        }
+    }
+}
@@ -1127,6 +1127,34 @@ public final class Config {
      * <code>optional uint32 thread_pool_size = 27 [default = 64];</code>
      */
     int getThreadPoolSize();
+
+    /**
+     * <code>repeated string prewarm_streams = 28;</code>
+     */
+    com.google.protobuf.ProtocolStringList
+        getPrewarmStreamsList();
+    /**
+     * <code>repeated string prewarm_streams = 28;</code>
+     */
+    int getPrewarmStreamsCount();
+    /**
+     * <code>repeated string prewarm_streams = 28;</code>
+     */
+    java.lang.String getPrewarmStreams(int index);
+    /**
+     * <code>repeated string prewarm_streams = 28;</code>
+     */
+    com.google.protobuf.ByteString
+        getPrewarmStreamsBytes(int index);
+
+    /**
+     * <code>optional bool aggregation_hold_for_shard_map = 29 [default = false];</code>
+     */
+    boolean hasAggregationHoldForShardMap();
+    /**
+     * <code>optional bool aggregation_hold_for_shard_map = 29 [default = false];</code>
+     */
+    boolean getAggregationHoldForShardMap();
   }
   /**
    * Protobuf type {@code aws.kinesis.protobuf.Configuration}
@@ -1328,6 +1356,20 @@ public final class Config {
               threadPoolSize_ = input.readUInt32();
               break;
             }
+            case 226: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x10000000) == 0x10000000)) {
+                prewarmStreams_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x10000000;
+              }
+              prewarmStreams_.add(bs);
+              break;
+            }
+            case 232: {
+              bitField0_ |= 0x08000000;
+              aggregationHoldForShardMap_ = input.readBool();
+              break;
+            }
             case 1026: {
               if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
                 additionalMetricDims_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Config.AdditionalDimension>();
@@ -1344,6 +1386,9 @@ public final class Config {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x10000000) == 0x10000000)) {
+          prewarmStreams_ = prewarmStreams_.getUnmodifiableView();
+        }
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           additionalMetricDims_ = java.util.Collections.unmodifiableList(additionalMetricDims_);
         }
@@ -2090,6 +2135,50 @@ public final class Config {
       return threadPoolSize_;
     }
 
+    public static final int PREWARM_STREAMS_FIELD_NUMBER = 28;
+    private com.google.protobuf.LazyStringList prewarmStreams_;
+    /**
+     * <code>repeated string prewarm_streams = 28;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPrewarmStreamsList() {
+      return prewarmStreams_;
+    }
+    /**
+     * <code>repeated string prewarm_streams = 28;</code>
+     */
+    public int getPrewarmStreamsCount() {
+      return prewarmStreams_.size();
+    }
+    /**
+     * <code>repeated string prewarm_streams = 28;</code>
+     */
+    public java.lang.String getPrewarmStreams(int index) {
+      return prewarmStreams_.get(index);
+    }
+    /**
+     * <code>repeated string prewarm_streams = 28;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPrewarmStreamsBytes(int index) {
+      return prewarmStreams_.getByteString(index);
+    }
+
+    public static final int AGGREGATION_HOLD_FOR_SHARD_MAP_FIELD_NUMBER = 29;
+    private boolean aggregationHoldForShardMap_;
+    /**
+     * <code>optional bool aggregation_hold_for_shard_map = 29 [default = false];</code>
+     */
+    public boolean hasAggregationHoldForShardMap() {
+      return ((bitField0_ & 0x08000000) == 0x08000000);
+    }
+    /**
+     * <code>optional bool aggregation_hold_for_shard_map = 29 [default = false];</code>
+     */
+    public boolean getAggregationHoldForShardMap() {
+      return aggregationHoldForShardMap_;
+    }
+
     private void initFields() {
       additionalMetricDims_ = java.util.Collections.emptyList();
       aggregationEnabled_ = true;
@@ -2119,6 +2208,8 @@ public final class Config {
       verifyCertificate_ = true;
       threadConfig_ = com.amazonaws.services.kinesis.producer.protobuf.Config.Configuration.ThreadConfig.PER_REQUEST;
       threadPoolSize_ = 64;
+      prewarmStreams_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      aggregationHoldForShardMap_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2220,6 +2311,12 @@ public final class Config {
       if (((bitField0_ & 0x04000000) == 0x04000000)) {
         output.writeUInt32(27, threadPoolSize_);
       }
+      for (int i = 0; i < prewarmStreams_.size(); i++) {
+        output.writeBytes(28, prewarmStreams_.getByteString(i));
+      }
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+        output.writeBool(29, aggregationHoldForShardMap_);
+      }
       for (int i = 0; i < additionalMetricDims_.size(); i++) {
         output.writeMessage(128, additionalMetricDims_.get(i));
       }
@@ -2340,6 +2437,19 @@ public final class Config {
         size += com.google.protobuf.CodedOutputStream
           .computeUInt32Size(27, threadPoolSize_);
       }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < prewarmStreams_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(prewarmStreams_.getByteString(i));
+        }
+        size += dataSize;
+        size += 2 * getPrewarmStreamsList().size();
+      }
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(29, aggregationHoldForShardMap_);
+      }
       for (int i = 0; i < additionalMetricDims_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(128, additionalMetricDims_.get(i));
@@ -2522,6 +2632,10 @@ public final class Config {
         bitField0_ = (bitField0_ & ~0x04000000);
         threadPoolSize_ = 64;
         bitField0_ = (bitField0_ & ~0x08000000);
+        prewarmStreams_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x10000000);
+        aggregationHoldForShardMap_ = false;
+        bitField0_ = (bitField0_ & ~0x20000000);
         return this;
       }
 
@@ -2667,6 +2781,15 @@ public final class Config {
           to_bitField0_ |= 0x04000000;
         }
         result.threadPoolSize_ = threadPoolSize_;
+        if (((bitField0_ & 0x10000000) == 0x10000000)) {
+          prewarmStreams_ = prewarmStreams_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x10000000);
+        }
+        result.prewarmStreams_ = prewarmStreams_;
+        if (((from_bitField0_ & 0x20000000) == 0x20000000)) {
+          to_bitField0_ |= 0x08000000;
+        }
+        result.aggregationHoldForShardMap_ = aggregationHoldForShardMap_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2804,6 +2927,19 @@ public final class Config {
         if (other.hasThreadPoolSize()) {
           setThreadPoolSize(other.getThreadPoolSize());
         }
+        if (!other.prewarmStreams_.isEmpty()) {
+          if (prewarmStreams_.isEmpty()) {
+            prewarmStreams_ = other.prewarmStreams_;
+            bitField0_ = (bitField0_ & ~0x10000000);
+          } else {
+            ensurePrewarmStreamsIsMutable();
+            prewarmStreams_.addAll(other.prewarmStreams_);
+          }
+          onChanged();
+        }
+        if (other.hasAggregationHoldForShardMap()) {
+          setAggregationHoldForShardMap(other.getAggregationHoldForShardMap());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -4252,6 +4388,131 @@ public final class Config {
         return this;
       }
 
+      private com.google.protobuf.LazyStringList prewarmStreams_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePrewarmStreamsIsMutable() {
+        if (!((bitField0_ & 0x10000000) == 0x10000000)) {
+          prewarmStreams_ = new com.google.protobuf.LazyStringArrayList(prewarmStreams_);
+          bitField0_ |= 0x10000000;
+         }
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPrewarmStreamsList() {
+        return prewarmStreams_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public int getPrewarmStreamsCount() {
+        return prewarmStreams_.size();
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public java.lang.String getPrewarmStreams(int index) {
+        return prewarmStreams_.get(index);
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPrewarmStreamsBytes(int index) {
+        return prewarmStreams_.getByteString(index);
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public Builder setPrewarmStreams(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePrewarmStreamsIsMutable();
+        prewarmStreams_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public Builder addPrewarmStreams(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePrewarmStreamsIsMutable();
+        prewarmStreams_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public Builder addAllPrewarmStreams(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePrewarmStreamsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, prewarmStreams_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public Builder clearPrewarmStreams() {
+        prewarmStreams_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x10000000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string prewarm_streams = 28;</code>
+       */
+      public Builder addPrewarmStreamsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePrewarmStreamsIsMutable();
+        prewarmStreams_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private boolean aggregationHoldForShardMap_ ;
+      /**
+       * <code>optional bool aggregation_hold_for_shard_map = 29 [default = false];</code>
+       */
+      public boolean hasAggregationHoldForShardMap() {
+        return ((bitField0_ & 0x20000000) == 0x20000000);
+      }
+      /**
+       * <code>optional bool aggregation_hold_for_shard_map = 29 [default = false];</code>
+       */
+      public boolean getAggregationHoldForShardMap() {
+        return aggregationHoldForShardMap_;
+      }
+      /**
+       * <code>optional bool aggregation_hold_for_shard_map = 29 [default = false];</code>
+       */
+      public Builder setAggregationHoldForShardMap(boolean value) {
+        bitField0_ |= 0x20000000;
+        aggregationHoldForShardMap_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool aggregation_hold_for_shard_map = 29 [default = false];</code>
+       */
+      public Builder clearAggregationHoldForShardMap() {
+        bitField0_ = (bitField0_ & ~0x20000000);
+        aggregationHoldForShardMap_ = false;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:aws.kinesis.protobuf.Configuration)
     }
 
@@ -4284,7 +4545,7 @@ public final class Config {
     java.lang.String[] descriptorData = {
       "\n\014config.proto\022\024aws.kinesis.protobuf\"F\n\023" +
       "AdditionalDimension\022\013\n\003key\030\001 \002(\t\022\r\n\005valu" +
-      "e\030\002 \002(\t\022\023\n\013granularity\030\003 \002(\t\"\254\010\n\rConfigu" +
+      "e\030\002 \002(\t\022\023\n\013granularity\030\003 \002(\t\"\364\010\n\rConfigu" +
       "ration\022J\n\026additional_metric_dims\030\200\001 \003(\0132" +
       ").aws.kinesis.protobuf.AdditionalDimensi" +
       "on\022!\n\023aggregation_enabled\030\001 \001(\010:\004true\022)\n" +
@@ -4310,9 +4571,11 @@ public final class Config {
       "ficate\030\031 \001(\010:\004true\022T\n\rthread_config\030\032 \001(" +
       "\01620.aws.kinesis.protobuf.Configuration.T" +
       "hreadConfig:\013PER_REQUEST\022\034\n\020thread_pool_" +
-      "size\030\033 \001(\r:\00264\"+\n\014ThreadConfig\022\017\n\013PER_RE" +
-      "QUEST\020\000\022\n\n\006POOLED\020\001B2\n0com.amazonaws.ser",
-      "vices.kinesis.producer.protobuf"
+      "size\030\033 \001(\r:\00264\022\027\n\017prewarm_streams\030\034 \003(\t\022" +
+      "-\n\036aggregation_hold_for_shard_map\030\035 \001(\010:",
+      "\005false\"+\n\014ThreadConfig\022\017\n\013PER_REQUEST\020\000\022" +
+      "\n\n\006POOLED\020\001B2\n0com.amazonaws.services.ki" +
+      "nesis.producer.protobuf"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -4337,7 +4600,7 @@ public final class Config {
     internal_static_aws_kinesis_protobuf_Configuration_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_aws_kinesis_protobuf_Configuration_descriptor,
-        new java.lang.String[] { "AdditionalMetricDims", "AggregationEnabled", "AggregationMaxCount", "AggregationMaxSize", "CloudwatchEndpoint", "CloudwatchPort", "CollectionMaxCount", "CollectionMaxSize", "ConnectTimeout", "EnableCoreDumps", "FailIfThrottled", "KinesisEndpoint", "KinesisPort", "LogLevel", "MaxConnections", "MetricsGranularity", "MetricsLevel", "MetricsNamespace", "MetricsUploadDelay", "MinConnections", "RateLimit", "RecordMaxBufferedTime", "RecordTtl", "Region", "RequestTimeout", "VerifyCertificate", "ThreadConfig", "ThreadPoolSize", });
+        new java.lang.String[] { "AdditionalMetricDims", "AggregationEnabled", "AggregationMaxCount", "AggregationMaxSize", "CloudwatchEndpoint", "CloudwatchPort", "CollectionMaxCount", "CollectionMaxSize", "ConnectTimeout", "EnableCoreDumps", "FailIfThrottled", "KinesisEndpoint", "KinesisPort", "LogLevel", "MaxConnections", "MetricsGranularity", "MetricsLevel", "MetricsNamespace", "MetricsUploadDelay", "MinConnections", "RateLimit", "RecordMaxBufferedTime", "RecordTtl", "Region", "RequestTimeout", "VerifyCertificate", "ThreadConfig", "ThreadPoolSize", "PrewarmStreams", "AggregationHoldForShardMap", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
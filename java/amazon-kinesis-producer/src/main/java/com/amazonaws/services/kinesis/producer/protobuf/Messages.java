@@ -2759,6 +2759,58 @@ public final class Messages {
      * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.SetCredentials set_credentials = 9;</code>
      */
     com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentialsOrBuilder getSetCredentialsOrBuilder();
+
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+     */
+    boolean hasRegisterStream();
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream getRegisterStream();
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStreamOrBuilder getRegisterStreamOrBuilder();
+
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+     */
+    boolean hasPutRecordBatch();
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch getPutRecordBatch();
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatchOrBuilder getPutRecordBatchOrBuilder();
+
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+     */
+    boolean hasMetricsSnapshot();
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot getMetricsSnapshot();
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshotOrBuilder getMetricsSnapshotOrBuilder();
+
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+     */
+    boolean hasHandshake();
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake getHandshake();
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.HandshakeOrBuilder getHandshakeOrBuilder();
   }
   /**
    * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Message}
@@ -2913,6 +2965,58 @@ public final class Messages {
               actualMessageCase_ = 9;
               break;
             }
+            case 82: {
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.Builder subBuilder = null;
+              if (actualMessageCase_ == 10) {
+                subBuilder = ((com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_).toBuilder();
+              }
+              actualMessage_ = input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_);
+                actualMessage_ = subBuilder.buildPartial();
+              }
+              actualMessageCase_ = 10;
+              break;
+            }
+            case 90: {
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.Builder subBuilder = null;
+              if (actualMessageCase_ == 11) {
+                subBuilder = ((com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_).toBuilder();
+              }
+              actualMessage_ = input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_);
+                actualMessage_ = subBuilder.buildPartial();
+              }
+              actualMessageCase_ = 11;
+              break;
+            }
+            case 98: {
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.Builder subBuilder = null;
+              if (actualMessageCase_ == 12) {
+                subBuilder = ((com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_).toBuilder();
+              }
+              actualMessage_ = input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_);
+                actualMessage_ = subBuilder.buildPartial();
+              }
+              actualMessageCase_ = 12;
+              break;
+            }
+            case 106: {
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.Builder subBuilder = null;
+              if (actualMessageCase_ == 13) {
+                subBuilder = ((com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_).toBuilder();
+              }
+              actualMessage_ = input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_);
+                actualMessage_ = subBuilder.buildPartial();
+              }
+              actualMessageCase_ = 13;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2964,6 +3068,10 @@ public final class Messages {
       METRICS_REQUEST(7),
       METRICS_RESPONSE(8),
       SET_CREDENTIALS(9),
+      REGISTER_STREAM(10),
+      PUT_RECORD_BATCH(11),
+      METRICS_SNAPSHOT(12),
+      HANDSHAKE(13),
       ACTUALMESSAGE_NOT_SET(0);
       private int value = 0;
       private ActualMessageCase(int value) {
@@ -2978,6 +3086,10 @@ public final class Messages {
           case 7: return METRICS_REQUEST;
           case 8: return METRICS_RESPONSE;
           case 9: return SET_CREDENTIALS;
+          case 10: return REGISTER_STREAM;
+          case 11: return PUT_RECORD_BATCH;
+          case 12: return METRICS_SNAPSHOT;
+          case 13: return HANDSHAKE;
           case 0: return ACTUALMESSAGE_NOT_SET;
           default: throw new java.lang.IllegalArgumentException(
             "Value is undefined for this oneof enum.");
@@ -3206,6 +3318,110 @@ public final class Messages {
       return com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.getDefaultInstance();
     }
 
+    public static final int REGISTER_STREAM_FIELD_NUMBER = 10;
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+     */
+    public boolean hasRegisterStream() {
+      return actualMessageCase_ == 10;
+    }
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream getRegisterStream() {
+      if (actualMessageCase_ == 10) {
+         return (com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_;
+      }
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance();
+    }
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStreamOrBuilder getRegisterStreamOrBuilder() {
+      if (actualMessageCase_ == 10) {
+         return (com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_;
+      }
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance();
+    }
+
+    public static final int PUT_RECORD_BATCH_FIELD_NUMBER = 11;
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+     */
+    public boolean hasPutRecordBatch() {
+      return actualMessageCase_ == 11;
+    }
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch getPutRecordBatch() {
+      if (actualMessageCase_ == 11) {
+         return (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_;
+      }
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance();
+    }
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatchOrBuilder getPutRecordBatchOrBuilder() {
+      if (actualMessageCase_ == 11) {
+         return (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_;
+      }
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance();
+    }
+
+    public static final int METRICS_SNAPSHOT_FIELD_NUMBER = 12;
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+     */
+    public boolean hasMetricsSnapshot() {
+      return actualMessageCase_ == 12;
+    }
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot getMetricsSnapshot() {
+      if (actualMessageCase_ == 12) {
+         return (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_;
+      }
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance();
+    }
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshotOrBuilder getMetricsSnapshotOrBuilder() {
+      if (actualMessageCase_ == 12) {
+         return (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_;
+      }
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance();
+    }
+
+    public static final int HANDSHAKE_FIELD_NUMBER = 13;
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+     */
+    public boolean hasHandshake() {
+      return actualMessageCase_ == 13;
+    }
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake getHandshake() {
+      if (actualMessageCase_ == 13) {
+         return (com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_;
+      }
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance();
+    }
+    /**
+     * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.HandshakeOrBuilder getHandshakeOrBuilder() {
+      if (actualMessageCase_ == 13) {
+         return (com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_;
+      }
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance();
+    }
+
     private void initFields() {
       id_ = 0L;
       sourceId_ = 0L;
@@ -3250,6 +3466,30 @@ public final class Messages {
           return false;
         }
       }
+      if (hasRegisterStream()) {
+        if (!getRegisterStream().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasPutRecordBatch()) {
+        if (!getPutRecordBatch().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasMetricsSnapshot()) {
+        if (!getMetricsSnapshot().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasHandshake()) {
+        if (!getHandshake().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -3284,6 +3524,18 @@ public final class Messages {
       if (actualMessageCase_ == 9) {
         output.writeMessage(9, (com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials) actualMessage_);
       }
+      if (actualMessageCase_ == 10) {
+        output.writeMessage(10, (com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_);
+      }
+      if (actualMessageCase_ == 11) {
+        output.writeMessage(11, (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_);
+      }
+      if (actualMessageCase_ == 12) {
+        output.writeMessage(12, (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_);
+      }
+      if (actualMessageCase_ == 13) {
+        output.writeMessage(13, (com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -3329,6 +3581,22 @@ public final class Messages {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(9, (com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials) actualMessage_);
       }
+      if (actualMessageCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_);
+      }
+      if (actualMessageCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_);
+      }
+      if (actualMessageCase_ == 12) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_);
+      }
+      if (actualMessageCase_ == 13) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(13, (com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -3537,6 +3805,34 @@ public final class Messages {
             result.actualMessage_ = setCredentialsBuilder_.build();
           }
         }
+        if (actualMessageCase_ == 10) {
+          if (registerStreamBuilder_ == null) {
+            result.actualMessage_ = actualMessage_;
+          } else {
+            result.actualMessage_ = registerStreamBuilder_.build();
+          }
+        }
+        if (actualMessageCase_ == 11) {
+          if (putRecordBatchBuilder_ == null) {
+            result.actualMessage_ = actualMessage_;
+          } else {
+            result.actualMessage_ = putRecordBatchBuilder_.build();
+          }
+        }
+        if (actualMessageCase_ == 12) {
+          if (metricsSnapshotBuilder_ == null) {
+            result.actualMessage_ = actualMessage_;
+          } else {
+            result.actualMessage_ = metricsSnapshotBuilder_.build();
+          }
+        }
+        if (actualMessageCase_ == 13) {
+          if (handshakeBuilder_ == null) {
+            result.actualMessage_ = actualMessage_;
+          } else {
+            result.actualMessage_ = handshakeBuilder_.build();
+          }
+        }
         result.bitField0_ = to_bitField0_;
         result.actualMessageCase_ = actualMessageCase_;
         onBuilt();
@@ -3589,6 +3885,22 @@ public final class Messages {
             mergeSetCredentials(other.getSetCredentials());
             break;
           }
+          case REGISTER_STREAM: {
+            mergeRegisterStream(other.getRegisterStream());
+            break;
+          }
+          case PUT_RECORD_BATCH: {
+            mergePutRecordBatch(other.getPutRecordBatch());
+            break;
+          }
+          case METRICS_SNAPSHOT: {
+            mergeMetricsSnapshot(other.getMetricsSnapshot());
+            break;
+          }
+          case HANDSHAKE: {
+            mergeHandshake(other.getHandshake());
+            break;
+          }
           case ACTUALMESSAGE_NOT_SET: {
             break;
           }
@@ -3632,6 +3944,30 @@ public final class Messages {
             return false;
           }
         }
+        if (hasRegisterStream()) {
+          if (!getRegisterStream().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasPutRecordBatch()) {
+          if (!getPutRecordBatch().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasMetricsSnapshot()) {
+          if (!getMetricsSnapshot().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasHandshake()) {
+          if (!getHandshake().isInitialized()) {
+            
+            return false;
+          }
+        }
         return true;
       }
 
@@ -4678,31 +5014,571 @@ public final class Messages {
         return setCredentialsBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Message)
-    }
-
-    static {
-      defaultInstance = new Message(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Message)
-  }
-
-  public interface PutRecordOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.PutRecord)
-      com.google.protobuf.MessageOrBuilder {
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream, com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStreamOrBuilder> registerStreamBuilder_;
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      public boolean hasRegisterStream() {
+        return actualMessageCase_ == 10;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream getRegisterStream() {
+        if (registerStreamBuilder_ == null) {
+          if (actualMessageCase_ == 10) {
+            return (com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_;
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance();
+        } else {
+          if (actualMessageCase_ == 10) {
+            return registerStreamBuilder_.getMessage();
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      public Builder setRegisterStream(com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream value) {
+        if (registerStreamBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          actualMessage_ = value;
+          onChanged();
+        } else {
+          registerStreamBuilder_.setMessage(value);
+        }
+        actualMessageCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      public Builder setRegisterStream(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.Builder builderForValue) {
+        if (registerStreamBuilder_ == null) {
+          actualMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          registerStreamBuilder_.setMessage(builderForValue.build());
+        }
+        actualMessageCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      public Builder mergeRegisterStream(com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream value) {
+        if (registerStreamBuilder_ == null) {
+          if (actualMessageCase_ == 10 &&
+              actualMessage_ != com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance()) {
+            actualMessage_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.newBuilder((com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            actualMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (actualMessageCase_ == 10) {
+            registerStreamBuilder_.mergeFrom(value);
+          }
+          registerStreamBuilder_.setMessage(value);
+        }
+        actualMessageCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      public Builder clearRegisterStream() {
+        if (registerStreamBuilder_ == null) {
+          if (actualMessageCase_ == 10) {
+            actualMessageCase_ = 0;
+            actualMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (actualMessageCase_ == 10) {
+            actualMessageCase_ = 0;
+            actualMessage_ = null;
+          }
+          registerStreamBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.Builder getRegisterStreamBuilder() {
+        return getRegisterStreamFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStreamOrBuilder getRegisterStreamOrBuilder() {
+        if ((actualMessageCase_ == 10) && (registerStreamBuilder_ != null)) {
+          return registerStreamBuilder_.getMessageOrBuilder();
+        } else {
+          if (actualMessageCase_ == 10) {
+            return (com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_;
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.RegisterStream register_stream = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream, com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStreamOrBuilder> 
+          getRegisterStreamFieldBuilder() {
+        if (registerStreamBuilder_ == null) {
+          if (!(actualMessageCase_ == 10)) {
+            actualMessage_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance();
+          }
+          registerStreamBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream, com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStreamOrBuilder>(
+                  (com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) actualMessage_,
+                  getParentForChildren(),
+                  isClean());
+          actualMessage_ = null;
+        }
+        actualMessageCase_ = 10;
+        return registerStreamBuilder_;
+      }
 
-    /**
-     * <code>required string stream_name = 1;</code>
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatchOrBuilder> putRecordBatchBuilder_;
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      public boolean hasPutRecordBatch() {
+        return actualMessageCase_ == 11;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch getPutRecordBatch() {
+        if (putRecordBatchBuilder_ == null) {
+          if (actualMessageCase_ == 11) {
+            return (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_;
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance();
+        } else {
+          if (actualMessageCase_ == 11) {
+            return putRecordBatchBuilder_.getMessage();
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      public Builder setPutRecordBatch(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch value) {
+        if (putRecordBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          actualMessage_ = value;
+          onChanged();
+        } else {
+          putRecordBatchBuilder_.setMessage(value);
+        }
+        actualMessageCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      public Builder setPutRecordBatch(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.Builder builderForValue) {
+        if (putRecordBatchBuilder_ == null) {
+          actualMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          putRecordBatchBuilder_.setMessage(builderForValue.build());
+        }
+        actualMessageCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      public Builder mergePutRecordBatch(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch value) {
+        if (putRecordBatchBuilder_ == null) {
+          if (actualMessageCase_ == 11 &&
+              actualMessage_ != com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance()) {
+            actualMessage_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.newBuilder((com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            actualMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (actualMessageCase_ == 11) {
+            putRecordBatchBuilder_.mergeFrom(value);
+          }
+          putRecordBatchBuilder_.setMessage(value);
+        }
+        actualMessageCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      public Builder clearPutRecordBatch() {
+        if (putRecordBatchBuilder_ == null) {
+          if (actualMessageCase_ == 11) {
+            actualMessageCase_ = 0;
+            actualMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (actualMessageCase_ == 11) {
+            actualMessageCase_ = 0;
+            actualMessage_ = null;
+          }
+          putRecordBatchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.Builder getPutRecordBatchBuilder() {
+        return getPutRecordBatchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatchOrBuilder getPutRecordBatchOrBuilder() {
+        if ((actualMessageCase_ == 11) && (putRecordBatchBuilder_ != null)) {
+          return putRecordBatchBuilder_.getMessageOrBuilder();
+        } else {
+          if (actualMessageCase_ == 11) {
+            return (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_;
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch put_record_batch = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatchOrBuilder> 
+          getPutRecordBatchFieldBuilder() {
+        if (putRecordBatchBuilder_ == null) {
+          if (!(actualMessageCase_ == 11)) {
+            actualMessage_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance();
+          }
+          putRecordBatchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatchOrBuilder>(
+                  (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) actualMessage_,
+                  getParentForChildren(),
+                  isClean());
+          actualMessage_ = null;
+        }
+        actualMessageCase_ = 11;
+        return putRecordBatchBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshotOrBuilder> metricsSnapshotBuilder_;
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      public boolean hasMetricsSnapshot() {
+        return actualMessageCase_ == 12;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot getMetricsSnapshot() {
+        if (metricsSnapshotBuilder_ == null) {
+          if (actualMessageCase_ == 12) {
+            return (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_;
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance();
+        } else {
+          if (actualMessageCase_ == 12) {
+            return metricsSnapshotBuilder_.getMessage();
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      public Builder setMetricsSnapshot(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot value) {
+        if (metricsSnapshotBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          actualMessage_ = value;
+          onChanged();
+        } else {
+          metricsSnapshotBuilder_.setMessage(value);
+        }
+        actualMessageCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      public Builder setMetricsSnapshot(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.Builder builderForValue) {
+        if (metricsSnapshotBuilder_ == null) {
+          actualMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          metricsSnapshotBuilder_.setMessage(builderForValue.build());
+        }
+        actualMessageCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      public Builder mergeMetricsSnapshot(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot value) {
+        if (metricsSnapshotBuilder_ == null) {
+          if (actualMessageCase_ == 12 &&
+              actualMessage_ != com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance()) {
+            actualMessage_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.newBuilder((com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            actualMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (actualMessageCase_ == 12) {
+            metricsSnapshotBuilder_.mergeFrom(value);
+          }
+          metricsSnapshotBuilder_.setMessage(value);
+        }
+        actualMessageCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      public Builder clearMetricsSnapshot() {
+        if (metricsSnapshotBuilder_ == null) {
+          if (actualMessageCase_ == 12) {
+            actualMessageCase_ = 0;
+            actualMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (actualMessageCase_ == 12) {
+            actualMessageCase_ = 0;
+            actualMessage_ = null;
+          }
+          metricsSnapshotBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.Builder getMetricsSnapshotBuilder() {
+        return getMetricsSnapshotFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshotOrBuilder getMetricsSnapshotOrBuilder() {
+        if ((actualMessageCase_ == 12) && (metricsSnapshotBuilder_ != null)) {
+          return metricsSnapshotBuilder_.getMessageOrBuilder();
+        } else {
+          if (actualMessageCase_ == 12) {
+            return (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_;
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot metrics_snapshot = 12;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshotOrBuilder> 
+          getMetricsSnapshotFieldBuilder() {
+        if (metricsSnapshotBuilder_ == null) {
+          if (!(actualMessageCase_ == 12)) {
+            actualMessage_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance();
+          }
+          metricsSnapshotBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshotOrBuilder>(
+                  (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) actualMessage_,
+                  getParentForChildren(),
+                  isClean());
+          actualMessage_ = null;
+        }
+        actualMessageCase_ = 12;
+        return metricsSnapshotBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake, com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.HandshakeOrBuilder> handshakeBuilder_;
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      public boolean hasHandshake() {
+        return actualMessageCase_ == 13;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake getHandshake() {
+        if (handshakeBuilder_ == null) {
+          if (actualMessageCase_ == 13) {
+            return (com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_;
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance();
+        } else {
+          if (actualMessageCase_ == 13) {
+            return handshakeBuilder_.getMessage();
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      public Builder setHandshake(com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake value) {
+        if (handshakeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          actualMessage_ = value;
+          onChanged();
+        } else {
+          handshakeBuilder_.setMessage(value);
+        }
+        actualMessageCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      public Builder setHandshake(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.Builder builderForValue) {
+        if (handshakeBuilder_ == null) {
+          actualMessage_ = builderForValue.build();
+          onChanged();
+        } else {
+          handshakeBuilder_.setMessage(builderForValue.build());
+        }
+        actualMessageCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      public Builder mergeHandshake(com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake value) {
+        if (handshakeBuilder_ == null) {
+          if (actualMessageCase_ == 13 &&
+              actualMessage_ != com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance()) {
+            actualMessage_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.newBuilder((com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            actualMessage_ = value;
+          }
+          onChanged();
+        } else {
+          if (actualMessageCase_ == 13) {
+            handshakeBuilder_.mergeFrom(value);
+          }
+          handshakeBuilder_.setMessage(value);
+        }
+        actualMessageCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      public Builder clearHandshake() {
+        if (handshakeBuilder_ == null) {
+          if (actualMessageCase_ == 13) {
+            actualMessageCase_ = 0;
+            actualMessage_ = null;
+            onChanged();
+          }
+        } else {
+          if (actualMessageCase_ == 13) {
+            actualMessageCase_ = 0;
+            actualMessage_ = null;
+          }
+          handshakeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.Builder getHandshakeBuilder() {
+        return getHandshakeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.HandshakeOrBuilder getHandshakeOrBuilder() {
+        if ((actualMessageCase_ == 13) && (handshakeBuilder_ != null)) {
+          return handshakeBuilder_.getMessageOrBuilder();
+        } else {
+          if (actualMessageCase_ == 13) {
+            return (com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_;
+          }
+          return com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .com.amazonaws.services.kinesis.producer.protobuf.Handshake handshake = 13;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake, com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.HandshakeOrBuilder> 
+          getHandshakeFieldBuilder() {
+        if (handshakeBuilder_ == null) {
+          if (!(actualMessageCase_ == 13)) {
+            actualMessage_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance();
+          }
+          handshakeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake, com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.HandshakeOrBuilder>(
+                  (com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) actualMessage_,
+                  getParentForChildren(),
+                  isClean());
+          actualMessage_ = null;
+        }
+        actualMessageCase_ = 13;
+        return handshakeBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Message)
+    }
+
+    static {
+      defaultInstance = new Message(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Message)
+  }
+
+  public interface PutRecordOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.PutRecord)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string stream_name = 1;</code>
      */
     boolean hasStreamName();
     /**
-     * <code>required string stream_name = 1;</code>
+     * <code>optional string stream_name = 1;</code>
      */
     java.lang.String getStreamName();
     /**
-     * <code>required string stream_name = 1;</code>
+     * <code>optional string stream_name = 1;</code>
      */
     com.google.protobuf.ByteString
         getStreamNameBytes();
@@ -4743,9 +5619,34 @@ public final class Messages {
      * <code>required bytes data = 4;</code>
      */
     com.google.protobuf.ByteString getData();
+
+    /**
+     * <code>optional uint32 stream_id = 5;</code>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>optional uint32 stream_id = 5;</code>
+     */
+    int getStreamId();
+
+    /**
+     * <code>optional bytes explicit_hash_key_binary = 6;</code>
+     */
+    boolean hasExplicitHashKeyBinary();
+    /**
+     * <code>optional bytes explicit_hash_key_binary = 6;</code>
+     */
+    com.google.protobuf.ByteString getExplicitHashKeyBinary();
   }
   /**
    * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.PutRecord}
+   *
+   * <pre>
+   * Exactly one of stream_name and stream_id is set. stream_id refers to a
+   * stream previously announced with RegisterStream.
+   * At most one of explicit_hash_key and explicit_hash_key_binary is set. The
+   * binary form is the 128-bit key as 16 bytes, most significant byte first.
+   * </pre>
    */
   public static final class PutRecord extends
       com.google.protobuf.GeneratedMessage implements
@@ -4819,11 +5720,21 @@ public final class Messages {
               data_ = input.readBytes();
               break;
             }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
+            case 40: {
+              bitField0_ |= 0x00000010;
+              streamId_ = input.readUInt32();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              explicitHashKeyBinary_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
@@ -4862,13 +5773,13 @@ public final class Messages {
     public static final int STREAM_NAME_FIELD_NUMBER = 1;
     private java.lang.Object streamName_;
     /**
-     * <code>required string stream_name = 1;</code>
+     * <code>optional string stream_name = 1;</code>
      */
     public boolean hasStreamName() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string stream_name = 1;</code>
+     * <code>optional string stream_name = 1;</code>
      */
     public java.lang.String getStreamName() {
       java.lang.Object ref = streamName_;
@@ -4885,7 +5796,7 @@ public final class Messages {
       }
     }
     /**
-     * <code>required string stream_name = 1;</code>
+     * <code>optional string stream_name = 1;</code>
      */
     public com.google.protobuf.ByteString
         getStreamNameBytes() {
@@ -5000,11 +5911,43 @@ public final class Messages {
       return data_;
     }
 
+    public static final int STREAM_ID_FIELD_NUMBER = 5;
+    private int streamId_;
+    /**
+     * <code>optional uint32 stream_id = 5;</code>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional uint32 stream_id = 5;</code>
+     */
+    public int getStreamId() {
+      return streamId_;
+    }
+
+    public static final int EXPLICIT_HASH_KEY_BINARY_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString explicitHashKeyBinary_;
+    /**
+     * <code>optional bytes explicit_hash_key_binary = 6;</code>
+     */
+    public boolean hasExplicitHashKeyBinary() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bytes explicit_hash_key_binary = 6;</code>
+     */
+    public com.google.protobuf.ByteString getExplicitHashKeyBinary() {
+      return explicitHashKeyBinary_;
+    }
+
     private void initFields() {
       streamName_ = "";
       partitionKey_ = "";
       explicitHashKey_ = "";
       data_ = com.google.protobuf.ByteString.EMPTY;
+      streamId_ = 0;
+      explicitHashKeyBinary_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5012,10 +5955,6 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasStreamName()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       if (!hasPartitionKey()) {
         memoizedIsInitialized = 0;
         return false;
@@ -5043,6 +5982,12 @@ public final class Messages {
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         output.writeBytes(4, data_);
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeUInt32(5, streamId_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, explicitHashKeyBinary_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -5068,6 +6013,14 @@ public final class Messages {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(4, data_);
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, streamId_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, explicitHashKeyBinary_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -5148,6 +6101,13 @@ public final class Messages {
     }
     /**
      * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.PutRecord}
+     *
+     * <pre>
+     * Exactly one of stream_name and stream_id is set. stream_id refers to a
+     * stream previously announced with RegisterStream.
+     * At most one of explicit_hash_key and explicit_hash_key_binary is set. The
+     * binary form is the 128-bit key as 16 bytes, most significant byte first.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
@@ -5193,6 +6153,10 @@ public final class Messages {
         bitField0_ = (bitField0_ & ~0x00000004);
         data_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000008);
+        streamId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        explicitHashKeyBinary_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -5237,6 +6201,14 @@ public final class Messages {
           to_bitField0_ |= 0x00000008;
         }
         result.data_ = data_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.explicitHashKeyBinary_ = explicitHashKeyBinary_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -5271,15 +6243,17 @@ public final class Messages {
         if (other.hasData()) {
           setData(other.getData());
         }
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
+        if (other.hasExplicitHashKeyBinary()) {
+          setExplicitHashKeyBinary(other.getExplicitHashKeyBinary());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasStreamName()) {
-          
-          return false;
-        }
         if (!hasPartitionKey()) {
           
           return false;
@@ -5312,13 +6286,13 @@ public final class Messages {
 
       private java.lang.Object streamName_ = "";
       /**
-       * <code>required string stream_name = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
       public boolean hasStreamName() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string stream_name = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
       public java.lang.String getStreamName() {
         java.lang.Object ref = streamName_;
@@ -5335,7 +6309,7 @@ public final class Messages {
         }
       }
       /**
-       * <code>required string stream_name = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
       public com.google.protobuf.ByteString
           getStreamNameBytes() {
@@ -5351,7 +6325,7 @@ public final class Messages {
         }
       }
       /**
-       * <code>required string stream_name = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
       public Builder setStreamName(
           java.lang.String value) {
@@ -5364,7 +6338,7 @@ public final class Messages {
         return this;
       }
       /**
-       * <code>required string stream_name = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
       public Builder clearStreamName() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -5373,7 +6347,7 @@ public final class Messages {
         return this;
       }
       /**
-       * <code>required string stream_name = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
       public Builder setStreamNameBytes(
           com.google.protobuf.ByteString value) {
@@ -5573,6 +6547,73 @@ public final class Messages {
         return this;
       }
 
+      private int streamId_ ;
+      /**
+       * <code>optional uint32 stream_id = 5;</code>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional uint32 stream_id = 5;</code>
+       */
+      public int getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>optional uint32 stream_id = 5;</code>
+       */
+      public Builder setStreamId(int value) {
+        bitField0_ |= 0x00000010;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 stream_id = 5;</code>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        streamId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString explicitHashKeyBinary_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes explicit_hash_key_binary = 6;</code>
+       */
+      public boolean hasExplicitHashKeyBinary() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bytes explicit_hash_key_binary = 6;</code>
+       */
+      public com.google.protobuf.ByteString getExplicitHashKeyBinary() {
+        return explicitHashKeyBinary_;
+      }
+      /**
+       * <code>optional bytes explicit_hash_key_binary = 6;</code>
+       */
+      public Builder setExplicitHashKeyBinary(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        explicitHashKeyBinary_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes explicit_hash_key_binary = 6;</code>
+       */
+      public Builder clearExplicitHashKeyBinary() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        explicitHashKeyBinary_ = getDefaultInstance().getExplicitHashKeyBinary();
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.PutRecord)
     }
 
@@ -5584,44 +6625,58 @@ public final class Messages {
     // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.PutRecord)
   }
 
-  public interface FlushOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Flush)
+  public interface RegisterStreamOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.RegisterStream)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string stream_name = 1;</code>
+     * <code>required uint32 stream_id = 1;</code>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>required uint32 stream_id = 1;</code>
+     */
+    int getStreamId();
+
+    /**
+     * <code>required string stream_name = 2;</code>
      */
     boolean hasStreamName();
     /**
-     * <code>optional string stream_name = 1;</code>
+     * <code>required string stream_name = 2;</code>
      */
     java.lang.String getStreamName();
     /**
-     * <code>optional string stream_name = 1;</code>
+     * <code>required string stream_name = 2;</code>
      */
     com.google.protobuf.ByteString
         getStreamNameBytes();
   }
   /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Flush}
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.RegisterStream}
+   *
+   * <pre>
+   * Assigns a compact id to a stream name, so that PutRecord messages can refer
+   * to the stream by id instead of repeating its name.
+   * </pre>
    */
-  public static final class Flush extends
+  public static final class RegisterStream extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Flush)
-      FlushOrBuilder {
-    // Use Flush.newBuilder() to construct.
-    private Flush(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.RegisterStream)
+      RegisterStreamOrBuilder {
+    // Use RegisterStream.newBuilder() to construct.
+    private RegisterStream(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Flush(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private RegisterStream(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Flush defaultInstance;
-    public static Flush getDefaultInstance() {
+    private static final RegisterStream defaultInstance;
+    public static RegisterStream getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Flush getDefaultInstanceForType() {
+    public RegisterStream getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -5631,7 +6686,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Flush(
+    private RegisterStream(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5654,9 +6709,14 @@ public final class Messages {
               }
               break;
             }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 8: {
               bitField0_ |= 0x00000001;
+              streamId_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
               streamName_ = bs;
               break;
             }
@@ -5674,42 +6734,57 @@ public final class Messages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor;
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_fieldAccessorTable
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.Builder.class);
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Flush> PARSER =
-        new com.google.protobuf.AbstractParser<Flush>() {
-      public Flush parsePartialFrom(
+    public static com.google.protobuf.Parser<RegisterStream> PARSER =
+        new com.google.protobuf.AbstractParser<RegisterStream>() {
+      public RegisterStream parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Flush(input, extensionRegistry);
+        return new RegisterStream(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Flush> getParserForType() {
+    public com.google.protobuf.Parser<RegisterStream> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int STREAM_NAME_FIELD_NUMBER = 1;
+    public static final int STREAM_ID_FIELD_NUMBER = 1;
+    private int streamId_;
+    /**
+     * <code>required uint32 stream_id = 1;</code>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 stream_id = 1;</code>
+     */
+    public int getStreamId() {
+      return streamId_;
+    }
+
+    public static final int STREAM_NAME_FIELD_NUMBER = 2;
     private java.lang.Object streamName_;
     /**
-     * <code>optional string stream_name = 1;</code>
+     * <code>required string stream_name = 2;</code>
      */
     public boolean hasStreamName() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional string stream_name = 1;</code>
+     * <code>required string stream_name = 2;</code>
      */
     public java.lang.String getStreamName() {
       java.lang.Object ref = streamName_;
@@ -5726,7 +6801,7 @@ public final class Messages {
       }
     }
     /**
-     * <code>optional string stream_name = 1;</code>
+     * <code>required string stream_name = 2;</code>
      */
     public com.google.protobuf.ByteString
         getStreamNameBytes() {
@@ -5743,6 +6818,7 @@ public final class Messages {
     }
 
     private void initFields() {
+      streamId_ = 0;
       streamName_ = "";
     }
     private byte memoizedIsInitialized = -1;
@@ -5751,6 +6827,14 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      if (!hasStreamId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasStreamName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -5759,7 +6843,10 @@ public final class Messages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getStreamNameBytes());
+        output.writeUInt32(1, streamId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getStreamNameBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -5772,7 +6859,11 @@ public final class Messages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getStreamNameBytes());
+          .computeUInt32Size(1, streamId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getStreamNameBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5786,53 +6877,53 @@ public final class Messages {
       return super.writeReplace();
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(byte[] data)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseDelimitedFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseDelimitedFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5841,7 +6932,7 @@ public final class Messages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush prototype) {
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5853,25 +6944,30 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Flush}
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.RegisterStream}
+     *
+     * <pre>
+     * Assigns a compact id to a stream name, so that PutRecord messages can refer
+     * to the stream by id instead of repeating its name.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Flush)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.FlushOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.RegisterStream)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStreamOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_fieldAccessorTable
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.Builder.class);
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.Builder.class);
       }
 
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.newBuilder()
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5891,8 +6987,10 @@ public final class Messages {
 
       public Builder clear() {
         super.clear();
-        streamName_ = "";
+        streamId_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
+        streamName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -5902,28 +7000,32 @@ public final class Messages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_descriptor;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.getDefaultInstance();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance();
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush result = buildPartial();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush(this);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
         result.streamName_ = streamName_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
@@ -5931,18 +7033,21 @@ public final class Messages {
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush)other);
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream.getDefaultInstance()) return this;
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
         if (other.hasStreamName()) {
-          bitField0_ |= 0x00000001;
+          bitField0_ |= 0x00000002;
           streamName_ = other.streamName_;
           onChanged();
         }
@@ -5951,6 +7056,14 @@ public final class Messages {
       }
 
       public final boolean isInitialized() {
+        if (!hasStreamId()) {
+          
+          return false;
+        }
+        if (!hasStreamName()) {
+          
+          return false;
+        }
         return true;
       }
 
@@ -5958,11 +7071,11 @@ public final class Messages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parsedMessage = null;
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush) e.getUnfinishedMessage();
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.RegisterStream) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5973,15 +7086,47 @@ public final class Messages {
       }
       private int bitField0_;
 
+      private int streamId_ ;
+      /**
+       * <code>required uint32 stream_id = 1;</code>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 stream_id = 1;</code>
+       */
+      public int getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>required uint32 stream_id = 1;</code>
+       */
+      public Builder setStreamId(int value) {
+        bitField0_ |= 0x00000001;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 stream_id = 1;</code>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        streamId_ = 0;
+        onChanged();
+        return this;
+      }
+
       private java.lang.Object streamName_ = "";
       /**
-       * <code>optional string stream_name = 1;</code>
+       * <code>required string stream_name = 2;</code>
        */
       public boolean hasStreamName() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional string stream_name = 1;</code>
+       * <code>required string stream_name = 2;</code>
        */
       public java.lang.String getStreamName() {
         java.lang.Object ref = streamName_;
@@ -5998,7 +7143,7 @@ public final class Messages {
         }
       }
       /**
-       * <code>optional string stream_name = 1;</code>
+       * <code>required string stream_name = 2;</code>
        */
       public com.google.protobuf.ByteString
           getStreamNameBytes() {
@@ -6014,131 +7159,118 @@ public final class Messages {
         }
       }
       /**
-       * <code>optional string stream_name = 1;</code>
+       * <code>required string stream_name = 2;</code>
        */
       public Builder setStreamName(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
+  bitField0_ |= 0x00000002;
         streamName_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string stream_name = 1;</code>
+       * <code>required string stream_name = 2;</code>
        */
       public Builder clearStreamName() {
-        bitField0_ = (bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000002);
         streamName_ = getDefaultInstance().getStreamName();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string stream_name = 1;</code>
+       * <code>required string stream_name = 2;</code>
        */
       public Builder setStreamNameBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
+  bitField0_ |= 0x00000002;
         streamName_ = value;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Flush)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.RegisterStream)
     }
 
     static {
-      defaultInstance = new Flush(true);
+      defaultInstance = new RegisterStream(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Flush)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.RegisterStream)
   }
 
-  public interface AttemptOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
+  public interface PutRecordBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required uint32 delay = 1;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    boolean hasDelay();
+    java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord> 
+        getRecordsList();
     /**
-     * <code>required uint32 delay = 1;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    int getDelay();
-
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord getRecords(int index);
     /**
-     * <code>required uint32 duration = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    boolean hasDuration();
-    /**
-     * <code>required uint32 duration = 2;</code>
-     */
-    int getDuration();
-
-    /**
-     * <code>required bool success = 3;</code>
-     */
-    boolean hasSuccess();
-    /**
-     * <code>required bool success = 3;</code>
-     */
-    boolean getSuccess();
-
-    /**
-     * <code>optional string error_code = 4;</code>
-     */
-    boolean hasErrorCode();
+    int getRecordsCount();
     /**
-     * <code>optional string error_code = 4;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    java.lang.String getErrorCode();
+    java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder> 
+        getRecordsOrBuilderList();
     /**
-     * <code>optional string error_code = 4;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getErrorCodeBytes();
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder getRecordsOrBuilder(
+        int index);
 
     /**
-     * <code>optional string error_message = 5;</code>
+     * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
      */
-    boolean hasErrorMessage();
+    java.util.List<java.lang.Integer> getIdOffsetsList();
     /**
-     * <code>optional string error_message = 5;</code>
+     * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
      */
-    java.lang.String getErrorMessage();
+    int getIdOffsetsCount();
     /**
-     * <code>optional string error_message = 5;</code>
+     * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
      */
-    com.google.protobuf.ByteString
-        getErrorMessageBytes();
+    int getIdOffsets(int index);
   }
   /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Attempt}
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch}
+   *
+   * <pre>
+   * Several records in one message. The id of records[i] is the id of the
+   * enclosing Message plus id_offsets[i]; the two lists have the same length.
+   * </pre>
    */
-  public static final class Attempt extends
+  public static final class PutRecordBatch extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
-      AttemptOrBuilder {
-    // Use Attempt.newBuilder() to construct.
-    private Attempt(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch)
+      PutRecordBatchOrBuilder {
+    // Use PutRecordBatch.newBuilder() to construct.
+    private PutRecordBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Attempt(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private PutRecordBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Attempt defaultInstance;
-    public static Attempt getDefaultInstance() {
+    private static final PutRecordBatch defaultInstance;
+    public static PutRecordBatch getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Attempt getDefaultInstanceForType() {
+    public PutRecordBatch getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -6148,7 +7280,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Attempt(
+    private PutRecordBatch(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6171,31 +7303,33 @@ public final class Messages {
               }
               break;
             }
-            case 8: {
-              bitField0_ |= 0x00000001;
-              delay_ = input.readUInt32();
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                records_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              records_.add(input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.PARSER, extensionRegistry));
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              duration_ = input.readUInt32();
-              break;
-            }
-            case 24: {
-              bitField0_ |= 0x00000004;
-              success_ = input.readBool();
-              break;
-            }
-            case 34: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000008;
-              errorCode_ = bs;
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                idOffsets_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              idOffsets_.add(input.readUInt32());
               break;
             }
-            case 42: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000010;
-              errorMessage_ = bs;
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                idOffsets_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                idOffsets_.add(input.readUInt32());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -6206,173 +7340,104 @@ public final class Messages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          records_ = java.util.Collections.unmodifiableList(records_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          idOffsets_ = java.util.Collections.unmodifiableList(idOffsets_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_descriptor;
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_fieldAccessorTable
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder.class);
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Attempt> PARSER =
-        new com.google.protobuf.AbstractParser<Attempt>() {
-      public Attempt parsePartialFrom(
+    public static com.google.protobuf.Parser<PutRecordBatch> PARSER =
+        new com.google.protobuf.AbstractParser<PutRecordBatch>() {
+      public PutRecordBatch parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Attempt(input, extensionRegistry);
+        return new PutRecordBatch(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Attempt> getParserForType() {
+    public com.google.protobuf.Parser<PutRecordBatch> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    public static final int DELAY_FIELD_NUMBER = 1;
-    private int delay_;
-    /**
-     * <code>required uint32 delay = 1;</code>
-     */
-    public boolean hasDelay() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>required uint32 delay = 1;</code>
-     */
-    public int getDelay() {
-      return delay_;
-    }
-
-    public static final int DURATION_FIELD_NUMBER = 2;
-    private int duration_;
-    /**
-     * <code>required uint32 duration = 2;</code>
-     */
-    public boolean hasDuration() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required uint32 duration = 2;</code>
-     */
-    public int getDuration() {
-      return duration_;
-    }
-
-    public static final int SUCCESS_FIELD_NUMBER = 3;
-    private boolean success_;
+    public static final int RECORDS_FIELD_NUMBER = 1;
+    private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord> records_;
     /**
-     * <code>required bool success = 3;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    public boolean hasSuccess() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord> getRecordsList() {
+      return records_;
     }
     /**
-     * <code>required bool success = 3;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    public boolean getSuccess() {
-      return success_;
+    public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder> 
+        getRecordsOrBuilderList() {
+      return records_;
     }
-
-    public static final int ERROR_CODE_FIELD_NUMBER = 4;
-    private java.lang.Object errorCode_;
     /**
-     * <code>optional string error_code = 4;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    public boolean hasErrorCode() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    public int getRecordsCount() {
+      return records_.size();
     }
     /**
-     * <code>optional string error_code = 4;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    public java.lang.String getErrorCode() {
-      java.lang.Object ref = errorCode_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          errorCode_ = s;
-        }
-        return s;
-      }
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord getRecords(int index) {
+      return records_.get(index);
     }
     /**
-     * <code>optional string error_code = 4;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getErrorCodeBytes() {
-      java.lang.Object ref = errorCode_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        errorCode_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder getRecordsOrBuilder(
+        int index) {
+      return records_.get(index);
     }
 
-    public static final int ERROR_MESSAGE_FIELD_NUMBER = 5;
-    private java.lang.Object errorMessage_;
+    public static final int ID_OFFSETS_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> idOffsets_;
     /**
-     * <code>optional string error_message = 5;</code>
+     * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
      */
-    public boolean hasErrorMessage() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+    public java.util.List<java.lang.Integer>
+        getIdOffsetsList() {
+      return idOffsets_;
     }
     /**
-     * <code>optional string error_message = 5;</code>
+     * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
      */
-    public java.lang.String getErrorMessage() {
-      java.lang.Object ref = errorMessage_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          errorMessage_ = s;
-        }
-        return s;
-      }
+    public int getIdOffsetsCount() {
+      return idOffsets_.size();
     }
     /**
-     * <code>optional string error_message = 5;</code>
+     * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
      */
-    public com.google.protobuf.ByteString
-        getErrorMessageBytes() {
-      java.lang.Object ref = errorMessage_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        errorMessage_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getIdOffsets(int index) {
+      return idOffsets_.get(index);
     }
+    private int idOffsetsMemoizedSerializedSize = -1;
 
     private void initFields() {
-      delay_ = 0;
-      duration_ = 0;
-      success_ = false;
-      errorCode_ = "";
-      errorMessage_ = "";
+      records_ = java.util.Collections.emptyList();
+      idOffsets_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6380,17 +7445,11 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasDelay()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasDuration()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasSuccess()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getRecordsCount(); i++) {
+        if (!getRecords(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -6399,20 +7458,15 @@ public final class Messages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeUInt32(1, delay_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeUInt32(2, duration_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBool(3, success_);
+      for (int i = 0; i < records_.size(); i++) {
+        output.writeMessage(1, records_.get(i));
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBytes(4, getErrorCodeBytes());
+      if (getIdOffsetsList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(idOffsetsMemoizedSerializedSize);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeBytes(5, getErrorMessageBytes());
+      for (int i = 0; i < idOffsets_.size(); i++) {
+        output.writeUInt32NoTag(idOffsets_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -6423,25 +7477,23 @@ public final class Messages {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, delay_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(2, duration_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      for (int i = 0; i < records_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, success_);
+          .computeMessageSize(1, records_.get(i));
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getErrorCodeBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(5, getErrorMessageBytes());
+      {
+        int dataSize = 0;
+        for (int i = 0; i < idOffsets_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(idOffsets_.get(i));
+        }
+        size += dataSize;
+        if (!getIdOffsetsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idOffsetsMemoizedSerializedSize = dataSize;
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -6455,53 +7507,53 @@ public final class Messages {
       return super.writeReplace();
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(byte[] data)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseDelimitedFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseDelimitedFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6510,7 +7562,7 @@ public final class Messages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt prototype) {
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -6522,25 +7574,30 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Attempt}
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch}
+     *
+     * <pre>
+     * Several records in one message. The id of records[i] is the id of the
+     * enclosing Message plus id_offsets[i]; the two lists have the same length.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatchOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_fieldAccessorTable
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder.class);
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.Builder.class);
       }
 
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.newBuilder()
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6552,6 +7609,7 @@ public final class Messages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getRecordsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -6560,16 +7618,14 @@ public final class Messages {
 
       public Builder clear() {
         super.clear();
-        delay_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        duration_ = 0;
+        if (recordsBuilder_ == null) {
+          records_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          recordsBuilder_.clear();
+        }
+        idOffsets_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
-        success_ = false;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        errorCode_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
-        errorMessage_ = "";
-        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -6579,78 +7635,87 @@ public final class Messages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_descriptor;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.getDefaultInstance();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance();
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt result = buildPartial();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt(this);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.delay_ = delay_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.duration_ = duration_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.success_ = success_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
+        if (recordsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            records_ = java.util.Collections.unmodifiableList(records_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.records_ = records_;
+        } else {
+          result.records_ = recordsBuilder_.build();
         }
-        result.errorCode_ = errorCode_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          idOffsets_ = java.util.Collections.unmodifiableList(idOffsets_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
-        result.errorMessage_ = errorMessage_;
-        result.bitField0_ = to_bitField0_;
+        result.idOffsets_ = idOffsets_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt)other);
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.getDefaultInstance()) return this;
-        if (other.hasDelay()) {
-          setDelay(other.getDelay());
-        }
-        if (other.hasDuration()) {
-          setDuration(other.getDuration());
-        }
-        if (other.hasSuccess()) {
-          setSuccess(other.getSuccess());
-        }
-        if (other.hasErrorCode()) {
-          bitField0_ |= 0x00000008;
-          errorCode_ = other.errorCode_;
-          onChanged();
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch.getDefaultInstance()) return this;
+        if (recordsBuilder_ == null) {
+          if (!other.records_.isEmpty()) {
+            if (records_.isEmpty()) {
+              records_ = other.records_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRecordsIsMutable();
+              records_.addAll(other.records_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.records_.isEmpty()) {
+            if (recordsBuilder_.isEmpty()) {
+              recordsBuilder_.dispose();
+              recordsBuilder_ = null;
+              records_ = other.records_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              recordsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRecordsFieldBuilder() : null;
+            } else {
+              recordsBuilder_.addAllMessages(other.records_);
+            }
+          }
         }
-        if (other.hasErrorMessage()) {
-          bitField0_ |= 0x00000010;
-          errorMessage_ = other.errorMessage_;
+        if (!other.idOffsets_.isEmpty()) {
+          if (idOffsets_.isEmpty()) {
+            idOffsets_ = other.idOffsets_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureIdOffsetsIsMutable();
+            idOffsets_.addAll(other.idOffsets_);
+          }
           onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
@@ -6658,17 +7723,11 @@ public final class Messages {
       }
 
       public final boolean isInitialized() {
-        if (!hasDelay()) {
-          
-          return false;
-        }
-        if (!hasDuration()) {
-          
-          return false;
-        }
-        if (!hasSuccess()) {
-          
-          return false;
+        for (int i = 0; i < getRecordsCount(); i++) {
+          if (!getRecords(i).isInitialized()) {
+            
+            return false;
+          }
         }
         return true;
       }
@@ -6677,11 +7736,11 @@ public final class Messages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parsedMessage = null;
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt) e.getUnfinishedMessage();
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -6692,350 +7751,361 @@ public final class Messages {
       }
       private int bitField0_;
 
-      private int delay_ ;
+      private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord> records_ =
+        java.util.Collections.emptyList();
+      private void ensureRecordsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          records_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord>(records_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder> recordsBuilder_;
+
       /**
-       * <code>required uint32 delay = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public boolean hasDelay() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord> getRecordsList() {
+        if (recordsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(records_);
+        } else {
+          return recordsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>required uint32 delay = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public int getDelay() {
-        return delay_;
+      public int getRecordsCount() {
+        if (recordsBuilder_ == null) {
+          return records_.size();
+        } else {
+          return recordsBuilder_.getCount();
+        }
       }
       /**
-       * <code>required uint32 delay = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder setDelay(int value) {
-        bitField0_ |= 0x00000001;
-        delay_ = value;
-        onChanged();
-        return this;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord getRecords(int index) {
+        if (recordsBuilder_ == null) {
+          return records_.get(index);
+        } else {
+          return recordsBuilder_.getMessage(index);
+        }
       }
       /**
-       * <code>required uint32 delay = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder clearDelay() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        delay_ = 0;
-        onChanged();
+      public Builder setRecords(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord value) {
+        if (recordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRecordsIsMutable();
+          records_.set(index, value);
+          onChanged();
+        } else {
+          recordsBuilder_.setMessage(index, value);
+        }
         return this;
       }
-
-      private int duration_ ;
       /**
-       * <code>required uint32 duration = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public boolean hasDuration() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder setRecords(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder builderForValue) {
+        if (recordsBuilder_ == null) {
+          ensureRecordsIsMutable();
+          records_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          recordsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>required uint32 duration = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public int getDuration() {
-        return duration_;
+      public Builder addRecords(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord value) {
+        if (recordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRecordsIsMutable();
+          records_.add(value);
+          onChanged();
+        } else {
+          recordsBuilder_.addMessage(value);
+        }
+        return this;
       }
       /**
-       * <code>required uint32 duration = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder setDuration(int value) {
-        bitField0_ |= 0x00000002;
-        duration_ = value;
-        onChanged();
+      public Builder addRecords(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord value) {
+        if (recordsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRecordsIsMutable();
+          records_.add(index, value);
+          onChanged();
+        } else {
+          recordsBuilder_.addMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>required uint32 duration = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder clearDuration() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        duration_ = 0;
-        onChanged();
+      public Builder addRecords(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder builderForValue) {
+        if (recordsBuilder_ == null) {
+          ensureRecordsIsMutable();
+          records_.add(builderForValue.build());
+          onChanged();
+        } else {
+          recordsBuilder_.addMessage(builderForValue.build());
+        }
         return this;
       }
-
-      private boolean success_ ;
       /**
-       * <code>required bool success = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public boolean hasSuccess() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public Builder addRecords(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder builderForValue) {
+        if (recordsBuilder_ == null) {
+          ensureRecordsIsMutable();
+          records_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          recordsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>required bool success = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public boolean getSuccess() {
-        return success_;
+      public Builder addAllRecords(
+          java.lang.Iterable<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord> values) {
+        if (recordsBuilder_ == null) {
+          ensureRecordsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, records_);
+          onChanged();
+        } else {
+          recordsBuilder_.addAllMessages(values);
+        }
+        return this;
       }
       /**
-       * <code>required bool success = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder setSuccess(boolean value) {
-        bitField0_ |= 0x00000004;
-        success_ = value;
-        onChanged();
+      public Builder clearRecords() {
+        if (recordsBuilder_ == null) {
+          records_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          recordsBuilder_.clear();
+        }
         return this;
       }
       /**
-       * <code>required bool success = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder clearSuccess() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        success_ = false;
-        onChanged();
+      public Builder removeRecords(int index) {
+        if (recordsBuilder_ == null) {
+          ensureRecordsIsMutable();
+          records_.remove(index);
+          onChanged();
+        } else {
+          recordsBuilder_.remove(index);
+        }
         return this;
       }
-
-      private java.lang.Object errorCode_ = "";
       /**
-       * <code>optional string error_code = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public boolean hasErrorCode() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder getRecordsBuilder(
+          int index) {
+        return getRecordsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional string error_code = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public java.lang.String getErrorCode() {
-        java.lang.Object ref = errorCode_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            errorCode_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder getRecordsOrBuilder(
+          int index) {
+        if (recordsBuilder_ == null) {
+          return records_.get(index);  } else {
+          return recordsBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>optional string error_code = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getErrorCodeBytes() {
-        java.lang.Object ref = errorCode_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          errorCode_ = b;
-          return b;
+      public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder> 
+           getRecordsOrBuilderList() {
+        if (recordsBuilder_ != null) {
+          return recordsBuilder_.getMessageOrBuilderList();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return java.util.Collections.unmodifiableList(records_);
         }
       }
       /**
-       * <code>optional string error_code = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder setErrorCode(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        errorCode_ = value;
-        onChanged();
-        return this;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder addRecordsBuilder() {
+        return getRecordsFieldBuilder().addBuilder(
+            com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.getDefaultInstance());
       }
       /**
-       * <code>optional string error_code = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder clearErrorCode() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        errorCode_ = getDefaultInstance().getErrorCode();
-        onChanged();
-        return this;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder addRecordsBuilder(
+          int index) {
+        return getRecordsFieldBuilder().addBuilder(
+            index, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.getDefaultInstance());
       }
       /**
-       * <code>optional string error_code = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.PutRecord records = 1;</code>
        */
-      public Builder setErrorCodeBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        errorCode_ = value;
-        onChanged();
-        return this;
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder> 
+           getRecordsBuilderList() {
+        return getRecordsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder> 
+          getRecordsFieldBuilder() {
+        if (recordsBuilder_ == null) {
+          recordsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordOrBuilder>(
+                  records_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          records_ = null;
+        }
+        return recordsBuilder_;
       }
 
-      private java.lang.Object errorMessage_ = "";
+      private java.util.List<java.lang.Integer> idOffsets_ = java.util.Collections.emptyList();
+      private void ensureIdOffsetsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          idOffsets_ = new java.util.ArrayList<java.lang.Integer>(idOffsets_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>optional string error_message = 5;</code>
+       * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
        */
-      public boolean hasErrorMessage() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      public java.util.List<java.lang.Integer>
+          getIdOffsetsList() {
+        return java.util.Collections.unmodifiableList(idOffsets_);
       }
       /**
-       * <code>optional string error_message = 5;</code>
+       * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
        */
-      public java.lang.String getErrorMessage() {
-        java.lang.Object ref = errorMessage_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            errorMessage_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public int getIdOffsetsCount() {
+        return idOffsets_.size();
       }
       /**
-       * <code>optional string error_message = 5;</code>
+       * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
        */
-      public com.google.protobuf.ByteString
-          getErrorMessageBytes() {
-        java.lang.Object ref = errorMessage_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          errorMessage_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public int getIdOffsets(int index) {
+        return idOffsets_.get(index);
       }
       /**
-       * <code>optional string error_message = 5;</code>
+       * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
        */
-      public Builder setErrorMessage(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
-        errorMessage_ = value;
+      public Builder setIdOffsets(
+          int index, int value) {
+        ensureIdOffsetsIsMutable();
+        idOffsets_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional string error_message = 5;</code>
+       * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
        */
-      public Builder clearErrorMessage() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        errorMessage_ = getDefaultInstance().getErrorMessage();
+      public Builder addIdOffsets(int value) {
+        ensureIdOffsetsIsMutable();
+        idOffsets_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional string error_message = 5;</code>
+       * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
        */
-      public Builder setErrorMessageBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000010;
-        errorMessage_ = value;
+      public Builder addAllIdOffsets(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureIdOffsetsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, idOffsets_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 id_offsets = 2 [packed = true];</code>
+       */
+      public Builder clearIdOffsets() {
+        idOffsets_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch)
     }
 
     static {
-      defaultInstance = new Attempt(true);
+      defaultInstance = new PutRecordBatch(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.PutRecordBatch)
   }
 
-  public interface PutRecordResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
+  public interface FlushOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Flush)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-     */
-    java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> 
-        getAttemptsList();
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-     */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt getAttempts(int index);
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     * <code>optional string stream_name = 1;</code>
      */
-    int getAttemptsCount();
+    boolean hasStreamName();
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     * <code>optional string stream_name = 1;</code>
      */
-    java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> 
-        getAttemptsOrBuilderList();
+    java.lang.String getStreamName();
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     * <code>optional string stream_name = 1;</code>
      */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder getAttemptsOrBuilder(
-        int index);
+    com.google.protobuf.ByteString
+        getStreamNameBytes();
+  }
+  /**
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Flush}
+   */
+  public static final class Flush extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Flush)
+      FlushOrBuilder {
+    // Use Flush.newBuilder() to construct.
+    private Flush(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Flush(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    /**
-     * <code>required bool success = 2;</code>
-     */
-    boolean hasSuccess();
-    /**
-     * <code>required bool success = 2;</code>
-     */
-    boolean getSuccess();
+    private static final Flush defaultInstance;
+    public static Flush getDefaultInstance() {
+      return defaultInstance;
+    }
 
-    /**
-     * <code>optional string shard_id = 3;</code>
-     */
-    boolean hasShardId();
-    /**
-     * <code>optional string shard_id = 3;</code>
-     */
-    java.lang.String getShardId();
-    /**
-     * <code>optional string shard_id = 3;</code>
-     */
-    com.google.protobuf.ByteString
-        getShardIdBytes();
-
-    /**
-     * <code>optional string sequence_number = 4;</code>
-     */
-    boolean hasSequenceNumber();
-    /**
-     * <code>optional string sequence_number = 4;</code>
-     */
-    java.lang.String getSequenceNumber();
-    /**
-     * <code>optional string sequence_number = 4;</code>
-     */
-    com.google.protobuf.ByteString
-        getSequenceNumberBytes();
-  }
-  /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult}
-   */
-  public static final class PutRecordResult extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
-      PutRecordResultOrBuilder {
-    // Use PutRecordResult.newBuilder() to construct.
-    private PutRecordResult(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private PutRecordResult(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-    private static final PutRecordResult defaultInstance;
-    public static PutRecordResult getDefaultInstance() {
-      return defaultInstance;
-    }
-
-    public PutRecordResult getDefaultInstanceForType() {
+    public Flush getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -7045,7 +8115,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private PutRecordResult(
+    private Flush(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7069,28 +8139,9 @@ public final class Messages {
               break;
             }
             case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                attempts_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              attempts_.add(input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.PARSER, extensionRegistry));
-              break;
-            }
-            case 16: {
-              bitField0_ |= 0x00000001;
-              success_ = input.readBool();
-              break;
-            }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              shardId_ = bs;
-              break;
-            }
-            case 34: {
               com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000004;
-              sequenceNumber_ = bs;
+              bitField0_ |= 0x00000001;
+              streamName_ = bs;
               break;
             }
           }
@@ -7101,146 +8152,51 @@ public final class Messages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          attempts_ = java.util.Collections.unmodifiableList(attempts_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_descriptor;
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_fieldAccessorTable
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.Builder.class);
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<PutRecordResult> PARSER =
-        new com.google.protobuf.AbstractParser<PutRecordResult>() {
-      public PutRecordResult parsePartialFrom(
+    public static com.google.protobuf.Parser<Flush> PARSER =
+        new com.google.protobuf.AbstractParser<Flush>() {
+      public Flush parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new PutRecordResult(input, extensionRegistry);
+        return new Flush(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<PutRecordResult> getParserForType() {
+    public com.google.protobuf.Parser<Flush> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int ATTEMPTS_FIELD_NUMBER = 1;
-    private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> attempts_;
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-     */
-    public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> getAttemptsList() {
-      return attempts_;
-    }
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-     */
-    public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> 
-        getAttemptsOrBuilderList() {
-      return attempts_;
-    }
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-     */
-    public int getAttemptsCount() {
-      return attempts_.size();
-    }
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-     */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt getAttempts(int index) {
-      return attempts_.get(index);
-    }
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-     */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder getAttemptsOrBuilder(
-        int index) {
-      return attempts_.get(index);
-    }
-
-    public static final int SUCCESS_FIELD_NUMBER = 2;
-    private boolean success_;
+    public static final int STREAM_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object streamName_;
     /**
-     * <code>required bool success = 2;</code>
+     * <code>optional string stream_name = 1;</code>
      */
-    public boolean hasSuccess() {
+    public boolean hasStreamName() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required bool success = 2;</code>
-     */
-    public boolean getSuccess() {
-      return success_;
-    }
-
-    public static final int SHARD_ID_FIELD_NUMBER = 3;
-    private java.lang.Object shardId_;
-    /**
-     * <code>optional string shard_id = 3;</code>
-     */
-    public boolean hasShardId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional string shard_id = 3;</code>
-     */
-    public java.lang.String getShardId() {
-      java.lang.Object ref = shardId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          shardId_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string shard_id = 3;</code>
-     */
-    public com.google.protobuf.ByteString
-        getShardIdBytes() {
-      java.lang.Object ref = shardId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        shardId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int SEQUENCE_NUMBER_FIELD_NUMBER = 4;
-    private java.lang.Object sequenceNumber_;
-    /**
-     * <code>optional string sequence_number = 4;</code>
-     */
-    public boolean hasSequenceNumber() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>optional string sequence_number = 4;</code>
+     * <code>optional string stream_name = 1;</code>
      */
-    public java.lang.String getSequenceNumber() {
-      java.lang.Object ref = sequenceNumber_;
+    public java.lang.String getStreamName() {
+      java.lang.Object ref = streamName_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -7248,22 +8204,22 @@ public final class Messages {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          sequenceNumber_ = s;
+          streamName_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>optional string sequence_number = 4;</code>
+     * <code>optional string stream_name = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getSequenceNumberBytes() {
-      java.lang.Object ref = sequenceNumber_;
+        getStreamNameBytes() {
+      java.lang.Object ref = streamName_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        sequenceNumber_ = b;
+        streamName_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -7271,10 +8227,7 @@ public final class Messages {
     }
 
     private void initFields() {
-      attempts_ = java.util.Collections.emptyList();
-      success_ = false;
-      shardId_ = "";
-      sequenceNumber_ = "";
+      streamName_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -7282,16 +8235,6 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasSuccess()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      for (int i = 0; i < getAttemptsCount(); i++) {
-        if (!getAttempts(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -7299,17 +8242,8 @@ public final class Messages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      for (int i = 0; i < attempts_.size(); i++) {
-        output.writeMessage(1, attempts_.get(i));
-      }
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(2, success_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(3, getShardIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(4, getSequenceNumberBytes());
+        output.writeBytes(1, getStreamNameBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -7320,21 +8254,9 @@ public final class Messages {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < attempts_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, attempts_.get(i));
-      }
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, success_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getShardIdBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getSequenceNumberBytes());
+          .computeBytesSize(1, getStreamNameBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -7348,53 +8270,53 @@ public final class Messages {
       return super.writeReplace();
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(byte[] data)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseDelimitedFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseDelimitedFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7403,7 +8325,7 @@ public final class Messages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult prototype) {
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -7415,25 +8337,25 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult}
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Flush}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Flush)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.FlushOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_fieldAccessorTable
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.Builder.class);
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.Builder.class);
       }
 
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.newBuilder()
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7445,7 +8367,6 @@ public final class Messages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getAttemptsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -7454,18 +8375,8 @@ public final class Messages {
 
       public Builder clear() {
         super.clear();
-        if (attemptsBuilder_ == null) {
-          attempts_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          attemptsBuilder_.clear();
-        }
-        success_ = false;
-        bitField0_ = (bitField0_ & ~0x00000002);
-        shardId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
-        sequenceNumber_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
+        streamName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
@@ -7475,99 +8386,48 @@ public final class Messages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.getDefaultInstance();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.getDefaultInstance();
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult result = buildPartial();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult(this);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (attemptsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            attempts_ = java.util.Collections.unmodifiableList(attempts_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.attempts_ = attempts_;
-        } else {
-          result.attempts_ = attemptsBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.success_ = success_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.shardId_ = shardId_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.sequenceNumber_ = sequenceNumber_;
+        result.streamName_ = streamName_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult)other);
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.getDefaultInstance()) return this;
-        if (attemptsBuilder_ == null) {
-          if (!other.attempts_.isEmpty()) {
-            if (attempts_.isEmpty()) {
-              attempts_ = other.attempts_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureAttemptsIsMutable();
-              attempts_.addAll(other.attempts_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.attempts_.isEmpty()) {
-            if (attemptsBuilder_.isEmpty()) {
-              attemptsBuilder_.dispose();
-              attemptsBuilder_ = null;
-              attempts_ = other.attempts_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              attemptsBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getAttemptsFieldBuilder() : null;
-            } else {
-              attemptsBuilder_.addAllMessages(other.attempts_);
-            }
-          }
-        }
-        if (other.hasSuccess()) {
-          setSuccess(other.getSuccess());
-        }
-        if (other.hasShardId()) {
-          bitField0_ |= 0x00000004;
-          shardId_ = other.shardId_;
-          onChanged();
-        }
-        if (other.hasSequenceNumber()) {
-          bitField0_ |= 0x00000008;
-          sequenceNumber_ = other.sequenceNumber_;
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush.getDefaultInstance()) return this;
+        if (other.hasStreamName()) {
+          bitField0_ |= 0x00000001;
+          streamName_ = other.streamName_;
           onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
@@ -7575,16 +8435,6 @@ public final class Messages {
       }
 
       public final boolean isInitialized() {
-        if (!hasSuccess()) {
-          
-          return false;
-        }
-        for (int i = 0; i < getAttemptsCount(); i++) {
-          if (!getAttempts(i).isInitialized()) {
-            
-            return false;
-          }
-        }
         return true;
       }
 
@@ -7592,11 +8442,11 @@ public final class Messages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parsedMessage = null;
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult) e.getUnfinishedMessage();
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Flush) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -7607,296 +8457,3987 @@ public final class Messages {
       }
       private int bitField0_;
 
-      private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> attempts_ =
-        java.util.Collections.emptyList();
-      private void ensureAttemptsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          attempts_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt>(attempts_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> attemptsBuilder_;
-
+      private java.lang.Object streamName_ = "";
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
-      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> getAttemptsList() {
-        if (attemptsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(attempts_);
-        } else {
-          return attemptsBuilder_.getMessageList();
-        }
+      public boolean hasStreamName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
-      public int getAttemptsCount() {
-        if (attemptsBuilder_ == null) {
-          return attempts_.size();
+      public java.lang.String getStreamName() {
+        java.lang.Object ref = streamName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            streamName_ = s;
+          }
+          return s;
         } else {
-          return attemptsBuilder_.getCount();
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt getAttempts(int index) {
-        if (attemptsBuilder_ == null) {
-          return attempts_.get(index);
+      public com.google.protobuf.ByteString
+          getStreamNameBytes() {
+        java.lang.Object ref = streamName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          streamName_ = b;
+          return b;
         } else {
-          return attemptsBuilder_.getMessage(index);
+          return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
-      public Builder setAttempts(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt value) {
-        if (attemptsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureAttemptsIsMutable();
-          attempts_.set(index, value);
-          onChanged();
-        } else {
-          attemptsBuilder_.setMessage(index, value);
-        }
+      public Builder setStreamName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        streamName_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
-      public Builder setAttempts(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder builderForValue) {
-        if (attemptsBuilder_ == null) {
-          ensureAttemptsIsMutable();
-          attempts_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          attemptsBuilder_.setMessage(index, builderForValue.build());
-        }
+      public Builder clearStreamName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        streamName_ = getDefaultInstance().getStreamName();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       * <code>optional string stream_name = 1;</code>
        */
-      public Builder addAttempts(com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt value) {
-        if (attemptsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureAttemptsIsMutable();
-          attempts_.add(value);
-          onChanged();
-        } else {
-          attemptsBuilder_.addMessage(value);
-        }
+      public Builder setStreamNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        streamName_ = value;
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public Builder addAttempts(
+
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Flush)
+    }
+
+    static {
+      defaultInstance = new Flush(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Flush)
+  }
+
+  public interface AttemptOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required uint32 delay = 1;</code>
+     */
+    boolean hasDelay();
+    /**
+     * <code>required uint32 delay = 1;</code>
+     */
+    int getDelay();
+
+    /**
+     * <code>required uint32 duration = 2;</code>
+     */
+    boolean hasDuration();
+    /**
+     * <code>required uint32 duration = 2;</code>
+     */
+    int getDuration();
+
+    /**
+     * <code>required bool success = 3;</code>
+     */
+    boolean hasSuccess();
+    /**
+     * <code>required bool success = 3;</code>
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>optional string error_code = 4;</code>
+     */
+    boolean hasErrorCode();
+    /**
+     * <code>optional string error_code = 4;</code>
+     */
+    java.lang.String getErrorCode();
+    /**
+     * <code>optional string error_code = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getErrorCodeBytes();
+
+    /**
+     * <code>optional string error_message = 5;</code>
+     */
+    boolean hasErrorMessage();
+    /**
+     * <code>optional string error_message = 5;</code>
+     */
+    java.lang.String getErrorMessage();
+    /**
+     * <code>optional string error_message = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getErrorMessageBytes();
+  }
+  /**
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Attempt}
+   */
+  public static final class Attempt extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
+      AttemptOrBuilder {
+    // Use Attempt.newBuilder() to construct.
+    private Attempt(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Attempt(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Attempt defaultInstance;
+    public static Attempt getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Attempt getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Attempt(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              delay_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              duration_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              success_ = input.readBool();
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              errorCode_ = bs;
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              errorMessage_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Attempt> PARSER =
+        new com.google.protobuf.AbstractParser<Attempt>() {
+      public Attempt parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Attempt(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Attempt> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int DELAY_FIELD_NUMBER = 1;
+    private int delay_;
+    /**
+     * <code>required uint32 delay = 1;</code>
+     */
+    public boolean hasDelay() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required uint32 delay = 1;</code>
+     */
+    public int getDelay() {
+      return delay_;
+    }
+
+    public static final int DURATION_FIELD_NUMBER = 2;
+    private int duration_;
+    /**
+     * <code>required uint32 duration = 2;</code>
+     */
+    public boolean hasDuration() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required uint32 duration = 2;</code>
+     */
+    public int getDuration() {
+      return duration_;
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 3;
+    private boolean success_;
+    /**
+     * <code>required bool success = 3;</code>
+     */
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bool success = 3;</code>
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int ERROR_CODE_FIELD_NUMBER = 4;
+    private java.lang.Object errorCode_;
+    /**
+     * <code>optional string error_code = 4;</code>
+     */
+    public boolean hasErrorCode() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string error_code = 4;</code>
+     */
+    public java.lang.String getErrorCode() {
+      java.lang.Object ref = errorCode_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          errorCode_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string error_code = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getErrorCodeBytes() {
+      java.lang.Object ref = errorCode_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorCode_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ERROR_MESSAGE_FIELD_NUMBER = 5;
+    private java.lang.Object errorMessage_;
+    /**
+     * <code>optional string error_message = 5;</code>
+     */
+    public boolean hasErrorMessage() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string error_message = 5;</code>
+     */
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          errorMessage_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string error_message = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      delay_ = 0;
+      duration_ = 0;
+      success_ = false;
+      errorCode_ = "";
+      errorMessage_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasDelay()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDuration()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSuccess()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, delay_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(2, duration_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, success_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getErrorCodeBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getErrorMessageBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, delay_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, duration_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, success_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getErrorCodeBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getErrorMessageBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Attempt}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder.class);
+      }
+
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        delay_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        duration_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        success_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        errorCode_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        errorMessage_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_descriptor;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.getDefaultInstance();
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.delay_ = delay_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.duration_ = duration_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.success_ = success_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.errorCode_ = errorCode_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.errorMessage_ = errorMessage_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.getDefaultInstance()) return this;
+        if (other.hasDelay()) {
+          setDelay(other.getDelay());
+        }
+        if (other.hasDuration()) {
+          setDuration(other.getDuration());
+        }
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasErrorCode()) {
+          bitField0_ |= 0x00000008;
+          errorCode_ = other.errorCode_;
+          onChanged();
+        }
+        if (other.hasErrorMessage()) {
+          bitField0_ |= 0x00000010;
+          errorMessage_ = other.errorMessage_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasDelay()) {
+          
+          return false;
+        }
+        if (!hasDuration()) {
+          
+          return false;
+        }
+        if (!hasSuccess()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int delay_ ;
+      /**
+       * <code>required uint32 delay = 1;</code>
+       */
+      public boolean hasDelay() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required uint32 delay = 1;</code>
+       */
+      public int getDelay() {
+        return delay_;
+      }
+      /**
+       * <code>required uint32 delay = 1;</code>
+       */
+      public Builder setDelay(int value) {
+        bitField0_ |= 0x00000001;
+        delay_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 delay = 1;</code>
+       */
+      public Builder clearDelay() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        delay_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int duration_ ;
+      /**
+       * <code>required uint32 duration = 2;</code>
+       */
+      public boolean hasDuration() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required uint32 duration = 2;</code>
+       */
+      public int getDuration() {
+        return duration_;
+      }
+      /**
+       * <code>required uint32 duration = 2;</code>
+       */
+      public Builder setDuration(int value) {
+        bitField0_ |= 0x00000002;
+        duration_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required uint32 duration = 2;</code>
+       */
+      public Builder clearDuration() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        duration_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>required bool success = 3;</code>
+       */
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bool success = 3;</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>required bool success = 3;</code>
+       */
+      public Builder setSuccess(boolean value) {
+        bitField0_ |= 0x00000004;
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool success = 3;</code>
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errorCode_ = "";
+      /**
+       * <code>optional string error_code = 4;</code>
+       */
+      public boolean hasErrorCode() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string error_code = 4;</code>
+       */
+      public java.lang.String getErrorCode() {
+        java.lang.Object ref = errorCode_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            errorCode_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string error_code = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getErrorCodeBytes() {
+        java.lang.Object ref = errorCode_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorCode_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string error_code = 4;</code>
+       */
+      public Builder setErrorCode(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        errorCode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error_code = 4;</code>
+       */
+      public Builder clearErrorCode() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        errorCode_ = getDefaultInstance().getErrorCode();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error_code = 4;</code>
+       */
+      public Builder setErrorCodeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        errorCode_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object errorMessage_ = "";
+      /**
+       * <code>optional string error_message = 5;</code>
+       */
+      public boolean hasErrorMessage() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string error_message = 5;</code>
+       */
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            errorMessage_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string error_message = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string error_message = 5;</code>
+       */
+      public Builder setErrorMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error_message = 5;</code>
+       */
+      public Builder clearErrorMessage() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        errorMessage_ = getDefaultInstance().getErrorMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error_message = 5;</code>
+       */
+      public Builder setErrorMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
+    }
+
+    static {
+      defaultInstance = new Attempt(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Attempt)
+  }
+
+  public interface PutRecordResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> 
+        getAttemptsList();
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt getAttempts(int index);
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    int getAttemptsCount();
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> 
+        getAttemptsOrBuilderList();
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder getAttemptsOrBuilder(
+        int index);
+
+    /**
+     * <code>required bool success = 2;</code>
+     */
+    boolean hasSuccess();
+    /**
+     * <code>required bool success = 2;</code>
+     */
+    boolean getSuccess();
+
+    /**
+     * <code>optional string shard_id = 3;</code>
+     */
+    boolean hasShardId();
+    /**
+     * <code>optional string shard_id = 3;</code>
+     */
+    java.lang.String getShardId();
+    /**
+     * <code>optional string shard_id = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getShardIdBytes();
+
+    /**
+     * <code>optional string sequence_number = 4;</code>
+     */
+    boolean hasSequenceNumber();
+    /**
+     * <code>optional string sequence_number = 4;</code>
+     */
+    java.lang.String getSequenceNumber();
+    /**
+     * <code>optional string sequence_number = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getSequenceNumberBytes();
+  }
+  /**
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult}
+   */
+  public static final class PutRecordResult extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
+      PutRecordResultOrBuilder {
+    // Use PutRecordResult.newBuilder() to construct.
+    private PutRecordResult(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private PutRecordResult(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final PutRecordResult defaultInstance;
+    public static PutRecordResult getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public PutRecordResult getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PutRecordResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                attempts_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              attempts_.add(input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.PARSER, extensionRegistry));
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              success_ = input.readBool();
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              shardId_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              sequenceNumber_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          attempts_ = java.util.Collections.unmodifiableList(attempts_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<PutRecordResult> PARSER =
+        new com.google.protobuf.AbstractParser<PutRecordResult>() {
+      public PutRecordResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new PutRecordResult(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PutRecordResult> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int ATTEMPTS_FIELD_NUMBER = 1;
+    private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> attempts_;
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> getAttemptsList() {
+      return attempts_;
+    }
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> 
+        getAttemptsOrBuilderList() {
+      return attempts_;
+    }
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    public int getAttemptsCount() {
+      return attempts_.size();
+    }
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt getAttempts(int index) {
+      return attempts_.get(index);
+    }
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder getAttemptsOrBuilder(
+        int index) {
+      return attempts_.get(index);
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 2;
+    private boolean success_;
+    /**
+     * <code>required bool success = 2;</code>
+     */
+    public boolean hasSuccess() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required bool success = 2;</code>
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    public static final int SHARD_ID_FIELD_NUMBER = 3;
+    private java.lang.Object shardId_;
+    /**
+     * <code>optional string shard_id = 3;</code>
+     */
+    public boolean hasShardId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string shard_id = 3;</code>
+     */
+    public java.lang.String getShardId() {
+      java.lang.Object ref = shardId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          shardId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string shard_id = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getShardIdBytes() {
+      java.lang.Object ref = shardId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        shardId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SEQUENCE_NUMBER_FIELD_NUMBER = 4;
+    private java.lang.Object sequenceNumber_;
+    /**
+     * <code>optional string sequence_number = 4;</code>
+     */
+    public boolean hasSequenceNumber() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string sequence_number = 4;</code>
+     */
+    public java.lang.String getSequenceNumber() {
+      java.lang.Object ref = sequenceNumber_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          sequenceNumber_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string sequence_number = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSequenceNumberBytes() {
+      java.lang.Object ref = sequenceNumber_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sequenceNumber_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      attempts_ = java.util.Collections.emptyList();
+      success_ = false;
+      shardId_ = "";
+      sequenceNumber_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSuccess()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getAttemptsCount(); i++) {
+        if (!getAttempts(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < attempts_.size(); i++) {
+        output.writeMessage(1, attempts_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(2, success_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(3, getShardIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(4, getSequenceNumberBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < attempts_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, attempts_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, success_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getShardIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getSequenceNumberBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.Builder.class);
+      }
+
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getAttemptsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (attemptsBuilder_ == null) {
+          attempts_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          attemptsBuilder_.clear();
+        }
+        success_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        shardId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sequenceNumber_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_descriptor;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.getDefaultInstance();
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (attemptsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            attempts_ = java.util.Collections.unmodifiableList(attempts_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.attempts_ = attempts_;
+        } else {
+          result.attempts_ = attemptsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.success_ = success_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.shardId_ = shardId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.sequenceNumber_ = sequenceNumber_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult.getDefaultInstance()) return this;
+        if (attemptsBuilder_ == null) {
+          if (!other.attempts_.isEmpty()) {
+            if (attempts_.isEmpty()) {
+              attempts_ = other.attempts_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureAttemptsIsMutable();
+              attempts_.addAll(other.attempts_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attempts_.isEmpty()) {
+            if (attemptsBuilder_.isEmpty()) {
+              attemptsBuilder_.dispose();
+              attemptsBuilder_ = null;
+              attempts_ = other.attempts_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              attemptsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getAttemptsFieldBuilder() : null;
+            } else {
+              attemptsBuilder_.addAllMessages(other.attempts_);
+            }
+          }
+        }
+        if (other.hasSuccess()) {
+          setSuccess(other.getSuccess());
+        }
+        if (other.hasShardId()) {
+          bitField0_ |= 0x00000004;
+          shardId_ = other.shardId_;
+          onChanged();
+        }
+        if (other.hasSequenceNumber()) {
+          bitField0_ |= 0x00000008;
+          sequenceNumber_ = other.sequenceNumber_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSuccess()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getAttemptsCount(); i++) {
+          if (!getAttempts(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> attempts_ =
+        java.util.Collections.emptyList();
+      private void ensureAttemptsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          attempts_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt>(attempts_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> attemptsBuilder_;
+
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> getAttemptsList() {
+        if (attemptsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attempts_);
+        } else {
+          return attemptsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public int getAttemptsCount() {
+        if (attemptsBuilder_ == null) {
+          return attempts_.size();
+        } else {
+          return attemptsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt getAttempts(int index) {
+        if (attemptsBuilder_ == null) {
+          return attempts_.get(index);
+        } else {
+          return attemptsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder setAttempts(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt value) {
+        if (attemptsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttemptsIsMutable();
+          attempts_.set(index, value);
+          onChanged();
+        } else {
+          attemptsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder setAttempts(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder builderForValue) {
+        if (attemptsBuilder_ == null) {
+          ensureAttemptsIsMutable();
+          attempts_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attemptsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder addAttempts(com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt value) {
+        if (attemptsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttemptsIsMutable();
+          attempts_.add(value);
+          onChanged();
+        } else {
+          attemptsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder addAttempts(
           int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt value) {
         if (attemptsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureAttemptsIsMutable();
-          attempts_.add(index, value);
-          onChanged();
-        } else {
-          attemptsBuilder_.addMessage(index, value);
+          ensureAttemptsIsMutable();
+          attempts_.add(index, value);
+          onChanged();
+        } else {
+          attemptsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder addAttempts(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder builderForValue) {
+        if (attemptsBuilder_ == null) {
+          ensureAttemptsIsMutable();
+          attempts_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attemptsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder addAttempts(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder builderForValue) {
+        if (attemptsBuilder_ == null) {
+          ensureAttemptsIsMutable();
+          attempts_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attemptsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder addAllAttempts(
+          java.lang.Iterable<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> values) {
+        if (attemptsBuilder_ == null) {
+          ensureAttemptsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attempts_);
+          onChanged();
+        } else {
+          attemptsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder clearAttempts() {
+        if (attemptsBuilder_ == null) {
+          attempts_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          attemptsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public Builder removeAttempts(int index) {
+        if (attemptsBuilder_ == null) {
+          ensureAttemptsIsMutable();
+          attempts_.remove(index);
+          onChanged();
+        } else {
+          attemptsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder getAttemptsBuilder(
+          int index) {
+        return getAttemptsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder getAttemptsOrBuilder(
+          int index) {
+        if (attemptsBuilder_ == null) {
+          return attempts_.get(index);  } else {
+          return attemptsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> 
+           getAttemptsOrBuilderList() {
+        if (attemptsBuilder_ != null) {
+          return attemptsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attempts_);
+        }
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder addAttemptsBuilder() {
+        return getAttemptsFieldBuilder().addBuilder(
+            com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder addAttemptsBuilder(
+          int index) {
+        return getAttemptsFieldBuilder().addBuilder(
+            index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
+       */
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder> 
+           getAttemptsBuilderList() {
+        return getAttemptsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> 
+          getAttemptsFieldBuilder() {
+        if (attemptsBuilder_ == null) {
+          attemptsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder>(
+                  attempts_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          attempts_ = null;
+        }
+        return attemptsBuilder_;
+      }
+
+      private boolean success_ ;
+      /**
+       * <code>required bool success = 2;</code>
+       */
+      public boolean hasSuccess() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bool success = 2;</code>
+       */
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>required bool success = 2;</code>
+       */
+      public Builder setSuccess(boolean value) {
+        bitField0_ |= 0x00000002;
+        success_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool success = 2;</code>
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object shardId_ = "";
+      /**
+       * <code>optional string shard_id = 3;</code>
+       */
+      public boolean hasShardId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string shard_id = 3;</code>
+       */
+      public java.lang.String getShardId() {
+        java.lang.Object ref = shardId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            shardId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string shard_id = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getShardIdBytes() {
+        java.lang.Object ref = shardId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          shardId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string shard_id = 3;</code>
+       */
+      public Builder setShardId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        shardId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string shard_id = 3;</code>
+       */
+      public Builder clearShardId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        shardId_ = getDefaultInstance().getShardId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string shard_id = 3;</code>
+       */
+      public Builder setShardIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        shardId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sequenceNumber_ = "";
+      /**
+       * <code>optional string sequence_number = 4;</code>
+       */
+      public boolean hasSequenceNumber() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string sequence_number = 4;</code>
+       */
+      public java.lang.String getSequenceNumber() {
+        java.lang.Object ref = sequenceNumber_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            sequenceNumber_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string sequence_number = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSequenceNumberBytes() {
+        java.lang.Object ref = sequenceNumber_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sequenceNumber_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string sequence_number = 4;</code>
+       */
+      public Builder setSequenceNumber(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        sequenceNumber_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string sequence_number = 4;</code>
+       */
+      public Builder clearSequenceNumber() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        sequenceNumber_ = getDefaultInstance().getSequenceNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string sequence_number = 4;</code>
+       */
+      public Builder setSequenceNumberBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        sequenceNumber_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
+    }
+
+    static {
+      defaultInstance = new PutRecordResult(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
+  }
+
+  public interface CredentialsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string akid = 1;</code>
+     */
+    boolean hasAkid();
+    /**
+     * <code>required string akid = 1;</code>
+     */
+    java.lang.String getAkid();
+    /**
+     * <code>required string akid = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getAkidBytes();
+
+    /**
+     * <code>required string secret_key = 2;</code>
+     */
+    boolean hasSecretKey();
+    /**
+     * <code>required string secret_key = 2;</code>
+     */
+    java.lang.String getSecretKey();
+    /**
+     * <code>required string secret_key = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getSecretKeyBytes();
+
+    /**
+     * <code>optional string token = 3;</code>
+     */
+    boolean hasToken();
+    /**
+     * <code>optional string token = 3;</code>
+     */
+    java.lang.String getToken();
+    /**
+     * <code>optional string token = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getTokenBytes();
+  }
+  /**
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Credentials}
+   */
+  public static final class Credentials extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
+      CredentialsOrBuilder {
+    // Use Credentials.newBuilder() to construct.
+    private Credentials(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Credentials(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Credentials defaultInstance;
+    public static Credentials getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Credentials getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Credentials(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              akid_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              secretKey_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              token_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Credentials> PARSER =
+        new com.google.protobuf.AbstractParser<Credentials>() {
+      public Credentials parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Credentials(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Credentials> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int AKID_FIELD_NUMBER = 1;
+    private java.lang.Object akid_;
+    /**
+     * <code>required string akid = 1;</code>
+     */
+    public boolean hasAkid() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string akid = 1;</code>
+     */
+    public java.lang.String getAkid() {
+      java.lang.Object ref = akid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          akid_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string akid = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAkidBytes() {
+      java.lang.Object ref = akid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        akid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SECRET_KEY_FIELD_NUMBER = 2;
+    private java.lang.Object secretKey_;
+    /**
+     * <code>required string secret_key = 2;</code>
+     */
+    public boolean hasSecretKey() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string secret_key = 2;</code>
+     */
+    public java.lang.String getSecretKey() {
+      java.lang.Object ref = secretKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          secretKey_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string secret_key = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSecretKeyBytes() {
+      java.lang.Object ref = secretKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        secretKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TOKEN_FIELD_NUMBER = 3;
+    private java.lang.Object token_;
+    /**
+     * <code>optional string token = 3;</code>
+     */
+    public boolean hasToken() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string token = 3;</code>
+     */
+    public java.lang.String getToken() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          token_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string token = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTokenBytes() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        token_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      akid_ = "";
+      secretKey_ = "";
+      token_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasAkid()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSecretKey()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getAkidBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getSecretKeyBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getTokenBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getAkidBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getSecretKeyBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getTokenBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Credentials}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder.class);
+      }
+
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        akid_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        secretKey_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        token_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_descriptor;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.akid_ = akid_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.secretKey_ = secretKey_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.token_ = token_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance()) return this;
+        if (other.hasAkid()) {
+          bitField0_ |= 0x00000001;
+          akid_ = other.akid_;
+          onChanged();
+        }
+        if (other.hasSecretKey()) {
+          bitField0_ |= 0x00000002;
+          secretKey_ = other.secretKey_;
+          onChanged();
+        }
+        if (other.hasToken()) {
+          bitField0_ |= 0x00000004;
+          token_ = other.token_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasAkid()) {
+          
+          return false;
+        }
+        if (!hasSecretKey()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object akid_ = "";
+      /**
+       * <code>required string akid = 1;</code>
+       */
+      public boolean hasAkid() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string akid = 1;</code>
+       */
+      public java.lang.String getAkid() {
+        java.lang.Object ref = akid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            akid_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string akid = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAkidBytes() {
+        java.lang.Object ref = akid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          akid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string akid = 1;</code>
+       */
+      public Builder setAkid(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        akid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string akid = 1;</code>
+       */
+      public Builder clearAkid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        akid_ = getDefaultInstance().getAkid();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string akid = 1;</code>
+       */
+      public Builder setAkidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        akid_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object secretKey_ = "";
+      /**
+       * <code>required string secret_key = 2;</code>
+       */
+      public boolean hasSecretKey() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string secret_key = 2;</code>
+       */
+      public java.lang.String getSecretKey() {
+        java.lang.Object ref = secretKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            secretKey_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string secret_key = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSecretKeyBytes() {
+        java.lang.Object ref = secretKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          secretKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string secret_key = 2;</code>
+       */
+      public Builder setSecretKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        secretKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string secret_key = 2;</code>
+       */
+      public Builder clearSecretKey() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        secretKey_ = getDefaultInstance().getSecretKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string secret_key = 2;</code>
+       */
+      public Builder setSecretKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        secretKey_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object token_ = "";
+      /**
+       * <code>optional string token = 3;</code>
+       */
+      public boolean hasToken() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string token = 3;</code>
+       */
+      public java.lang.String getToken() {
+        java.lang.Object ref = token_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            token_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string token = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTokenBytes() {
+        java.lang.Object ref = token_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          token_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string token = 3;</code>
+       */
+      public Builder setToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        token_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string token = 3;</code>
+       */
+      public Builder clearToken() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        token_ = getDefaultInstance().getToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string token = 3;</code>
+       */
+      public Builder setTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        token_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
+    }
+
+    static {
+      defaultInstance = new Credentials(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
+  }
+
+  public interface SetCredentialsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional bool for_metrics = 1;</code>
+     */
+    boolean hasForMetrics();
+    /**
+     * <code>optional bool for_metrics = 1;</code>
+     */
+    boolean getForMetrics();
+
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     */
+    boolean hasCredentials();
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials getCredentials();
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder getCredentialsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.SetCredentials}
+   */
+  public static final class SetCredentials extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
+      SetCredentialsOrBuilder {
+    // Use SetCredentials.newBuilder() to construct.
+    private SetCredentials(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SetCredentials(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SetCredentials defaultInstance;
+    public static SetCredentials getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SetCredentials getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SetCredentials(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              forMetrics_ = input.readBool();
+              break;
+            }
+            case 18: {
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = credentials_.toBuilder();
+              }
+              credentials_ = input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(credentials_);
+                credentials_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SetCredentials> PARSER =
+        new com.google.protobuf.AbstractParser<SetCredentials>() {
+      public SetCredentials parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SetCredentials(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SetCredentials> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int FOR_METRICS_FIELD_NUMBER = 1;
+    private boolean forMetrics_;
+    /**
+     * <code>optional bool for_metrics = 1;</code>
+     */
+    public boolean hasForMetrics() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bool for_metrics = 1;</code>
+     */
+    public boolean getForMetrics() {
+      return forMetrics_;
+    }
+
+    public static final int CREDENTIALS_FIELD_NUMBER = 2;
+    private com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials credentials_;
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     */
+    public boolean hasCredentials() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials getCredentials() {
+      return credentials_;
+    }
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder getCredentialsOrBuilder() {
+      return credentials_;
+    }
+
+    private void initFields() {
+      forMetrics_ = false;
+      credentials_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasCredentials()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getCredentials().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(1, forMetrics_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, credentials_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, forMetrics_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, credentials_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.SetCredentials}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentialsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.Builder.class);
+      }
+
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCredentialsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        forMetrics_ = false;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (credentialsBuilder_ == null) {
+          credentials_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
+        } else {
+          credentialsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_descriptor;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.getDefaultInstance();
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.forMetrics_ = forMetrics_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (credentialsBuilder_ == null) {
+          result.credentials_ = credentials_;
+        } else {
+          result.credentials_ = credentialsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.getDefaultInstance()) return this;
+        if (other.hasForMetrics()) {
+          setForMetrics(other.getForMetrics());
+        }
+        if (other.hasCredentials()) {
+          mergeCredentials(other.getCredentials());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasCredentials()) {
+          
+          return false;
+        }
+        if (!getCredentials().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean forMetrics_ ;
+      /**
+       * <code>optional bool for_metrics = 1;</code>
+       */
+      public boolean hasForMetrics() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bool for_metrics = 1;</code>
+       */
+      public boolean getForMetrics() {
+        return forMetrics_;
+      }
+      /**
+       * <code>optional bool for_metrics = 1;</code>
+       */
+      public Builder setForMetrics(boolean value) {
+        bitField0_ |= 0x00000001;
+        forMetrics_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool for_metrics = 1;</code>
+       */
+      public Builder clearForMetrics() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        forMetrics_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials credentials_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder> credentialsBuilder_;
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      public boolean hasCredentials() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials getCredentials() {
+        if (credentialsBuilder_ == null) {
+          return credentials_;
+        } else {
+          return credentialsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      public Builder setCredentials(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials value) {
+        if (credentialsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          credentials_ = value;
+          onChanged();
+        } else {
+          credentialsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      public Builder setCredentials(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder builderForValue) {
+        if (credentialsBuilder_ == null) {
+          credentials_ = builderForValue.build();
+          onChanged();
+        } else {
+          credentialsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      public Builder mergeCredentials(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials value) {
+        if (credentialsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              credentials_ != com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance()) {
+            credentials_ =
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.newBuilder(credentials_).mergeFrom(value).buildPartial();
+          } else {
+            credentials_ = value;
+          }
+          onChanged();
+        } else {
+          credentialsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      public Builder clearCredentials() {
+        if (credentialsBuilder_ == null) {
+          credentials_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
+          onChanged();
+        } else {
+          credentialsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder getCredentialsBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getCredentialsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder getCredentialsOrBuilder() {
+        if (credentialsBuilder_ != null) {
+          return credentialsBuilder_.getMessageOrBuilder();
+        } else {
+          return credentials_;
+        }
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder> 
+          getCredentialsFieldBuilder() {
+        if (credentialsBuilder_ == null) {
+          credentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder>(
+                  getCredentials(),
+                  getParentForChildren(),
+                  isClean());
+          credentials_ = null;
+        }
+        return credentialsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
+    }
+
+    static {
+      defaultInstance = new SetCredentials(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
+  }
+
+  public interface DimensionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string key = 1;</code>
+     */
+    boolean hasKey();
+    /**
+     * <code>required string key = 1;</code>
+     */
+    java.lang.String getKey();
+    /**
+     * <code>required string key = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>required string value = 2;</code>
+     */
+    boolean hasValue();
+    /**
+     * <code>required string value = 2;</code>
+     */
+    java.lang.String getValue();
+    /**
+     * <code>required string value = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+  }
+  /**
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Dimension}
+   */
+  public static final class Dimension extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
+      DimensionOrBuilder {
+    // Use Dimension.newBuilder() to construct.
+    private Dimension(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Dimension(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Dimension defaultInstance;
+    public static Dimension getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Dimension getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Dimension(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              key_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              value_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Dimension> PARSER =
+        new com.google.protobuf.AbstractParser<Dimension>() {
+      public Dimension parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Dimension(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Dimension> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private java.lang.Object key_;
+    /**
+     * <code>required string key = 1;</code>
+     */
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string key = 1;</code>
+     */
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          key_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string key = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private java.lang.Object value_;
+    /**
+     * <code>required string value = 2;</code>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string value = 2;</code>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          value_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string value = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      key_ = "";
+      value_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasKey()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasValue()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getKeyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getValueBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getKeyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getValueBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Dimension}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder.class);
+      }
+
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        value_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public Builder addAttempts(
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder builderForValue) {
-        if (attemptsBuilder_ == null) {
-          ensureAttemptsIsMutable();
-          attempts_.add(builderForValue.build());
-          onChanged();
-        } else {
-          attemptsBuilder_.addMessage(builderForValue.build());
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_descriptor;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.getDefaultInstance();
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        return this;
+        return result;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public Builder addAttempts(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder builderForValue) {
-        if (attemptsBuilder_ == null) {
-          ensureAttemptsIsMutable();
-          attempts_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          attemptsBuilder_.addMessage(index, builderForValue.build());
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-        return this;
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.value_ = value_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public Builder addAllAttempts(
-          java.lang.Iterable<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt> values) {
-        if (attemptsBuilder_ == null) {
-          ensureAttemptsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, attempts_);
-          onChanged();
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension)other);
         } else {
-          attemptsBuilder_.addAllMessages(values);
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public Builder clearAttempts() {
-        if (attemptsBuilder_ == null) {
-          attempts_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000001;
+          key_ = other.key_;
           onChanged();
-        } else {
-          attemptsBuilder_.clear();
         }
-        return this;
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public Builder removeAttempts(int index) {
-        if (attemptsBuilder_ == null) {
-          ensureAttemptsIsMutable();
-          attempts_.remove(index);
+        if (other.hasValue()) {
+          bitField0_ |= 0x00000002;
+          value_ = other.value_;
           onChanged();
-        } else {
-          attemptsBuilder_.remove(index);
         }
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder getAttemptsBuilder(
-          int index) {
-        return getAttemptsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder getAttemptsOrBuilder(
-          int index) {
-        if (attemptsBuilder_ == null) {
-          return attempts_.get(index);  } else {
-          return attemptsBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> 
-           getAttemptsOrBuilderList() {
-        if (attemptsBuilder_ != null) {
-          return attemptsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(attempts_);
+
+      public final boolean isInitialized() {
+        if (!hasKey()) {
+          
+          return false;
         }
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder addAttemptsBuilder() {
-        return getAttemptsFieldBuilder().addBuilder(
-            com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder addAttemptsBuilder(
-          int index) {
-        return getAttemptsFieldBuilder().addBuilder(
-            index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Attempt attempts = 1;</code>
-       */
-      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder> 
-           getAttemptsBuilderList() {
-        return getAttemptsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder> 
-          getAttemptsFieldBuilder() {
-        if (attemptsBuilder_ == null) {
-          attemptsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt, com.amazonaws.services.kinesis.producer.protobuf.Messages.Attempt.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.AttemptOrBuilder>(
-                  attempts_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          attempts_ = null;
+        if (!hasValue()) {
+          
+          return false;
         }
-        return attemptsBuilder_;
+        return true;
       }
 
-      private boolean success_ ;
-      /**
-       * <code>required bool success = 2;</code>
-       */
-      public boolean hasSuccess() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required bool success = 2;</code>
-       */
-      public boolean getSuccess() {
-        return success_;
-      }
-      /**
-       * <code>required bool success = 2;</code>
-       */
-      public Builder setSuccess(boolean value) {
-        bitField0_ |= 0x00000002;
-        success_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required bool success = 2;</code>
-       */
-      public Builder clearSuccess() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        success_ = false;
-        onChanged();
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+      private int bitField0_;
 
-      private java.lang.Object shardId_ = "";
+      private java.lang.Object key_ = "";
       /**
-       * <code>optional string shard_id = 3;</code>
+       * <code>required string key = 1;</code>
        */
-      public boolean hasShardId() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string shard_id = 3;</code>
+       * <code>required string key = 1;</code>
        */
-      public java.lang.String getShardId() {
-        java.lang.Object ref = shardId_;
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            shardId_ = s;
+            key_ = s;
           }
           return s;
         } else {
@@ -7904,75 +12445,75 @@ public final class Messages {
         }
       }
       /**
-       * <code>optional string shard_id = 3;</code>
+       * <code>required string key = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getShardIdBytes() {
-        java.lang.Object ref = shardId_;
+          getKeyBytes() {
+        java.lang.Object ref = key_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          shardId_ = b;
+          key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string shard_id = 3;</code>
+       * <code>required string key = 1;</code>
        */
-      public Builder setShardId(
+      public Builder setKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000004;
-        shardId_ = value;
+  bitField0_ |= 0x00000001;
+        key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string shard_id = 3;</code>
+       * <code>required string key = 1;</code>
        */
-      public Builder clearShardId() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        shardId_ = getDefaultInstance().getShardId();
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string shard_id = 3;</code>
+       * <code>required string key = 1;</code>
        */
-      public Builder setShardIdBytes(
+      public Builder setKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000004;
-        shardId_ = value;
+  bitField0_ |= 0x00000001;
+        key_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object sequenceNumber_ = "";
+      private java.lang.Object value_ = "";
       /**
-       * <code>optional string sequence_number = 4;</code>
+       * <code>required string value = 2;</code>
        */
-      public boolean hasSequenceNumber() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional string sequence_number = 4;</code>
+       * <code>required string value = 2;</code>
        */
-      public java.lang.String getSequenceNumber() {
-        java.lang.Object ref = sequenceNumber_;
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
-            sequenceNumber_ = s;
+            value_ = s;
           }
           return s;
         } else {
@@ -7980,134 +12521,137 @@ public final class Messages {
         }
       }
       /**
-       * <code>optional string sequence_number = 4;</code>
+       * <code>required string value = 2;</code>
        */
       public com.google.protobuf.ByteString
-          getSequenceNumberBytes() {
-        java.lang.Object ref = sequenceNumber_;
+          getValueBytes() {
+        java.lang.Object ref = value_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          sequenceNumber_ = b;
+          value_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string sequence_number = 4;</code>
+       * <code>required string value = 2;</code>
        */
-      public Builder setSequenceNumber(
+      public Builder setValue(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000008;
-        sequenceNumber_ = value;
+  bitField0_ |= 0x00000002;
+        value_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string sequence_number = 4;</code>
+       * <code>required string value = 2;</code>
        */
-      public Builder clearSequenceNumber() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        sequenceNumber_ = getDefaultInstance().getSequenceNumber();
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = getDefaultInstance().getValue();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string sequence_number = 4;</code>
+       * <code>required string value = 2;</code>
        */
-      public Builder setSequenceNumberBytes(
+      public Builder setValueBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000008;
-        sequenceNumber_ = value;
+  bitField0_ |= 0x00000002;
+        value_ = value;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
     }
 
     static {
-      defaultInstance = new PutRecordResult(true);
+      defaultInstance = new Dimension(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.PutRecordResult)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
   }
 
-  public interface CredentialsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
+  public interface StatsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Stats)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string akid = 1;</code>
+     * <code>required double count = 1;</code>
      */
-    boolean hasAkid();
+    boolean hasCount();
     /**
-     * <code>required string akid = 1;</code>
+     * <code>required double count = 1;</code>
      */
-    java.lang.String getAkid();
+    double getCount();
+
     /**
-     * <code>required string akid = 1;</code>
+     * <code>required double sum = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getAkidBytes();
-
+    boolean hasSum();
     /**
-     * <code>required string secret_key = 2;</code>
+     * <code>required double sum = 2;</code>
      */
-    boolean hasSecretKey();
+    double getSum();
+
     /**
-     * <code>required string secret_key = 2;</code>
+     * <code>required double mean = 3;</code>
      */
-    java.lang.String getSecretKey();
+    boolean hasMean();
     /**
-     * <code>required string secret_key = 2;</code>
+     * <code>required double mean = 3;</code>
      */
-    com.google.protobuf.ByteString
-        getSecretKeyBytes();
+    double getMean();
 
     /**
-     * <code>optional string token = 3;</code>
+     * <code>required double min = 4;</code>
      */
-    boolean hasToken();
+    boolean hasMin();
     /**
-     * <code>optional string token = 3;</code>
+     * <code>required double min = 4;</code>
      */
-    java.lang.String getToken();
+    double getMin();
+
     /**
-     * <code>optional string token = 3;</code>
+     * <code>required double max = 5;</code>
      */
-    com.google.protobuf.ByteString
-        getTokenBytes();
+    boolean hasMax();
+    /**
+     * <code>required double max = 5;</code>
+     */
+    double getMax();
   }
   /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Credentials}
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Stats}
    */
-  public static final class Credentials extends
+  public static final class Stats extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
-      CredentialsOrBuilder {
-    // Use Credentials.newBuilder() to construct.
-    private Credentials(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Stats)
+      StatsOrBuilder {
+    // Use Stats.newBuilder() to construct.
+    private Stats(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Credentials(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Stats(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Credentials defaultInstance;
-    public static Credentials getDefaultInstance() {
+    private static final Stats defaultInstance;
+    public static Stats getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Credentials getDefaultInstanceForType() {
+    public Stats getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -8117,7 +12661,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Credentials(
+    private Stats(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8140,22 +12684,29 @@ public final class Messages {
               }
               break;
             }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 9: {
               bitField0_ |= 0x00000001;
-              akid_ = bs;
+              count_ = input.readDouble();
               break;
             }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 17: {
               bitField0_ |= 0x00000002;
-              secretKey_ = bs;
+              sum_ = input.readDouble();
               break;
             }
-            case 26: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 25: {
               bitField0_ |= 0x00000004;
-              token_ = bs;
+              mean_ = input.readDouble();
+              break;
+            }
+            case 33: {
+              bitField0_ |= 0x00000008;
+              min_ = input.readDouble();
+              break;
+            }
+            case 41: {
+              bitField0_ |= 0x00000010;
+              max_ = input.readDouble();
               break;
             }
           }
@@ -8172,162 +12723,113 @@ public final class Messages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_descriptor;
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_fieldAccessorTable
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder.class);
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Credentials> PARSER =
-        new com.google.protobuf.AbstractParser<Credentials>() {
-      public Credentials parsePartialFrom(
+    public static com.google.protobuf.Parser<Stats> PARSER =
+        new com.google.protobuf.AbstractParser<Stats>() {
+      public Stats parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Credentials(input, extensionRegistry);
+        return new Stats(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Credentials> getParserForType() {
+    public com.google.protobuf.Parser<Stats> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int AKID_FIELD_NUMBER = 1;
-    private java.lang.Object akid_;
-    /**
-     * <code>required string akid = 1;</code>
-     */
-    public boolean hasAkid() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
+    public static final int COUNT_FIELD_NUMBER = 1;
+    private double count_;
     /**
-     * <code>required string akid = 1;</code>
-     */
-    public java.lang.String getAkid() {
-      java.lang.Object ref = akid_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          akid_ = s;
-        }
-        return s;
-      }
+     * <code>required double count = 1;</code>
+     */
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string akid = 1;</code>
+     * <code>required double count = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getAkidBytes() {
-      java.lang.Object ref = akid_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        akid_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public double getCount() {
+      return count_;
     }
 
-    public static final int SECRET_KEY_FIELD_NUMBER = 2;
-    private java.lang.Object secretKey_;
+    public static final int SUM_FIELD_NUMBER = 2;
+    private double sum_;
     /**
-     * <code>required string secret_key = 2;</code>
+     * <code>required double sum = 2;</code>
      */
-    public boolean hasSecretKey() {
+    public boolean hasSum() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required string secret_key = 2;</code>
+     * <code>required double sum = 2;</code>
      */
-    public java.lang.String getSecretKey() {
-      java.lang.Object ref = secretKey_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          secretKey_ = s;
-        }
-        return s;
-      }
+    public double getSum() {
+      return sum_;
     }
+
+    public static final int MEAN_FIELD_NUMBER = 3;
+    private double mean_;
     /**
-     * <code>required string secret_key = 2;</code>
+     * <code>required double mean = 3;</code>
      */
-    public com.google.protobuf.ByteString
-        getSecretKeyBytes() {
-      java.lang.Object ref = secretKey_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        secretKey_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean hasMean() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required double mean = 3;</code>
+     */
+    public double getMean() {
+      return mean_;
     }
 
-    public static final int TOKEN_FIELD_NUMBER = 3;
-    private java.lang.Object token_;
+    public static final int MIN_FIELD_NUMBER = 4;
+    private double min_;
     /**
-     * <code>optional string token = 3;</code>
+     * <code>required double min = 4;</code>
      */
-    public boolean hasToken() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public boolean hasMin() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
-     * <code>optional string token = 3;</code>
+     * <code>required double min = 4;</code>
      */
-    public java.lang.String getToken() {
-      java.lang.Object ref = token_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          token_ = s;
-        }
-        return s;
-      }
+    public double getMin() {
+      return min_;
     }
+
+    public static final int MAX_FIELD_NUMBER = 5;
+    private double max_;
     /**
-     * <code>optional string token = 3;</code>
+     * <code>required double max = 5;</code>
      */
-    public com.google.protobuf.ByteString
-        getTokenBytes() {
-      java.lang.Object ref = token_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        token_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public boolean hasMax() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required double max = 5;</code>
+     */
+    public double getMax() {
+      return max_;
     }
 
     private void initFields() {
-      akid_ = "";
-      secretKey_ = "";
-      token_ = "";
+      count_ = 0D;
+      sum_ = 0D;
+      mean_ = 0D;
+      min_ = 0D;
+      max_ = 0D;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -8335,11 +12837,23 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasAkid()) {
+      if (!hasCount()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasSecretKey()) {
+      if (!hasSum()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMean()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMin()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMax()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -8351,13 +12865,19 @@ public final class Messages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getAkidBytes());
+        output.writeDouble(1, count_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getSecretKeyBytes());
+        output.writeDouble(2, sum_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, getTokenBytes());
+        output.writeDouble(3, mean_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeDouble(4, min_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeDouble(5, max_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -8370,15 +12890,23 @@ public final class Messages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getAkidBytes());
+          .computeDoubleSize(1, count_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getSecretKeyBytes());
+          .computeDoubleSize(2, sum_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getTokenBytes());
+          .computeDoubleSize(3, mean_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, min_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(5, max_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -8392,53 +12920,53 @@ public final class Messages {
       return super.writeReplace();
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(byte[] data)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseDelimitedFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseDelimitedFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8447,7 +12975,7 @@ public final class Messages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials prototype) {
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -8459,25 +12987,25 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Credentials}
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Stats}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Stats)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_fieldAccessorTable
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder.class);
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder.class);
       }
 
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.newBuilder()
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8497,12 +13025,16 @@ public final class Messages {
 
       public Builder clear() {
         super.clear();
-        akid_ = "";
+        count_ = 0D;
         bitField0_ = (bitField0_ & ~0x00000001);
-        secretKey_ = "";
+        sum_ = 0D;
         bitField0_ = (bitField0_ & ~0x00000002);
-        token_ = "";
+        mean_ = 0D;
         bitField0_ = (bitField0_ & ~0x00000004);
+        min_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        max_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -8512,78 +13044,98 @@ public final class Messages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_descriptor;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials result = buildPartial();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials(this);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.akid_ = akid_;
+        result.count_ = count_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.secretKey_ = secretKey_;
+        result.sum_ = sum_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.token_ = token_;
+        result.mean_ = mean_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.min_ = min_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.max_ = max_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials)other);
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
-      }
-
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance()) return this;
-        if (other.hasAkid()) {
-          bitField0_ |= 0x00000001;
-          akid_ = other.akid_;
-          onChanged();
+      }
+
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance()) return this;
+        if (other.hasCount()) {
+          setCount(other.getCount());
+        }
+        if (other.hasSum()) {
+          setSum(other.getSum());
         }
-        if (other.hasSecretKey()) {
-          bitField0_ |= 0x00000002;
-          secretKey_ = other.secretKey_;
-          onChanged();
+        if (other.hasMean()) {
+          setMean(other.getMean());
         }
-        if (other.hasToken()) {
-          bitField0_ |= 0x00000004;
-          token_ = other.token_;
-          onChanged();
+        if (other.hasMin()) {
+          setMin(other.getMin());
+        }
+        if (other.hasMax()) {
+          setMax(other.getMax());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasAkid()) {
+        if (!hasCount()) {
           
           return false;
         }
-        if (!hasSecretKey()) {
+        if (!hasSum()) {
+          
+          return false;
+        }
+        if (!hasMean()) {
+          
+          return false;
+        }
+        if (!hasMin()) {
+          
+          return false;
+        }
+        if (!hasMax()) {
           
           return false;
         }
@@ -8594,11 +13146,11 @@ public final class Messages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials parsedMessage = null;
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials) e.getUnfinishedMessage();
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -8609,291 +13161,261 @@ public final class Messages {
       }
       private int bitField0_;
 
-      private java.lang.Object akid_ = "";
+      private double count_ ;
       /**
-       * <code>required string akid = 1;</code>
+       * <code>required double count = 1;</code>
        */
-      public boolean hasAkid() {
+      public boolean hasCount() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string akid = 1;</code>
-       */
-      public java.lang.String getAkid() {
-        java.lang.Object ref = akid_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            akid_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>required string akid = 1;</code>
+       * <code>required double count = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getAkidBytes() {
-        java.lang.Object ref = akid_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          akid_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public double getCount() {
+        return count_;
       }
       /**
-       * <code>required string akid = 1;</code>
+       * <code>required double count = 1;</code>
        */
-      public Builder setAkid(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        akid_ = value;
+      public Builder setCount(double value) {
+        bitField0_ |= 0x00000001;
+        count_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string akid = 1;</code>
+       * <code>required double count = 1;</code>
        */
-      public Builder clearAkid() {
+      public Builder clearCount() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        akid_ = getDefaultInstance().getAkid();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string akid = 1;</code>
-       */
-      public Builder setAkidBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        akid_ = value;
+        count_ = 0D;
         onChanged();
         return this;
       }
 
-      private java.lang.Object secretKey_ = "";
+      private double sum_ ;
       /**
-       * <code>required string secret_key = 2;</code>
+       * <code>required double sum = 2;</code>
        */
-      public boolean hasSecretKey() {
+      public boolean hasSum() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required string secret_key = 2;</code>
+       * <code>required double sum = 2;</code>
        */
-      public java.lang.String getSecretKey() {
-        java.lang.Object ref = secretKey_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            secretKey_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public double getSum() {
+        return sum_;
       }
       /**
-       * <code>required string secret_key = 2;</code>
+       * <code>required double sum = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getSecretKeyBytes() {
-        java.lang.Object ref = secretKey_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          secretKey_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public Builder setSum(double value) {
+        bitField0_ |= 0x00000002;
+        sum_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>required string secret_key = 2;</code>
+       * <code>required double sum = 2;</code>
        */
-      public Builder setSecretKey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        secretKey_ = value;
+      public Builder clearSum() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sum_ = 0D;
         onChanged();
         return this;
       }
+
+      private double mean_ ;
       /**
-       * <code>required string secret_key = 2;</code>
+       * <code>required double mean = 3;</code>
        */
-      public Builder clearSecretKey() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        secretKey_ = getDefaultInstance().getSecretKey();
+      public boolean hasMean() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required double mean = 3;</code>
+       */
+      public double getMean() {
+        return mean_;
+      }
+      /**
+       * <code>required double mean = 3;</code>
+       */
+      public Builder setMean(double value) {
+        bitField0_ |= 0x00000004;
+        mean_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string secret_key = 2;</code>
+       * <code>required double mean = 3;</code>
        */
-      public Builder setSecretKeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        secretKey_ = value;
+      public Builder clearMean() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        mean_ = 0D;
         onChanged();
         return this;
       }
 
-      private java.lang.Object token_ = "";
+      private double min_ ;
       /**
-       * <code>optional string token = 3;</code>
+       * <code>required double min = 4;</code>
        */
-      public boolean hasToken() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasMin() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>optional string token = 3;</code>
+       * <code>required double min = 4;</code>
        */
-      public java.lang.String getToken() {
-        java.lang.Object ref = token_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            token_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public double getMin() {
+        return min_;
       }
       /**
-       * <code>optional string token = 3;</code>
+       * <code>required double min = 4;</code>
        */
-      public com.google.protobuf.ByteString
-          getTokenBytes() {
-        java.lang.Object ref = token_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          token_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public Builder setMin(double value) {
+        bitField0_ |= 0x00000008;
+        min_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double min = 4;</code>
+       */
+      public Builder clearMin() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        min_ = 0D;
+        onChanged();
+        return this;
       }
+
+      private double max_ ;
       /**
-       * <code>optional string token = 3;</code>
+       * <code>required double max = 5;</code>
        */
-      public Builder setToken(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        token_ = value;
-        onChanged();
-        return this;
+      public boolean hasMax() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>optional string token = 3;</code>
+       * <code>required double max = 5;</code>
        */
-      public Builder clearToken() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        token_ = getDefaultInstance().getToken();
+      public double getMax() {
+        return max_;
+      }
+      /**
+       * <code>required double max = 5;</code>
+       */
+      public Builder setMax(double value) {
+        bitField0_ |= 0x00000010;
+        max_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string token = 3;</code>
+       * <code>required double max = 5;</code>
        */
-      public Builder setTokenBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        token_ = value;
+      public Builder clearMax() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        max_ = 0D;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Stats)
     }
 
     static {
-      defaultInstance = new Credentials(true);
+      defaultInstance = new Stats(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Credentials)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Stats)
   }
 
-  public interface SetCredentialsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
+  public interface MetricOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Metric)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional bool for_metrics = 1;</code>
+     * <code>required string name = 1;</code>
      */
-    boolean hasForMetrics();
+    boolean hasName();
     /**
-     * <code>optional bool for_metrics = 1;</code>
+     * <code>required string name = 1;</code>
      */
-    boolean getForMetrics();
+    java.lang.String getName();
+    /**
+     * <code>required string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
      */
-    boolean hasCredentials();
+    java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> 
+        getDimensionsList();
     /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
      */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials getCredentials();
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension getDimensions(int index);
     /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
      */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder getCredentialsOrBuilder();
+    int getDimensionsCount();
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     */
+    java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> 
+        getDimensionsOrBuilderList();
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder getDimensionsOrBuilder(
+        int index);
+
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     */
+    boolean hasStats();
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats getStats();
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder getStatsOrBuilder();
+
+    /**
+     * <code>required uint64 seconds = 4;</code>
+     */
+    boolean hasSeconds();
+    /**
+     * <code>required uint64 seconds = 4;</code>
+     */
+    long getSeconds();
   }
   /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.SetCredentials}
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Metric}
    */
-  public static final class SetCredentials extends
+  public static final class Metric extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
-      SetCredentialsOrBuilder {
-    // Use SetCredentials.newBuilder() to construct.
-    private SetCredentials(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Metric)
+      MetricOrBuilder {
+    // Use Metric.newBuilder() to construct.
+    private Metric(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private SetCredentials(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Metric(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final SetCredentials defaultInstance;
-    public static SetCredentials getDefaultInstance() {
+    private static final Metric defaultInstance;
+    public static Metric getDefaultInstance() {
       return defaultInstance;
     }
 
-    public SetCredentials getDefaultInstanceForType() {
+    public Metric getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -8903,7 +13425,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private SetCredentials(
+    private Metric(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8926,24 +13448,38 @@ public final class Messages {
               }
               break;
             }
-            case 8: {
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              forMetrics_ = input.readBool();
+              name_ = bs;
               break;
             }
             case 18: {
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder subBuilder = null;
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                dimensions_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              dimensions_.add(input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.PARSER, extensionRegistry));
+              break;
+            }
+            case 26: {
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder subBuilder = null;
               if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = credentials_.toBuilder();
+                subBuilder = stats_.toBuilder();
               }
-              credentials_ = input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.PARSER, extensionRegistry);
+              stats_ = input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.PARSER, extensionRegistry);
               if (subBuilder != null) {
-                subBuilder.mergeFrom(credentials_);
-                credentials_ = subBuilder.buildPartial();
+                subBuilder.mergeFrom(stats_);
+                stats_ = subBuilder.buildPartial();
               }
               bitField0_ |= 0x00000002;
               break;
             }
+            case 32: {
+              bitField0_ |= 0x00000004;
+              seconds_ = input.readUInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -8952,1222 +13488,1063 @@ public final class Messages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          dimensions_ = java.util.Collections.unmodifiableList(dimensions_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.Builder.class);
-    }
-
-    public static com.google.protobuf.Parser<SetCredentials> PARSER =
-        new com.google.protobuf.AbstractParser<SetCredentials>() {
-      public SetCredentials parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new SetCredentials(input, extensionRegistry);
-      }
-    };
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<SetCredentials> getParserForType() {
-      return PARSER;
-    }
-
-    private int bitField0_;
-    public static final int FOR_METRICS_FIELD_NUMBER = 1;
-    private boolean forMetrics_;
-    /**
-     * <code>optional bool for_metrics = 1;</code>
-     */
-    public boolean hasForMetrics() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>optional bool for_metrics = 1;</code>
-     */
-    public boolean getForMetrics() {
-      return forMetrics_;
-    }
-
-    public static final int CREDENTIALS_FIELD_NUMBER = 2;
-    private com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials credentials_;
-    /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-     */
-    public boolean hasCredentials() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-     */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials getCredentials() {
-      return credentials_;
-    }
-    /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-     */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder getCredentialsOrBuilder() {
-      return credentials_;
-    }
-
-    private void initFields() {
-      forMetrics_ = false;
-      credentials_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      if (!hasCredentials()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!getCredentials().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBool(1, forMetrics_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(2, credentials_);
-      }
-      getUnknownFields().writeTo(output);
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_descriptor;
     }
 
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder.class);
+    }
 
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(1, forMetrics_);
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, credentials_);
+    public static com.google.protobuf.Parser<Metric> PARSER =
+        new com.google.protobuf.AbstractParser<Metric>() {
+      public Metric parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Metric(input, extensionRegistry);
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
+    };
 
-    private static final long serialVersionUID = 0L;
     @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
+    public com.google.protobuf.Parser<Metric> getParserForType() {
+      return PARSER;
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
+    /**
+     * <code>required string name = 1;</code>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+    /**
+     * <code>required string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    /**
+     * <code>required string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+
+    public static final int DIMENSIONS_FIELD_NUMBER = 2;
+    private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> dimensions_;
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     */
+    public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> getDimensionsList() {
+      return dimensions_;
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     */
+    public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> 
+        getDimensionsOrBuilderList() {
+      return dimensions_;
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     */
+    public int getDimensionsCount() {
+      return dimensions_.size();
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension getDimensions(int index) {
+      return dimensions_.get(index);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder getDimensionsOrBuilder(
+        int index) {
+      return dimensions_.get(index);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+
+    public static final int STATS_FIELD_NUMBER = 3;
+    private com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats stats_;
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     */
+    public boolean hasStats() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats getStats() {
+      return stats_;
     }
-
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials prototype) {
-      return newBuilder().mergeFrom(prototype);
+    /**
+     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder getStatsOrBuilder() {
+      return stats_;
     }
-    public Builder toBuilder() { return newBuilder(this); }
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public static final int SECONDS_FIELD_NUMBER = 4;
+    private long seconds_;
+    /**
+     * <code>required uint64 seconds = 4;</code>
+     */
+    public boolean hasSeconds() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.SetCredentials}
+     * <code>required uint64 seconds = 4;</code>
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentialsOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.Builder.class);
-      }
-
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getCredentialsFieldBuilder();
-        }
-      }
-      private static Builder create() {
-        return new Builder();
-      }
-
-      public Builder clear() {
-        super.clear();
-        forMetrics_ = false;
-        bitField0_ = (bitField0_ & ~0x00000001);
-        if (credentialsBuilder_ == null) {
-          credentials_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
-        } else {
-          credentialsBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        return this;
-      }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_descriptor;
-      }
-
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.getDefaultInstance();
-      }
+    public long getSeconds() {
+      return seconds_;
+    }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
+    private void initFields() {
+      name_ = "";
+      dimensions_ = java.util.Collections.emptyList();
+      stats_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
+      seconds_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.forMetrics_ = forMetrics_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        if (credentialsBuilder_ == null) {
-          result.credentials_ = credentials_;
-        } else {
-          result.credentials_ = credentialsBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      if (!hasStats()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials.getDefaultInstance()) return this;
-        if (other.hasForMetrics()) {
-          setForMetrics(other.getForMetrics());
-        }
-        if (other.hasCredentials()) {
-          mergeCredentials(other.getCredentials());
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
+      if (!hasSeconds()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-
-      public final boolean isInitialized() {
-        if (!hasCredentials()) {
-          
-          return false;
-        }
-        if (!getCredentials().isInitialized()) {
-          
+      for (int i = 0; i < getDimensionsCount(); i++) {
+        if (!getDimensions(i).isInitialized()) {
+          memoizedIsInitialized = 0;
           return false;
         }
-        return true;
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.SetCredentials) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+      if (!getStats().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
-      private int bitField0_;
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      private boolean forMetrics_ ;
-      /**
-       * <code>optional bool for_metrics = 1;</code>
-       */
-      public boolean hasForMetrics() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      /**
-       * <code>optional bool for_metrics = 1;</code>
-       */
-      public boolean getForMetrics() {
-        return forMetrics_;
+      for (int i = 0; i < dimensions_.size(); i++) {
+        output.writeMessage(2, dimensions_.get(i));
       }
-      /**
-       * <code>optional bool for_metrics = 1;</code>
-       */
-      public Builder setForMetrics(boolean value) {
-        bitField0_ |= 0x00000001;
-        forMetrics_ = value;
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(3, stats_);
       }
-      /**
-       * <code>optional bool for_metrics = 1;</code>
-       */
-      public Builder clearForMetrics() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        forMetrics_ = false;
-        onChanged();
-        return this;
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt64(4, seconds_);
       }
+      getUnknownFields().writeTo(output);
+    }
 
-      private com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials credentials_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder> credentialsBuilder_;
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      public boolean hasCredentials() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials getCredentials() {
-        if (credentialsBuilder_ == null) {
-          return credentials_;
-        } else {
-          return credentialsBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      public Builder setCredentials(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials value) {
-        if (credentialsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          credentials_ = value;
-          onChanged();
-        } else {
-          credentialsBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      public Builder setCredentials(
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder builderForValue) {
-        if (credentialsBuilder_ == null) {
-          credentials_ = builderForValue.build();
-          onChanged();
-        } else {
-          credentialsBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      public Builder mergeCredentials(com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials value) {
-        if (credentialsBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002) &&
-              credentials_ != com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance()) {
-            credentials_ =
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.newBuilder(credentials_).mergeFrom(value).buildPartial();
-          } else {
-            credentials_ = value;
-          }
-          onChanged();
-        } else {
-          credentialsBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000002;
-        return this;
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      public Builder clearCredentials() {
-        if (credentialsBuilder_ == null) {
-          credentials_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.getDefaultInstance();
-          onChanged();
-        } else {
-          credentialsBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        return this;
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder getCredentialsBuilder() {
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return getCredentialsFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder getCredentialsOrBuilder() {
-        if (credentialsBuilder_ != null) {
-          return credentialsBuilder_.getMessageOrBuilder();
-        } else {
-          return credentials_;
-        }
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
       }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Credentials credentials = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder> 
-          getCredentialsFieldBuilder() {
-        if (credentialsBuilder_ == null) {
-          credentialsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials, com.amazonaws.services.kinesis.producer.protobuf.Messages.Credentials.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.CredentialsOrBuilder>(
-                  getCredentials(),
-                  getParentForChildren(),
-                  isClean());
-          credentials_ = null;
-        }
-        return credentialsBuilder_;
+      for (int i = 0; i < dimensions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, dimensions_.get(i));
       }
-
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, stats_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, seconds_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
     }
 
-    static {
-      defaultInstance = new SetCredentials(true);
-      defaultInstance.initFields();
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.SetCredentials)
-  }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-  public interface DimensionOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
-      com.google.protobuf.MessageOrBuilder {
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
 
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
     /**
-     * <code>required string key = 1;</code>
-     */
-    boolean hasKey();
-    /**
-     * <code>required string key = 1;</code>
-     */
-    java.lang.String getKey();
-    /**
-     * <code>required string key = 1;</code>
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Metric}
      */
-    com.google.protobuf.ByteString
-        getKeyBytes();
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Metric)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_descriptor;
+      }
 
-    /**
-     * <code>required string value = 2;</code>
-     */
-    boolean hasValue();
-    /**
-     * <code>required string value = 2;</code>
-     */
-    java.lang.String getValue();
-    /**
-     * <code>required string value = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getValueBytes();
-  }
-  /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Dimension}
-   */
-  public static final class Dimension extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
-      DimensionOrBuilder {
-    // Use Dimension.newBuilder() to construct.
-    private Dimension(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private Dimension(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder.class);
+      }
 
-    private static final Dimension defaultInstance;
-    public static Dimension getDefaultInstance() {
-      return defaultInstance;
-    }
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
 
-    public Dimension getDefaultInstanceForType() {
-      return defaultInstance;
-    }
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getDimensionsFieldBuilder();
+          getStatsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
 
-    private final com.google.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Dimension(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      initFields();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              key_ = bs;
-              break;
-            }
-            case 18: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000002;
-              value_ = bs;
-              break;
-            }
-          }
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (dimensionsBuilder_ == null) {
+          dimensions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          dimensionsBuilder_.clear();
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+        if (statsBuilder_ == null) {
+          stats_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
+        } else {
+          statsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        seconds_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_descriptor;
-    }
 
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder.class);
-    }
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_descriptor;
+      }
 
-    public static com.google.protobuf.Parser<Dimension> PARSER =
-        new com.google.protobuf.AbstractParser<Dimension>() {
-      public Dimension parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Dimension(input, extensionRegistry);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance();
       }
-    };
 
-    @java.lang.Override
-    public com.google.protobuf.Parser<Dimension> getParserForType() {
-      return PARSER;
-    }
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
 
-    private int bitField0_;
-    public static final int KEY_FIELD_NUMBER = 1;
-    private java.lang.Object key_;
-    /**
-     * <code>required string key = 1;</code>
-     */
-    public boolean hasKey() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>required string key = 1;</code>
-     */
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          key_ = s;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-        return s;
+        result.name_ = name_;
+        if (dimensionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            dimensions_ = java.util.Collections.unmodifiableList(dimensions_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.dimensions_ = dimensions_;
+        } else {
+          result.dimensions_ = dimensionsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (statsBuilder_ == null) {
+          result.stats_ = stats_;
+        } else {
+          result.stats_ = statsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.seconds_ = seconds_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
-    }
-    /**
-     * <code>required string key = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        key_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
       }
-    }
 
-    public static final int VALUE_FIELD_NUMBER = 2;
-    private java.lang.Object value_;
-    /**
-     * <code>required string value = 2;</code>
-     */
-    public boolean hasValue() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required string value = 2;</code>
-     */
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          value_ = s;
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
         }
-        return s;
+        if (dimensionsBuilder_ == null) {
+          if (!other.dimensions_.isEmpty()) {
+            if (dimensions_.isEmpty()) {
+              dimensions_ = other.dimensions_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureDimensionsIsMutable();
+              dimensions_.addAll(other.dimensions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.dimensions_.isEmpty()) {
+            if (dimensionsBuilder_.isEmpty()) {
+              dimensionsBuilder_.dispose();
+              dimensionsBuilder_ = null;
+              dimensions_ = other.dimensions_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              dimensionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDimensionsFieldBuilder() : null;
+            } else {
+              dimensionsBuilder_.addAllMessages(other.dimensions_);
+            }
+          }
+        }
+        if (other.hasStats()) {
+          mergeStats(other.getStats());
+        }
+        if (other.hasSeconds()) {
+          setSeconds(other.getSeconds());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
       }
-    }
-    /**
-     * <code>required string value = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
+          return false;
+        }
+        if (!hasStats()) {
+          
+          return false;
+        }
+        if (!hasSeconds()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getDimensionsCount(); i++) {
+          if (!getDimensions(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (!getStats().isInitialized()) {
+          
+          return false;
+        }
+        return true;
       }
-    }
 
-    private void initFields() {
-      key_ = "";
-      value_ = "";
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
 
-      if (!hasKey()) {
-        memoizedIsInitialized = 0;
-        return false;
+      private java.lang.Object name_ = "";
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-      if (!hasValue()) {
-        memoizedIsInitialized = 0;
-        return false;
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getKeyBytes());
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getValueBytes());
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
       }
-      getUnknownFields().writeTo(output);
-    }
-
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getKeyBytes());
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getValueBytes());
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
 
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
-    }
-
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
+      private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> dimensions_ =
+        java.util.Collections.emptyList();
+      private void ensureDimensionsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          dimensions_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension>(dimensions_);
+          bitField0_ |= 0x00000002;
+         }
+      }
 
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension prototype) {
-      return newBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() { return newBuilder(this); }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> dimensionsBuilder_;
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Dimension}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_descriptor;
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> getDimensionsList() {
+        if (dimensionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(dimensions_);
+        } else {
+          return dimensionsBuilder_.getMessageList();
+        }
       }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder.class);
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public int getDimensionsCount() {
+        if (dimensionsBuilder_ == null) {
+          return dimensions_.size();
+        } else {
+          return dimensionsBuilder_.getCount();
+        }
       }
-
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension getDimensions(int index) {
+        if (dimensionsBuilder_ == null) {
+          return dimensions_.get(index);
+        } else {
+          return dimensionsBuilder_.getMessage(index);
+        }
       }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder setDimensions(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension value) {
+        if (dimensionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDimensionsIsMutable();
+          dimensions_.set(index, value);
+          onChanged();
+        } else {
+          dimensionsBuilder_.setMessage(index, value);
+        }
+        return this;
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder setDimensions(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder builderForValue) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          dimensions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          dimensionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder addDimensions(com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension value) {
+        if (dimensionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDimensionsIsMutable();
+          dimensions_.add(value);
+          onChanged();
+        } else {
+          dimensionsBuilder_.addMessage(value);
         }
-      }
-      private static Builder create() {
-        return new Builder();
-      }
-
-      public Builder clear() {
-        super.clear();
-        key_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        value_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_descriptor;
-      }
-
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.getDefaultInstance();
-      }
-
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder addDimensions(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension value) {
+        if (dimensionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDimensionsIsMutable();
+          dimensions_.add(index, value);
+          onChanged();
+        } else {
+          dimensionsBuilder_.addMessage(index, value);
         }
-        return result;
+        return this;
       }
-
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder addDimensions(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder builderForValue) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          dimensions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          dimensionsBuilder_.addMessage(builderForValue.build());
         }
-        result.key_ = key_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder addDimensions(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder builderForValue) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          dimensions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          dimensionsBuilder_.addMessage(index, builderForValue.build());
         }
-        result.value_ = value_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+        return this;
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension)other);
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder addAllDimensions(
+          java.lang.Iterable<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> values) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, dimensions_);
+          onChanged();
         } else {
-          super.mergeFrom(other);
-          return this;
+          dimensionsBuilder_.addAllMessages(values);
         }
+        return this;
       }
-
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.getDefaultInstance()) return this;
-        if (other.hasKey()) {
-          bitField0_ |= 0x00000001;
-          key_ = other.key_;
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder clearDimensions() {
+        if (dimensionsBuilder_ == null) {
+          dimensions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
           onChanged();
+        } else {
+          dimensionsBuilder_.clear();
         }
-        if (other.hasValue()) {
-          bitField0_ |= 0x00000002;
-          value_ = other.value_;
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public Builder removeDimensions(int index) {
+        if (dimensionsBuilder_ == null) {
+          ensureDimensionsIsMutable();
+          dimensions_.remove(index);
           onChanged();
+        } else {
+          dimensionsBuilder_.remove(index);
         }
-        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-
-      public final boolean isInitialized() {
-        if (!hasKey()) {
-          
-          return false;
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder getDimensionsBuilder(
+          int index) {
+        return getDimensionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder getDimensionsOrBuilder(
+          int index) {
+        if (dimensionsBuilder_ == null) {
+          return dimensions_.get(index);  } else {
+          return dimensionsBuilder_.getMessageOrBuilder(index);
         }
-        if (!hasValue()) {
-          
-          return false;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> 
+           getDimensionsOrBuilderList() {
+        if (dimensionsBuilder_ != null) {
+          return dimensionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(dimensions_);
         }
-        return true;
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder addDimensionsBuilder() {
+        return getDimensionsFieldBuilder().addBuilder(
+            com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder addDimensionsBuilder(
+          int index) {
+        return getDimensionsFieldBuilder().addBuilder(
+            index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       */
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder> 
+           getDimensionsBuilderList() {
+        return getDimensionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> 
+          getDimensionsFieldBuilder() {
+        if (dimensionsBuilder_ == null) {
+          dimensionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder>(
+                  dimensions_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          dimensions_ = null;
         }
-        return this;
+        return dimensionsBuilder_;
       }
-      private int bitField0_;
 
-      private java.lang.Object key_ = "";
+      private com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats stats_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder> statsBuilder_;
       /**
-       * <code>required string key = 1;</code>
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
        */
-      public boolean hasKey() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasStats() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required string key = 1;</code>
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
        */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            key_ = s;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats getStats() {
+        if (statsBuilder_ == null) {
+          return stats_;
+        } else {
+          return statsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+       */
+      public Builder setStats(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats value) {
+        if (statsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return s;
+          stats_ = value;
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          statsBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000004;
+        return this;
       }
       /**
-       * <code>required string key = 1;</code>
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
        */
-      public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          key_ = b;
-          return b;
+      public Builder setStats(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder builderForValue) {
+        if (statsBuilder_ == null) {
+          stats_ = builderForValue.build();
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          statsBuilder_.setMessage(builderForValue.build());
         }
+        bitField0_ |= 0x00000004;
+        return this;
       }
       /**
-       * <code>required string key = 1;</code>
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
        */
-      public Builder setKey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        key_ = value;
-        onChanged();
+      public Builder mergeStats(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats value) {
+        if (statsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              stats_ != com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance()) {
+            stats_ =
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.newBuilder(stats_).mergeFrom(value).buildPartial();
+          } else {
+            stats_ = value;
+          }
+          onChanged();
+        } else {
+          statsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>required string key = 1;</code>
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
        */
-      public Builder clearKey() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        key_ = getDefaultInstance().getKey();
-        onChanged();
+      public Builder clearStats() {
+        if (statsBuilder_ == null) {
+          stats_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
+          onChanged();
+        } else {
+          statsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
       /**
-       * <code>required string key = 1;</code>
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
        */
-      public Builder setKeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        key_ = value;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder getStatsBuilder() {
+        bitField0_ |= 0x00000004;
         onChanged();
-        return this;
+        return getStatsFieldBuilder().getBuilder();
       }
-
-      private java.lang.Object value_ = "";
       /**
-       * <code>required string value = 2;</code>
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
        */
-      public boolean hasValue() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder getStatsOrBuilder() {
+        if (statsBuilder_ != null) {
+          return statsBuilder_.getMessageOrBuilder();
+        } else {
+          return stats_;
+        }
       }
       /**
-       * <code>required string value = 2;</code>
+       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
        */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            value_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder> 
+          getStatsFieldBuilder() {
+        if (statsBuilder_ == null) {
+          statsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder>(
+                  getStats(),
+                  getParentForChildren(),
+                  isClean());
+          stats_ = null;
         }
+        return statsBuilder_;
       }
+
+      private long seconds_ ;
       /**
-       * <code>required string value = 2;</code>
+       * <code>required uint64 seconds = 4;</code>
        */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public boolean hasSeconds() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>required string value = 2;</code>
+       * <code>required uint64 seconds = 4;</code>
        */
-      public Builder setValue(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        value_ = value;
-        onChanged();
-        return this;
+      public long getSeconds() {
+        return seconds_;
       }
       /**
-       * <code>required string value = 2;</code>
+       * <code>required uint64 seconds = 4;</code>
        */
-      public Builder clearValue() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        value_ = getDefaultInstance().getValue();
+      public Builder setSeconds(long value) {
+        bitField0_ |= 0x00000008;
+        seconds_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string value = 2;</code>
+       * <code>required uint64 seconds = 4;</code>
        */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        value_ = value;
+      public Builder clearSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        seconds_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Metric)
     }
 
     static {
-      defaultInstance = new Dimension(true);
+      defaultInstance = new Metric(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Dimension)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Metric)
   }
 
-  public interface StatsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Stats)
+  public interface MetricsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required double count = 1;</code>
-     */
-    boolean hasCount();
-    /**
-     * <code>required double count = 1;</code>
-     */
-    double getCount();
-
-    /**
-     * <code>required double sum = 2;</code>
-     */
-    boolean hasSum();
-    /**
-     * <code>required double sum = 2;</code>
+     * <code>optional string name = 1;</code>
      */
-    double getSum();
-
+    boolean hasName();
     /**
-     * <code>required double mean = 3;</code>
+     * <code>optional string name = 1;</code>
      */
-    boolean hasMean();
+    java.lang.String getName();
     /**
-     * <code>required double mean = 3;</code>
+     * <code>optional string name = 1;</code>
      */
-    double getMean();
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
-     * <code>required double min = 4;</code>
+     * <code>optional uint64 seconds = 2;</code>
      */
-    boolean hasMin();
+    boolean hasSeconds();
     /**
-     * <code>required double min = 4;</code>
+     * <code>optional uint64 seconds = 2;</code>
      */
-    double getMin();
+    long getSeconds();
 
     /**
-     * <code>required double max = 5;</code>
+     * <code>optional uint64 snapshot_interval = 3;</code>
+     *
+     * <pre>
+     * If set, no MetricsResponse is sent. Instead a MetricsSnapshot is pushed
+     * every snapshot_interval milliseconds from then on; 0 stops them.
+     * </pre>
      */
-    boolean hasMax();
+    boolean hasSnapshotInterval();
     /**
-     * <code>required double max = 5;</code>
+     * <code>optional uint64 snapshot_interval = 3;</code>
+     *
+     * <pre>
+     * If set, no MetricsResponse is sent. Instead a MetricsSnapshot is pushed
+     * every snapshot_interval milliseconds from then on; 0 stops them.
+     * </pre>
      */
-    double getMax();
+    long getSnapshotInterval();
   }
   /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Stats}
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest}
    */
-  public static final class Stats extends
+  public static final class MetricsRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Stats)
-      StatsOrBuilder {
-    // Use Stats.newBuilder() to construct.
-    private Stats(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
+      MetricsRequestOrBuilder {
+    // Use MetricsRequest.newBuilder() to construct.
+    private MetricsRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Stats(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private MetricsRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Stats defaultInstance;
-    public static Stats getDefaultInstance() {
+    private static final MetricsRequest defaultInstance;
+    public static MetricsRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Stats getDefaultInstanceForType() {
+    public MetricsRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -10177,7 +14554,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Stats(
+    private MetricsRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10200,29 +14577,20 @@ public final class Messages {
               }
               break;
             }
-            case 9: {
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              count_ = input.readDouble();
+              name_ = bs;
               break;
             }
-            case 17: {
+            case 16: {
               bitField0_ |= 0x00000002;
-              sum_ = input.readDouble();
+              seconds_ = input.readUInt64();
               break;
             }
-            case 25: {
+            case 24: {
               bitField0_ |= 0x00000004;
-              mean_ = input.readDouble();
-              break;
-            }
-            case 33: {
-              bitField0_ |= 0x00000008;
-              min_ = input.readDouble();
-              break;
-            }
-            case 41: {
-              bitField0_ |= 0x00000010;
-              max_ = input.readDouble();
+              snapshotInterval_ = input.readUInt64();
               break;
             }
           }
@@ -10239,113 +14607,118 @@ public final class Messages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_descriptor;
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_fieldAccessorTable
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder.class);
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Stats> PARSER =
-        new com.google.protobuf.AbstractParser<Stats>() {
-      public Stats parsePartialFrom(
+    public static com.google.protobuf.Parser<MetricsRequest> PARSER =
+        new com.google.protobuf.AbstractParser<MetricsRequest>() {
+      public MetricsRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Stats(input, extensionRegistry);
+        return new MetricsRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Stats> getParserForType() {
+    public com.google.protobuf.Parser<MetricsRequest> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int COUNT_FIELD_NUMBER = 1;
-    private double count_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
     /**
-     * <code>required double count = 1;</code>
+     * <code>optional string name = 1;</code>
      */
-    public boolean hasCount() {
+    public boolean hasName() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required double count = 1;</code>
-     */
-    public double getCount() {
-      return count_;
-    }
-
-    public static final int SUM_FIELD_NUMBER = 2;
-    private double sum_;
-    /**
-     * <code>required double sum = 2;</code>
-     */
-    public boolean hasSum() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required double sum = 2;</code>
-     */
-    public double getSum() {
-      return sum_;
-    }
-
-    public static final int MEAN_FIELD_NUMBER = 3;
-    private double mean_;
-    /**
-     * <code>required double mean = 3;</code>
+     * <code>optional string name = 1;</code>
      */
-    public boolean hasMean() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
     }
     /**
-     * <code>required double mean = 3;</code>
+     * <code>optional string name = 1;</code>
      */
-    public double getMean() {
-      return mean_;
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int MIN_FIELD_NUMBER = 4;
-    private double min_;
+    public static final int SECONDS_FIELD_NUMBER = 2;
+    private long seconds_;
     /**
-     * <code>required double min = 4;</code>
+     * <code>optional uint64 seconds = 2;</code>
      */
-    public boolean hasMin() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    public boolean hasSeconds() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required double min = 4;</code>
+     * <code>optional uint64 seconds = 2;</code>
      */
-    public double getMin() {
-      return min_;
+    public long getSeconds() {
+      return seconds_;
     }
 
-    public static final int MAX_FIELD_NUMBER = 5;
-    private double max_;
+    public static final int SNAPSHOT_INTERVAL_FIELD_NUMBER = 3;
+    private long snapshotInterval_;
     /**
-     * <code>required double max = 5;</code>
+     * <code>optional uint64 snapshot_interval = 3;</code>
+     *
+     * <pre>
+     * If set, no MetricsResponse is sent. Instead a MetricsSnapshot is pushed
+     * every snapshot_interval milliseconds from then on; 0 stops them.
+     * </pre>
      */
-    public boolean hasMax() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+    public boolean hasSnapshotInterval() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required double max = 5;</code>
+     * <code>optional uint64 snapshot_interval = 3;</code>
+     *
+     * <pre>
+     * If set, no MetricsResponse is sent. Instead a MetricsSnapshot is pushed
+     * every snapshot_interval milliseconds from then on; 0 stops them.
+     * </pre>
      */
-    public double getMax() {
-      return max_;
+    public long getSnapshotInterval() {
+      return snapshotInterval_;
     }
 
     private void initFields() {
-      count_ = 0D;
-      sum_ = 0D;
-      mean_ = 0D;
-      min_ = 0D;
-      max_ = 0D;
+      name_ = "";
+      seconds_ = 0L;
+      snapshotInterval_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -10353,26 +14726,6 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasCount()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasSum()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasMean()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasMin()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasMax()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -10381,19 +14734,13 @@ public final class Messages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeDouble(1, count_);
+        output.writeBytes(1, getNameBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeDouble(2, sum_);
+        output.writeUInt64(2, seconds_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeDouble(3, mean_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeDouble(4, min_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeDouble(5, max_);
+        output.writeUInt64(3, snapshotInterval_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -10406,23 +14753,15 @@ public final class Messages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(1, count_);
+          .computeBytesSize(1, getNameBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(2, sum_);
+          .computeUInt64Size(2, seconds_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(3, mean_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(4, min_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(5, max_);
+          .computeUInt64Size(3, snapshotInterval_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -10436,53 +14775,53 @@ public final class Messages {
       return super.writeReplace();
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(byte[] data)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseDelimitedFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseDelimitedFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -10491,7 +14830,7 @@ public final class Messages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats prototype) {
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -10503,25 +14842,25 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Stats}
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Stats)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_fieldAccessorTable
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder.class);
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.Builder.class);
       }
 
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.newBuilder()
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -10541,16 +14880,12 @@ public final class Messages {
 
       public Builder clear() {
         super.clear();
-        count_ = 0D;
+        name_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        sum_ = 0D;
+        seconds_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
-        mean_ = 0D;
+        snapshotInterval_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
-        min_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000008);
-        max_ = 0D;
-        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -10560,101 +14895,69 @@ public final class Messages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_descriptor;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.getDefaultInstance();
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats result = buildPartial();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats(this);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.count_ = count_;
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.sum_ = sum_;
+        result.seconds_ = seconds_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.mean_ = mean_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        result.min_ = min_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
-        }
-        result.max_ = max_;
+        result.snapshotInterval_ = snapshotInterval_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats)other);
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance()) return this;
-        if (other.hasCount()) {
-          setCount(other.getCount());
-        }
-        if (other.hasSum()) {
-          setSum(other.getSum());
-        }
-        if (other.hasMean()) {
-          setMean(other.getMean());
-        }
-        if (other.hasMin()) {
-          setMin(other.getMin());
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
         }
-        if (other.hasMax()) {
-          setMax(other.getMax());
+        if (other.hasSeconds()) {
+          setSeconds(other.getSeconds());
+        }
+        if (other.hasSnapshotInterval()) {
+          setSnapshotInterval(other.getSnapshotInterval());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasCount()) {
-          
-          return false;
-        }
-        if (!hasSum()) {
-          
-          return false;
-        }
-        if (!hasMean()) {
-          
-          return false;
-        }
-        if (!hasMin()) {
-          
-          return false;
-        }
-        if (!hasMax()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -10662,11 +14965,11 @@ public final class Messages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats parsedMessage = null;
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats) e.getUnfinishedMessage();
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -10677,261 +14980,225 @@ public final class Messages {
       }
       private int bitField0_;
 
-      private double count_ ;
+      private java.lang.Object name_ = "";
       /**
-       * <code>required double count = 1;</code>
+       * <code>optional string name = 1;</code>
        */
-      public boolean hasCount() {
+      public boolean hasName() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required double count = 1;</code>
-       */
-      public double getCount() {
-        return count_;
-      }
-      /**
-       * <code>required double count = 1;</code>
-       */
-      public Builder setCount(double value) {
-        bitField0_ |= 0x00000001;
-        count_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required double count = 1;</code>
-       */
-      public Builder clearCount() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        count_ = 0D;
-        onChanged();
-        return this;
-      }
-
-      private double sum_ ;
-      /**
-       * <code>required double sum = 2;</code>
-       */
-      public boolean hasSum() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>required double sum = 2;</code>
+       * <code>optional string name = 1;</code>
        */
-      public double getSum() {
-        return sum_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>required double sum = 2;</code>
+       * <code>optional string name = 1;</code>
        */
-      public Builder setSum(double value) {
-        bitField0_ |= 0x00000002;
-        sum_ = value;
-        onChanged();
-        return this;
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
       /**
-       * <code>required double sum = 2;</code>
+       * <code>optional string name = 1;</code>
        */
-      public Builder clearSum() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        sum_ = 0D;
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
         onChanged();
         return this;
       }
-
-      private double mean_ ;
-      /**
-       * <code>required double mean = 3;</code>
-       */
-      public boolean hasMean() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>required double mean = 3;</code>
-       */
-      public double getMean() {
-        return mean_;
-      }
       /**
-       * <code>required double mean = 3;</code>
+       * <code>optional string name = 1;</code>
        */
-      public Builder setMean(double value) {
-        bitField0_ |= 0x00000004;
-        mean_ = value;
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
         onChanged();
         return this;
       }
       /**
-       * <code>required double mean = 3;</code>
+       * <code>optional string name = 1;</code>
        */
-      public Builder clearMean() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        mean_ = 0D;
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
         onChanged();
         return this;
       }
 
-      private double min_ ;
+      private long seconds_ ;
       /**
-       * <code>required double min = 4;</code>
+       * <code>optional uint64 seconds = 2;</code>
        */
-      public boolean hasMin() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public boolean hasSeconds() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required double min = 4;</code>
+       * <code>optional uint64 seconds = 2;</code>
        */
-      public double getMin() {
-        return min_;
+      public long getSeconds() {
+        return seconds_;
       }
       /**
-       * <code>required double min = 4;</code>
+       * <code>optional uint64 seconds = 2;</code>
        */
-      public Builder setMin(double value) {
-        bitField0_ |= 0x00000008;
-        min_ = value;
+      public Builder setSeconds(long value) {
+        bitField0_ |= 0x00000002;
+        seconds_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required double min = 4;</code>
+       * <code>optional uint64 seconds = 2;</code>
        */
-      public Builder clearMin() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        min_ = 0D;
+      public Builder clearSeconds() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        seconds_ = 0L;
         onChanged();
         return this;
       }
 
-      private double max_ ;
+      private long snapshotInterval_ ;
       /**
-       * <code>required double max = 5;</code>
+       * <code>optional uint64 snapshot_interval = 3;</code>
+       *
+       * <pre>
+       * If set, no MetricsResponse is sent. Instead a MetricsSnapshot is pushed
+       * every snapshot_interval milliseconds from then on; 0 stops them.
+       * </pre>
        */
-      public boolean hasMax() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      public boolean hasSnapshotInterval() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required double max = 5;</code>
+       * <code>optional uint64 snapshot_interval = 3;</code>
+       *
+       * <pre>
+       * If set, no MetricsResponse is sent. Instead a MetricsSnapshot is pushed
+       * every snapshot_interval milliseconds from then on; 0 stops them.
+       * </pre>
        */
-      public double getMax() {
-        return max_;
+      public long getSnapshotInterval() {
+        return snapshotInterval_;
       }
       /**
-       * <code>required double max = 5;</code>
+       * <code>optional uint64 snapshot_interval = 3;</code>
+       *
+       * <pre>
+       * If set, no MetricsResponse is sent. Instead a MetricsSnapshot is pushed
+       * every snapshot_interval milliseconds from then on; 0 stops them.
+       * </pre>
        */
-      public Builder setMax(double value) {
-        bitField0_ |= 0x00000010;
-        max_ = value;
+      public Builder setSnapshotInterval(long value) {
+        bitField0_ |= 0x00000004;
+        snapshotInterval_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required double max = 5;</code>
+       * <code>optional uint64 snapshot_interval = 3;</code>
+       *
+       * <pre>
+       * If set, no MetricsResponse is sent. Instead a MetricsSnapshot is pushed
+       * every snapshot_interval milliseconds from then on; 0 stops them.
+       * </pre>
        */
-      public Builder clearMax() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        max_ = 0D;
+      public Builder clearSnapshotInterval() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        snapshotInterval_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Stats)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
     }
 
     static {
-      defaultInstance = new Stats(true);
+      defaultInstance = new MetricsRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Stats)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
   }
 
-  public interface MetricOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Metric)
+  public interface MetricsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string name = 1;</code>
-     */
-    boolean hasName();
-    /**
-     * <code>required string name = 1;</code>
-     */
-    java.lang.String getName();
-    /**
-     * <code>required string name = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getNameBytes();
-
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-     */
-    java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> 
-        getDimensionsList();
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-     */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension getDimensions(int index);
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-     */
-    int getDimensionsCount();
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-     */
-    java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> 
-        getDimensionsOrBuilderList();
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-     */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder getDimensionsOrBuilder(
-        int index);
-
-    /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    boolean hasStats();
+    java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> 
+        getMetricsList();
     /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats getStats();
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index);
     /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder getStatsOrBuilder();
-
+    int getMetricsCount();
     /**
-     * <code>required uint64 seconds = 4;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    boolean hasSeconds();
+    java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
+        getMetricsOrBuilderList();
     /**
-     * <code>required uint64 seconds = 4;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    long getSeconds();
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Metric}
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse}
    */
-  public static final class Metric extends
+  public static final class MetricsResponse extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Metric)
-      MetricOrBuilder {
-    // Use Metric.newBuilder() to construct.
-    private Metric(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
+      MetricsResponseOrBuilder {
+    // Use MetricsResponse.newBuilder() to construct.
+    private MetricsResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Metric(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private MetricsResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Metric defaultInstance;
-    public static Metric getDefaultInstance() {
+    private static final MetricsResponse defaultInstance;
+    public static MetricsResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Metric getDefaultInstanceForType() {
+    public MetricsResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -10941,7 +15208,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Metric(
+    private MetricsResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10965,35 +15232,11 @@ public final class Messages {
               break;
             }
             case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              name_ = bs;
-              break;
-            }
-            case 18: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                dimensions_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension>();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              dimensions_.add(input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.PARSER, extensionRegistry));
-              break;
-            }
-            case 26: {
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = stats_.toBuilder();
-              }
-              stats_ = input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(stats_);
-                stats_ = subBuilder.buildPartial();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                metrics_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric>();
+                mutable_bitField0_ |= 0x00000001;
               }
-              bitField0_ |= 0x00000002;
-              break;
-            }
-            case 32: {
-              bitField0_ |= 0x00000004;
-              seconds_ = input.readUInt64();
+              metrics_.add(input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.PARSER, extensionRegistry));
               break;
             }
           }
@@ -11004,8 +15247,8 @@ public final class Messages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          dimensions_ = java.util.Collections.unmodifiableList(dimensions_);
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          metrics_ = java.util.Collections.unmodifiableList(metrics_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -11013,150 +15256,68 @@ public final class Messages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_descriptor;
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_fieldAccessorTable
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder.class);
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Metric> PARSER =
-        new com.google.protobuf.AbstractParser<Metric>() {
-      public Metric parsePartialFrom(
+    public static com.google.protobuf.Parser<MetricsResponse> PARSER =
+        new com.google.protobuf.AbstractParser<MetricsResponse>() {
+      public MetricsResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Metric(input, extensionRegistry);
+        return new MetricsResponse(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Metric> getParserForType() {
+    public com.google.protobuf.Parser<MetricsResponse> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    public static final int NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
-    /**
-     * <code>required string name = 1;</code>
-     */
-    public boolean hasName() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>required string name = 1;</code>
-     */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          name_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>required string name = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int DIMENSIONS_FIELD_NUMBER = 2;
-    private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> dimensions_;
+    public static final int METRICS_FIELD_NUMBER = 1;
+    private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> metrics_;
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> getDimensionsList() {
-      return dimensions_;
+    public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> getMetricsList() {
+      return metrics_;
     }
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> 
-        getDimensionsOrBuilderList() {
-      return dimensions_;
+    public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
+        getMetricsOrBuilderList() {
+      return metrics_;
     }
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    public int getDimensionsCount() {
-      return dimensions_.size();
+    public int getMetricsCount() {
+      return metrics_.size();
     }
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension getDimensions(int index) {
-      return dimensions_.get(index);
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index) {
+      return metrics_.get(index);
     }
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder getDimensionsOrBuilder(
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
         int index) {
-      return dimensions_.get(index);
-    }
-
-    public static final int STATS_FIELD_NUMBER = 3;
-    private com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats stats_;
-    /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
-     */
-    public boolean hasStats() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
-     */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats getStats() {
-      return stats_;
-    }
-    /**
-     * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
-     */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder getStatsOrBuilder() {
-      return stats_;
-    }
-
-    public static final int SECONDS_FIELD_NUMBER = 4;
-    private long seconds_;
-    /**
-     * <code>required uint64 seconds = 4;</code>
-     */
-    public boolean hasSeconds() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>required uint64 seconds = 4;</code>
-     */
-    public long getSeconds() {
-      return seconds_;
+      return metrics_.get(index);
     }
 
     private void initFields() {
-      name_ = "";
-      dimensions_ = java.util.Collections.emptyList();
-      stats_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
-      seconds_ = 0L;
+      metrics_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -11164,28 +15325,12 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasName()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasStats()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasSeconds()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      for (int i = 0; i < getDimensionsCount(); i++) {
-        if (!getDimensions(i).isInitialized()) {
+      for (int i = 0; i < getMetricsCount(); i++) {
+        if (!getMetrics(i).isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
       }
-      if (!getStats().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -11193,17 +15338,8 @@ public final class Messages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getNameBytes());
-      }
-      for (int i = 0; i < dimensions_.size(); i++) {
-        output.writeMessage(2, dimensions_.get(i));
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(3, stats_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeUInt64(4, seconds_);
+      for (int i = 0; i < metrics_.size(); i++) {
+        output.writeMessage(1, metrics_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -11214,21 +15350,9 @@ public final class Messages {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getNameBytes());
-      }
-      for (int i = 0; i < dimensions_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, dimensions_.get(i));
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, stats_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      for (int i = 0; i < metrics_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(4, seconds_);
+          .computeMessageSize(1, metrics_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -11242,53 +15366,53 @@ public final class Messages {
       return super.writeReplace();
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(byte[] data)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseDelimitedFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseDelimitedFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -11297,7 +15421,7 @@ public final class Messages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric prototype) {
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -11309,25 +15433,25 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Metric}
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Metric)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_fieldAccessorTable
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder.class);
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.Builder.class);
       }
 
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.newBuilder()
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -11339,8 +15463,7 @@ public final class Messages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getDimensionsFieldBuilder();
-          getStatsFieldBuilder();
+          getMetricsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -11349,22 +15472,12 @@ public final class Messages {
 
       public Builder clear() {
         super.clear();
-        name_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        if (dimensionsBuilder_ == null) {
-          dimensions_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-        } else {
-          dimensionsBuilder_.clear();
-        }
-        if (statsBuilder_ == null) {
-          stats_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
+        if (metricsBuilder_ == null) {
+          metrics_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
         } else {
-          statsBuilder_.clear();
+          metricsBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000004);
-        seconds_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -11374,130 +15487,85 @@ public final class Messages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_descriptor;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.getDefaultInstance();
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric result = buildPartial();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric(this);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.name_ = name_;
-        if (dimensionsBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002)) {
-            dimensions_ = java.util.Collections.unmodifiableList(dimensions_);
-            bitField0_ = (bitField0_ & ~0x00000002);
+        if (metricsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            metrics_ = java.util.Collections.unmodifiableList(metrics_);
+            bitField0_ = (bitField0_ & ~0x00000001);
           }
-          result.dimensions_ = dimensions_;
-        } else {
-          result.dimensions_ = dimensionsBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        if (statsBuilder_ == null) {
-          result.stats_ = stats_;
+          result.metrics_ = metrics_;
         } else {
-          result.stats_ = statsBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000004;
+          result.metrics_ = metricsBuilder_.build();
         }
-        result.seconds_ = seconds_;
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric)other);
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance()) return this;
-        if (other.hasName()) {
-          bitField0_ |= 0x00000001;
-          name_ = other.name_;
-          onChanged();
-        }
-        if (dimensionsBuilder_ == null) {
-          if (!other.dimensions_.isEmpty()) {
-            if (dimensions_.isEmpty()) {
-              dimensions_ = other.dimensions_;
-              bitField0_ = (bitField0_ & ~0x00000002);
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.getDefaultInstance()) return this;
+        if (metricsBuilder_ == null) {
+          if (!other.metrics_.isEmpty()) {
+            if (metrics_.isEmpty()) {
+              metrics_ = other.metrics_;
+              bitField0_ = (bitField0_ & ~0x00000001);
             } else {
-              ensureDimensionsIsMutable();
-              dimensions_.addAll(other.dimensions_);
+              ensureMetricsIsMutable();
+              metrics_.addAll(other.metrics_);
             }
             onChanged();
           }
         } else {
-          if (!other.dimensions_.isEmpty()) {
-            if (dimensionsBuilder_.isEmpty()) {
-              dimensionsBuilder_.dispose();
-              dimensionsBuilder_ = null;
-              dimensions_ = other.dimensions_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-              dimensionsBuilder_ = 
+          if (!other.metrics_.isEmpty()) {
+            if (metricsBuilder_.isEmpty()) {
+              metricsBuilder_.dispose();
+              metricsBuilder_ = null;
+              metrics_ = other.metrics_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              metricsBuilder_ = 
                 com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getDimensionsFieldBuilder() : null;
+                   getMetricsFieldBuilder() : null;
             } else {
-              dimensionsBuilder_.addAllMessages(other.dimensions_);
+              metricsBuilder_.addAllMessages(other.metrics_);
             }
           }
         }
-        if (other.hasStats()) {
-          mergeStats(other.getStats());
-        }
-        if (other.hasSeconds()) {
-          setSeconds(other.getSeconds());
-        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasName()) {
-          
-          return false;
-        }
-        if (!hasStats()) {
-          
-          return false;
-        }
-        if (!hasSeconds()) {
-          
-          return false;
-        }
-        for (int i = 0; i < getDimensionsCount(); i++) {
-          if (!getDimensions(i).isInitialized()) {
+        for (int i = 0; i < getMetricsCount(); i++) {
+          if (!getMetrics(i).isInitialized()) {
             
             return false;
           }
         }
-        if (!getStats().isInitialized()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -11505,11 +15573,11 @@ public final class Messages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric parsedMessage = null;
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric) e.getUnfinishedMessage();
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -11520,528 +15588,320 @@ public final class Messages {
       }
       private int bitField0_;
 
-      private java.lang.Object name_ = "";
-      /**
-       * <code>required string name = 1;</code>
-       */
-      public boolean hasName() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>required string name = 1;</code>
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            name_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>required string name = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>required string name = 1;</code>
-       */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        name_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string name = 1;</code>
-       */
-      public Builder clearName() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        name_ = getDefaultInstance().getName();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>required string name = 1;</code>
-       */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        name_ = value;
-        onChanged();
-        return this;
-      }
-
-      private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> dimensions_ =
+      private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> metrics_ =
         java.util.Collections.emptyList();
-      private void ensureDimensionsIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          dimensions_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension>(dimensions_);
-          bitField0_ |= 0x00000002;
+      private void ensureMetricsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          metrics_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric>(metrics_);
+          bitField0_ |= 0x00000001;
          }
       }
 
       private com.google.protobuf.RepeatedFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> dimensionsBuilder_;
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> metricsBuilder_;
 
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> getDimensionsList() {
-        if (dimensionsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(dimensions_);
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> getMetricsList() {
+        if (metricsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(metrics_);
         } else {
-          return dimensionsBuilder_.getMessageList();
+          return metricsBuilder_.getMessageList();
         }
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public int getDimensionsCount() {
-        if (dimensionsBuilder_ == null) {
-          return dimensions_.size();
+      public int getMetricsCount() {
+        if (metricsBuilder_ == null) {
+          return metrics_.size();
         } else {
-          return dimensionsBuilder_.getCount();
+          return metricsBuilder_.getCount();
         }
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension getDimensions(int index) {
-        if (dimensionsBuilder_ == null) {
-          return dimensions_.get(index);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index) {
+        if (metricsBuilder_ == null) {
+          return metrics_.get(index);
         } else {
-          return dimensionsBuilder_.getMessage(index);
+          return metricsBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder setDimensions(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension value) {
-        if (dimensionsBuilder_ == null) {
+      public Builder setMetrics(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
+        if (metricsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureDimensionsIsMutable();
-          dimensions_.set(index, value);
+          ensureMetricsIsMutable();
+          metrics_.set(index, value);
           onChanged();
         } else {
-          dimensionsBuilder_.setMessage(index, value);
+          metricsBuilder_.setMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder setDimensions(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder builderForValue) {
-        if (dimensionsBuilder_ == null) {
-          ensureDimensionsIsMutable();
-          dimensions_.set(index, builderForValue.build());
+      public Builder setMetrics(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          metrics_.set(index, builderForValue.build());
           onChanged();
         } else {
-          dimensionsBuilder_.setMessage(index, builderForValue.build());
+          metricsBuilder_.setMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder addDimensions(com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension value) {
-        if (dimensionsBuilder_ == null) {
+      public Builder addMetrics(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
+        if (metricsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureDimensionsIsMutable();
-          dimensions_.add(value);
+          ensureMetricsIsMutable();
+          metrics_.add(value);
           onChanged();
         } else {
-          dimensionsBuilder_.addMessage(value);
+          metricsBuilder_.addMessage(value);
         }
         return this;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder addDimensions(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension value) {
-        if (dimensionsBuilder_ == null) {
+      public Builder addMetrics(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
+        if (metricsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureDimensionsIsMutable();
-          dimensions_.add(index, value);
-          onChanged();
-        } else {
-          dimensionsBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public Builder addDimensions(
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder builderForValue) {
-        if (dimensionsBuilder_ == null) {
-          ensureDimensionsIsMutable();
-          dimensions_.add(builderForValue.build());
-          onChanged();
-        } else {
-          dimensionsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public Builder addDimensions(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder builderForValue) {
-        if (dimensionsBuilder_ == null) {
-          ensureDimensionsIsMutable();
-          dimensions_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          dimensionsBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public Builder addAllDimensions(
-          java.lang.Iterable<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension> values) {
-        if (dimensionsBuilder_ == null) {
-          ensureDimensionsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, dimensions_);
-          onChanged();
-        } else {
-          dimensionsBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public Builder clearDimensions() {
-        if (dimensionsBuilder_ == null) {
-          dimensions_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
+          ensureMetricsIsMutable();
+          metrics_.add(index, value);
           onChanged();
         } else {
-          dimensionsBuilder_.clear();
+          metricsBuilder_.addMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder removeDimensions(int index) {
-        if (dimensionsBuilder_ == null) {
-          ensureDimensionsIsMutable();
-          dimensions_.remove(index);
+      public Builder addMetrics(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          metrics_.add(builderForValue.build());
           onChanged();
         } else {
-          dimensionsBuilder_.remove(index);
+          metricsBuilder_.addMessage(builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder getDimensionsBuilder(
-          int index) {
-        return getDimensionsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder getDimensionsOrBuilder(
-          int index) {
-        if (dimensionsBuilder_ == null) {
-          return dimensions_.get(index);  } else {
-          return dimensionsBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> 
-           getDimensionsOrBuilderList() {
-        if (dimensionsBuilder_ != null) {
-          return dimensionsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(dimensions_);
-        }
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder addDimensionsBuilder() {
-        return getDimensionsFieldBuilder().addBuilder(
-            com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder addDimensionsBuilder(
-          int index) {
-        return getDimensionsFieldBuilder().addBuilder(
-            index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Dimension dimensions = 2;</code>
-       */
-      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder> 
-           getDimensionsBuilderList() {
-        return getDimensionsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder> 
-          getDimensionsFieldBuilder() {
-        if (dimensionsBuilder_ == null) {
-          dimensionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension, com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.DimensionOrBuilder>(
-                  dimensions_,
-                  ((bitField0_ & 0x00000002) == 0x00000002),
-                  getParentForChildren(),
-                  isClean());
-          dimensions_ = null;
-        }
-        return dimensionsBuilder_;
-      }
-
-      private com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats stats_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder> statsBuilder_;
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
-       */
-      public boolean hasStats() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats getStats() {
-        if (statsBuilder_ == null) {
-          return stats_;
-        } else {
-          return statsBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder setStats(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats value) {
-        if (statsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          stats_ = value;
+      public Builder addMetrics(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          metrics_.add(index, builderForValue.build());
           onChanged();
         } else {
-          statsBuilder_.setMessage(value);
+          metricsBuilder_.addMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder setStats(
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder builderForValue) {
-        if (statsBuilder_ == null) {
-          stats_ = builderForValue.build();
+      public Builder addAllMetrics(
+          java.lang.Iterable<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> values) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, metrics_);
           onChanged();
         } else {
-          statsBuilder_.setMessage(builderForValue.build());
+          metricsBuilder_.addAllMessages(values);
         }
-        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder mergeStats(com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats value) {
-        if (statsBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004) &&
-              stats_ != com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance()) {
-            stats_ =
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.newBuilder(stats_).mergeFrom(value).buildPartial();
-          } else {
-            stats_ = value;
-          }
+      public Builder clearMetrics() {
+        if (metricsBuilder_ == null) {
+          metrics_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
         } else {
-          statsBuilder_.mergeFrom(value);
+          metricsBuilder_.clear();
         }
-        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder clearStats() {
-        if (statsBuilder_ == null) {
-          stats_ = com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.getDefaultInstance();
+      public Builder removeMetrics(int index) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          metrics_.remove(index);
           onChanged();
         } else {
-          statsBuilder_.clear();
+          metricsBuilder_.remove(index);
         }
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
       /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder getStatsBuilder() {
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return getStatsFieldBuilder().getBuilder();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder getMetricsBuilder(
+          int index) {
+        return getMetricsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder getStatsOrBuilder() {
-        if (statsBuilder_ != null) {
-          return statsBuilder_.getMessageOrBuilder();
-        } else {
-          return stats_;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
+          int index) {
+        if (metricsBuilder_ == null) {
+          return metrics_.get(index);  } else {
+          return metricsBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>required .com.amazonaws.services.kinesis.producer.protobuf.Stats stats = 3;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder> 
-          getStatsFieldBuilder() {
-        if (statsBuilder_ == null) {
-          statsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats, com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.StatsOrBuilder>(
-                  getStats(),
-                  getParentForChildren(),
-                  isClean());
-          stats_ = null;
+      public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
+           getMetricsOrBuilderList() {
+        if (metricsBuilder_ != null) {
+          return metricsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(metrics_);
         }
-        return statsBuilder_;
       }
-
-      private long seconds_ ;
       /**
-       * <code>required uint64 seconds = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public boolean hasSeconds() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder addMetricsBuilder() {
+        return getMetricsFieldBuilder().addBuilder(
+            com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance());
       }
       /**
-       * <code>required uint64 seconds = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public long getSeconds() {
-        return seconds_;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder addMetricsBuilder(
+          int index) {
+        return getMetricsFieldBuilder().addBuilder(
+            index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance());
       }
       /**
-       * <code>required uint64 seconds = 4;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder setSeconds(long value) {
-        bitField0_ |= 0x00000008;
-        seconds_ = value;
-        onChanged();
-        return this;
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder> 
+           getMetricsBuilderList() {
+        return getMetricsFieldBuilder().getBuilderList();
       }
-      /**
-       * <code>required uint64 seconds = 4;</code>
-       */
-      public Builder clearSeconds() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        seconds_ = 0L;
-        onChanged();
-        return this;
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
+          getMetricsFieldBuilder() {
+        if (metricsBuilder_ == null) {
+          metricsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder>(
+                  metrics_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          metrics_ = null;
+        }
+        return metricsBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Metric)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
     }
 
     static {
-      defaultInstance = new Metric(true);
+      defaultInstance = new MetricsResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Metric)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
   }
 
-  public interface MetricsRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
+  public interface MetricsSnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    boolean hasName();
+    java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> 
+        getMetricsList();
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    java.lang.String getName();
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index);
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getNameBytes();
+    int getMetricsCount();
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+     */
+    java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
+        getMetricsOrBuilderList();
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+     */
+    com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
+        int index);
 
     /**
-     * <code>optional uint64 seconds = 2;</code>
+     * <code>optional bool full = 2;</code>
      */
-    boolean hasSeconds();
+    boolean hasFull();
     /**
-     * <code>optional uint64 seconds = 2;</code>
+     * <code>optional bool full = 2;</code>
      */
-    long getSeconds();
+    boolean getFull();
   }
   /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest}
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot}
+   *
+   * <pre>
+   * Stats are over the whole window, as in a MetricsResponse without seconds.
+   * The first snapshot after a MetricsRequest is full; after that only metrics
+   * whose stats changed since the previous snapshot are included.
+   * </pre>
    */
-  public static final class MetricsRequest extends
+  public static final class MetricsSnapshot extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
-      MetricsRequestOrBuilder {
-    // Use MetricsRequest.newBuilder() to construct.
-    private MetricsRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot)
+      MetricsSnapshotOrBuilder {
+    // Use MetricsSnapshot.newBuilder() to construct.
+    private MetricsSnapshot(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private MetricsRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private MetricsSnapshot(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final MetricsRequest defaultInstance;
-    public static MetricsRequest getDefaultInstance() {
+    private static final MetricsSnapshot defaultInstance;
+    public static MetricsSnapshot getDefaultInstance() {
       return defaultInstance;
     }
 
-    public MetricsRequest getDefaultInstanceForType() {
+    public MetricsSnapshot getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -12051,7 +15911,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private MetricsRequest(
+    private MetricsSnapshot(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -12075,14 +15935,16 @@ public final class Messages {
               break;
             }
             case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
-              bitField0_ |= 0x00000001;
-              name_ = bs;
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                metrics_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              metrics_.add(input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.PARSER, extensionRegistry));
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              seconds_ = input.readUInt64();
+              bitField0_ |= 0x00000001;
+              full_ = input.readBool();
               break;
             }
           }
@@ -12093,98 +15955,94 @@ public final class Messages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          metrics_ = java.util.Collections.unmodifiableList(metrics_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_descriptor;
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_fieldAccessorTable
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.Builder.class);
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<MetricsRequest> PARSER =
-        new com.google.protobuf.AbstractParser<MetricsRequest>() {
-      public MetricsRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<MetricsSnapshot> PARSER =
+        new com.google.protobuf.AbstractParser<MetricsSnapshot>() {
+      public MetricsSnapshot parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new MetricsRequest(input, extensionRegistry);
+        return new MetricsSnapshot(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<MetricsRequest> getParserForType() {
+    public com.google.protobuf.Parser<MetricsSnapshot> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
+    public static final int METRICS_FIELD_NUMBER = 1;
+    private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> metrics_;
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    public boolean hasName() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> getMetricsList() {
+      return metrics_;
     }
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          name_ = s;
-        }
-        return s;
-      }
+    public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
+        getMetricsOrBuilderList() {
+      return metrics_;
     }
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getMetricsCount() {
+      return metrics_.size();
+    }
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index) {
+      return metrics_.get(index);
+    }
+    /**
+     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+     */
+    public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
+        int index) {
+      return metrics_.get(index);
     }
 
-    public static final int SECONDS_FIELD_NUMBER = 2;
-    private long seconds_;
+    public static final int FULL_FIELD_NUMBER = 2;
+    private boolean full_;
     /**
-     * <code>optional uint64 seconds = 2;</code>
+     * <code>optional bool full = 2;</code>
      */
-    public boolean hasSeconds() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasFull() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional uint64 seconds = 2;</code>
+     * <code>optional bool full = 2;</code>
      */
-    public long getSeconds() {
-      return seconds_;
+    public boolean getFull() {
+      return full_;
     }
 
     private void initFields() {
-      name_ = "";
-      seconds_ = 0L;
+      metrics_ = java.util.Collections.emptyList();
+      full_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -12192,6 +16050,12 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      for (int i = 0; i < getMetricsCount(); i++) {
+        if (!getMetrics(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -12199,11 +16063,11 @@ public final class Messages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getNameBytes());
+      for (int i = 0; i < metrics_.size(); i++) {
+        output.writeMessage(1, metrics_.get(i));
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeUInt64(2, seconds_);
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBool(2, full_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -12214,13 +16078,13 @@ public final class Messages {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      for (int i = 0; i < metrics_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getNameBytes());
+          .computeMessageSize(1, metrics_.get(i));
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(2, seconds_);
+          .computeBoolSize(2, full_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -12234,53 +16098,53 @@ public final class Messages {
       return super.writeReplace();
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(byte[] data)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseDelimitedFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseDelimitedFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12289,7 +16153,7 @@ public final class Messages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest prototype) {
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -12301,25 +16165,31 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest}
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot}
+     *
+     * <pre>
+     * Stats are over the whole window, as in a MetricsResponse without seconds.
+     * The first snapshot after a MetricsRequest is full; after that only metrics
+     * whose stats changed since the previous snapshot are included.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshotOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_fieldAccessorTable
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.Builder.class);
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.Builder.class);
       }
 
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.newBuilder()
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12331,6 +16201,7 @@ public final class Messages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getMetricsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -12339,9 +16210,13 @@ public final class Messages {
 
       public Builder clear() {
         super.clear();
-        name_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        seconds_ = 0L;
+        if (metricsBuilder_ == null) {
+          metrics_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          metricsBuilder_.clear();
+        }
+        full_ = false;
         bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
@@ -12352,251 +16227,441 @@ public final class Messages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_descriptor;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.getDefaultInstance();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance();
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest result = buildPartial();
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest(this);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
+        if (metricsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            metrics_ = java.util.Collections.unmodifiableList(metrics_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.metrics_ = metrics_;
+        } else {
+          result.metrics_ = metricsBuilder_.build();
         }
-        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+          to_bitField0_ |= 0x00000001;
         }
-        result.seconds_ = seconds_;
+        result.full_ = full_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest)other);
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot.getDefaultInstance()) return this;
+        if (metricsBuilder_ == null) {
+          if (!other.metrics_.isEmpty()) {
+            if (metrics_.isEmpty()) {
+              metrics_ = other.metrics_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureMetricsIsMutable();
+              metrics_.addAll(other.metrics_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.metrics_.isEmpty()) {
+            if (metricsBuilder_.isEmpty()) {
+              metricsBuilder_.dispose();
+              metricsBuilder_ = null;
+              metrics_ = other.metrics_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              metricsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMetricsFieldBuilder() : null;
+            } else {
+              metricsBuilder_.addAllMessages(other.metrics_);
+            }
+          }
+        }
+        if (other.hasFull()) {
+          setFull(other.getFull());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getMetricsCount(); i++) {
+          if (!getMetrics(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> metrics_ =
+        java.util.Collections.emptyList();
+      private void ensureMetricsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          metrics_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric>(metrics_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> metricsBuilder_;
+
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> getMetricsList() {
+        if (metricsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(metrics_);
+        } else {
+          return metricsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public int getMetricsCount() {
+        if (metricsBuilder_ == null) {
+          return metrics_.size();
+        } else {
+          return metricsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index) {
+        if (metricsBuilder_ == null) {
+          return metrics_.get(index);
+        } else {
+          return metricsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder setMetrics(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
+        if (metricsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMetricsIsMutable();
+          metrics_.set(index, value);
+          onChanged();
+        } else {
+          metricsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder setMetrics(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          metrics_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          metricsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder addMetrics(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
+        if (metricsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMetricsIsMutable();
+          metrics_.add(value);
+          onChanged();
+        } else {
+          metricsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder addMetrics(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
+        if (metricsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMetricsIsMutable();
+          metrics_.add(index, value);
+          onChanged();
+        } else {
+          metricsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder addMetrics(
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          metrics_.add(builderForValue.build());
+          onChanged();
         } else {
-          super.mergeFrom(other);
-          return this;
+          metricsBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
-
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest.getDefaultInstance()) return this;
-        if (other.hasName()) {
-          bitField0_ |= 0x00000001;
-          name_ = other.name_;
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder addMetrics(
+          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          metrics_.add(index, builderForValue.build());
           onChanged();
+        } else {
+          metricsBuilder_.addMessage(index, builderForValue.build());
         }
-        if (other.hasSeconds()) {
-          setSeconds(other.getSeconds());
+        return this;
+      }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder addAllMetrics(
+          java.lang.Iterable<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> values) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, metrics_);
+          onChanged();
+        } else {
+          metricsBuilder_.addAllMessages(values);
         }
-        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder clearMetrics() {
+        if (metricsBuilder_ == null) {
+          metrics_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          metricsBuilder_.clear();
+        }
+        return this;
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+      /**
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       */
+      public Builder removeMetrics(int index) {
+        if (metricsBuilder_ == null) {
+          ensureMetricsIsMutable();
+          metrics_.remove(index);
+          onChanged();
+        } else {
+          metricsBuilder_.remove(index);
         }
         return this;
       }
-      private int bitField0_;
-
-      private java.lang.Object name_ = "";
       /**
-       * <code>optional string name = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public boolean hasName() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder getMetricsBuilder(
+          int index) {
+        return getMetricsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional string name = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            name_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
+          int index) {
+        if (metricsBuilder_ == null) {
+          return metrics_.get(index);  } else {
+          return metricsBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>optional string name = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
+      public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
+           getMetricsOrBuilderList() {
+        if (metricsBuilder_ != null) {
+          return metricsBuilder_.getMessageOrBuilderList();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return java.util.Collections.unmodifiableList(metrics_);
         }
       }
       /**
-       * <code>optional string name = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        name_ = value;
-        onChanged();
-        return this;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder addMetricsBuilder() {
+        return getMetricsFieldBuilder().addBuilder(
+            com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance());
       }
       /**
-       * <code>optional string name = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder clearName() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        name_ = getDefaultInstance().getName();
-        onChanged();
-        return this;
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder addMetricsBuilder(
+          int index) {
+        return getMetricsFieldBuilder().addBuilder(
+            index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance());
       }
       /**
-       * <code>optional string name = 1;</code>
+       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
        */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        name_ = value;
-        onChanged();
-        return this;
+      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder> 
+           getMetricsBuilderList() {
+        return getMetricsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
+          getMetricsFieldBuilder() {
+        if (metricsBuilder_ == null) {
+          metricsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder>(
+                  metrics_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          metrics_ = null;
+        }
+        return metricsBuilder_;
       }
 
-      private long seconds_ ;
+      private boolean full_ ;
       /**
-       * <code>optional uint64 seconds = 2;</code>
+       * <code>optional bool full = 2;</code>
        */
-      public boolean hasSeconds() {
+      public boolean hasFull() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional uint64 seconds = 2;</code>
+       * <code>optional bool full = 2;</code>
        */
-      public long getSeconds() {
-        return seconds_;
+      public boolean getFull() {
+        return full_;
       }
       /**
-       * <code>optional uint64 seconds = 2;</code>
+       * <code>optional bool full = 2;</code>
        */
-      public Builder setSeconds(long value) {
+      public Builder setFull(boolean value) {
         bitField0_ |= 0x00000002;
-        seconds_ = value;
+        full_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional uint64 seconds = 2;</code>
+       * <code>optional bool full = 2;</code>
        */
-      public Builder clearSeconds() {
+      public Builder clearFull() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        seconds_ = 0L;
+        full_ = false;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot)
     }
 
     static {
-      defaultInstance = new MetricsRequest(true);
+      defaultInstance = new MetricsSnapshot(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsRequest)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsSnapshot)
   }
 
-  public interface MetricsResponseOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
+  public interface HandshakeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.amazonaws.services.kinesis.producer.protobuf.Handshake)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-     */
-    java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> 
-        getMetricsList();
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-     */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index);
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-     */
-    int getMetricsCount();
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+     * <code>required uint32 protocol_version = 1;</code>
      */
-    java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
-        getMetricsOrBuilderList();
+    boolean hasProtocolVersion();
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+     * <code>required uint32 protocol_version = 1;</code>
      */
-    com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
-        int index);
+    int getProtocolVersion();
   }
   /**
-   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse}
+   * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Handshake}
+   *
+   * <pre>
+   * Sent by the child before anything else, saying which version of this
+   * protocol it speaks. Until it arrives, and forever with a child too old to
+   * send one, the Java side only uses what such a child understands: PutRecord
+   * by stream name with the key in decimal, Flush, MetricsRequest without
+   * snapshot_interval and SetCredentials. Version 2 adds RegisterStream,
+   * stream_id, explicit_hash_key_binary, PutRecordBatch and MetricsSnapshot.
+   * </pre>
    */
-  public static final class MetricsResponse extends
+  public static final class Handshake extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
-      MetricsResponseOrBuilder {
-    // Use MetricsResponse.newBuilder() to construct.
-    private MetricsResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:com.amazonaws.services.kinesis.producer.protobuf.Handshake)
+      HandshakeOrBuilder {
+    // Use Handshake.newBuilder() to construct.
+    private Handshake(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private MetricsResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Handshake(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final MetricsResponse defaultInstance;
-    public static MetricsResponse getDefaultInstance() {
+    private static final Handshake defaultInstance;
+    public static Handshake getDefaultInstance() {
       return defaultInstance;
     }
 
-    public MetricsResponse getDefaultInstanceForType() {
+    public Handshake getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -12606,7 +16671,7 @@ public final class Messages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private MetricsResponse(
+    private Handshake(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -12629,12 +16694,9 @@ public final class Messages {
               }
               break;
             }
-            case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                metrics_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              metrics_.add(input.readMessage(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.PARSER, extensionRegistry));
+            case 8: {
+              bitField0_ |= 0x00000001;
+              protocolVersion_ = input.readUInt32();
               break;
             }
           }
@@ -12645,77 +16707,55 @@ public final class Messages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          metrics_ = java.util.Collections.unmodifiableList(metrics_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_descriptor;
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_fieldAccessorTable
+      return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.Builder.class);
-    }
-
-    public static com.google.protobuf.Parser<MetricsResponse> PARSER =
-        new com.google.protobuf.AbstractParser<MetricsResponse>() {
-      public MetricsResponse parsePartialFrom(
+              com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Handshake> PARSER =
+        new com.google.protobuf.AbstractParser<Handshake>() {
+      public Handshake parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new MetricsResponse(input, extensionRegistry);
+        return new Handshake(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<MetricsResponse> getParserForType() {
+    public com.google.protobuf.Parser<Handshake> getParserForType() {
       return PARSER;
     }
 
-    public static final int METRICS_FIELD_NUMBER = 1;
-    private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> metrics_;
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-     */
-    public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> getMetricsList() {
-      return metrics_;
-    }
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-     */
-    public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
-        getMetricsOrBuilderList() {
-      return metrics_;
-    }
-    /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-     */
-    public int getMetricsCount() {
-      return metrics_.size();
-    }
+    private int bitField0_;
+    public static final int PROTOCOL_VERSION_FIELD_NUMBER = 1;
+    private int protocolVersion_;
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+     * <code>required uint32 protocol_version = 1;</code>
      */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index) {
-      return metrics_.get(index);
+    public boolean hasProtocolVersion() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+     * <code>required uint32 protocol_version = 1;</code>
      */
-    public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
-        int index) {
-      return metrics_.get(index);
+    public int getProtocolVersion() {
+      return protocolVersion_;
     }
 
     private void initFields() {
-      metrics_ = java.util.Collections.emptyList();
+      protocolVersion_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -12723,11 +16763,9 @@ public final class Messages {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      for (int i = 0; i < getMetricsCount(); i++) {
-        if (!getMetrics(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
+      if (!hasProtocolVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
       memoizedIsInitialized = 1;
       return true;
@@ -12736,8 +16774,8 @@ public final class Messages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      for (int i = 0; i < metrics_.size(); i++) {
-        output.writeMessage(1, metrics_.get(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(1, protocolVersion_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -12748,9 +16786,9 @@ public final class Messages {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < metrics_.size(); i++) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, metrics_.get(i));
+          .computeUInt32Size(1, protocolVersion_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -12764,53 +16802,53 @@ public final class Messages {
       return super.writeReplace();
     }
 
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(byte[] data)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseDelimitedFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parseFrom(
+    public static com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12819,7 +16857,7 @@ public final class Messages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse prototype) {
+    public static Builder newBuilder(com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -12831,410 +16869,178 @@ public final class Messages {
       return builder;
     }
     /**
-     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse}
+     * Protobuf type {@code com.amazonaws.services.kinesis.producer.protobuf.Handshake}
+     *
+     * <pre>
+     * Sent by the child before anything else, saying which version of this
+     * protocol it speaks. Until it arrives, and forever with a child too old to
+     * send one, the Java side only uses what such a child understands: PutRecord
+     * by stream name with the key in decimal, Flush, MetricsRequest without
+     * snapshot_interval and SetCredentials. Version 2 adds RegisterStream,
+     * stream_id, explicit_hash_key_binary, PutRecordBatch and MetricsSnapshot.
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.amazonaws.services.kinesis.producer.protobuf.Handshake)
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.HandshakeOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_descriptor;
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_fieldAccessorTable
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.Builder.class);
+                com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.class, com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.Builder.class);
       }
 
-      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.newBuilder()
+      // Construct using com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getMetricsFieldBuilder();
-        }
-      }
-      private static Builder create() {
-        return new Builder();
-      }
-
-      public Builder clear() {
-        super.clear();
-        if (metricsBuilder_ == null) {
-          metrics_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          metricsBuilder_.clear();
-        }
-        return this;
-      }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_descriptor;
-      }
-
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse getDefaultInstanceForType() {
-        return com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.getDefaultInstance();
-      }
-
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse build() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse buildPartial() {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse(this);
-        int from_bitField0_ = bitField0_;
-        if (metricsBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            metrics_ = java.util.Collections.unmodifiableList(metrics_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.metrics_ = metrics_;
-        } else {
-          result.metrics_ = metricsBuilder_.build();
-        }
-        onBuilt();
-        return result;
-      }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse) {
-          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse other) {
-        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse.getDefaultInstance()) return this;
-        if (metricsBuilder_ == null) {
-          if (!other.metrics_.isEmpty()) {
-            if (metrics_.isEmpty()) {
-              metrics_ = other.metrics_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureMetricsIsMutable();
-              metrics_.addAll(other.metrics_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.metrics_.isEmpty()) {
-            if (metricsBuilder_.isEmpty()) {
-              metricsBuilder_.dispose();
-              metricsBuilder_ = null;
-              metrics_ = other.metrics_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              metricsBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getMetricsFieldBuilder() : null;
-            } else {
-              metricsBuilder_.addAllMessages(other.metrics_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        for (int i = 0; i < getMetricsCount(); i++) {
-          if (!getMetrics(i).isInitialized()) {
-            
-            return false;
-          }
-        }
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsResponse) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
-
-      private java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> metrics_ =
-        java.util.Collections.emptyList();
-      private void ensureMetricsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          metrics_ = new java.util.ArrayList<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric>(metrics_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> metricsBuilder_;
-
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> getMetricsList() {
-        if (metricsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(metrics_);
-        } else {
-          return metricsBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public int getMetricsCount() {
-        if (metricsBuilder_ == null) {
-          return metrics_.size();
-        } else {
-          return metricsBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric getMetrics(int index) {
-        if (metricsBuilder_ == null) {
-          return metrics_.get(index);
-        } else {
-          return metricsBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder setMetrics(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
-        if (metricsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureMetricsIsMutable();
-          metrics_.set(index, value);
-          onChanged();
-        } else {
-          metricsBuilder_.setMessage(index, value);
-        }
-        return this;
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder setMetrics(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
-        if (metricsBuilder_ == null) {
-          ensureMetricsIsMutable();
-          metrics_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          metricsBuilder_.setMessage(index, builderForValue.build());
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
-        return this;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder addMetrics(com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
-        if (metricsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureMetricsIsMutable();
-          metrics_.add(value);
-          onChanged();
-        } else {
-          metricsBuilder_.addMessage(value);
-        }
-        return this;
+      private static Builder create() {
+        return new Builder();
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder addMetrics(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric value) {
-        if (metricsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureMetricsIsMutable();
-          metrics_.add(index, value);
-          onChanged();
-        } else {
-          metricsBuilder_.addMessage(index, value);
-        }
+
+      public Builder clear() {
+        super.clear();
+        protocolVersion_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder addMetrics(
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
-        if (metricsBuilder_ == null) {
-          ensureMetricsIsMutable();
-          metrics_.add(builderForValue.build());
-          onChanged();
-        } else {
-          metricsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder addMetrics(
-          int index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder builderForValue) {
-        if (metricsBuilder_ == null) {
-          ensureMetricsIsMutable();
-          metrics_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          metricsBuilder_.addMessage(index, builderForValue.build());
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_descriptor;
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake getDefaultInstanceForType() {
+        return com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance();
+      }
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake build() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        return this;
+        return result;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder addAllMetrics(
-          java.lang.Iterable<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric> values) {
-        if (metricsBuilder_ == null) {
-          ensureMetricsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, metrics_);
-          onChanged();
-        } else {
-          metricsBuilder_.addAllMessages(values);
+
+      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake buildPartial() {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake result = new com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-        return this;
+        result.protocolVersion_ = protocolVersion_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder clearMetrics() {
-        if (metricsBuilder_ == null) {
-          metrics_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) {
+          return mergeFrom((com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake)other);
         } else {
-          metricsBuilder_.clear();
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public Builder removeMetrics(int index) {
-        if (metricsBuilder_ == null) {
-          ensureMetricsIsMutable();
-          metrics_.remove(index);
-          onChanged();
-        } else {
-          metricsBuilder_.remove(index);
+
+      public Builder mergeFrom(com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake other) {
+        if (other == com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake.getDefaultInstance()) return this;
+        if (other.hasProtocolVersion()) {
+          setProtocolVersion(other.getProtocolVersion());
         }
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder getMetricsBuilder(
-          int index) {
-        return getMetricsFieldBuilder().getBuilder(index);
+
+      public final boolean isInitialized() {
+        if (!hasProtocolVersion()) {
+          
+          return false;
+        }
+        return true;
       }
-      /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
-       */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder getMetricsOrBuilder(
-          int index) {
-        if (metricsBuilder_ == null) {
-          return metrics_.get(index);  } else {
-          return metricsBuilder_.getMessageOrBuilder(index);
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
+        return this;
       }
+      private int bitField0_;
+
+      private int protocolVersion_ ;
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       * <code>required uint32 protocol_version = 1;</code>
        */
-      public java.util.List<? extends com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
-           getMetricsOrBuilderList() {
-        if (metricsBuilder_ != null) {
-          return metricsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(metrics_);
-        }
+      public boolean hasProtocolVersion() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       * <code>required uint32 protocol_version = 1;</code>
        */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder addMetricsBuilder() {
-        return getMetricsFieldBuilder().addBuilder(
-            com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance());
+      public int getProtocolVersion() {
+        return protocolVersion_;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       * <code>required uint32 protocol_version = 1;</code>
        */
-      public com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder addMetricsBuilder(
-          int index) {
-        return getMetricsFieldBuilder().addBuilder(
-            index, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.getDefaultInstance());
+      public Builder setProtocolVersion(int value) {
+        bitField0_ |= 0x00000001;
+        protocolVersion_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .com.amazonaws.services.kinesis.producer.protobuf.Metric metrics = 1;</code>
+       * <code>required uint32 protocol_version = 1;</code>
        */
-      public java.util.List<com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder> 
-           getMetricsBuilderList() {
-        return getMetricsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder> 
-          getMetricsFieldBuilder() {
-        if (metricsBuilder_ == null) {
-          metricsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric, com.amazonaws.services.kinesis.producer.protobuf.Messages.Metric.Builder, com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricOrBuilder>(
-                  metrics_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          metrics_ = null;
-        }
-        return metricsBuilder_;
+      public Builder clearProtocolVersion() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        protocolVersion_ = 0;
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
+      // @@protoc_insertion_point(builder_scope:com.amazonaws.services.kinesis.producer.protobuf.Handshake)
     }
 
     static {
-      defaultInstance = new MetricsResponse(true);
+      defaultInstance = new Handshake(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.MetricsResponse)
+    // @@protoc_insertion_point(class_scope:com.amazonaws.services.kinesis.producer.protobuf.Handshake)
   }
 
   private static final com.google.protobuf.Descriptors.Descriptor
@@ -13262,6 +17068,16 @@ public final class Messages {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecord_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor;
   private static
@@ -13312,6 +17128,16 @@ public final class Messages {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -13331,7 +17157,7 @@ public final class Messages {
       "egatedRecord\022\033\n\023partition_key_table\030\001 \003(" +
       "\t\022\037\n\027explicit_hash_key_table\030\002 \003(\t\022I\n\007re" +
       "cords\030\003 \003(\01328.com.amazonaws.services.kin",
-      "esis.producer.protobuf.Record\"\252\005\n\007Messag" +
+      "esis.producer.protobuf.Record\"\226\010\n\007Messag" +
       "e\022\n\n\002id\030\001 \002(\004\022\021\n\tsource_id\030\002 \001(\004\022Q\n\nput_" +
       "record\030\003 \001(\0132;.com.amazonaws.services.ki" +
       "nesis.producer.protobuf.PutRecordH\000\022H\n\005f" +
@@ -13348,33 +17174,52 @@ public final class Messages {
       "kinesis.producer.protobuf.MetricsRespons" +
       "eH\000\022[\n\017set_credentials\030\t \001(\0132@.com.amazo" +
       "naws.services.kinesis.producer.protobuf." +
-      "SetCredentialsH\000B\020\n\016actual_message\"`\n\tPu" +
-      "tRecord\022\023\n\013stream_name\030\001 \002(\t\022\025\n\rpartitio" +
-      "n_key\030\002 \002(\t\022\031\n\021explicit_hash_key\030\003 \001(\t\022\014",
-      "\n\004data\030\004 \002(\014\"\034\n\005Flush\022\023\n\013stream_name\030\001 \001" +
-      "(\t\"f\n\007Attempt\022\r\n\005delay\030\001 \002(\r\022\020\n\010duration" +
-      "\030\002 \002(\r\022\017\n\007success\030\003 \002(\010\022\022\n\nerror_code\030\004 " +
-      "\001(\t\022\025\n\rerror_message\030\005 \001(\t\"\232\001\n\017PutRecord" +
-      "Result\022K\n\010attempts\030\001 \003(\01329.com.amazonaws" +
-      ".services.kinesis.producer.protobuf.Atte" +
-      "mpt\022\017\n\007success\030\002 \002(\010\022\020\n\010shard_id\030\003 \001(\t\022\027" +
-      "\n\017sequence_number\030\004 \001(\t\">\n\013Credentials\022\014" +
-      "\n\004akid\030\001 \002(\t\022\022\n\nsecret_key\030\002 \002(\t\022\r\n\005toke" +
-      "n\030\003 \001(\t\"y\n\016SetCredentials\022\023\n\013for_metrics",
-      "\030\001 \001(\010\022R\n\013credentials\030\002 \002(\0132=.com.amazon" +
-      "aws.services.kinesis.producer.protobuf.C" +
-      "redentials\"\'\n\tDimension\022\013\n\003key\030\001 \002(\t\022\r\n\005" +
-      "value\030\002 \002(\t\"K\n\005Stats\022\r\n\005count\030\001 \002(\001\022\013\n\003s" +
-      "um\030\002 \002(\001\022\014\n\004mean\030\003 \002(\001\022\013\n\003min\030\004 \002(\001\022\013\n\003m" +
-      "ax\030\005 \002(\001\"\300\001\n\006Metric\022\014\n\004name\030\001 \002(\t\022O\n\ndim" +
-      "ensions\030\002 \003(\0132;.com.amazonaws.services.k" +
-      "inesis.producer.protobuf.Dimension\022F\n\005st" +
-      "ats\030\003 \002(\01327.com.amazonaws.services.kines" +
-      "is.producer.protobuf.Stats\022\017\n\007seconds\030\004 ",
-      "\002(\004\"/\n\016MetricsRequest\022\014\n\004name\030\001 \001(\t\022\017\n\007s" +
-      "econds\030\002 \001(\004\"\\\n\017MetricsResponse\022I\n\007metri" +
-      "cs\030\001 \003(\01328.com.amazonaws.services.kinesi" +
-      "s.producer.protobuf.Metric"
+      "SetCredentialsH\000\022[\n\017register_stream\030\n \001(" +
+      "\0132@.com.amazonaws.services.kinesis.produ" +
+      "cer.protobuf.RegisterStreamH\000\022\\\n\020put_rec",
+      "ord_batch\030\013 \001(\0132@.com.amazonaws.services" +
+      ".kinesis.producer.protobuf.PutRecordBatc" +
+      "hH\000\022]\n\020metrics_snapshot\030\014 \001(\0132A.com.amaz" +
+      "onaws.services.kinesis.producer.protobuf" +
+      ".MetricsSnapshotH\000\022P\n\thandshake\030\r \001(\0132;." +
+      "com.amazonaws.services.kinesis.producer." +
+      "protobuf.HandshakeH\000B\020\n\016actual_message\"\225" +
+      "\001\n\tPutRecord\022\023\n\013stream_name\030\001 \001(\t\022\025\n\rpar" +
+      "tition_key\030\002 \002(\t\022\031\n\021explicit_hash_key\030\003 " +
+      "\001(\t\022\014\n\004data\030\004 \002(\014\022\021\n\tstream_id\030\005 \001(\r\022 \n\030",
+      "explicit_hash_key_binary\030\006 \001(\014\"8\n\016Regist" +
+      "erStream\022\021\n\tstream_id\030\001 \002(\r\022\023\n\013stream_na" +
+      "me\030\002 \002(\t\"v\n\016PutRecordBatch\022L\n\007records\030\001 " +
+      "\003(\0132;.com.amazonaws.services.kinesis.pro" +
+      "ducer.protobuf.PutRecord\022\026\n\nid_offsets\030\002" +
+      " \003(\rB\002\020\001\"\034\n\005Flush\022\023\n\013stream_name\030\001 \001(\t\"f" +
+      "\n\007Attempt\022\r\n\005delay\030\001 \002(\r\022\020\n\010duration\030\002 \002" +
+      "(\r\022\017\n\007success\030\003 \002(\010\022\022\n\nerror_code\030\004 \001(\t\022" +
+      "\025\n\rerror_message\030\005 \001(\t\"\232\001\n\017PutRecordResu" +
+      "lt\022K\n\010attempts\030\001 \003(\01329.com.amazonaws.ser",
+      "vices.kinesis.producer.protobuf.Attempt\022" +
+      "\017\n\007success\030\002 \002(\010\022\020\n\010shard_id\030\003 \001(\t\022\027\n\017se" +
+      "quence_number\030\004 \001(\t\">\n\013Credentials\022\014\n\004ak" +
+      "id\030\001 \002(\t\022\022\n\nsecret_key\030\002 \002(\t\022\r\n\005token\030\003 " +
+      "\001(\t\"y\n\016SetCredentials\022\023\n\013for_metrics\030\001 \001" +
+      "(\010\022R\n\013credentials\030\002 \002(\0132=.com.amazonaws." +
+      "services.kinesis.producer.protobuf.Crede" +
+      "ntials\"\'\n\tDimension\022\013\n\003key\030\001 \002(\t\022\r\n\005valu" +
+      "e\030\002 \002(\t\"K\n\005Stats\022\r\n\005count\030\001 \002(\001\022\013\n\003sum\030\002" +
+      " \002(\001\022\014\n\004mean\030\003 \002(\001\022\013\n\003min\030\004 \002(\001\022\013\n\003max\030\005",
+      " \002(\001\"\300\001\n\006Metric\022\014\n\004name\030\001 \002(\t\022O\n\ndimensi" +
+      "ons\030\002 \003(\0132;.com.amazonaws.services.kines" +
+      "is.producer.protobuf.Dimension\022F\n\005stats\030" +
+      "\003 \002(\01327.com.amazonaws.services.kinesis.p" +
+      "roducer.protobuf.Stats\022\017\n\007seconds\030\004 \002(\004\"" +
+      "J\n\016MetricsRequest\022\014\n\004name\030\001 \001(\t\022\017\n\007secon" +
+      "ds\030\002 \001(\004\022\031\n\021snapshot_interval\030\003 \001(\004\"\\\n\017M" +
+      "etricsResponse\022I\n\007metrics\030\001 \003(\01328.com.am" +
+      "azonaws.services.kinesis.producer.protob" +
+      "uf.Metric\"j\n\017MetricsSnapshot\022I\n\007metrics\030",
+      "\001 \003(\01328.com.amazonaws.services.kinesis.p" +
+      "roducer.protobuf.Metric\022\014\n\004full\030\002 \001(\010\"%\n" +
+      "\tHandshake\022\030\n\020protocol_version\030\001 \002(\r"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -13412,73 +17257,97 @@ public final class Messages {
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Message_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_Message_descriptor,
-        new java.lang.String[] { "Id", "SourceId", "PutRecord", "Flush", "PutRecordResult", "Configuration", "MetricsRequest", "MetricsResponse", "SetCredentials", "ActualMessage", });
+        new java.lang.String[] { "Id", "SourceId", "PutRecord", "Flush", "PutRecordResult", "Configuration", "MetricsRequest", "MetricsResponse", "SetCredentials", "RegisterStream", "PutRecordBatch", "MetricsSnapshot", "Handshake", "ActualMessage", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecord_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecord_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecord_descriptor,
-        new java.lang.String[] { "StreamName", "PartitionKey", "ExplicitHashKey", "Data", });
-    internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor =
+        new java.lang.String[] { "StreamName", "PartitionKey", "ExplicitHashKey", "Data", "StreamId", "ExplicitHashKeyBinary", });
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_amazonaws_services_kinesis_producer_protobuf_RegisterStream_descriptor,
+        new java.lang.String[] { "StreamId", "StreamName", });
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordBatch_descriptor,
+        new java.lang.String[] { "Records", "IdOffsets", });
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor =
+      getDescriptor().getMessageTypes().get(7);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_Flush_descriptor,
         new java.lang.String[] { "StreamName", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_Attempt_descriptor,
         new java.lang.String[] { "Delay", "Duration", "Success", "ErrorCode", "ErrorMessage", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_PutRecordResult_descriptor,
         new java.lang.String[] { "Attempts", "Success", "ShardId", "SequenceNumber", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_Credentials_descriptor,
         new java.lang.String[] { "Akid", "SecretKey", "Token", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_SetCredentials_descriptor,
         new java.lang.String[] { "ForMetrics", "Credentials", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_Dimension_descriptor,
         new java.lang.String[] { "Key", "Value", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_Stats_descriptor,
         new java.lang.String[] { "Count", "Sum", "Mean", "Min", "Max", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_Metric_descriptor,
         new java.lang.String[] { "Name", "Dimensions", "Stats", "Seconds", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsRequest_descriptor,
-        new java.lang.String[] { "Name", "Seconds", });
+        new java.lang.String[] { "Name", "Seconds", "SnapshotInterval", });
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsResponse_descriptor,
         new java.lang.String[] { "Metrics", });
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_amazonaws_services_kinesis_producer_protobuf_MetricsSnapshot_descriptor,
+        new java.lang.String[] { "Metrics", "Full", });
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_amazonaws_services_kinesis_producer_protobuf_Handshake_descriptor,
+        new java.lang.String[] { "ProtocolVersion", });
     com.amazonaws.services.kinesis.producer.protobuf.Config.getDescriptor();
   }
 
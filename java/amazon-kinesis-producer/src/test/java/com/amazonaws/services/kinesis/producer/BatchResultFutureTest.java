@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BatchResultFutureTest {
+    private static UserRecordResult result(boolean successful) {
+        return new UserRecordResult(Collections.<Attempt>emptyList(), null, null, successful);
+    }
+
+    @Test
+    public void completesOnceEveryRecordHasFinished() throws Exception {
+        BatchResultFuture batch = new BatchResultFuture(100, 4);
+        ResultFuture<UserRecordResult> e0 = batch.entry(100, 0);
+        ResultFuture<UserRecordResult> e1 = batch.entry(101, 1);
+        ResultFuture<UserRecordResult> e3 = batch.entry(103, 3);
+        RuntimeException died = new RuntimeException("child died");
+        UserRecordResult failed = result(false);
+
+        e3.setException(died);
+        e0.set(result(true));
+        batch.fail(2, new OutstandingLimitExceededException("full"));
+        assertFalse(batch.isDone());
+        e1.setException(new UserRecordFailedException(failed));
+        // Completing an entry twice doesn't count twice
+        e0.set(result(true));
+
+        UserRecordBatchResult r = batch.get(1, TimeUnit.SECONDS);
+        assertEquals(4, r.getRecordCount());
+        assertEquals(1, r.getSuccessfulRecordCount());
+        assertFalse(r.isSuccessful());
+        assertEquals(3, r.getFailedRecords().size());
+        assertEquals(1, r.getFailedRecords().get(0).getIndex());
+        assertSame(failed, r.getFailedRecords().get(0).getResult());
+        assertEquals(2, r.getFailedRecords().get(1).getIndex());
+        assertTrue(r.getFailedRecords().get(1).getCause() instanceof OutstandingLimitExceededException);
+        assertEquals(3, r.getFailedRecords().get(2).getIndex());
+        assertSame(died, r.getFailedRecords().get(2).getCause());
+        assertNull(r.getFailedRecords().get(2).getResult());
+        assertTrue(e1.isDone());
+    }
+
+    @Test
+    public void emptyBatchIsDoneImmediately() throws Exception {
+        BatchResultFuture batch = new BatchResultFuture(1, 0);
+        assertTrue(batch.isDone());
+        assertTrue(batch.get().isSuccessful());
+        assertEquals(0, batch.get().getRecordCount());
+    }
+}
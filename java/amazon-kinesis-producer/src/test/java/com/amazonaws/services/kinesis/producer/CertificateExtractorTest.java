@@ -66,6 +66,24 @@ public class CertificateExtractorTest {
         verifyAllCertificates(caDirectory, extractor);
     }
 
+    @Test
+    public void testCertificateChangedSinceLastExtraction() throws Exception {
+        File tempDirectory = Files.createTempDirectory("kpl-ca-test").toFile();
+        new CertificateExtractor().extractCertificates(tempDirectory);
+        assertThat(new File(tempDirectory, CertificateExtractor.DIGESTS_FILE_NAME).exists(), equalTo(true));
+
+        File caDirectory = new File(tempDirectory, CertificateExtractor.CA_CERTS_DIRECTORY_NAME);
+        File changedCert = new File(caDirectory, CertificateExtractor.CERTIFICATE_FILES.get(5));
+        try (FileOutputStream fos = new FileOutputStream(changedCert)) {
+            fos.write(new byte[]{1, 2, 3, 4});
+        }
+
+        CertificateExtractor extractor = new CertificateExtractor();
+        extractor.extractCertificates(tempDirectory);
+
+        verifyAllCertificates(caDirectory, extractor);
+    }
+
     private void verifyAllCertificates(File caCertsDirectory, CertificateExtractor extractor) throws IOException {
         ClassLoader classLoader = CertificateExtractor.class.getClassLoader();
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompletionTableTest {
+
+    @Test
+    public void removesByIdAcrossRingWraparound() {
+        CompletionTable table = new CompletionTable(4);
+        List<ResultFuture<?>> added = new ArrayList<>();
+        // Ids 1 and 5 map to the same slot, so the second goes to the overflow map
+        for (long id = 1; id <= 10; id++) {
+            ResultFuture<String> f = new ResultFuture<>(id);
+            table.put(f);
+            added.add(f);
+        }
+        assertEquals(10, table.size());
+        for (int i = added.size() - 1; i >= 0; i--) {
+            assertSame(added.get(i), table.remove(added.get(i).getId()));
+        }
+        assertEquals(0, table.size());
+        assertNull(table.remove(3));
+    }
+
+    @Test
+    public void removeAllEmptiesTable() {
+        CompletionTable table = new CompletionTable(4);
+        for (long id = 1; id <= 7; id++) {
+            table.put(new ResultFuture<String>(id));
+        }
+        assertEquals(7, table.removeAll().size());
+        assertEquals(0, table.size());
+        assertNull(table.remove(1));
+    }
+
+    @Test
+    public void futureRunsListenersInOrderOnCompletion() throws Exception {
+        ResultFuture<String> f = new ResultFuture<>(1);
+        final List<Integer> order = new ArrayList<>();
+        f.addListener(() -> order.add(1), MoreExecutors.directExecutor());
+        f.addListener(() -> order.add(2), MoreExecutors.directExecutor());
+        assertTrue(f.set("done"));
+        f.addListener(() -> order.add(3), MoreExecutors.directExecutor());
+        assertEquals("done", f.get());
+        assertEquals(3, order.size());
+        assertEquals(1, (int) order.get(0));
+        assertEquals(3, (int) order.get(2));
+    }
+
+    @Test
+    public void futureReportsFailure() throws Exception {
+        ResultFuture<String> f = new ResultFuture<>(1);
+        IllegalStateException cause = new IllegalStateException();
+        f.setException(cause);
+        try {
+            f.get();
+        } catch (ExecutionException e) {
+            assertSame(cause, e.getCause());
+            return;
+        }
+        throw new AssertionError("Expected ExecutionException");
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void futureGetTimesOut() throws Exception {
+        new ResultFuture<String>(1).get(10, TimeUnit.MILLISECONDS);
+    }
+}
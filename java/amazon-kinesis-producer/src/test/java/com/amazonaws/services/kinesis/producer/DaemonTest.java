@@ -0,0 +1,400 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.protobuf.ByteString;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Handshake;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsRequest;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordResult;
+
+import org.apache.commons.lang.SystemUtils;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DaemonTest {
+    private File inPipe;
+    private File outPipe;
+    private ExecutorService exec;
+
+    /**
+     * The child's end of the pipes. Opened in the same order the Daemon opens its ends so neither side deadlocks.
+     */
+    private DataOutputStream toDaemon;
+    private DataInputStream fromDaemon;
+    private final Queue<Message> unbatched = new ArrayDeque<>();
+
+    @Before
+    public void createPipes() throws Exception {
+        Assume.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+        File dir = new File(System.getProperty("java.io.tmpdir"));
+        inPipe = new File(dir, "kpl-test-in-" + UUID.randomUUID());
+        outPipe = new File(dir, "kpl-test-out-" + UUID.randomUUID());
+        Process p = new ProcessBuilder("mkfifo", inPipe.getAbsolutePath(), outPipe.getAbsolutePath()).start();
+        assertEquals(0, p.waitFor());
+        exec = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void deletePipes() {
+        if (exec != null) {
+            exec.shutdownNow();
+        }
+        if (inPipe != null) {
+            inPipe.delete();
+            outPipe.delete();
+        }
+    }
+
+    private Daemon connect(Daemon.MessageHandler handler) throws Exception {
+        Future<Void> child = exec.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                toDaemon = new DataOutputStream(new FileOutputStream(inPipe));
+                fromDaemon = new DataInputStream(new FileInputStream(outPipe));
+                return null;
+            }
+        });
+        Daemon daemon = new Daemon(inPipe, outPipe, handler);
+        child.get(5, TimeUnit.SECONDS);
+        return daemon;
+    }
+
+    /**
+     * Say, as the child, that we speak the current protocol, and wait for the Daemon to take it in.
+     */
+    private void handshake(Daemon daemon) throws Exception {
+        byte[] b = Message.newBuilder()
+                .setId(0)
+                .setHandshake(Handshake.newBuilder().setProtocolVersion(Daemon.PROTOCOL_VERSION))
+                .build()
+                .toByteArray();
+        toDaemon.writeInt(b.length);
+        toDaemon.write(b);
+        toDaemon.flush();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (daemon.getChildProtocolVersion() != Daemon.PROTOCOL_VERSION) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static Message putRecord(long id) {
+        return Message.newBuilder()
+                .setId(id)
+                .setPutRecord(PutRecord.newBuilder()
+                        .setStreamName("stream")
+                        .setPartitionKey(Long.toString(id))
+                        .setData(ByteString.copyFromUtf8("data-" + id)))
+                .build();
+    }
+
+    private Message readFrame() throws Exception {
+        int len = fromDaemon.readInt();
+        byte[] b = new byte[len];
+        fromDaemon.readFully(b);
+        return Message.parseFrom(b);
+    }
+
+    /**
+     * Like {@link #readFrame()}, but returns the records of a PutRecordBatch one at a time as regular PutRecord
+     * messages.
+     */
+    private Message readMessage() throws Exception {
+        if (unbatched.isEmpty()) {
+            Message m = readFrame();
+            if (!m.hasPutRecordBatch()) {
+                return m;
+            }
+            PutRecordBatch batch = m.getPutRecordBatch();
+            assertEquals(batch.getRecordsCount(), batch.getIdOffsetsCount());
+            for (int i = 0; i < batch.getRecordsCount(); i++) {
+                unbatched.add(Message.newBuilder()
+                        .setId(m.getId() + batch.getIdOffsets(i))
+                        .setPutRecord(batch.getRecords(i))
+                        .build());
+            }
+        }
+        return unbatched.poll();
+    }
+
+    @Test
+    public void coalescesQueuedMessagesWithoutChangingFraming() throws Exception {
+        Daemon daemon = connect(null);
+        int n = 5000;
+        for (int i = 0; i < n; i++) {
+            daemon.add(putRecord(i));
+        }
+
+        for (int i = 0; i < n; i++) {
+            Message m = readFrame();
+            assertEquals(i, m.getId());
+            assertEquals(Integer.toString(i), m.getPutRecord().getPartitionKey());
+            assertEquals("data-" + i, m.getPutRecord().getData().toStringUtf8());
+        }
+
+        assertEquals(n, daemon.getIpcFramesWritten());
+        assertTrue(daemon.getIpcWriteCount() <= n);
+        assertTrue(daemon.getFramesPerWrite() >= 1);
+        assertTrue(daemon.getBytesPerWrite() > 0);
+        daemon.destroy();
+    }
+
+    @Test
+    public void writesMessagesLargerThanTheSendBuffer() throws Exception {
+        Daemon daemon = connect(null);
+        byte[] big = new byte[3 * 1024 * 1024];
+        big[big.length - 1] = 42;
+        daemon.add(Message.newBuilder()
+                .setId(1)
+                .setPutRecord(PutRecord.newBuilder()
+                        .setStreamName("stream")
+                        .setPartitionKey("pk")
+                        .setData(ByteString.copyFrom(big)))
+                .build());
+        daemon.add(putRecord(2));
+
+        Message m = readFrame();
+        assertEquals(1, m.getId());
+        assertEquals(big.length, m.getPutRecord().getData().size());
+        assertEquals(42, m.getPutRecord().getData().byteAt(big.length - 1));
+        assertEquals(2, readFrame().getId());
+        daemon.destroy();
+    }
+
+    @Test
+    public void writesSelfEncodingFramesAndReleasesTheirBuffers() throws Exception {
+        Daemon daemon = connect(null);
+        final CountDownLatch released = new CountDownLatch(1);
+        ByteBuffer payload = ByteBuffer.allocateDirect(16);
+        payload.put("direct-payload".getBytes(StandardCharsets.UTF_8)).flip();
+        daemon.add(putRecord(1));
+        daemon.add(new PutRecordFrame(2, new StreamHandle(null, "stream", -1), "pk", 2, null, payload,
+                b -> released.countDown()));
+        daemon.add(putRecord(3));
+
+        assertEquals(1, readFrame().getId());
+        Message m = readFrame();
+        assertEquals(2, m.getId());
+        assertEquals("direct-payload", m.getPutRecord().getData().toStringUtf8());
+        assertEquals(3, readFrame().getId());
+        assertTrue(released.await(5, TimeUnit.SECONDS));
+        daemon.destroy();
+    }
+
+    @Test
+    public void registersEachStreamBeforeItsFirstRecord() throws Exception {
+        Daemon daemon = connect(null);
+        handshake(daemon);
+        StreamHandle a = new StreamHandle(null, "a", 0);
+        StreamHandle b = new StreamHandle(null, "b", 1);
+        daemon.add(frame(1, a));
+        daemon.add(frame(2, b));
+        daemon.add(frame(3, a));
+
+        assertEquals("a", readMessage().getRegisterStream().getStreamName());
+        Message m = readMessage();
+        assertEquals(1, m.getId());
+        assertEquals(0, m.getPutRecord().getStreamId());
+        assertFalse(m.getPutRecord().hasStreamName());
+        assertEquals(1, readMessage().getRegisterStream().getStreamId());
+        assertEquals(2, readMessage().getId());
+        assertEquals(3, readMessage().getId());
+
+        // Already registered with this child
+        daemon.add(frame(4, b));
+        assertEquals(4, readMessage().getId());
+        daemon.destroy();
+    }
+
+    @Test
+    public void childWithoutHandshakeGetsNamedRecordsWithDecimalKeys() throws Exception {
+        Daemon daemon = connect(null);
+        StreamHandle a = new StreamHandle(null, "a", 0);
+        daemon.add(new PutRecordFrame(1, a, "pk", 2, ExplicitHashKey.binary(1, 2), ByteBuffer.wrap(new byte[1]),
+                null));
+
+        Message m = readFrame();
+        assertEquals(1, m.getId());
+        assertEquals("a", m.getPutRecord().getStreamName());
+        assertFalse(m.getPutRecord().hasStreamId());
+        assertEquals("18446744073709551618", m.getPutRecord().getExplicitHashKey());
+        assertFalse(m.getPutRecord().hasExplicitHashKeyBinary());
+        daemon.destroy();
+    }
+
+    @Test
+    public void holdsSnapshotRequestsUntilTheHandshake() throws Exception {
+        Daemon daemon = connect(null);
+        daemon.add(Message.newBuilder()
+                .setId(1)
+                .setMetricsRequest(MetricsRequest.newBuilder().setSnapshotInterval(1000))
+                .build());
+        daemon.add(putRecord(2));
+        assertEquals(2, readFrame().getId());
+
+        handshake(daemon);
+        Message m = readFrame();
+        assertEquals(1, m.getId());
+        assertEquals(1000, m.getMetricsRequest().getSnapshotInterval());
+        daemon.destroy();
+    }
+
+    private static PutRecordFrame frame(long id, StreamHandle stream) {
+        return new PutRecordFrame(id, stream, "pk", 2, null, ByteBuffer.wrap(new byte[1]), null);
+    }
+
+    @Test
+    public void batchesQueuedRecords() throws Exception {
+        Daemon daemon = connect(null);
+        handshake(daemon);
+        StreamHandle stream = new StreamHandle(null, "stream", -1);
+        int n = 2000;
+        for (int i = 0; i < n; i++) {
+            daemon.add(frame(i, stream));
+        }
+        for (int i = 0; i < n; i++) {
+            Message m = readMessage();
+            assertEquals(i, m.getId());
+            assertEquals("stream", m.getPutRecord().getStreamName());
+        }
+        daemon.destroy();
+    }
+
+    @Test
+    public void decodesManyFramesFromBulkReads() throws Exception {
+        int n = 2000;
+        final List<Message> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(n);
+        Daemon daemon = connect(new Daemon.MessageHandler() {
+            @Override
+            public void onMessage(Message m) {
+                received.add(m);
+                done.countDown();
+            }
+
+            @Override
+            public void onError(Throwable t) { }
+        });
+
+        ByteArrayOutputStream frames = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(frames);
+        for (int i = 0; i < n; i++) {
+            byte[] b = Message.newBuilder()
+                    .setId(i)
+                    .setSourceId(i)
+                    .setPutRecordResult(PutRecordResult.newBuilder().setSuccess(true).setShardId("shardId-" + i))
+                    .build()
+                    .toByteArray();
+            out.writeInt(b.length);
+            out.write(b);
+        }
+        byte[] all = frames.toByteArray();
+
+        // Split at an odd offset so frames straddle writes
+        int split = all.length / 3 + 1;
+        toDaemon.write(all, 0, split);
+        toDaemon.flush();
+        Thread.sleep(50);
+        toDaemon.write(all, split, all.length - split);
+        toDaemon.flush();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, received.get(i).getSourceId());
+            assertEquals("shardId-" + i, received.get(i).getPutRecordResult().getShardId());
+        }
+        daemon.destroy();
+    }
+
+    @Test
+    public void invalidFrameSizeIsFatal() throws Exception {
+        final CountDownLatch failed = new CountDownLatch(1);
+        Daemon daemon = connect(new Daemon.MessageHandler() {
+            @Override
+            public void onMessage(Message m) { }
+
+            @Override
+            public void onError(Throwable t) {
+                failed.countDown();
+            }
+        });
+
+        toDaemon.writeInt(-1);
+        toDaemon.flush();
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        daemon.destroy();
+    }
+
+    @Test
+    public void frameOfTheWrongSizeIsFatal() throws Exception {
+        final CountDownLatch failed = new CountDownLatch(1);
+        Daemon daemon = connect(new Daemon.MessageHandler() {
+            @Override
+            public void onMessage(Message m) { }
+
+            @Override
+            public void onError(Throwable t) {
+                failed.countDown();
+            }
+        });
+
+        daemon.add(new OutgoingFrame() {
+            @Override
+            public int getSerializedSize() {
+                return 8;
+            }
+
+            @Override
+            public void writeTo(ByteBuffer buf) {
+                buf.putInt(0);
+            }
+        });
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        daemon.destroy();
+    }
+}
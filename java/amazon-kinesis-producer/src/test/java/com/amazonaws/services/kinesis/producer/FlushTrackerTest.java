@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FlushTrackerTest {
+    private static ResultFuture<UserRecordResult> record(FlushTracker tracker, long id) {
+        ResultFuture<UserRecordResult> f = new ResultFuture<>(id);
+        tracker.track(f);
+        return f;
+    }
+
+    @Test
+    public void barrierWaitsOnlyForEarlierRecords() {
+        FlushTracker tracker = new FlushTracker();
+        ResultFuture<UserRecordResult> r1 = record(tracker, 1);
+        ResultFuture<UserRecordResult> r2 = record(tracker, 2);
+        ListenableFuture<Void> barrier = tracker.barrier();
+        ResultFuture<UserRecordResult> r3 = record(tracker, 3);
+
+        r1.set(null);
+        assertFalse(barrier.isDone());
+        r2.setException(new RuntimeException("failed"));
+        assertTrue(barrier.isDone());
+        assertFalse(r3.isDone());
+    }
+
+    @Test
+    public void barrierWithNothingOutstandingIsDoneImmediately() {
+        FlushTracker tracker = new FlushTracker();
+        record(tracker, 1).set(null);
+        assertTrue(tracker.barrier().isDone());
+    }
+
+    @Test
+    public void laterBarrierWaitsForEarlierEpochs() {
+        FlushTracker tracker = new FlushTracker();
+        ResultFuture<UserRecordResult> r1 = record(tracker, 1);
+        ListenableFuture<Void> first = tracker.barrier();
+        ResultFuture<UserRecordResult> r2 = record(tracker, 2);
+        ListenableFuture<Void> second = tracker.barrier();
+
+        r2.set(null);
+        assertFalse(second.isDone());
+        r1.set(null);
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+    }
+
+    @Test
+    public void allOfWaitsForEveryFuture() {
+        ResultFuture<Void> a = new ResultFuture<>(1);
+        ResultFuture<Void> b = new ResultFuture<>(2);
+        ListenableFuture<Void> all = FlushTracker.allOf(Arrays.<ListenableFuture<Void>>asList(a, b));
+
+        a.set(null);
+        assertFalse(all.isDone());
+        b.set(null);
+        assertTrue(all.isDone());
+        assertTrue(FlushTracker.allOf(Collections.<ListenableFuture<Void>>emptyList()).isDone());
+    }
+}
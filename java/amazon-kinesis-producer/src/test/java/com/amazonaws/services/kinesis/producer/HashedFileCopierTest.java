@@ -145,6 +145,18 @@ public class HashedFileCopierTest {
         assertThat(actualData, equalTo(expectedData));
     }
 
+    @Test
+    public void copiedFileFoundFromManifestTest() throws Exception {
+        ExtractionManifest.Entry expected = new ExtractionManifest.Entry(hexDigestForTestData(), testDataBytes().length);
+        assertThat(HashedFileCopier.findCopiedFile(expected, tempDir, TEST_FILE_FORMAT), equalTo(null));
+
+        File resultFile = HashedFileCopier.copyFileFrom(testDataInputStream(), tempDir, TEST_FILE_FORMAT);
+        assertThat(HashedFileCopier.findCopiedFile(expected, tempDir, TEST_FILE_FORMAT), equalTo(resultFile));
+
+        ExtractionManifest.Entry otherSize = new ExtractionManifest.Entry(expected.digest, expected.size + 1);
+        assertThat(HashedFileCopier.findCopiedFile(otherSize, tempDir, TEST_FILE_FORMAT), equalTo(null));
+    }
+
     private File makeTestFile() throws Exception {
         return new File(tempDir, String.format(TEST_FILE_FORMAT, hexDigestForTestData()));
     }
@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.util.Arrays;
 import java.util.Properties;
 import java.util.UUID;
 
@@ -114,4 +115,48 @@ public class KinesisProducerConfigurationTest {
         KinesisProducerConfiguration cfg = KinesisProducerConfiguration.fromPropertiesFile(writeFile(p));
         assertEquals(v, cfg.getThreadPoolSize());
     }
+
+    @Test
+    public void setBackpressureFromProperties() {
+        Properties p = new Properties();
+        p.setProperty("MaxOutstandingRecords", "1000");
+        p.setProperty("MaxOutstandingBytes", "67108864");
+        p.setProperty("BackpressurePolicy", "FAIL_FAST");
+        KinesisProducerConfiguration cfg = KinesisProducerConfiguration.fromPropertiesFile(writeFile(p));
+        assertEquals(1000, cfg.getMaxOutstandingRecords());
+        assertEquals(67108864, cfg.getMaxOutstandingBytes());
+        assertEquals(KinesisProducerConfiguration.BackpressurePolicy.FAIL_FAST, cfg.getBackpressurePolicy());
+    }
+
+    @Test
+    public void setChildProcessesFromProperties() {
+        Properties p = new Properties();
+        p.setProperty("ChildProcessCount", "4");
+        p.setProperty("ChildRouting", "STREAM");
+        KinesisProducerConfiguration cfg = KinesisProducerConfiguration.fromPropertiesFile(writeFile(p));
+        assertEquals(4, cfg.getChildProcessCount());
+        assertEquals(KinesisProducerConfiguration.ChildRouting.STREAM, cfg.getChildRouting());
+    }
+
+    @Test
+    public void setPrewarmStreamsFromProperties() {
+        Properties p = new Properties();
+        p.setProperty("PrewarmStreams", "orders, clicks,");
+        p.setProperty("AggregationHoldForShardMap", "true");
+        KinesisProducerConfiguration cfg = KinesisProducerConfiguration.fromPropertiesFile(writeFile(p));
+        assertEquals(Arrays.asList("orders", "clicks"), cfg.getPrewarmStreams());
+        assertEquals(true, cfg.isAggregationHoldForShardMap());
+        assertEquals(Arrays.asList("orders", "clicks"),
+                cfg.toProtobufMessage().getConfiguration().getPrewarmStreamsList());
+    }
+
+    @Test
+    public void setIpcTransportFromProperties() {
+        Properties p = new Properties();
+        p.setProperty("IpcTransport", "SHARED_MEMORY");
+        p.setProperty("SharedMemoryRingBytes", "1048576");
+        KinesisProducerConfiguration cfg = KinesisProducerConfiguration.fromPropertiesFile(writeFile(p));
+        assertEquals(KinesisProducerConfiguration.IpcTransport.SHARED_MEMORY, cfg.getIpcTransport());
+        assertEquals(1048576, cfg.getSharedMemoryRingBytes());
+    }
 }
@@ -43,6 +43,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.confluex.mock.http.matchers.HttpMatchers.anyRequest;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -83,6 +84,24 @@ public class KinesisProducerTest {
         server.stop();
     }
     
+    @Test
+    public void normalizesExplicitHashKeys() {
+        String max = "340282366920938463463374607431768211455";
+        assertEquals(max, KinesisProducer.normalizeExplicitHashKey(max));
+        assertEquals("0", KinesisProducer.normalizeExplicitHashKey("0"));
+        assertEquals("12", KinesisProducer.normalizeExplicitHashKey(" 0012 "));
+        assertEquals("12", KinesisProducer.normalizeExplicitHashKey("+12"));
+        assertEquals("0", KinesisProducer.normalizeExplicitHashKey("-0"));
+        for (String bad : new String[] { "340282366920938463463374607431768211456", "1" + max, "-1", "abc", "" }) {
+            try {
+                KinesisProducer.normalizeExplicitHashKey(bad);
+                fail("Expected IllegalArgumentException for " + bad);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
     @Test
     @Ignore
     public void differentCredsForRecordsAndMetrics() throws InterruptedException, ExecutionException {
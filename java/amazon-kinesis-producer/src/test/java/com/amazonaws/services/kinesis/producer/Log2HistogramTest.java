@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.Assert.assertEquals;
+
+public class Log2HistogramTest {
+    @Test
+    public void bucketsByPowerOfTwo() {
+        assertEquals(0, Log2Histogram.bucket(0));
+        assertEquals(1, Log2Histogram.bucket(1));
+        assertEquals(2, Log2Histogram.bucket(2));
+        assertEquals(2, Log2Histogram.bucket(3));
+        assertEquals(11, Log2Histogram.bucket(1024));
+        assertEquals(63, Log2Histogram.bucket(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, Log2Histogram.upperBound(63));
+        assertEquals(1023, Log2Histogram.upperBound(10));
+    }
+
+    @Test
+    public void percentilesAreBucketUpperBounds() {
+        Log2Histogram h = new Log2Histogram();
+        assertEquals(0, h.percentile(0.5));
+        assertEquals(0, h.max());
+
+        for (int i = 0; i < 98; i++) {
+            h.record(5);
+        }
+        h.record(100);
+        h.record(3000);
+
+        assertEquals(100, h.count());
+        assertEquals(7, h.percentile(0.5));
+        assertEquals(127, h.percentile(0.99));
+        assertEquals(4095, h.max());
+        assertEquals(98, h.bucketCounts()[3]);
+    }
+
+    @Test
+    public void statisticsRegisterAsAnMXBean() throws Exception {
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+        ProducerStatistics statistics = new ProducerStatistics(null, executor);
+        statistics.childRestarted();
+        statistics.recordCompleted(TimeUnit.MILLISECONDS.toNanos(20));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.amazonaws.services.kinesis.producer:type=KinesisProducer,id=test");
+        server.registerMBean(statistics, name);
+        try {
+            assertEquals(1L, server.getAttribute(name, "ChildRestartCount"));
+            assertEquals(0L, server.getAttribute(name, "CallbackQueueSize"));
+            assertEquals(31L, server.getAttribute(name, "RecordLatencyMaxMillis"));
+        } finally {
+            server.unregisterMBean(name);
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.NativeLogForwarder.Level;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LogInputStreamReaderTest {
+
+    private static Logger enabledLogger() {
+        Logger logger = mock(Logger.class);
+        when(logger.isTraceEnabled()).thenReturn(true);
+        when(logger.isDebugEnabled()).thenReturn(true);
+        when(logger.isInfoEnabled()).thenReturn(true);
+        when(logger.isWarnEnabled()).thenReturn(true);
+        when(logger.isErrorEnabled()).thenReturn(true);
+        return logger;
+    }
+
+    @Test
+    public void levelIsTakenFromTheFirstBracketedLevelName() {
+        assertEquals(Level.WARN, LogInputStreamReader.parseLevel("[2019-01-01 00:00:00] [Warning] [retrier.cc:1]"));
+        assertEquals(Level.ERROR, LogInputStreamReader.parseLevel("[x] [FATAL]\n[info]"));
+        assertEquals(Level.DEBUG, LogInputStreamReader.parseLevel("[[debug]"));
+        assertNull(LogInputStreamReader.parseLevel("[information] [warn"));
+    }
+
+    @Test
+    public void recordsAndLinesAreForwarded() {
+        Logger logger = enabledLogger();
+        NativeLogForwarder forwarder = new NativeLogForwarder(logger, 0);
+        String output = "plain line\r\n++++\n[error] first\nsecond\n----\n++++\nno level\n----\ntrailing";
+        new LogInputStreamReader(new ByteArrayInputStream(output.getBytes(StandardCharsets.US_ASCII)), "StdErr",
+                Level.WARN, forwarder).run();
+        forwarder.close();
+        forwarder.run();
+
+        verify(logger).warn("plain line");
+        verify(logger).error("[error] first\nsecond");
+        verify(logger).warn("!!Failed to extract level!! - no level");
+        verify(logger).warn("trailing");
+    }
+
+    @Test
+    public void messagesOverTheRateLimitAreDropped() {
+        NativeLogForwarder forwarder = new NativeLogForwarder(enabledLogger(), 5);
+        int queued = 0;
+        for (int i = 0; i < 10; i++) {
+            if (forwarder.offer(Level.INFO, "message")) {
+                queued++;
+            }
+        }
+        assertEquals(5, queued);
+        assertEquals(5, forwarder.getDropped());
+    }
+
+    @Test
+    public void messagesAreDroppedRatherThanWaitingForTheLogger() {
+        NativeLogForwarder forwarder = new NativeLogForwarder(enabledLogger(), 0);
+        for (int i = 0; i < NativeLogForwarder.QUEUE_CAPACITY; i++) {
+            assertTrue(forwarder.offer(Level.INFO, "message"));
+        }
+        assertFalse(forwarder.offer(Level.ERROR, "message"));
+        assertEquals(1, forwarder.getDropped());
+    }
+
+    @Test
+    public void disabledLevelsAreNotQueuedOrCounted() {
+        Logger logger = mock(Logger.class);
+        NativeLogForwarder forwarder = new NativeLogForwarder(logger, 1);
+        assertFalse(forwarder.offer(Level.DEBUG, "message"));
+        assertEquals(0, forwarder.getDropped());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MessageQueueTest {
+
+    @Test
+    public void preservesPerThreadOrderUnderContention() throws Exception {
+        final int threads = 8;
+        final int perThread = 50000;
+        final MessageQueue<long[]> queue = new MessageQueue<>();
+        ExecutorService exec = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            for (int t = 0; t < threads; t++) {
+                final long producer = t;
+                exec.submit(() -> {
+                    start.await();
+                    for (long i = 0; i < perThread; i++) {
+                        queue.add(new long[] { producer, i });
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            long[] next = new long[threads];
+            List<long[]> batch = new ArrayList<>();
+            int received = 0;
+            while (received < threads * perThread) {
+                batch.clear();
+                received += queue.drainTo(batch, 1000);
+                for (long[] item : batch) {
+                    assertEquals(next[(int) item[0]]++, item[1]);
+                }
+            }
+            assertEquals(0, queue.size());
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * Threads take turns adding, so each add happens before the next one even though they come from different
+     * threads. The consumer must see them in exactly that order.
+     */
+    @Test
+    public void preservesOrderAcrossThreads() throws Exception {
+        final int threads = 8;
+        final int total = 200000;
+        final MessageQueue<Long> queue = new MessageQueue<>();
+        final Object lock = new Object();
+        final long[] next = { 0 };
+        ExecutorService exec = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                exec.submit(() -> {
+                    while (true) {
+                        synchronized (lock) {
+                            if (next[0] == total) {
+                                return null;
+                            }
+                            queue.add(next[0]++);
+                        }
+                    }
+                });
+            }
+
+            List<Long> batch = new ArrayList<>();
+            long expected = 0;
+            while (expected < total) {
+                batch.clear();
+                queue.drainTo(batch, 1000);
+                for (Long item : batch) {
+                    assertEquals(expected++, (long) item);
+                }
+            }
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    @Test
+    public void wakesUpBlockedConsumer() throws Exception {
+        final MessageQueue<String> queue = new MessageQueue<>();
+        ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<String>> f = exec.submit(() -> {
+                List<String> out = new ArrayList<>();
+                queue.drainTo(out, 10);
+                return out;
+            });
+            Thread.sleep(100);
+            assertTrue(!f.isDone());
+            queue.add("hello");
+            assertEquals("hello", f.get(5, TimeUnit.SECONDS).get(0));
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void interruptReleasesBlockedConsumer() throws Exception {
+        MessageQueue<String> queue = new MessageQueue<>();
+        Thread.currentThread().interrupt();
+        queue.drainTo(new ArrayList<String>(), 10);
+    }
+}
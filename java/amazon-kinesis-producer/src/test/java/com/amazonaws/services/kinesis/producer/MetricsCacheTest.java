@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Dimension;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.MetricsSnapshot;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Stats;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MetricsCacheTest {
+    private static Messages.Metric metric(String name, String stream, double count) {
+        return Messages.Metric.newBuilder()
+                .setName(name)
+                .addDimensions(Dimension.newBuilder().setKey("StreamName").setValue(stream))
+                .setStats(Stats.newBuilder().setCount(count).setSum(count).setMean(1).setMin(1).setMax(1))
+                .setSeconds(60)
+                .build();
+    }
+
+    private static MetricsSnapshot snapshot(boolean full, Messages.Metric... metrics) {
+        MetricsSnapshot.Builder b = MetricsSnapshot.newBuilder().setFull(full);
+        for (Messages.Metric m : metrics) {
+            b.addMetrics(m);
+        }
+        return b.build();
+    }
+
+    @Test
+    public void deltasUpdateOnlyTheMetricsTheyCarry() {
+        MetricsCache cache = new MetricsCache();
+        assertNull(cache.get(null));
+
+        cache.apply(snapshot(true, metric("UserRecordsPut", "a", 1), metric("UserRecordsPut", "b", 2),
+                metric("KinesisRecordsPut", "a", 3)));
+        cache.apply(snapshot(false, metric("UserRecordsPut", "b", 5)));
+
+        List<Metric> put = cache.get("UserRecordsPut");
+        assertEquals(2, put.size());
+        assertEquals(1, put.get(0).getSampleCount(), 0);
+        assertEquals(5, put.get(1).getSampleCount(), 0);
+        assertEquals(3, cache.get(null).size());
+    }
+
+    @Test
+    public void fullSnapshotReplacesEverything() {
+        MetricsCache cache = new MetricsCache();
+        cache.apply(snapshot(true, metric("UserRecordsPut", "a", 1), metric("UserRecordsPut", "b", 2)));
+        cache.apply(snapshot(true, metric("UserRecordsPut", "c", 7)));
+
+        List<Metric> all = cache.get(null);
+        assertEquals(1, all.size());
+        assertEquals("c", all.get(0).getDimensions().get("StreamName"));
+    }
+
+    @Test
+    public void deltasAreIgnoredUntilTheNextFullSnapshot() {
+        MetricsCache cache = new MetricsCache();
+        cache.apply(snapshot(true, metric("UserRecordsPut", "a", 1)));
+        cache.clear();
+        cache.apply(snapshot(false, metric("UserRecordsPut", "a", 2)));
+        assertNull(cache.get(null));
+
+        cache.apply(snapshot(true));
+        assertEquals(0, cache.get(null).size());
+    }
+
+    @Test
+    public void mergeAddsUpMetricsFromEachChild() {
+        MetricsCache a = new MetricsCache();
+        MetricsCache b = new MetricsCache();
+        a.apply(snapshot(true, metric("UserRecordsPut", "a", 1), metric("UserRecordsPut", "b", 2)));
+        b.apply(snapshot(true, metric("UserRecordsPut", "a", 3)));
+
+        List<Metric> merged = Metric.merge(Arrays.asList(a.get(null), b.get(null)));
+        assertEquals(2, merged.size());
+        assertEquals("a", merged.get(0).getDimensions().get("StreamName"));
+        assertEquals(4, merged.get(0).getSampleCount(), 0);
+        assertEquals(4, merged.get(0).getSum(), 0);
+        assertEquals(1, merged.get(0).getMean(), 0);
+        assertEquals(2, merged.get(1).getSampleCount(), 0);
+    }
+}
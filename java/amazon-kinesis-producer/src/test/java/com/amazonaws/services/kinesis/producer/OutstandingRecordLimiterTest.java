@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OutstandingRecordLimiterTest {
+
+    @Test
+    public void enforcesRecordLimit() {
+        OutstandingRecordLimiter limiter = new OutstandingRecordLimiter(2, 0);
+        assertTrue(limiter.tryAcquire(10));
+        assertTrue(limiter.tryAcquire(10));
+        assertFalse(limiter.tryAcquire(10));
+        limiter.release(10);
+        assertTrue(limiter.tryAcquire(10));
+        assertEquals(2, limiter.getRecords());
+        assertEquals(20, limiter.getBytes());
+    }
+
+    @Test
+    public void enforcesByteLimitButAdmitsOversizedRecordWhenIdle() {
+        OutstandingRecordLimiter limiter = new OutstandingRecordLimiter(0, 100);
+        assertTrue(limiter.tryAcquire(500));
+        assertFalse(limiter.tryAcquire(1));
+        limiter.release(500);
+        assertTrue(limiter.tryAcquire(60));
+        assertFalse(limiter.tryAcquire(60));
+        assertEquals(60, limiter.getBytes());
+    }
+
+    @Test
+    public void blockedAcquireProceedsOnRelease() throws Exception {
+        final OutstandingRecordLimiter limiter = new OutstandingRecordLimiter(1, 0);
+        assertTrue(limiter.tryAcquire(1));
+        ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> f = exec.submit(() -> limiter.acquire(1, 0));
+            Thread.sleep(100);
+            assertFalse(f.isDone());
+            limiter.release(1);
+            assertTrue(f.get(5, TimeUnit.SECONDS));
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    @Test
+    public void blockedAcquireTimesOut() throws Exception {
+        OutstandingRecordLimiter limiter = new OutstandingRecordLimiter(1, 0);
+        assertTrue(limiter.tryAcquire(1));
+        assertFalse(limiter.acquire(1, 50));
+        assertEquals(1, limiter.getRecords());
+    }
+}
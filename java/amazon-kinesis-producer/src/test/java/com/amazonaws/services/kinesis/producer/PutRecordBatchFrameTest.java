@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.protobuf.ByteString;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecordBatch;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PutRecordBatchFrameTest {
+    private static final StreamHandle STREAM = new StreamHandle(null, "stream", 3);
+
+    private static PutRecordFrame record(long id, int size) {
+        return new PutRecordFrame(id, STREAM, "pk", 2, null, ByteBuffer.wrap(new byte[size]), null);
+    }
+
+    @Test
+    public void matchesProtobufEncoding() throws Exception {
+        long[] ids = { 1000, 998, 1200, 1001 };
+        List<PutRecordFrame> records = new ArrayList<>();
+        PutRecordBatch.Builder expected = PutRecordBatch.newBuilder();
+        for (long id : ids) {
+            records.add(record(id, 10));
+            expected.addRecords(PutRecord.newBuilder()
+                    .setStreamId(3)
+                    .setPartitionKey("pk")
+                    .setData(ByteString.copyFrom(new byte[10])))
+                    .addIdOffsets((int) (id - 998));
+        }
+        Message m = Message.newBuilder().setId(998).setPutRecordBatch(expected).build();
+
+        PutRecordBatchFrame f = new PutRecordBatchFrame(records);
+        ByteBuffer buf = ByteBuffer.allocate(f.getSerializedSize());
+        f.writeTo(buf);
+        assertEquals(0, buf.remaining());
+        assertArrayEquals(m.toByteArray(), buf.array());
+    }
+
+    @Test
+    public void runsStopAtOtherFramesAndLimits() {
+        OutgoingFrame other = new OutgoingFrame.ProtobufFrame(Message.newBuilder().setId(0).build());
+        List<OutgoingFrame> frames = new ArrayList<>();
+        frames.add(record(1, 10));
+        frames.add(record(2, 10));
+        frames.add(other);
+        frames.add(record(3, PutRecordBatchFrame.MAX_BYTES));
+        frames.add(record(4, 10));
+        frames.add(record(5, 10));
+        frames.add(record(5 + 0x100000000L, 10));
+        assertEquals(2, PutRecordBatchFrame.batchEnd(frames, 0));
+        assertEquals(2, PutRecordBatchFrame.batchEnd(frames, 2));
+        assertEquals(3, PutRecordBatchFrame.batchEnd(frames, 3));
+        assertEquals(6, PutRecordBatchFrame.batchEnd(frames, 4));
+
+        frames.clear();
+        for (int i = 0; i < PutRecordBatchFrame.MAX_RECORDS + 1; i++) {
+            frames.add(record(i, 1));
+        }
+        assertEquals(PutRecordBatchFrame.MAX_RECORDS, PutRecordBatchFrame.batchEnd(frames, 0));
+    }
+
+    @Test
+    public void releasesEveryRecordOnceSerialized() {
+        final AtomicInteger releases = new AtomicInteger();
+        PutRecordFrame[] records = new PutRecordFrame[3];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new PutRecordFrame(i, STREAM, "pk", 2, null, ByteBuffer.allocate(1),
+                    b -> releases.incrementAndGet());
+        }
+        PutRecordBatchFrame f = new PutRecordBatchFrame(Arrays.asList(records));
+        f.writeTo(ByteBuffer.allocate(f.getSerializedSize()));
+        f.onSerialized();
+        assertEquals(3, releases.get());
+    }
+}
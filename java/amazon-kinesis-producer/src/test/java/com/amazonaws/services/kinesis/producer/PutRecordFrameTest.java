@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.google.protobuf.ByteString;
+
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.Message;
+import com.amazonaws.services.kinesis.producer.protobuf.Messages.PutRecord;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class PutRecordFrameTest {
+    // One, two, three and four byte UTF-8 sequences
+    private static final String PARTITION_KEY = "k\u00e9\u20ac\ud83d\ude00";
+    private static final StreamHandle STREAM = new StreamHandle(null, "s", -1);
+
+    private static byte[] encode(OutgoingFrame f) {
+        ByteBuffer buf = ByteBuffer.allocateDirect(f.getSerializedSize() + 16);
+        f.writeTo(buf);
+        assertEquals(f.getSerializedSize(), buf.position());
+        buf.flip();
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return bytes;
+    }
+
+    private static final String MAX_HASH_KEY = "340282366920938463463374607431768211455";
+    private static final byte[] BINARY_HASH_KEY = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, (byte) 0xFF };
+
+    private static Message expected(long id, StreamHandle stream, String partitionKey, ExplicitHashKey explicitHashKey,
+            byte[] data) {
+        PutRecord.Builder pr = PutRecord.newBuilder()
+                .setPartitionKey(partitionKey)
+                .setData(ByteString.copyFrom(data));
+        if (explicitHashKey != null && explicitHashKey.isBinary()) {
+            pr.setExplicitHashKeyBinary(ByteString.copyFrom(BINARY_HASH_KEY));
+        } else if (explicitHashKey != null) {
+            pr.setExplicitHashKey(MAX_HASH_KEY);
+        }
+        if (stream.getId() >= 0) {
+            pr.setStreamId(stream.getId());
+        } else {
+            pr.setStreamName(stream.getStreamName());
+        }
+        return Message.newBuilder().setId(id).setPutRecord(pr.build()).build();
+    }
+
+    @Test
+    public void matchesProtobufEncoding() throws Exception {
+        byte[] data = new byte[300];
+        Arrays.fill(data, (byte) 7);
+        long[] ids = { 1, 127, 128, 16384, Long.MAX_VALUE };
+        StreamHandle[] streams = { new StreamHandle(null, "stream\u00e9", -1),
+                new StreamHandle(null, "stream\u00e9", 0),
+                new StreamHandle(null, "stream\u00e9", StreamHandle.MAX_STREAM_IDS - 1) };
+        for (long id : ids) {
+            for (ExplicitHashKey ehk : new ExplicitHashKey[] { null, ExplicitHashKey.decimal(MAX_HASH_KEY),
+                    ExplicitHashKey.binary(BINARY_HASH_KEY), ExplicitHashKey.binary(0x0102030405060708L,
+                    0x090A0B0C0D0E0FFFL) }) {
+                for (StreamHandle stream : streams) {
+                    PutRecordFrame f = new PutRecordFrame(id, stream, PARTITION_KEY,
+                            PutRecordFrame.utf8Length(PARTITION_KEY), ehk, ByteBuffer.wrap(data), null);
+                    Message m = expected(id, stream, PARTITION_KEY, ehk, data);
+                    assertArrayEquals(m.toByteArray(), encode(f));
+                    assertEquals(m, Message.parseFrom(encode(f)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void writesOnlyTheRemainingBytesOfTheBuffer() throws Exception {
+        ByteBuffer data = ByteBuffer.allocateDirect(10);
+        data.put("0123456789".getBytes(StandardCharsets.US_ASCII));
+        data.position(2).limit(5);
+        PutRecordFrame f = new PutRecordFrame(3, STREAM, "k", 1, null, data, null);
+        Message m = Message.parseFrom(encode(f));
+        assertEquals("234", m.getPutRecord().getData().toStringUtf8());
+        assertEquals(2, data.position());
+    }
+
+    @Test
+    public void releasesBufferOnlyOnce() {
+        final ByteBuffer data = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+        final AtomicInteger releases = new AtomicInteger();
+        PutRecordFrame f = new PutRecordFrame(1, STREAM, "k", 1, null, data, b -> {
+                    assertSame(data, b);
+                    releases.incrementAndGet();
+                });
+        encode(f);
+        f.onSerialized();
+        f.release();
+        assertEquals(1, releases.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsBinaryHashKeysOfTheWrongLength() {
+        ExplicitHashKey.binary(new byte[15]);
+    }
+
+    @Test
+    public void dropsStreamIdsOutOfRange() {
+        assertEquals(-1, new StreamHandle(null, "s", StreamHandle.MAX_STREAM_IDS).getId());
+        assertEquals(-1, new StreamHandle(null, "s", Integer.MIN_VALUE).getId());
+    }
+
+    @Test
+    public void computesUtf8LengthAndRejectsUnpairedSurrogates() {
+        assertEquals(PARTITION_KEY.getBytes(StandardCharsets.UTF_8).length, PutRecordFrame.utf8Length(PARTITION_KEY));
+        assertEquals(-1, PutRecordFrame.utf8Length("a\ud83d"));
+        assertEquals(-1, PutRecordFrame.utf8Length("\ude00a"));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ReplayBufferTest {
+    private final StreamHandle stream = new StreamHandle(null, "stream", 0);
+    private final AtomicInteger released = new AtomicInteger();
+
+    private PutRecordFrame frame(long id) {
+        return new PutRecordFrame(id, stream, "pk", 2, null, ByteBuffer.allocate(8), b -> released.incrementAndGet());
+    }
+
+    @Test
+    public void holdsRecordsUntilTheyComplete() {
+        ReplayBuffer buffer = new ReplayBuffer(100);
+        PutRecordFrame frame = frame(1);
+        ResultFuture<UserRecordResult> f = new ResultFuture<>(1);
+
+        assertTrue(buffer.retain(frame, f, 10));
+        assertSame(frame, buffer.get(1));
+        assertEquals(10, buffer.getBytes());
+
+        f.set(null);
+        assertNull(buffer.get(1));
+        assertEquals(0, buffer.getBytes());
+    }
+
+    @Test
+    public void doesNotHoldMoreThanItsCapacity() {
+        ReplayBuffer buffer = new ReplayBuffer(15);
+        ResultFuture<UserRecordResult> first = new ResultFuture<>(1);
+
+        assertTrue(buffer.retain(frame(1), first, 10));
+        assertFalse(buffer.retain(frame(2), new ResultFuture<UserRecordResult>(2), 10));
+        assertNull(buffer.get(2));
+
+        first.set(null);
+        assertTrue(buffer.retain(frame(3), new ResultFuture<UserRecordResult>(3), 10));
+    }
+
+    @Test
+    public void heldPayloadIsKeptAfterBeingWritten() {
+        ReplayBuffer buffer = new ReplayBuffer(100);
+        PutRecordFrame held = frame(1);
+        PutRecordFrame notHeld = frame(2);
+        ResultFuture<UserRecordResult> f = new ResultFuture<>(1);
+        f.addListener(held::release, Runnable::run);
+        buffer.retain(held, f, 10);
+
+        held.onSerialized();
+        notHeld.onSerialized();
+        assertEquals(1, released.get());
+
+        f.set(null);
+        assertEquals(2, released.get());
+    }
+}
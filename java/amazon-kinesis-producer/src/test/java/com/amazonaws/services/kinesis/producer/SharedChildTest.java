@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SharedChildTest {
+
+    @Test
+    public void producersWithTheSameConfigurationShareAChild() {
+        assertEquals(SharedChild.key(new KinesisProducerConfiguration(), "kinesis_producer", 0),
+                SharedChild.key(new KinesisProducerConfiguration(), "kinesis_producer", 0));
+
+        assertNotEquals(SharedChild.key(new KinesisProducerConfiguration(), "kinesis_producer", 0),
+                SharedChild.key(new KinesisProducerConfiguration(), "kinesis_producer", 1));
+        assertNotEquals(SharedChild.key(new KinesisProducerConfiguration(), "kinesis_producer", 0),
+                SharedChild.key(new KinesisProducerConfiguration().setRegion("eu-west-1"), "kinesis_producer", 0));
+        assertNotEquals(SharedChild.key(new KinesisProducerConfiguration(), "kinesis_producer", 0),
+                SharedChild.key(new KinesisProducerConfiguration().setCredentialsProvider(
+                        new AWSStaticCredentialsProvider(new BasicAWSCredentials("akid", "secret"))),
+                        "kinesis_producer", 0));
+    }
+
+    @Test
+    public void tagsAreNotReusedStraightAway() {
+        int first = SharedChild.allocateTag();
+        SharedChild.releaseTag(first);
+        int second = SharedChild.allocateTag();
+        SharedChild.releaseTag(second);
+
+        assertTrue(first > 0);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void aStreamHasTheSameIdInEveryProducer() {
+        int id = SharedChild.streamId("shared-stream");
+        assertEquals(id, SharedChild.streamId("shared-stream"));
+        assertNotEquals(id, SharedChild.streamId("other-stream"));
+    }
+}
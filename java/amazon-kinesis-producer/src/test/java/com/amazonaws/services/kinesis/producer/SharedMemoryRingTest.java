@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class SharedMemoryRingTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(SharedMemoryRing.MIN_CAPACITY, SharedMemoryRing.ringCapacity(1));
+        assertEquals(1 << 20, SharedMemoryRing.ringCapacity((1 << 20) - 1));
+        assertEquals(1 << 20, SharedMemoryRing.ringCapacity(1 << 20));
+        assertEquals(1 << 21, SharedMemoryRing.ringCapacity((1 << 20) + 1));
+        assertEquals(SharedMemoryRing.MAX_CAPACITY, SharedMemoryRing.ringCapacity(Long.MAX_VALUE));
+    }
+
+    /**
+     * Push several times the capacity through a ring in uneven pieces, so that both ends wrap around, fill the ring
+     * and go to sleep on the doorbell, and check the bytes come out the same.
+     */
+    @Test
+    public void bytesComeOutInOrderAcrossWrapArounds() throws Exception {
+        assumeTrue(SharedMemoryRing.isSupported());
+        File file = new File(folder.getRoot(), "ring");
+        SharedMemoryRing parent = SharedMemoryRing.create(file, SharedMemoryRing.MIN_CAPACITY);
+        SharedMemoryRing child = SharedMemoryRing.open(file);
+
+        Pipe doorbell = Pipe.open();
+        WritableByteChannel writer = parent.writer(SharedMemoryRing.PARENT_TO_CHILD, doorbell.sink());
+        ReadableByteChannel reader = child.reader(SharedMemoryRing.PARENT_TO_CHILD, doorbell.source());
+
+        byte[] data = new byte[(int) (5 * SharedMemoryRing.MIN_CAPACITY + 12345)];
+        new Random(1).nextBytes(data);
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                Random sizes = new Random(2);
+                int pos = 0;
+                while (pos < data.length) {
+                    int n = Math.min(data.length - pos, 1 + sizes.nextInt(50000));
+                    ByteBuffer buf = ByteBuffer.wrap(data, pos, n);
+                    while (buf.hasRemaining()) {
+                        writer.write(buf);
+                    }
+                    pos += n;
+                    if (sizes.nextInt(10) == 0) {
+                        Thread.sleep(5);
+                    }
+                }
+            } catch (Throwable t) {
+                error.set(t);
+            }
+        });
+        producer.start();
+
+        byte[] read = new byte[data.length];
+        ByteBuffer dst = ByteBuffer.wrap(read);
+        Random sizes = new Random(3);
+        while (dst.hasRemaining()) {
+            dst.limit(Math.min(read.length, dst.position() + 1 + sizes.nextInt(70000)));
+            assertTrue(reader.read(dst) > 0);
+            dst.limit(read.length);
+        }
+        producer.join();
+
+        assertNull(error.get());
+        assertArrayEquals(data, read);
+        reader.close();
+        writer.close();
+    }
+
+    @Test
+    public void readerSeesEndOfStreamWhenTheDoorbellCloses() throws Exception {
+        assumeTrue(SharedMemoryRing.isSupported());
+        File file = new File(folder.getRoot(), "ring");
+        SharedMemoryRing ring = SharedMemoryRing.create(file, SharedMemoryRing.MIN_CAPACITY);
+
+        Pipe doorbell = Pipe.open();
+        ReadableByteChannel reader = ring.reader(SharedMemoryRing.CHILD_TO_PARENT, doorbell.source());
+        doorbell.sink().close();
+        assertEquals(-1, reader.read(ByteBuffer.allocate(16)));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates.
+ * Licensed under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.producer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class UnixDomainSocketsTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void pathsMustFitInASocketAddress() {
+        StringBuilder sb = new StringBuilder("/");
+        while (sb.length() < UnixDomainSockets.MAX_PATH_LENGTH) {
+            sb.append('a');
+        }
+        assertTrue(UnixDomainSockets.fits(Paths.get(sb.toString())));
+        assertFalse(UnixDomainSockets.fits(Paths.get(sb.append('a').toString())));
+    }
+
+    @Test
+    public void bytesTravelBothWays() throws Exception {
+        assumeTrue(UnixDomainSockets.isSupported());
+        Path path = folder.getRoot().toPath().resolve("sock");
+        try (ServerSocketChannel server = UnixDomainSockets.bind(path);
+                SocketChannel client = UnixDomainSockets.connect(path);
+                SocketChannel accepted = server.accept()) {
+            UnixDomainSockets.setBufferSizes(accepted, 1 << 20);
+
+            client.write(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+            ByteBuffer buf = ByteBuffer.allocate(3);
+            while (buf.hasRemaining()) {
+                accepted.read(buf);
+            }
+            assertEquals(3, buf.get(2));
+
+            accepted.write(ByteBuffer.wrap(new byte[] { 4 }));
+            buf.clear();
+            assertEquals(1, client.read(buf));
+            assertEquals(4, buf.get(0));
+        }
+    }
+}
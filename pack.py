@@ -1,3 +1,4 @@
+import hashlib
 import subprocess
 import re
 import os
@@ -95,6 +96,32 @@ def find_main_binary():
 
   return release[0]
 
+RESOURCES_DIR = os.path.join('java', 'amazon-kinesis-producer', 'src', 'main',
+  'resources')
+MANIFEST = os.path.join('amazon-kinesis-producer-native-binaries',
+  'manifest.properties')
+
+def write_manifest():
+  # Sizes and SHA-1 digests of everything the KinesisProducer extracts, so it
+  # can recognize files extracted by an earlier run without hashing them again.
+  entries = []
+  for d in ['amazon-kinesis-producer-native-binaries', 'cacerts']:
+    for root, dirnames, filenames in os.walk(os.path.join(RESOURCES_DIR, d)):
+      for filename in filenames:
+        path = os.path.join(root, filename)
+        resource = os.path.relpath(path, RESOURCES_DIR).replace(os.sep, '/')
+        if resource == MANIFEST.replace(os.sep, '/'):
+          continue
+        sha1 = hashlib.sha1()
+        with open(path, 'rb') as f:
+          for chunk in iter(lambda: f.read(1024 * 1024), b''):
+            sha1.update(chunk)
+        entries.append('%s=%s %d' % (resource, sha1.hexdigest().upper(),
+          os.path.getsize(path)))
+
+  with open(os.path.join(RESOURCES_DIR, MANIFEST), 'w') as f:
+    f.write('\n'.join(sorted(entries)) + '\n')
+
 def main():
   system = platform.system()
   supported_sys = ['Darwin', 'Linux', 'Windows']
@@ -102,11 +129,14 @@ def main():
     fatal('Error: Only the following platforms are supported:\n' +
       '\n'.join(supported_sys))
 
+  if len(sys.argv) > 1 and sys.argv[1] == '--manifest-only':
+    write_manifest()
+    return
+
   kp = find_main_binary()
   #libs = find_libs(kp, system)
 
-  bin_dir = os.path.join('java', 'amazon-kinesis-producer', 'src', 'main',
-    'resources', 'amazon-kinesis-producer-native-binaries')
+  bin_dir = os.path.join(RESOURCES_DIR, 'amazon-kinesis-producer-native-binaries')
   if system == 'Darwin':
     bin_dir = os.path.join(bin_dir, 'osx')
   elif system == 'Linux':
@@ -124,6 +154,8 @@ def main():
   files = []
   files.append('kinesis_producer' + ('.exe' if system == 'Windows' else ''))
 
+  write_manifest()
+
   #os.chdir(bin_dir)
   #with tarfile.open('bin.tar', 'w') as tar:
   #  for f in files: